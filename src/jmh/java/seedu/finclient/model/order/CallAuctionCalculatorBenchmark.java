@@ -0,0 +1,67 @@
+package seedu.finclient.model.order;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks computing the clearing price of a whole book from scratch.
+ *
+ * Run with {@code -PjmhArgs="-prof gc"} to see that {@link #reusedPriceLevelAuction()} allocates nothing
+ * per operation, unlike {@link #calculateClearingPrice()}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CallAuctionCalculatorBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int bookSize;
+
+    @Param({"100", "10000"})
+    private int priceLevels;
+
+    private List<Order> orders;
+    private PriceLevelAuction auction;
+
+    /**
+     * Generates the book and sizes the reusable auction for it.
+     */
+    @Setup
+    public void setUp() {
+        orders = new SyntheticBook(bookSize, priceLevels, 42).toOrders();
+        auction = new PriceLevelAuction(bookSize);
+    }
+
+    @Benchmark
+    public Optional<Double> calculateClearingPrice() {
+        return CallAuctionCalculator.calculateClearingPrice(orders);
+    }
+
+    /**
+     * Runs the same auction through a long-lived {@link PriceLevelAuction}.
+     */
+    @Benchmark
+    public long reusedPriceLevelAuction() {
+        auction.clear();
+        for (int i = 0; i < orders.size(); i++) {
+            auction.addOrder(orders.get(i));
+        }
+        return auction.run() ? auction.getClearingPriceInCents() : -1;
+    }
+}
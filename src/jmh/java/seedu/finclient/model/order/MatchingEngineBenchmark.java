@@ -0,0 +1,96 @@
+package seedu.finclient.model.order;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks the continuous {@code MatchingEngine}: one message at a time against a resting book, the way
+ * {@code UniquePersonList} feeds it in {@code CONTINUOUS} mode.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MatchingEngineBenchmark {
+
+    @Param({"1000", "100000"})
+    private int bookSize;
+
+    @Param({"100", "10000"})
+    private int priceLevels;
+
+    private Order[] flow;
+    private MatchingEngine engine;
+    private long nextOrderId;
+    private int next;
+
+    /**
+     * Rests a synthetic book, and generates a second one as the flow of incoming orders.
+     */
+    @Setup
+    public void setUp() {
+        List<Order> resting = new SyntheticBook(bookSize, priceLevels, 42).toOrders();
+        flow = new SyntheticBook(bookSize, priceLevels, 43).toOrders().toArray(new Order[0]);
+        engine = new MatchingEngine();
+        nextOrderId = 1;
+        for (Order order : resting) {
+            engine.add(nextOrderId++, order);
+        }
+        next = 0;
+    }
+
+    /**
+     * Matches one incoming order and rests what is left of it, as placing an order does.
+     */
+    @Benchmark
+    public void matchAndRest(Blackhole blackhole) {
+        Order order = flow[next];
+        next = (next + 1) % flow.length;
+        long orderId = nextOrderId++;
+        List<Trade> trades = engine.match(orderId, order);
+        int filled = 0;
+        for (Trade trade : trades) {
+            filled += trade.getQuantity();
+        }
+        if (filled < order.getQuantity()) {
+            engine.add(orderId, order.withQuantity(order.getQuantity() - filled));
+        }
+        blackhole.consume(trades);
+    }
+
+    /**
+     * Rests an order and cancels it again, as placing and cancelling one in {@code AUCTION} mode does.
+     */
+    @Benchmark
+    public void addAndRemove() {
+        Order order = flow[next];
+        next = (next + 1) % flow.length;
+        long orderId = nextOrderId++;
+        engine.add(orderId, order);
+        engine.remove(orderId);
+    }
+
+    /**
+     * Reads the best bid and ask.
+     */
+    @Benchmark
+    public void bestPrices(Blackhole blackhole) {
+        blackhole.consume(engine.getBestBid(Order.DEFAULT_TICKER));
+        blackhole.consume(engine.getBestAsk(Order.DEFAULT_TICKER));
+    }
+}
@@ -0,0 +1,69 @@
+package seedu.finclient.model.order;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks building every {@code Order} of a book, from validated fields and from stored descriptions.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int bookSize;
+
+    @Param({"100", "10000"})
+    private int priceLevels;
+
+    private SyntheticBook book;
+    private String[] descriptions;
+
+    /**
+     * Generates the book and its stored descriptions.
+     */
+    @Setup
+    public void setUp() {
+        book = new SyntheticBook(bookSize, priceLevels, 42);
+        descriptions = new String[bookSize];
+        for (int i = 0; i < bookSize; i++) {
+            descriptions[i] = book.getDescription(i);
+        }
+    }
+
+    /**
+     * Constructs each order from its type, price text and quantity, as the parser does.
+     */
+    @Benchmark
+    public void construct(Blackhole blackhole) {
+        for (int i = 0; i < bookSize; i++) {
+            blackhole.consume(new Order(book.getType(i), book.getPrice(i), book.getQuantity(i)));
+        }
+    }
+
+    /**
+     * Parses each order from its "BUY 10 @ $5.50" description, as loading from storage does.
+     */
+    @Benchmark
+    public void parseDescription(Blackhole blackhole) {
+        for (int i = 0; i < bookSize; i++) {
+            blackhole.consume(new Order(descriptions[i]));
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package seedu.finclient.model.order;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import seedu.finclient.model.order.Order.OrderType;
+
+/**
+ * Generates reproducible synthetic order books for the benchmarks.
+ *
+ * Half of the orders are BUYs and half SELLs. Limit prices are spread uniformly over {@code priceLevels}
+ * one-cent ticks around $100.00, so {@code priceLevels} controls how dispersed (and how crossed) the book is.
+ */
+public class SyntheticBook {
+
+    private static final long MID_PRICE_IN_CENTS = 100_00;
+    private static final int MAX_QUANTITY = 1_000;
+
+    private final OrderType[] types;
+    private final String[] prices;
+    private final int[] quantities;
+
+    /**
+     * Generates a book of {@code size} orders over {@code priceLevels} ticks, seeded by {@code seed}.
+     */
+    public SyntheticBook(int size, int priceLevels, long seed) {
+        Random random = new Random(seed);
+        types = new OrderType[size];
+        prices = new String[size];
+        quantities = new int[size];
+        for (int i = 0; i < size; i++) {
+            types[i] = random.nextBoolean() ? OrderType.BUY : OrderType.SELL;
+            long cents = MID_PRICE_IN_CENTS - priceLevels / 2 + random.nextInt(priceLevels);
+            prices[i] = String.format("%d.%02d", cents / 100, cents % 100);
+            quantities[i] = 1 + random.nextInt(MAX_QUANTITY);
+        }
+    }
+
+    public int size() {
+        return prices.length;
+    }
+
+    public OrderType getType(int i) {
+        return types[i];
+    }
+
+    public String getPrice(int i) {
+        return prices[i];
+    }
+
+    public int getQuantity(int i) {
+        return quantities[i];
+    }
+
+    /**
+     * Returns the i-th order in the "BUY 10 @ $5.50" format used by storage.
+     */
+    public String getDescription(int i) {
+        return String.format("%s %d @ $%s", types[i], quantities[i], prices[i]);
+    }
+
+    /**
+     * Builds every order of the book.
+     */
+    public List<Order> toOrders() {
+        List<Order> orders = new ArrayList<>(size());
+        for (int i = 0; i < size(); i++) {
+            orders.add(new Order(types[i], prices[i], quantities[i]));
+        }
+        return orders;
+    }
+}
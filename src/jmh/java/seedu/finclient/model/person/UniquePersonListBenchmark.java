@@ -0,0 +1,111 @@
+package seedu.finclient.model.person;
+
+import static seedu.finclient.model.util.SampleDataUtil.EMPTY_COMPANY;
+import static seedu.finclient.model.util.SampleDataUtil.EMPTY_JOB;
+import static seedu.finclient.model.util.SampleDataUtil.EMPTY_NEWWORTH;
+import static seedu.finclient.model.util.SampleDataUtil.EMPTY_REMARK;
+import static seedu.finclient.model.util.SampleDataUtil.EMPTY_STOCK_PLATFORM;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.finclient.model.order.Order;
+import seedu.finclient.model.order.SyntheticBook;
+import seedu.finclient.model.util.SampleDataUtil;
+
+/**
+ * Benchmarks reading the clearing price of a {@code UniquePersonList}, the way {@code MainWindow} does
+ * after every command.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UniquePersonListBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int bookSize;
+
+    @Param({"100", "10000"})
+    private int priceLevels;
+
+    private List<Person> persons;
+    private Person[] current;
+    private Person[] alternatives;
+    private UniquePersonList uniquePersonList;
+    private int next;
+
+    /**
+     * Builds one client per order of a synthetic book, plus a repriced copy of each client.
+     */
+    @Setup
+    public void setUp() {
+        SyntheticBook book = new SyntheticBook(bookSize, priceLevels, 42);
+        SyntheticBook repricedBook = new SyntheticBook(bookSize, priceLevels, 43);
+        persons = new ArrayList<>(bookSize);
+        current = new Person[bookSize];
+        alternatives = new Person[bookSize];
+        for (int i = 0; i < bookSize; i++) {
+            current[i] = createPerson(i, new Order(book.getDescription(i)));
+            alternatives[i] = createPerson(i, new Order(repricedBook.getDescription(i)));
+            persons.add(current[i]);
+        }
+        uniquePersonList = new UniquePersonList();
+        uniquePersonList.setPersons(persons);
+        next = 0;
+    }
+
+    /**
+     * Reads the clearing price with no change since the last read.
+     */
+    @Benchmark
+    public Optional<Double> clearingPriceUnchanged() {
+        return uniquePersonList.calculateClearingPrice();
+    }
+
+    /**
+     * Amends one client's order, as an {@code order} command does, then reads the clearing price.
+     */
+    @Benchmark
+    public Optional<Double> clearingPriceAfterSetPerson() {
+        int i = next;
+        next = (next + 1) % bookSize;
+        Person replacement = alternatives[i];
+        alternatives[i] = current[i];
+        uniquePersonList.setPerson(current[i], replacement);
+        current[i] = replacement;
+        return uniquePersonList.calculateClearingPrice();
+    }
+
+    /**
+     * Replaces the whole list, as loading a data file does, then reads the clearing price.
+     */
+    @Benchmark
+    public Optional<Double> clearingPriceAfterSetPersons() {
+        uniquePersonList.setPersons(persons);
+        return uniquePersonList.calculateClearingPrice();
+    }
+
+    private static Person createPerson(int i, Order order) {
+        return new Person(new Name("Client " + i), SampleDataUtil.getPhoneList(String.valueOf(90000000 + i)),
+                new Email("client" + i + "@example.com"), new Address("Blk " + i), order, EMPTY_REMARK,
+                Collections.emptySet(), EMPTY_COMPANY, EMPTY_JOB, EMPTY_STOCK_PLATFORM, EMPTY_NEWWORTH);
+    }
+}
@@ -0,0 +1,83 @@
+package seedu.finclient.model.search;
+
+import static seedu.finclient.model.util.SampleDataUtil.EMPTY_NEWWORTH;
+import static seedu.finclient.model.util.SampleDataUtil.EMPTY_REMARK;
+import static seedu.finclient.model.util.SampleDataUtil.EMPTY_STOCK_PLATFORM;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.finclient.model.order.Order;
+import seedu.finclient.model.person.Address;
+import seedu.finclient.model.person.Company;
+import seedu.finclient.model.person.Email;
+import seedu.finclient.model.person.Job;
+import seedu.finclient.model.person.Name;
+import seedu.finclient.model.person.Person;
+import seedu.finclient.model.util.SampleDataUtil;
+
+/**
+ * Benchmarks prefix and fuzzy searches of a {@code ContactSearchIndex}, as the {@code search} command runs them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ContactSearchIndexBenchmark {
+
+    private static final String[] FIRST_NAMES = {"Alex", "Bernice", "Charlotte", "David", "Irfan", "Roy", "Hans"};
+    private static final String[] COMPANIES = {"Goldman Sachs", "Temasek", "DBS Bank", "GIC", "Jane Street"};
+    private static final String[] JOBS = {"Analyst", "Trader", "Portfolio Manager", "Associate"};
+
+    @Param({"10000", "100000"})
+    private int contacts;
+
+    private ContactSearchIndex index;
+
+    /**
+     * Indexes {@code contacts} persons with random names, companies and jobs.
+     */
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        index = new ContactSearchIndex();
+        for (int i = 0; i < contacts; i++) {
+            String name = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " Surname" + Integer.toString(i, 36);
+            index.add(new Person(new Name(name), SampleDataUtil.getPhoneList(String.valueOf(90000000 + i)),
+                    new Email("client" + i + "@example.com"), new Address("Blk " + i), new Order("NONE"),
+                    EMPTY_REMARK, Collections.emptySet(), new Company(COMPANIES[random.nextInt(COMPANIES.length)]),
+                    new Job(JOBS[random.nextInt(JOBS.length)]), EMPTY_STOCK_PLATFORM, EMPTY_NEWWORTH));
+        }
+    }
+
+    @Benchmark
+    public List<Person> exactWord() {
+        return index.search(List.of("charlotte"));
+    }
+
+    @Benchmark
+    public List<Person> prefix() {
+        return index.search(List.of("surname1z"));
+    }
+
+    @Benchmark
+    public List<Person> misspeltWords() {
+        return index.search(List.of("charlote", "temasec"));
+    }
+}
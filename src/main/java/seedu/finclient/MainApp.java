@@ -1,13 +1,18 @@
 package seedu.finclient;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
 import javafx.stage.Stage;
 import seedu.finclient.commons.core.Config;
+import seedu.finclient.commons.core.DataFileFormat;
 import seedu.finclient.commons.core.LogsCenter;
 import seedu.finclient.commons.core.Version;
 import seedu.finclient.commons.exceptions.DataLoadingException;
@@ -15,6 +20,8 @@ import seedu.finclient.commons.util.ConfigUtil;
 import seedu.finclient.commons.util.StringUtil;
 import seedu.finclient.logic.Logic;
 import seedu.finclient.logic.LogicManager;
+import seedu.finclient.logic.pricefeed.IndicativePricePublisher;
+import seedu.finclient.logic.pricefeed.IndicativePriceWriter;
 import seedu.finclient.model.FinClient;
 import seedu.finclient.model.Model;
 import seedu.finclient.model.ModelManager;
@@ -23,7 +30,7 @@ import seedu.finclient.model.ReadOnlyUserPrefs;
 import seedu.finclient.model.UserPrefs;
 import seedu.finclient.model.util.SampleDataUtil;
 import seedu.finclient.storage.FinClientStorage;
-import seedu.finclient.storage.JsonFinClientStorage;
+import seedu.finclient.storage.JournaledFinClientStorage;
 import seedu.finclient.storage.JsonUserPrefsStorage;
 import seedu.finclient.storage.Storage;
 import seedu.finclient.storage.StorageManager;
@@ -46,6 +53,10 @@ public class MainApp extends Application {
     protected Model model;
     protected Config config;
 
+    private ExecutorService saveExecutor;
+    private ExecutorService priceFeedExecutor;
+    private IndicativePriceWriter priceFeedWriter;
+
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing FinClient ]===========================");
@@ -57,12 +68,19 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        FinClientStorage finClientStorage = new JsonFinClientStorage(userPrefs.getFinClientFilePath());
-        storage = new StorageManager(finClientStorage, userPrefsStorage);
+        FinClientStorage finClientStorage = new JournaledFinClientStorage(
+                FinClientStorage.of(userPrefs.getDataFileFormat(), userPrefs.getFinClientFilePath()));
+        saveExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "finclient-save");
+            thread.setDaemon(true);
+            return thread;
+        });
+        storage = new StorageManager(finClientStorage, userPrefsStorage, saveExecutor);
 
         model = initModelManager(storage, userPrefs);
 
         logic = new LogicManager(model, storage);
+        initPriceFeed(config);
 
         ui = new UiManager(logic);
     }
@@ -93,6 +111,36 @@ public class MainApp extends Application {
         return new ModelManager(initialData, userPrefs);
     }
 
+    /**
+     * Writes indicative prices to the feed file named in {@code config}, if any, on a background thread
+     * so that a slow disk never holds up a command.
+     */
+    private void initPriceFeed(Config config) {
+        Path feedFilePath = config.getIndicativePriceFeedFilePath();
+        if (feedFilePath == null) {
+            return;
+        }
+
+        logger.info("Using indicative price feed file : " + feedFilePath);
+        try {
+            if (feedFilePath.getParent() != null) {
+                Files.createDirectories(feedFilePath.getParent());
+            }
+            priceFeedWriter = new IndicativePriceWriter(Files.newBufferedWriter(feedFilePath));
+        } catch (IOException e) {
+            logger.warning("Indicative price feed file at " + feedFilePath + " could not be opened."
+                    + " Indicative prices will not be written to a file.");
+            return;
+        }
+        priceFeedExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "indicative-price-feed");
+            thread.setDaemon(true);
+            return thread;
+        });
+        logic.getIndicativePricePublisher().subscribe(
+                IndicativePricePublisher.coalescing(priceFeedExecutor, priceFeedWriter));
+    }
+
     private void initLogging(Config config) {
         LogsCenter.init(config);
     }
@@ -158,6 +206,14 @@ public class MainApp extends Application {
             initializedPrefs = new UserPrefs();
         }
 
+        // The data file is kept in the format its name says, so that it is read back in the format it was written in
+        DataFileFormat preferredFormat = initializedPrefs.getDataFileFormat();
+        if (initializedPrefs.matchDataFileFormatToFilePath()) {
+            logger.warning("Data file " + initializedPrefs.getFinClientFilePath() + " is named for the "
+                    + initializedPrefs.getDataFileFormat() + " format, not the " + preferredFormat
+                    + " format in the preferences. Using the " + initializedPrefs.getDataFileFormat() + " format.");
+        }
+
         //Update prefs file in case it was missing to begin with or there are new/unused fields
         try {
             storage.saveUserPrefs(initializedPrefs);
@@ -182,5 +238,39 @@ public class MainApp extends Application {
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        stopSaving();
+        stopPriceFeed();
+    }
+
+    /**
+     * Lets the data file catch up with the last command, then stops saving.
+     */
+    private void stopSaving() {
+        try {
+            storage.flush();
+        } catch (IOException e) {
+            logger.severe("Failed to save data " + StringUtil.getDetails(e));
+        }
+        saveExecutor.shutdown();
+        logger.info("Saved the data " + storage.getPerformedSaveCount() + " time(s), and skipped "
+                + storage.getSkippedSaveCount() + " save(s) of unchanged data");
+    }
+
+    /**
+     * Lets the feed file catch up with the last published prices, then closes it.
+     */
+    private void stopPriceFeed() {
+        if (priceFeedExecutor == null) {
+            return;
+        }
+        priceFeedExecutor.shutdown();
+        try {
+            priceFeedExecutor.awaitTermination(5, TimeUnit.SECONDS);
+            priceFeedWriter.close();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            logger.warning("Failed to close indicative price feed file " + StringUtil.getDetails(e));
+        }
     }
 }
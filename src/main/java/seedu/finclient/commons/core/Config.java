@@ -17,6 +17,8 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    // File to append indicative price updates to, or null to not write them anywhere
+    private Path indicativePriceFeedFilePath = null;
 
     public Level getLogLevel() {
         return logLevel;
@@ -34,6 +36,14 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public Path getIndicativePriceFeedFilePath() {
+        return indicativePriceFeedFilePath;
+    }
+
+    public void setIndicativePriceFeedFilePath(Path indicativePriceFeedFilePath) {
+        this.indicativePriceFeedFilePath = indicativePriceFeedFilePath;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -47,12 +57,13 @@ public class Config {
 
         Config otherConfig = (Config) other;
         return Objects.equals(logLevel, otherConfig.logLevel)
-                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath)
+                && Objects.equals(indicativePriceFeedFilePath, otherConfig.indicativePriceFeedFilePath);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, indicativePriceFeedFilePath);
     }
 
     @Override
@@ -60,6 +71,7 @@ public class Config {
         return new ToStringBuilder(this)
                 .add("logLevel", logLevel)
                 .add("userPrefsFilePath", userPrefsFilePath)
+                .add("indicativePriceFeedFilePath", indicativePriceFeedFilePath)
                 .toString();
     }
 
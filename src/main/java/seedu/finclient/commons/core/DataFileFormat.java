@@ -0,0 +1,46 @@
+package seedu.finclient.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * The formats FinClient data can be kept in on disk.
+ */
+public enum DataFileFormat {
+    /** Pretty-printed JSON, which can be read and edited by hand. */
+    JSON(".json"),
+    /** A compact binary format, which is smaller and faster to read for large data. */
+    BINARY(".bin");
+
+    private final String fileExtension;
+
+    DataFileFormat(String fileExtension) {
+        this.fileExtension = fileExtension;
+    }
+
+    /**
+     * Returns the extension, with its leading dot, that files in this format are named with.
+     */
+    public String getFileExtension() {
+        return fileExtension;
+    }
+
+    /**
+     * Returns the format that {@code file} is named for, if its extension is one of the formats'.
+     */
+    public static Optional<DataFileFormat> ofFile(Path file) {
+        requireNonNull(file);
+        Path fileName = file.getFileName();
+        if (fileName == null) {
+            return Optional.empty();
+        }
+        for (DataFileFormat format : values()) {
+            if (fileName.toString().toLowerCase().endsWith(format.fileExtension)) {
+                return Optional.of(format);
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -1,16 +1,20 @@
 package seedu.finclient.commons.util;
 
 import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 
 /**
  * Writes and reads files
  */
 public class FileUtil {
 
+    public static final String TEMP_FILE_SUFFIX = ".tmp";
+
     private static final String CHARSET = "UTF-8";
 
     public static boolean isFileExists(Path file) {
@@ -75,9 +79,32 @@ public class FileUtil {
     /**
      * Writes given string to a file.
      * Will create the file if it does not exist yet.
+     * The string is written to a temporary file beside it first, which then replaces the file in one step, so
+     * that a crash while writing never leaves the file half written.
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        Path tempFile = getTempFile(file);
+        Files.write(tempFile, content.getBytes(CHARSET));
+        replaceWithTempFile(file);
+    }
+
+    /**
+     * Returns the temporary file beside {@code file} that a new version of it is written to before replacing it.
+     */
+    public static Path getTempFile(Path file) {
+        return file.resolveSibling(file.getFileName() + TEMP_FILE_SUFFIX);
+    }
+
+    /**
+     * Moves the temporary file of {@code file} over it, in one step if the file system allows.
+     */
+    public static void replaceWithTempFile(Path file) throws IOException {
+        Path tempFile = getTempFile(file);
+        try {
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+        }
     }
 
 }
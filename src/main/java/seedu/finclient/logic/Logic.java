@@ -2,6 +2,7 @@ package seedu.finclient.logic;
 
 import java.nio.file.Path;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import javafx.collections.ObservableList;
@@ -9,6 +10,7 @@ import seedu.finclient.commons.core.GuiSettings;
 import seedu.finclient.logic.commands.CommandResult;
 import seedu.finclient.logic.commands.exceptions.CommandException;
 import seedu.finclient.logic.parser.exceptions.ParseException;
+import seedu.finclient.logic.pricefeed.IndicativePricePublisher;
 import seedu.finclient.model.ReadOnlyFinClient;
 import seedu.finclient.model.person.Person;
 
@@ -51,8 +53,19 @@ public interface Logic {
     void setGuiSettings(GuiSettings guiSettings);
 
     /**
-     * Returns the clearing price based on current orders.
+     * Returns the clearing price of the default instrument based on current orders.
      */
     Optional<Double> getClearingPrice();
+
+    /**
+     * Returns the clearing price of every instrument with orders, keyed by ticker in alphabetical order.
+     */
+    Map<String, Optional<Double>> getClearingPrices();
+
+    /**
+     * Returns the publisher of indicative prices, which publishes after every command.
+     */
+    IndicativePricePublisher getIndicativePricePublisher();
+
     List<Person> getUpcomingPersons(int count);
 }
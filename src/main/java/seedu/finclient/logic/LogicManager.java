@@ -4,17 +4,23 @@ import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import seedu.finclient.commons.core.GuiSettings;
 import seedu.finclient.commons.core.LogsCenter;
+import seedu.finclient.commons.exceptions.DataLoadingException;
 import seedu.finclient.logic.commands.Command;
 import seedu.finclient.logic.commands.CommandResult;
+import seedu.finclient.logic.commands.ExportCommand;
+import seedu.finclient.logic.commands.FileTransfer;
+import seedu.finclient.logic.commands.ImportCommand;
 import seedu.finclient.logic.commands.exceptions.CommandException;
 import seedu.finclient.logic.parser.FinClientParser;
 import seedu.finclient.logic.parser.exceptions.ParseException;
+import seedu.finclient.logic.pricefeed.IndicativePricePublisher;
 import seedu.finclient.model.Model;
 import seedu.finclient.model.ReadOnlyFinClient;
 import seedu.finclient.model.person.Person;
@@ -34,6 +40,7 @@ public class LogicManager implements Logic {
     private final Model model;
     private final Storage storage;
     private final FinClientParser finClientParser;
+    private final IndicativePricePublisher indicativePricePublisher;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
@@ -42,6 +49,8 @@ public class LogicManager implements Logic {
         this.model = model;
         this.storage = storage;
         finClientParser = new FinClientParser();
+        indicativePricePublisher = new IndicativePricePublisher(model::pollIndicativePriceChanges);
+        indicativePricePublisher.publish();
     }
 
     @Override
@@ -51,9 +60,14 @@ public class LogicManager implements Logic {
         CommandResult commandResult;
         Command command = finClientParser.parseCommand(commandText);
         commandResult = command.execute(model);
+        Optional<FileTransfer> fileTransfer = commandResult.getFileTransfer();
+        if (fileTransfer.isPresent()) {
+            commandResult = transfer(fileTransfer.get());
+        }
+        indicativePricePublisher.publish();
 
         try {
-            storage.saveFinClient(model.getFinClient());
+            storage.saveFinClientChanges(model.getFinClient(), model.pollPersonChanges());
         } catch (AccessDeniedException e) {
             throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
         } catch (IOException ioe) {
@@ -63,6 +77,47 @@ public class LogicManager implements Logic {
         return commandResult;
     }
 
+    /**
+     * Carries out {@code fileTransfer} through the storage, and returns the result to show for it.
+     */
+    private CommandResult transfer(FileTransfer fileTransfer) throws CommandException {
+        switch (fileTransfer.getDirection()) {
+        case EXPORT:
+            return exportTo(fileTransfer.getFilePath());
+        case IMPORT:
+            return importFrom(fileTransfer.getFilePath());
+        default:
+            throw new AssertionError("Unexpected direction: " + fileTransfer.getDirection());
+        }
+    }
+
+    private CommandResult exportTo(Path filePath) throws CommandException {
+        try {
+            storage.exportFinClient(model.getFinClient(), filePath);
+        } catch (IOException e) {
+            throw new CommandException(String.format(ExportCommand.MESSAGE_FAILURE, filePath, e.getMessage()), e);
+        }
+        return new CommandResult(String.format(ExportCommand.MESSAGE_SUCCESS,
+                model.getFinClient().getPersonList().size(), filePath));
+    }
+
+    private CommandResult importFrom(Path filePath) throws CommandException {
+        Optional<ReadOnlyFinClient> finClient;
+        try {
+            finClient = storage.importFinClient(filePath);
+        } catch (DataLoadingException e) {
+            throw new CommandException(String.format(ImportCommand.MESSAGE_FAILURE,
+                    filePath, e.getCause().getMessage()), e);
+        }
+        if (finClient.isEmpty()) {
+            throw new CommandException(String.format(ImportCommand.MESSAGE_FILE_NOT_FOUND, filePath));
+        }
+
+        model.setFinClient(finClient.get());
+        return new CommandResult(String.format(ImportCommand.MESSAGE_SUCCESS,
+                finClient.get().getPersonList().size(), filePath));
+    }
+
     @Override
     public ReadOnlyFinClient getFinClient() {
         return model.getFinClient();
@@ -93,6 +148,16 @@ public class LogicManager implements Logic {
         return model.calculateClearingPrice();
     }
 
+    @Override
+    public Map<String, Optional<Double>> getClearingPrices() {
+        return model.calculateClearingPrices();
+    }
+
+    @Override
+    public IndicativePricePublisher getIndicativePricePublisher() {
+        return indicativePricePublisher;
+    }
+
     public List<Person> getUpcomingPersons(int count) {
         return model.getUpcomingPersons(count);
     }
@@ -1,10 +1,12 @@
 package seedu.finclient.logic;
 
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import seedu.finclient.logic.parser.Prefix;
+import seedu.finclient.model.order.Trade;
 import seedu.finclient.model.person.Person;
 
 /**
@@ -15,7 +17,10 @@ public class Messages {
     public static final String MESSAGE_UNKNOWN_COMMAND = "Unknown command";
     public static final String MESSAGE_INVALID_COMMAND_FORMAT = "Invalid command format! \n%1$s";
     public static final String MESSAGE_INVALID_PERSON_DISPLAYED_INDEX = "The person index provided is invalid";
+    public static final String MESSAGE_INVALID_ORDER_ID = "The order id provided is invalid";
     public static final String MESSAGE_PERSONS_LISTED_OVERVIEW = "%1$d persons listed!";
+    public static final String MESSAGE_TRADE = "Traded %1$d @ $%2$.2f with order #%3$d";
+    public static final String MESSAGE_DATA_FILE_IN_USE = "%1$s is the data file in use, choose another file";
     public static final String MESSAGE_DUPLICATE_FIELDS =
                 "Multiple values specified for the following single-valued field(s): ";
 
@@ -48,4 +53,18 @@ public class Messages {
         return builder.toString();
     }
 
+    /**
+     * Formats the {@code trades} of the order {@code orderId} for display to the user, one per line,
+     * each line starting with a line break. Returns an empty string if there are no trades.
+     */
+    public static String format(long orderId, List<Trade> trades) {
+        final StringBuilder builder = new StringBuilder();
+        for (Trade trade : trades) {
+            builder.append('\n')
+                    .append(String.format(MESSAGE_TRADE, trade.getQuantity(), trade.getPrice(),
+                            trade.getCounterpartyOrderId(orderId)));
+        }
+        return builder.toString();
+    }
+
 }
@@ -0,0 +1,105 @@
+package seedu.finclient.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.finclient.logic.parser.CliSyntax.PREFIX_AMOUNT;
+import static seedu.finclient.logic.parser.CliSyntax.PREFIX_PRICE;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import seedu.finclient.commons.util.ToStringBuilder;
+import seedu.finclient.logic.Messages;
+import seedu.finclient.logic.commands.exceptions.CommandException;
+import seedu.finclient.model.Model;
+import seedu.finclient.model.order.Order;
+import seedu.finclient.model.order.Trade;
+
+/**
+ * Amends the quantity and/or price of a single working order identified by its order id.
+ * The order keeps its id, side and instrument.
+ */
+public class AmendCommand extends Command {
+
+    public static final String COMMAND_WORD = "amend";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Amends the amount and/or price of the order identified by the order id shown in the person list. "
+            + "At least one of amount and price must be provided.\n"
+            + "Parameters: ORDER_ID (must be a positive integer) "
+            + "[" + PREFIX_AMOUNT + "AMOUNT] "
+            + "[" + PREFIX_PRICE + "PRICE]\n"
+            + "Example: " + COMMAND_WORD + " 3 "
+            + PREFIX_AMOUNT + "20 "
+            + PREFIX_PRICE + "5.75";
+
+    public static final String MESSAGE_AMEND_ORDER_SUCCESS = "Amended order #%1$d: %2$s";
+    public static final String MESSAGE_NOT_AMENDED = "At least one of amount and price must be provided.";
+
+    private final long orderId;
+    private final Integer quantity;
+    private final String price;
+
+    /**
+     * @param orderId of the order to amend
+     * @param quantity the new quantity, or null to keep the current one
+     * @param price the new price, or null to keep the current one
+     */
+    public AmendCommand(long orderId, Integer quantity, String price) {
+        this.orderId = orderId;
+        this.quantity = quantity;
+        this.price = price;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        Optional<Order> orderToAmend = model.getOrder(orderId);
+        if (orderToAmend.isEmpty()) {
+            throw new CommandException(Messages.MESSAGE_INVALID_ORDER_ID);
+        }
+
+        Order amendedOrder = createAmendedOrder(orderToAmend.get());
+        int tradeCount = model.getTradeList().size();
+        model.amendOrder(orderId, amendedOrder);
+        List<Trade> trades = model.getTradeList().subList(tradeCount, model.getTradeList().size());
+        return new CommandResult(String.format(MESSAGE_AMEND_ORDER_SUCCESS, orderId, amendedOrder)
+                + Messages.format(orderId, trades));
+    }
+
+    private Order createAmendedOrder(Order orderToAmend) {
+        String updatedPrice = price != null
+                ? price
+                : BigDecimal.valueOf(orderToAmend.getPriceInCents(), 2).toPlainString();
+        int updatedQuantity = quantity != null ? quantity : orderToAmend.getQuantity();
+        return new Order(orderToAmend.getOrderType(), orderToAmend.getTicker(), updatedPrice, updatedQuantity);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AmendCommand)) {
+            return false;
+        }
+
+        AmendCommand otherAmendCommand = (AmendCommand) other;
+        return orderId == otherAmendCommand.orderId
+                && Objects.equals(quantity, otherAmendCommand.quantity)
+                && Objects.equals(price, otherAmendCommand.price);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("orderId", orderId)
+                .add("quantity", quantity)
+                .add("price", price)
+                .toString();
+    }
+}
@@ -0,0 +1,63 @@
+package seedu.finclient.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.finclient.commons.util.ToStringBuilder;
+import seedu.finclient.logic.Messages;
+import seedu.finclient.logic.commands.exceptions.CommandException;
+import seedu.finclient.model.Model;
+
+/**
+ * Cancels a single working order identified by its order id.
+ */
+public class CancelCommand extends Command {
+
+    public static final String COMMAND_WORD = "cancel";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Cancels the order identified by the order id shown in the person list.\n"
+            + "Parameters: ORDER_ID (must be a positive integer)\n"
+            + "Example: " + COMMAND_WORD + " 3";
+
+    public static final String MESSAGE_CANCEL_ORDER_SUCCESS = "Cancelled order #%1$d";
+
+    private final long orderId;
+
+    public CancelCommand(long orderId) {
+        this.orderId = orderId;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        if (!model.hasOrder(orderId)) {
+            throw new CommandException(Messages.MESSAGE_INVALID_ORDER_ID);
+        }
+
+        model.cancelOrder(orderId);
+        return new CommandResult(String.format(MESSAGE_CANCEL_ORDER_SUCCESS, orderId));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof CancelCommand)) {
+            return false;
+        }
+
+        CancelCommand otherCancelCommand = (CancelCommand) other;
+        return orderId == otherCancelCommand.orderId;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("orderId", orderId)
+                .toString();
+    }
+}
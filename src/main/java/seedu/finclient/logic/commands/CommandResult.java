@@ -3,6 +3,7 @@ package seedu.finclient.logic.commands;
 import static java.util.Objects.requireNonNull;
 
 import java.util.Objects;
+import java.util.Optional;
 
 import seedu.finclient.commons.util.ToStringBuilder;
 
@@ -19,6 +20,9 @@ public class CommandResult {
     /** The application should exit. */
     private final boolean exit;
 
+    /** The contacts should be copied to or from a file; null if not. */
+    private final FileTransfer fileTransfer;
+
     /**
      * Constructs a {@code CommandResult} with the specified fields.
      */
@@ -26,6 +30,18 @@ public class CommandResult {
         this.feedbackToUser = requireNonNull(feedbackToUser);
         this.showHelp = showHelp;
         this.exit = exit;
+        this.fileTransfer = null;
+    }
+
+    /**
+     * Constructs a {@code CommandResult} that asks for {@code fileTransfer} to be carried out, with
+     * {@code feedbackToUser} describing the request. The result of the transfer replaces it.
+     */
+    public CommandResult(String feedbackToUser, FileTransfer fileTransfer) {
+        this.feedbackToUser = requireNonNull(feedbackToUser);
+        this.showHelp = false;
+        this.exit = false;
+        this.fileTransfer = requireNonNull(fileTransfer);
     }
 
     /**
@@ -48,6 +64,10 @@ public class CommandResult {
         return exit;
     }
 
+    public Optional<FileTransfer> getFileTransfer() {
+        return Optional.ofNullable(fileTransfer);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -62,12 +82,13 @@ public class CommandResult {
         CommandResult otherCommandResult = (CommandResult) other;
         return feedbackToUser.equals(otherCommandResult.feedbackToUser)
                 && showHelp == otherCommandResult.showHelp
-                && exit == otherCommandResult.exit;
+                && exit == otherCommandResult.exit
+                && Objects.equals(fileTransfer, otherCommandResult.fileTransfer);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(feedbackToUser, showHelp, exit);
+        return Objects.hash(feedbackToUser, showHelp, exit, fileTransfer);
     }
 
     @Override
@@ -76,6 +97,7 @@ public class CommandResult {
                 .add("feedbackToUser", feedbackToUser)
                 .add("showHelp", showHelp)
                 .add("exit", exit)
+                .add("fileTransfer", fileTransfer)
                 .toString();
     }
 
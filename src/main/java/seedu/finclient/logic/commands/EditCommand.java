@@ -33,6 +33,7 @@ import seedu.finclient.model.person.Email;
 import seedu.finclient.model.person.Job;
 import seedu.finclient.model.person.Name;
 import seedu.finclient.model.person.Networth;
+import seedu.finclient.model.person.OrderList;
 import seedu.finclient.model.person.Person;
 import seedu.finclient.model.person.PhoneList;
 import seedu.finclient.model.person.Remark;
@@ -115,7 +116,9 @@ public class EditCommand extends Command {
         PhoneList updatedPhoneList = editPersonDescriptor.getPhoneList().orElse(personToEdit.getPhoneList());
         Email updatedEmail = editPersonDescriptor.getEmail().orElse(personToEdit.getEmail());
         Address updatedAddress = editPersonDescriptor.getAddress().orElse(personToEdit.getAddress());
-        Order updatedOrder = editPersonDescriptor.getOrder().orElse(personToEdit.getOrder());
+        OrderList updatedOrders = editPersonDescriptor.getOrder()
+                .map(OrderList::new)
+                .orElse(personToEdit.getOrderList());
         Remark updatedRemark = editPersonDescriptor.getRemark().orElse(personToEdit.getRemark());
         Set<Tag> updatedTags = editPersonDescriptor.getTags().orElse(personToEdit.getTags());
         Company updatedCompany = editPersonDescriptor.getCompany().orElse(personToEdit.getCompany());
@@ -124,7 +127,7 @@ public class EditCommand extends Command {
                 editPersonDescriptor.getStockPlatform().orElse(personToEdit.getStockPlatform());
         Networth updatedNetworth = editPersonDescriptor.getNetworth().orElse(personToEdit.getNetworth());
 
-        return new Person(updatedName, updatedPhoneList, updatedEmail, updatedAddress, updatedOrder, updatedRemark,
+        return new Person(updatedName, updatedPhoneList, updatedEmail, updatedAddress, updatedOrders, updatedRemark,
                 updatedTags, updatedCompany, updatedJob, updatedStockPlatform, updatedNetworth);
     }
 
@@ -287,7 +290,7 @@ public class EditCommand extends Command {
 
         public void setStockPlatform(StockPlatform stockPlatform) {
             if (stockPlatform != null && stockPlatform.value.equals("delete")) {
-                this.stockPlatform = new StockPlatform();
+                this.stockPlatform = StockPlatform.EMPTY;
             } else {
                 this.stockPlatform = stockPlatform;
             }
@@ -299,7 +302,7 @@ public class EditCommand extends Command {
 
         public void setNetworth(Networth networth) {
             if (networth != null && networth.value.equals("delete")) {
-                this.networth = new Networth();
+                this.networth = Networth.EMPTY;
             } else {
                 this.networth = networth;
             }
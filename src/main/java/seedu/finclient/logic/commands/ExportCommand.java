@@ -0,0 +1,72 @@
+package seedu.finclient.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.finclient.commons.util.AppUtil.checkArgument;
+
+import java.nio.file.Path;
+
+import seedu.finclient.commons.core.DataFileFormat;
+import seedu.finclient.commons.util.ToStringBuilder;
+import seedu.finclient.logic.Messages;
+import seedu.finclient.logic.commands.FileTransfer.Direction;
+import seedu.finclient.logic.commands.exceptions.CommandException;
+import seedu.finclient.model.Model;
+
+/**
+ * Writes all contacts to a file, in the format its extension names.
+ * The file is written by {@code LogicManager} once the command has checked the request.
+ */
+public class ExportCommand extends Command {
+
+    public static final String COMMAND_WORD = "export";
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Exports all contacts to a file, as JSON if its name ends in .json, "
+            + "or in a compact binary format if it ends in .bin.\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " backup/finclient.bin";
+    public static final String MESSAGE_REQUESTED = "Exporting contacts to %1$s";
+    public static final String MESSAGE_SUCCESS = "Exported %1$d contacts to %2$s";
+    public static final String MESSAGE_FAILURE = "Could not export to %1$s: %2$s";
+
+    private final Path filePath;
+
+    /**
+     * Creates an ExportCommand to write all contacts to {@code filePath}, whose extension must name a format.
+     */
+    public ExportCommand(Path filePath) {
+        requireNonNull(filePath);
+        checkArgument(DataFileFormat.ofFile(filePath).isPresent());
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (isSameFile(filePath, model.getFinClientFilePath())) {
+            throw new CommandException(String.format(Messages.MESSAGE_DATA_FILE_IN_USE, filePath));
+        }
+        return new CommandResult(String.format(MESSAGE_REQUESTED, filePath),
+                new FileTransfer(Direction.EXPORT, filePath));
+    }
+
+    /**
+     * Returns true if {@code first} and {@code second} name the same file.
+     */
+    static boolean isSameFile(Path first, Path second) {
+        return first.toAbsolutePath().normalize().equals(second.toAbsolutePath().normalize());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ExportCommand // instanceof handles nulls
+                && filePath.equals(((ExportCommand) other).filePath)); // state check
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .toString();
+    }
+}
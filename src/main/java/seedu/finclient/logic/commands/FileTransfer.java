@@ -0,0 +1,81 @@
+package seedu.finclient.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.finclient.commons.util.AppUtil.checkArgument;
+
+import java.nio.file.Path;
+import java.util.Objects;
+
+import seedu.finclient.commons.core.DataFileFormat;
+import seedu.finclient.commons.util.ToStringBuilder;
+
+/**
+ * A request to copy all contacts to or from a file, in the format its extension names.
+ *
+ * Commands only make the request; {@code LogicManager} carries it out through {@code Storage} after the command
+ * returns, so that the file is written or read alongside the saves of the data file.
+ */
+public class FileTransfer {
+
+    /**
+     * The way the contacts are copied.
+     */
+    public enum Direction {
+        /** All contacts are replaced with those in the file. */
+        IMPORT,
+        /** All contacts are written to the file. */
+        EXPORT
+    }
+
+    private final Direction direction;
+    private final Path filePath;
+
+    /**
+     * Creates a request to copy the contacts in {@code direction}, to or from {@code filePath}, whose extension must
+     * name a format.
+     */
+    public FileTransfer(Direction direction, Path filePath) {
+        requireNonNull(direction);
+        requireNonNull(filePath);
+        checkArgument(DataFileFormat.ofFile(filePath).isPresent());
+        this.direction = direction;
+        this.filePath = filePath;
+    }
+
+    public Direction getDirection() {
+        return direction;
+    }
+
+    public Path getFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FileTransfer)) {
+            return false;
+        }
+
+        FileTransfer otherFileTransfer = (FileTransfer) other;
+        return direction == otherFileTransfer.direction
+                && filePath.equals(otherFileTransfer.filePath);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(direction, filePath);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("direction", direction)
+                .add("filePath", filePath)
+                .toString();
+    }
+}
@@ -0,0 +1,61 @@
+package seedu.finclient.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.finclient.commons.util.ToStringBuilder;
+import seedu.finclient.logic.Messages;
+import seedu.finclient.model.Model;
+import seedu.finclient.model.query.PersonQuery;
+
+/**
+ * Lists the persons that meet every condition of a query on their tags, net worth, orders and details.
+ */
+public class FilterCommand extends Command {
+
+    public static final String COMMAND_WORD = "filter";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists all persons that meet every one of the "
+            + "specified conditions, joined by AND.\n"
+            + "Conditions: tag=TAG[|MORE_TAGS], networth OP AMOUNT, order=BUY|SELL [price OP PRICE] [ticker=TICKER], "
+            + "name=TEXT, company=TEXT, job=TEXT, where OP is one of <, <=, =, >=, >\n"
+            + "Example: " + COMMAND_WORD + " tag=vip AND networth >= $1 million AND order=BUY price < 5";
+
+    public static final String MESSAGE_INVALID_CONDITION = "Invalid condition: %1$s\n" + MESSAGE_USAGE;
+
+    private final PersonQuery query;
+
+    public FilterCommand(PersonQuery query) {
+        requireNonNull(query);
+        this.query = query;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.updateFilteredPersonList(query);
+        return new CommandResult(
+                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FilterCommand)) {
+            return false;
+        }
+
+        FilterCommand otherFilterCommand = (FilterCommand) other;
+        return query.equals(otherFilterCommand.query);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("query", query)
+                .toString();
+    }
+}
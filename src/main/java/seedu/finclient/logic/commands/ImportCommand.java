@@ -0,0 +1,66 @@
+package seedu.finclient.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.finclient.commons.util.AppUtil.checkArgument;
+
+import java.nio.file.Path;
+
+import seedu.finclient.commons.core.DataFileFormat;
+import seedu.finclient.commons.util.ToStringBuilder;
+import seedu.finclient.logic.Messages;
+import seedu.finclient.logic.commands.FileTransfer.Direction;
+import seedu.finclient.logic.commands.exceptions.CommandException;
+import seedu.finclient.model.Model;
+
+/**
+ * Replaces all contacts with those in a file, read in the format its extension names.
+ * The file is read by {@code LogicManager} once the command has checked the request.
+ */
+public class ImportCommand extends Command {
+
+    public static final String COMMAND_WORD = "import";
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Replaces all contacts with those in a file, read as JSON if its name ends in .json, "
+            + "or in the compact binary format if it ends in .bin.\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " backup/finclient.bin";
+    public static final String MESSAGE_REQUESTED = "Importing contacts from %1$s";
+    public static final String MESSAGE_SUCCESS = "Imported %1$d contacts from %2$s";
+    public static final String MESSAGE_FILE_NOT_FOUND = "%1$s does not exist";
+    public static final String MESSAGE_FAILURE = "Could not import from %1$s: %2$s";
+
+    private final Path filePath;
+
+    /**
+     * Creates an ImportCommand to read the contacts in {@code filePath}, whose extension must name a format.
+     */
+    public ImportCommand(Path filePath) {
+        requireNonNull(filePath);
+        checkArgument(DataFileFormat.ofFile(filePath).isPresent());
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (ExportCommand.isSameFile(filePath, model.getFinClientFilePath())) {
+            throw new CommandException(String.format(Messages.MESSAGE_DATA_FILE_IN_USE, filePath));
+        }
+        return new CommandResult(String.format(MESSAGE_REQUESTED, filePath),
+                new FileTransfer(Direction.IMPORT, filePath));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ImportCommand // instanceof handles nulls
+                && filePath.equals(((ImportCommand) other).filePath)); // state check
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .toString();
+    }
+}
@@ -0,0 +1,63 @@
+package seedu.finclient.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.finclient.commons.util.ToStringBuilder;
+import seedu.finclient.model.Model;
+import seedu.finclient.model.order.MatchingMode;
+
+/**
+ * Switches between collecting orders for the call auction and matching them continuously.
+ */
+public class MarketCommand extends Command {
+
+    public static final String COMMAND_WORD = "market";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Sets how new and amended orders are handled. "
+            + "In auction mode they rest until the call auction; in continuous mode they trade immediately "
+            + "against resting orders at the best price.\n"
+            + "Parameters: auction|continuous\n"
+            + "Example: " + COMMAND_WORD + " continuous";
+
+    public static final String MESSAGE_SUCCESS = "Matching mode set to %1$s";
+
+    private final MatchingMode matchingMode;
+
+    /**
+     * Creates a MarketCommand to switch to {@code matchingMode}.
+     */
+    public MarketCommand(MatchingMode matchingMode) {
+        requireNonNull(matchingMode);
+        this.matchingMode = matchingMode;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.setMatchingMode(matchingMode);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, matchingMode));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof MarketCommand)) {
+            return false;
+        }
+
+        MarketCommand otherMarketCommand = (MarketCommand) other;
+        return matchingMode == otherMarketCommand.matchingMode;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("matchingMode", matchingMode)
+                .toString();
+    }
+}
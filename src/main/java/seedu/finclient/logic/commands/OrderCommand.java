@@ -3,6 +3,7 @@ package seedu.finclient.logic.commands;
 import static seedu.finclient.logic.parser.CliSyntax.PREFIX_AMOUNT;
 import static seedu.finclient.logic.parser.CliSyntax.PREFIX_ORDER;
 import static seedu.finclient.logic.parser.CliSyntax.PREFIX_PRICE;
+import static seedu.finclient.logic.parser.CliSyntax.PREFIX_TICKER;
 import static seedu.finclient.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
 import java.util.List;
@@ -12,28 +13,34 @@ import seedu.finclient.logic.Messages;
 import seedu.finclient.logic.commands.exceptions.CommandException;
 import seedu.finclient.model.Model;
 import seedu.finclient.model.order.Order;
+import seedu.finclient.model.order.Trade;
+import seedu.finclient.model.person.OrderList;
 import seedu.finclient.model.person.Person;
 
 /**
- * Creates a limit order for a given contact.
+ * Places an additional limit order for a given contact, or cancels all of the contact's orders.
  */
 public class OrderCommand extends Command {
 
     public static final String COMMAND_WORD = "order";
 
-    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Creates a limit order for a given contact.\n"
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Places a limit order for a given contact. "
+            + "Without an order, cancels all of the contact's orders.\n"
             + "Parameters: "
             + "INDEX "
             + PREFIX_ORDER + "ORDER_TYPE "
             + PREFIX_AMOUNT + "AMOUNT "
-            + PREFIX_PRICE + "PRICE\n"
+            + PREFIX_PRICE + "PRICE "
+            + "[" + PREFIX_TICKER + "TICKER]\n"
             + "Example: " + COMMAND_WORD + " "
             + "1 "
             + PREFIX_ORDER + "BUY "
             + PREFIX_AMOUNT + "10 "
-            + PREFIX_PRICE + "5.50\n";
+            + PREFIX_PRICE + "5.50 "
+            + PREFIX_TICKER + "AAPL\n";
 
-    public static final String MESSAGE_SUCCESS = "Order generated successfully!";
+    public static final String MESSAGE_SUCCESS = "Order #%1$d generated successfully!";
+    public static final String MESSAGE_CANCEL_ALL_SUCCESS = "Cancelled %1$d order(s).";
 
     private final Index targetIndex;
     private final Order order;
@@ -55,16 +62,21 @@ public class OrderCommand extends Command {
         }
 
         Person personToEdit = lastShownList.get(targetIndex.getZeroBased());
-        personToEdit.setUnhidden();
-        Person editedPerson = new Person(personToEdit.getName(), personToEdit.getPhoneList(), personToEdit.getEmail(),
-                personToEdit.getAddress(), order, personToEdit.getRemark(), personToEdit.getTags(),
-                personToEdit.getCompany(), personToEdit.getJob(), personToEdit.getStockPlatform(),
-                personToEdit.getNetworth());
+        model.revealPerson(personToEdit);
 
-        model.setPerson(personToEdit, editedPerson);
+        if (!OrderList.isWorkingOrder(order)) {
+            List<Long> orderIds = List.copyOf(personToEdit.getOrderList().asMap().keySet());
+            orderIds.forEach(model::cancelOrder);
+            model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+            return new CommandResult(String.format(MESSAGE_CANCEL_ALL_SUCCESS, orderIds.size()));
+        }
+
+        int tradeCount = model.getTradeList().size();
+        long orderId = model.placeOrder(personToEdit, order);
+        List<Trade> trades = model.getTradeList().subList(tradeCount, model.getTradeList().size());
         model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
 
-        return new CommandResult(MESSAGE_SUCCESS);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, orderId) + Messages.format(orderId, trades));
     }
 
     @Override
@@ -53,7 +53,7 @@ public class RemarkCommand extends Command {
         Person personToEdit = lastShownList.get(index.getZeroBased());
         personToEdit.setUnhidden();
         Person editedPerson = new Person(personToEdit.getName(), personToEdit.getPhoneList(), personToEdit.getEmail(),
-                personToEdit.getAddress(), personToEdit.getOrder(), remark, personToEdit.getTags(),
+                personToEdit.getAddress(), personToEdit.getOrderList(), remark, personToEdit.getTags(),
                 personToEdit.getCompany(), personToEdit.getJob(), personToEdit.getStockPlatform(),
                 personToEdit.getNetworth());
 
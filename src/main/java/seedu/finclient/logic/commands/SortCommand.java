@@ -2,41 +2,40 @@ package seedu.finclient.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.Arrays;
-import java.util.List;
-
 import seedu.finclient.commons.util.ToStringBuilder;
 import seedu.finclient.logic.commands.exceptions.CommandException;
 import seedu.finclient.model.Model;
+import seedu.finclient.model.person.PersonSortOrder;
+import seedu.finclient.model.person.PersonSortOrder.Criterion;
 
 /**
- * Sorts the list of contacts by some criteria.
+ * Sorts the list of contacts by one or more criteria, each breaking the ties left by the ones before it.
  */
 
 public class SortCommand extends Command {
 
     public static final String COMMAND_WORD = "sort";
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": Sort all contacts by given criteria.\n"
-            + "Parameters: criteria (name, networth, price, amount)\n"
-            + "Example: " + COMMAND_WORD + " name";
+            + ": Sort all contacts by given criteria. Later criteria order the contacts that earlier ones rank equal, "
+            + "and contacts stay sorted as they change.\n"
+            + "Parameters: CRITERIA [MORE_CRITERIA]... (name, networth, price, amount)\n"
+            + "Example: " + COMMAND_WORD + " networth name";
     public static final String MESSAGE_SORT_ACKNOWLEDGEMENT = "Sorted contacts by criteria: %1$s";
-    private static final List<String> validCriteria = Arrays.asList("name", "price", "networth", "amount");
-    private final String criteria;
+    private final PersonSortOrder sortOrder;
 
     /**
-     * Creates a SortCommand to sort the list of contacts by the given criteria.
+     * Creates a SortCommand to sort the list of contacts in the given order.
      */
-    public SortCommand(String criteria) {
-        requireNonNull(criteria);
-        this.criteria = criteria;
+    public SortCommand(PersonSortOrder sortOrder) {
+        requireNonNull(sortOrder);
+        this.sortOrder = sortOrder;
     }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        model.sortPersons(criteria);
-        return new CommandResult(String.format(MESSAGE_SORT_ACKNOWLEDGEMENT, criteria));
+        model.sortPersons(sortOrder);
+        return new CommandResult(String.format(MESSAGE_SORT_ACKNOWLEDGEMENT, sortOrder));
     }
 
     /**
@@ -44,20 +43,20 @@ public class SortCommand extends Command {
      */
     public static boolean isValidCriteria(String criteria) {
         requireNonNull(criteria);
-        return validCriteria.contains(criteria);
+        return Criterion.fromKeyword(criteria).isPresent();
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof SortCommand // instanceof handles nulls
-                && criteria.equals(((SortCommand) other).criteria)); // state check
+                && sortOrder.equals(((SortCommand) other).sortOrder)); // state check
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
-                .add("criteria", criteria)
+                .add("criteria", sortOrder)
                 .toString();
     }
 }
@@ -14,6 +14,7 @@ import static seedu.finclient.logic.parser.CliSyntax.PREFIX_PLATFORM;
 import static seedu.finclient.logic.parser.CliSyntax.PREFIX_PRICE;
 import static seedu.finclient.logic.parser.CliSyntax.PREFIX_REMARK;
 import static seedu.finclient.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.finclient.logic.parser.CliSyntax.PREFIX_TICKER;
 import static seedu.finclient.logic.parser.ParserUtil.arePrefixesPresent;
 
 import java.util.Set;
@@ -47,7 +48,7 @@ public class AddCommandParser implements Parser<AddCommand> {
         ArgumentMultimap argMultimap =
                 ArgumentTokenizer.tokenize(
                         args, PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS, PREFIX_ORDER,
-                        PREFIX_AMOUNT, PREFIX_PRICE, PREFIX_REMARK, PREFIX_TAG,
+                        PREFIX_AMOUNT, PREFIX_PRICE, PREFIX_TICKER, PREFIX_REMARK, PREFIX_TAG,
                         PREFIX_COMPANY, PREFIX_JOB, PREFIX_PLATFORM, PREFIX_NETWORTH);
 
         if (!arePrefixesPresent(argMultimap, PREFIX_NAME, PREFIX_ADDRESS, PREFIX_PHONE, PREFIX_EMAIL)
@@ -78,7 +79,8 @@ public class AddCommandParser implements Parser<AddCommand> {
             order = new Order("NONE");
         } else if (hasAmount && hasPrice) {
             order = ParserUtil.parseOrder(argMultimap.getValue(PREFIX_ORDER).get(),
-                    argMultimap.getValue(PREFIX_AMOUNT).get(), argMultimap.getValue(PREFIX_PRICE).get());
+                    argMultimap.getValue(PREFIX_AMOUNT).get(), argMultimap.getValue(PREFIX_PRICE).get(),
+                    argMultimap.getValue(PREFIX_TICKER).orElse(Order.DEFAULT_TICKER));
         } else {
             throw new ParseException(Order.MESSAGE_CONSTRAINTS);
         }
@@ -116,7 +118,7 @@ public class AddCommandParser implements Parser<AddCommand> {
                 stockPlatform = ParserUtil.parseStockPlatform(argMultimap.getValue(PREFIX_PLATFORM).get());
             }
         } else {
-            stockPlatform = new StockPlatform();
+            stockPlatform = StockPlatform.EMPTY;
         }
 
         if (arePrefixesPresent(argMultimap, PREFIX_NETWORTH)) {
@@ -126,7 +128,7 @@ public class AddCommandParser implements Parser<AddCommand> {
                 networth = ParserUtil.parseNetworth(argMultimap.getValue(PREFIX_NETWORTH).get());
             }
         } else {
-            networth = new Networth();
+            networth = Networth.EMPTY;
         }
 
         Person person = new Person(name, phoneList, email, address, order, remark, tagList, company, job,
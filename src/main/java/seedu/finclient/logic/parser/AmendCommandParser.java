@@ -0,0 +1,48 @@
+package seedu.finclient.logic.parser;
+
+import static seedu.finclient.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.finclient.logic.parser.CliSyntax.PREFIX_AMOUNT;
+import static seedu.finclient.logic.parser.CliSyntax.PREFIX_PRICE;
+
+import seedu.finclient.logic.commands.AmendCommand;
+import seedu.finclient.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new AmendCommand object
+ */
+public class AmendCommandParser implements Parser<AmendCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the AmendCommand
+     * and returns an AmendCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public AmendCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_AMOUNT, PREFIX_PRICE);
+
+        long orderId;
+        try {
+            orderId = ParserUtil.parseOrderId(argMultimap.getPreamble());
+        } catch (ParseException pe) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, AmendCommand.MESSAGE_USAGE), pe);
+        }
+
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_AMOUNT, PREFIX_PRICE);
+
+        Integer quantity = null;
+        if (argMultimap.getValue(PREFIX_AMOUNT).isPresent()) {
+            quantity = ParserUtil.parseQuantity(argMultimap.getValue(PREFIX_AMOUNT).get());
+        }
+        String price = null;
+        if (argMultimap.getValue(PREFIX_PRICE).isPresent()) {
+            price = ParserUtil.parsePrice(argMultimap.getValue(PREFIX_PRICE).get());
+        }
+
+        if (quantity == null && price == null) {
+            throw new ParseException(AmendCommand.MESSAGE_NOT_AMENDED);
+        }
+
+        return new AmendCommand(orderId, quantity, price);
+    }
+
+}
@@ -0,0 +1,28 @@
+package seedu.finclient.logic.parser;
+
+import static seedu.finclient.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.finclient.logic.commands.CancelCommand;
+import seedu.finclient.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new CancelCommand object
+ */
+public class CancelCommandParser implements Parser<CancelCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the CancelCommand
+     * and returns a CancelCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public CancelCommand parse(String args) throws ParseException {
+        try {
+            long orderId = ParserUtil.parseOrderId(args);
+            return new CancelCommand(orderId);
+        } catch (ParseException pe) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, CancelCommand.MESSAGE_USAGE), pe);
+        }
+    }
+
+}
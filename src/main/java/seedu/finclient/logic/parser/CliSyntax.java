@@ -13,6 +13,7 @@ public class CliSyntax {
     public static final Prefix PREFIX_ORDER = new Prefix("o/");
     public static final Prefix PREFIX_AMOUNT = new Prefix("am/");
     public static final Prefix PREFIX_PRICE = new Prefix("at/");
+    public static final Prefix PREFIX_TICKER = new Prefix("tk/");
     public static final Prefix PREFIX_REMARK = new Prefix("r/");
     public static final Prefix PREFIX_TAG = new Prefix("t/");
     public static final Prefix PREFIX_COMPANY = new Prefix("c/");
@@ -0,0 +1,147 @@
+package seedu.finclient.logic.parser;
+
+import static seedu.finclient.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import seedu.finclient.logic.commands.FilterCommand;
+import seedu.finclient.logic.parser.exceptions.ParseException;
+import seedu.finclient.model.order.Order;
+import seedu.finclient.model.order.Order.OrderType;
+import seedu.finclient.model.query.Comparison;
+import seedu.finclient.model.query.Condition;
+import seedu.finclient.model.query.DetailContainsCondition;
+import seedu.finclient.model.query.DetailContainsCondition.Detail;
+import seedu.finclient.model.query.NetworthCondition;
+import seedu.finclient.model.query.OrderCondition;
+import seedu.finclient.model.query.PersonQuery;
+import seedu.finclient.model.query.TagCondition;
+
+/**
+ * Parses input arguments and creates a new FilterCommand object
+ */
+public class FilterCommandParser implements Parser<FilterCommand> {
+
+    private static final Pattern CONDITION_SEPARATOR = Pattern.compile("\\s+AND\\s+", Pattern.CASE_INSENSITIVE);
+    private static final String OPERATOR = "(<=|>=|<|>|=)";
+
+    private static final Pattern TAG_FORMAT = Pattern.compile("tag\\s*=\\s*(?<tags>\\S+)", Pattern.CASE_INSENSITIVE);
+    private static final Pattern TAG_SEPARATOR = Pattern.compile("\\|");
+    private static final Pattern DETAIL_FORMAT = Pattern.compile("(?<detail>name|company|job)\\s*=\\s*(?<text>.+)",
+            Pattern.CASE_INSENSITIVE);
+    private static final Pattern NETWORTH_FORMAT = Pattern.compile(
+            "networth\\s*" + OPERATOR + "\\s*\\$?\\s*(?<amount>\\d[\\d,]*(\\.\\d+)?)\\s*(?<unit>k|m|million)?",
+            Pattern.CASE_INSENSITIVE);
+    private static final Pattern ORDER_FORMAT = Pattern.compile(
+            "order\\s*=\\s*(?<side>buy|sell)(\\s+price\\s*(?<operator>" + OPERATOR + ")\\s*\\$?(?<price>\\S+))?"
+                    + "(\\s+ticker\\s*=\\s*(?<ticker>\\S+))?",
+            Pattern.CASE_INSENSITIVE);
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FilterCommand
+     * and returns a FilterCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public FilterCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_USAGE));
+        }
+
+        List<Condition> conditions = new ArrayList<>();
+        // Single tags are joined into one condition, so that they are looked up as one intersection of bitsets
+        List<String> requiredTagNames = new ArrayList<>();
+        int requiredTagsPosition = -1;
+        for (String clause : CONDITION_SEPARATOR.split(trimmedArgs)) {
+            String trimmedClause = clause.trim();
+            Matcher matcher = TAG_FORMAT.matcher(trimmedClause);
+            if (!matcher.matches()) {
+                conditions.add(parseCondition(trimmedClause));
+                continue;
+            }
+
+            List<String> tagNames = parseTagNames(matcher.group("tags"));
+            if (tagNames.size() > 1) {
+                conditions.add(new TagCondition(tagNames, false));
+                continue;
+            }
+            if (requiredTagsPosition == -1) {
+                requiredTagsPosition = conditions.size();
+                conditions.add(null);
+            }
+            requiredTagNames.add(tagNames.get(0));
+        }
+        if (requiredTagsPosition != -1) {
+            conditions.set(requiredTagsPosition, new TagCondition(requiredTagNames, true));
+        }
+        return new FilterCommand(new PersonQuery(conditions));
+    }
+
+    /**
+     * Parses tag names separated by "|", any of which a person may show.
+     */
+    private static List<String> parseTagNames(String tags) throws ParseException {
+        List<String> tagNames = new ArrayList<>();
+        for (String tag : TAG_SEPARATOR.split(tags)) {
+            tagNames.add(ParserUtil.parseTag(tag).tagName);
+        }
+        return tagNames;
+    }
+
+    private static Condition parseCondition(String clause) throws ParseException {
+        Matcher matcher = NETWORTH_FORMAT.matcher(clause);
+        if (matcher.matches()) {
+            return new NetworthCondition(parseOperator(matcher.group(1)),
+                    parseAmount(clause, matcher.group("amount"), matcher.group("unit")));
+        }
+
+        matcher = ORDER_FORMAT.matcher(clause);
+        if (matcher.matches()) {
+            OrderType side = OrderType.valueOf(matcher.group("side").toUpperCase(Locale.ROOT));
+            Optional<String> ticker = matcher.group("ticker") == null
+                    ? Optional.empty()
+                    : Optional.of(ParserUtil.parseTicker(matcher.group("ticker")));
+            if (matcher.group("price") == null) {
+                return new OrderCondition(side, 0, Long.MAX_VALUE, ticker);
+            }
+            String price = ParserUtil.parsePrice(matcher.group("price"));
+            long priceInCents = new Order(side, price, 1).getPriceInCents();
+            return OrderCondition.priced(side, parseOperator(matcher.group("operator")), priceInCents, ticker);
+        }
+
+        matcher = DETAIL_FORMAT.matcher(clause);
+        if (matcher.matches()) {
+            Detail detail = Detail.valueOf(matcher.group("detail").toUpperCase(Locale.ROOT));
+            return new DetailContainsCondition(detail, matcher.group("text").trim());
+        }
+
+        throw new ParseException(String.format(FilterCommand.MESSAGE_INVALID_CONDITION, clause));
+    }
+
+    private static Comparison parseOperator(String symbol) {
+        return Comparison.fromSymbol(symbol).orElseThrow();
+    }
+
+    /**
+     * Parses an amount such as "1,500,000", "250k" or "1.5 million" into whole dollars.
+     */
+    private static long parseAmount(String clause, String amount, String unit) throws ParseException {
+        BigDecimal value = new BigDecimal(amount.replace(",", ""));
+        if (unit != null) {
+            value = value.movePointRight(unit.equalsIgnoreCase("k") ? 3 : 6);
+        }
+        try {
+            return value.setScale(0, RoundingMode.DOWN).longValueExact();
+        } catch (ArithmeticException e) {
+            throw new ParseException(String.format(FilterCommand.MESSAGE_INVALID_CONDITION, clause));
+        }
+    }
+}
@@ -9,18 +9,25 @@ import java.util.regex.Pattern;
 
 import seedu.finclient.commons.core.LogsCenter;
 import seedu.finclient.logic.commands.AddCommand;
+import seedu.finclient.logic.commands.AmendCommand;
+import seedu.finclient.logic.commands.CancelCommand;
 import seedu.finclient.logic.commands.ClearCommand;
 import seedu.finclient.logic.commands.Command;
 import seedu.finclient.logic.commands.DeleteCommand;
 import seedu.finclient.logic.commands.EditCommand;
 import seedu.finclient.logic.commands.ExitCommand;
+import seedu.finclient.logic.commands.ExportCommand;
+import seedu.finclient.logic.commands.FilterCommand;
 import seedu.finclient.logic.commands.FindCommand;
 import seedu.finclient.logic.commands.HelpCommand;
 import seedu.finclient.logic.commands.HideCommand;
+import seedu.finclient.logic.commands.ImportCommand;
 import seedu.finclient.logic.commands.ListCommand;
+import seedu.finclient.logic.commands.MarketCommand;
 import seedu.finclient.logic.commands.OrderCommand;
 import seedu.finclient.logic.commands.RemarkCommand;
 import seedu.finclient.logic.commands.RevealCommand;
+import seedu.finclient.logic.commands.SearchCommand;
 import seedu.finclient.logic.commands.SortCommand;
 import seedu.finclient.logic.parser.exceptions.ParseException;
 
@@ -73,6 +80,12 @@ public class FinClientParser {
         case FindCommand.COMMAND_WORD:
             return new FindCommandParser().parse(arguments);
 
+        case SearchCommand.COMMAND_WORD:
+            return new SearchCommandParser().parse(arguments);
+
+        case FilterCommand.COMMAND_WORD:
+            return new FilterCommandParser().parse(arguments);
+
         case RemarkCommand.COMMAND_WORD:
             return new RemarkCommandParser().parse(arguments);
 
@@ -94,9 +107,24 @@ public class FinClientParser {
         case OrderCommand.COMMAND_WORD:
             return new OrderCommandParser().parse(arguments);
 
+        case AmendCommand.COMMAND_WORD:
+            return new AmendCommandParser().parse(arguments);
+
+        case CancelCommand.COMMAND_WORD:
+            return new CancelCommandParser().parse(arguments);
+
+        case MarketCommand.COMMAND_WORD:
+            return new MarketCommandParser().parse(arguments);
+
         case SortCommand.COMMAND_WORD:
             return new SortCommandParser().parse(arguments);
 
+        case ExportCommand.COMMAND_WORD:
+            return new ExportCommandParser().parse(arguments);
+
+        case ImportCommand.COMMAND_WORD:
+            return new ImportCommandParser().parse(arguments);
+
         default:
             logger.finer("This user input caused a ParseException: " + userInput);
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
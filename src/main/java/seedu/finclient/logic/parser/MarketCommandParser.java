@@ -0,0 +1,27 @@
+package seedu.finclient.logic.parser;
+
+import static seedu.finclient.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.finclient.logic.commands.MarketCommand;
+import seedu.finclient.logic.parser.exceptions.ParseException;
+import seedu.finclient.model.order.MatchingMode;
+
+/**
+ * Parses input arguments and creates a new MarketCommand object
+ */
+public class MarketCommandParser implements Parser<MarketCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the MarketCommand
+     * and returns a MarketCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public MarketCommand parse(String args) throws ParseException {
+        try {
+            return new MarketCommand(MatchingMode.valueOf(args.trim().toUpperCase()));
+        } catch (IllegalArgumentException e) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, MarketCommand.MESSAGE_USAGE), e);
+        }
+    }
+
+}
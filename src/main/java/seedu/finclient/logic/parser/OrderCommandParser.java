@@ -3,6 +3,7 @@ package seedu.finclient.logic.parser;
 import static seedu.finclient.logic.parser.CliSyntax.PREFIX_AMOUNT;
 import static seedu.finclient.logic.parser.CliSyntax.PREFIX_ORDER;
 import static seedu.finclient.logic.parser.CliSyntax.PREFIX_PRICE;
+import static seedu.finclient.logic.parser.CliSyntax.PREFIX_TICKER;
 
 import seedu.finclient.commons.core.index.Index;
 import seedu.finclient.logic.commands.OrderCommand;
@@ -22,7 +23,7 @@ public class OrderCommandParser implements Parser<OrderCommand> {
     public OrderCommand parse(String args) throws ParseException {
         ArgumentMultimap argMultimap =
                 ArgumentTokenizer.tokenize(
-                        args, PREFIX_ORDER, PREFIX_AMOUNT, PREFIX_PRICE);
+                        args, PREFIX_ORDER, PREFIX_AMOUNT, PREFIX_PRICE, PREFIX_TICKER);
 
         // parse the index from the preamble
         if (argMultimap.getPreamble().isEmpty()) {
@@ -33,6 +34,7 @@ public class OrderCommandParser implements Parser<OrderCommand> {
         boolean hasOrder = argMultimap.getValue(PREFIX_ORDER).isPresent();
         boolean hasAmount = argMultimap.getValue(PREFIX_AMOUNT).isPresent();
         boolean hasPrice = argMultimap.getValue(PREFIX_PRICE).isPresent();
+        boolean hasTicker = argMultimap.getValue(PREFIX_TICKER).isPresent();
 
         Order order;
         // if user provided all three...
@@ -40,9 +42,10 @@ public class OrderCommandParser implements Parser<OrderCommand> {
             order = ParserUtil.parseOrder(
                     argMultimap.getValue(PREFIX_ORDER).get(),
                     argMultimap.getValue(PREFIX_AMOUNT).get(),
-                    argMultimap.getValue(PREFIX_PRICE).get()
+                    argMultimap.getValue(PREFIX_PRICE).get(),
+                    argMultimap.getValue(PREFIX_TICKER).orElse(Order.DEFAULT_TICKER)
             );
-        } else if (!hasOrder && !hasAmount && !hasPrice) {
+        } else if (!hasOrder && !hasAmount && !hasPrice && !hasTicker) {
             // none given → "NONE"
             order = new Order("NONE");
         } else {
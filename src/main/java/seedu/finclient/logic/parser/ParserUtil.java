@@ -2,12 +2,16 @@ package seedu.finclient.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.stream.Stream;
 
+import seedu.finclient.commons.core.DataFileFormat;
 import seedu.finclient.commons.core.index.Index;
 import seedu.finclient.commons.util.StringUtil;
 import seedu.finclient.logic.parser.exceptions.ParseException;
@@ -18,6 +22,7 @@ import seedu.finclient.model.person.Email;
 import seedu.finclient.model.person.Job;
 import seedu.finclient.model.person.Name;
 import seedu.finclient.model.person.Networth;
+import seedu.finclient.model.person.OrderList;
 import seedu.finclient.model.person.Phone;
 import seedu.finclient.model.person.PhoneList;
 import seedu.finclient.model.person.Remark;
@@ -30,6 +35,8 @@ import seedu.finclient.model.tag.Tag;
 public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
+    public static final String MESSAGE_INVALID_ORDER_ID = "Order id is not a non-zero unsigned integer.";
+    public static final String MESSAGE_INVALID_DATA_FILE = "File path should name a file ending in .json or .bin.";
 
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading and trailing whitespaces will be
@@ -44,6 +51,31 @@ public class ParserUtil {
         return Index.fromOneBased(Integer.parseInt(trimmedIndex));
     }
 
+    /**
+     * Parses {@code orderId}, optionally written with a leading "#", into an order id and returns it.
+     * Leading and trailing whitespaces will be trimmed.
+     * @throws ParseException if the specified order id is invalid (not non-zero unsigned integer).
+     */
+    public static long parseOrderId(String orderId) throws ParseException {
+        requireNonNull(orderId);
+        String trimmedOrderId = orderId.trim();
+        if (trimmedOrderId.startsWith("#")) {
+            trimmedOrderId = trimmedOrderId.substring(1);
+        }
+        if (!trimmedOrderId.matches("\\d+")) {
+            throw new ParseException(MESSAGE_INVALID_ORDER_ID);
+        }
+        try {
+            long parsedOrderId = Long.parseLong(trimmedOrderId);
+            if (!OrderList.isValidOrderId(parsedOrderId)) {
+                throw new ParseException(MESSAGE_INVALID_ORDER_ID);
+            }
+            return parsedOrderId;
+        } catch (NumberFormatException e) {
+            throw new ParseException(MESSAGE_INVALID_ORDER_ID);
+        }
+    }
+
     /**
      * Parses a {@code String name} into a {@code Name}.
      * Leading and trailing whitespaces will be trimmed.
@@ -140,7 +172,19 @@ public class ParserUtil {
      *                        non-integer quantity, or an invalid price format).
      */
     public static Order parseOrder(String order, String amount, String price) throws ParseException {
+        return parseOrder(order, amount, price, Order.DEFAULT_TICKER);
+    }
+
+    /**
+     * Parses a collection of {@code String order}, {@code String amount}, {@code String price}
+     * and {@code String ticker} into an {@code Order} for that instrument.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given arguments are invalid.
+     */
+    public static Order parseOrder(String order, String amount, String price, String ticker) throws ParseException {
         requireNonNull(order);
+        String parsedTicker = parseTicker(ticker);
 
         // Trim whitespace
         String trimmedOrder = order.trim();
@@ -172,7 +216,58 @@ public class ParserUtil {
             throw new ParseException(Order.MESSAGE_CONSTRAINTS_QUANTITY);
         }
 
-        return new Order(orderType, trimmedPrice, quantity);
+        return new Order(orderType, parsedTicker, trimmedPrice, quantity);
+    }
+
+    /**
+     * Parses a {@code String amount} into the quantity of an order.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code amount} is invalid.
+     */
+    public static int parseQuantity(String amount) throws ParseException {
+        requireNonNull(amount);
+        int quantity;
+        try {
+            quantity = Integer.parseInt(amount.trim());
+        } catch (NumberFormatException e) {
+            throw new ParseException("Quantity must be a valid integer.");
+        }
+
+        if (!Order.isValidQuantity(quantity)) {
+            throw new ParseException(Order.MESSAGE_CONSTRAINTS_QUANTITY);
+        }
+        return quantity;
+    }
+
+    /**
+     * Parses a {@code String price} into the price of an order.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code price} is invalid.
+     */
+    public static String parsePrice(String price) throws ParseException {
+        requireNonNull(price);
+        String trimmedPrice = price.trim();
+        if (!Order.isValidPrice(trimmedPrice)) {
+            throw new ParseException(Order.MESSAGE_CONSTRAINTS_PRICE);
+        }
+        return trimmedPrice;
+    }
+
+    /**
+     * Parses a {@code String ticker} into the ticker of an instrument.
+     * Leading and trailing whitespaces will be trimmed, and the ticker is converted to uppercase.
+     *
+     * @throws ParseException if the given {@code ticker} is invalid.
+     */
+    public static String parseTicker(String ticker) throws ParseException {
+        requireNonNull(ticker);
+        String trimmedTicker = ticker.trim().toUpperCase();
+        if (!Order.isValidTicker(trimmedTicker)) {
+            throw new ParseException(Order.MESSAGE_CONSTRAINTS_TICKER);
+        }
+        return trimmedTicker;
     }
 
     /**
@@ -232,7 +327,7 @@ public class ParserUtil {
         if (!StockPlatform.isValidStockPlatform(trimmedPlatform)) {
             throw new ParseException(StockPlatform.MESSAGE_CONSTRAINTS);
         }
-        return new StockPlatform(trimmedPlatform);
+        return StockPlatform.of(trimmedPlatform);
     }
 
     /**
@@ -247,7 +342,7 @@ public class ParserUtil {
         if (!Networth.isValidNetworth(trimmedNetworth)) {
             throw new ParseException(Networth.MESSAGE_CONSTRAINTS);
         }
-        return new Networth(trimmedNetworth);
+        return Networth.of(trimmedNetworth);
     }
 
     /**
@@ -262,7 +357,7 @@ public class ParserUtil {
         if (!Tag.isValidTagName(trimmedTag)) {
             throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(trimmedTag);
+        return Tag.of(trimmedTag);
     }
 
     /**
@@ -277,6 +372,27 @@ public class ParserUtil {
         return tagSet;
     }
 
+    /**
+     * Parses {@code filePath} into the {@code Path} of a file in one of the {@code DataFileFormat}s.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code filePath} is not a valid path, or its extension is of no format.
+     */
+    public static Path parseDataFilePath(String filePath) throws ParseException {
+        requireNonNull(filePath);
+        String trimmedFilePath = filePath.trim();
+        Path path;
+        try {
+            path = Paths.get(trimmedFilePath);
+        } catch (InvalidPathException e) {
+            throw new ParseException(MESSAGE_INVALID_DATA_FILE);
+        }
+        if (trimmedFilePath.isEmpty() || DataFileFormat.ofFile(path).isEmpty()) {
+            throw new ParseException(MESSAGE_INVALID_DATA_FILE);
+        }
+        return path;
+    }
+
     /**
      * Returns true if none of the prefixes contains empty {@code Optional} values in the given
      * {@code ArgumentMultimap}.
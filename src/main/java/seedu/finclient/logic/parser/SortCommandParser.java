@@ -3,8 +3,13 @@ package seedu.finclient.logic.parser;
 import static java.util.Objects.requireNonNull;
 import static seedu.finclient.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import seedu.finclient.logic.commands.SortCommand;
 import seedu.finclient.logic.parser.exceptions.ParseException;
+import seedu.finclient.model.person.PersonSortOrder;
+import seedu.finclient.model.person.PersonSortOrder.Criterion;
 
 /**
  * Parses input arguments and creates a new SortCommand object
@@ -18,12 +23,20 @@ public class SortCommandParser implements Parser<SortCommand> {
     public SortCommand parse(String args) throws ParseException {
         requireNonNull(args);
 
-        String criteria = args.trim();
-
-        if (!SortCommand.isValidCriteria(criteria)) {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE));
         }
 
-        return new SortCommand(criteria);
+        List<Criterion> criteria = new ArrayList<>();
+        for (String keyword : trimmedArgs.split("\\s+")) {
+            Criterion criterion = Criterion.fromKeyword(keyword).orElse(null);
+            if (criterion == null || criteria.contains(criterion)) {
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE));
+            }
+            criteria.add(criterion);
+        }
+
+        return new SortCommand(new PersonSortOrder(criteria));
     }
 }
@@ -0,0 +1,144 @@
+package seedu.finclient.logic.pricefeed;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+import seedu.finclient.model.order.IndicativePrice;
+
+/**
+ * Pushes the indicative price of each instrument to subscribers as orders change.
+ *
+ * On every {@link #publish()} the publisher polls which instruments changed since the last poll. Only those
+ * instruments' books re-run the auction, and subscribers receive only the changed prices. The latest price of
+ * every instrument with a possible match is kept as an immutable snapshot that can be read from any thread.
+ *
+ * Subscribers are called on the thread that publishes. Slow subscribers, or ones that must run on another
+ * thread, should be wrapped with {@link #coalescing(Executor, Subscriber)}.
+ */
+public class IndicativePricePublisher {
+
+    /**
+     * Receives the indicative prices that changed, keyed by ticker. An instrument that can no longer match
+     * maps to {@link IndicativePrice#NO_MATCH}.
+     */
+    @FunctionalInterface
+    public interface Subscriber {
+        void onUpdate(Map<String, IndicativePrice> changedPrices);
+    }
+
+    private final Supplier<Map<String, IndicativePrice>> changeSource;
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+    private volatile SortedMap<String, IndicativePrice> snapshot = Collections.emptySortedMap();
+
+    /**
+     * Creates a publisher over {@code changeSource}, which returns the indicative prices that changed since it
+     * was last called, e.g. {@code Model#pollIndicativePriceChanges()}.
+     */
+    public IndicativePricePublisher(Supplier<Map<String, IndicativePrice>> changeSource) {
+        requireNonNull(changeSource);
+        this.changeSource = changeSource;
+    }
+
+    /**
+     * Adds {@code subscriber}, which first receives the current snapshot if there is any.
+     */
+    public void subscribe(Subscriber subscriber) {
+        requireNonNull(subscriber);
+        subscribers.add(subscriber);
+        SortedMap<String, IndicativePrice> current = snapshot;
+        if (!current.isEmpty()) {
+            subscriber.onUpdate(current);
+        }
+    }
+
+    public void unsubscribe(Subscriber subscriber) {
+        subscribers.remove(subscriber);
+    }
+
+    /**
+     * Polls the changed indicative prices and pushes them to every subscriber. Does nothing if none changed.
+     */
+    public void publish() {
+        Map<String, IndicativePrice> changes = changeSource.get();
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        SortedMap<String, IndicativePrice> updated = new TreeMap<>(snapshot);
+        changes.forEach((ticker, price) -> {
+            if (price.equals(IndicativePrice.NO_MATCH)) {
+                updated.remove(ticker);
+            } else {
+                updated.put(ticker, price);
+            }
+        });
+        snapshot = Collections.unmodifiableSortedMap(updated);
+
+        Map<String, IndicativePrice> changedPrices = Collections.unmodifiableMap(changes);
+        subscribers.forEach(subscriber -> subscriber.onUpdate(changedPrices));
+    }
+
+    /**
+     * Returns the latest indicative price of every instrument with a possible match, keyed by ticker in
+     * alphabetical order.
+     */
+    public SortedMap<String, IndicativePrice> getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Returns a subscriber that hands updates to {@code delegate} on {@code executor}, merging all updates that
+     * arrive before the previous hand-off ran into one, so that {@code delegate} only sees the latest price of
+     * each instrument however fast orders arrive.
+     */
+    public static Subscriber coalescing(Executor executor, Subscriber delegate) {
+        return new CoalescingSubscriber(executor, delegate);
+    }
+
+    /**
+     * Buffers updates until {@code executor} gets round to delivering them.
+     */
+    private static class CoalescingSubscriber implements Subscriber {
+        private final Executor executor;
+        private final Subscriber delegate;
+        // Updates not yet delivered, or null if no delivery is scheduled; guarded by this
+        private Map<String, IndicativePrice> pending;
+
+        CoalescingSubscriber(Executor executor, Subscriber delegate) {
+            this.executor = requireNonNull(executor);
+            this.delegate = requireNonNull(delegate);
+        }
+
+        @Override
+        public void onUpdate(Map<String, IndicativePrice> changedPrices) {
+            boolean isDeliveryScheduled;
+            synchronized (this) {
+                isDeliveryScheduled = pending != null;
+                if (!isDeliveryScheduled) {
+                    pending = new TreeMap<>();
+                }
+                pending.putAll(changedPrices);
+            }
+            if (!isDeliveryScheduled) {
+                executor.execute(this::deliver);
+            }
+        }
+
+        private void deliver() {
+            Map<String, IndicativePrice> update;
+            synchronized (this) {
+                update = pending;
+                pending = null;
+            }
+            delegate.onUpdate(Collections.unmodifiableMap(update));
+        }
+    }
+}
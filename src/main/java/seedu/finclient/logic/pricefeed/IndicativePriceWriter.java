@@ -0,0 +1,68 @@
+package seedu.finclient.logic.pricefeed;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import seedu.finclient.commons.core.LogsCenter;
+import seedu.finclient.model.order.IndicativePrice;
+
+/**
+ * Writes every indicative price update to a character stream, one CSV line per instrument:
+ * {@code timestamp,ticker,price,matchedVolume,imbalance}. The price is empty if the instrument cannot match.
+ */
+public class IndicativePriceWriter implements IndicativePricePublisher.Subscriber, Closeable {
+
+    public static final String HEADER = "timestamp,ticker,price,matchedVolume,imbalance";
+
+    private static final Logger logger = LogsCenter.getLogger(IndicativePriceWriter.class);
+
+    private final Writer writer;
+    private final Clock clock;
+
+    /**
+     * Creates a writer that stamps updates with the system clock.
+     */
+    public IndicativePriceWriter(Writer writer) throws IOException {
+        this(writer, Clock.systemUTC());
+    }
+
+    /**
+     * Creates a writer that stamps updates with {@code clock}, and writes the header line.
+     */
+    public IndicativePriceWriter(Writer writer, Clock clock) throws IOException {
+        this.writer = requireNonNull(writer);
+        this.clock = requireNonNull(clock);
+        writer.write(HEADER + System.lineSeparator());
+        writer.flush();
+    }
+
+    @Override
+    public void onUpdate(Map<String, IndicativePrice> changedPrices) {
+        Instant timestamp = clock.instant();
+        StringBuilder lines = new StringBuilder();
+        changedPrices.forEach((ticker, price) -> lines.append(timestamp).append(',')
+                .append(ticker).append(',')
+                .append(price.getPrice().map(p -> String.format("%.2f", p)).orElse("")).append(',')
+                .append(price.getMatchedVolume()).append(',')
+                .append(price.getImbalance())
+                .append(System.lineSeparator()));
+        try {
+            writer.write(lines.toString());
+            writer.flush();
+        } catch (IOException e) {
+            logger.warning("Could not write indicative prices: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+}
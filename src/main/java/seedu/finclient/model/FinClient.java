@@ -3,13 +3,24 @@ package seedu.finclient.model;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.finclient.commons.util.ToStringBuilder;
+import seedu.finclient.model.order.AllocationRule;
+import seedu.finclient.model.order.AuctionResult;
+import seedu.finclient.model.order.IndicativePrice;
+import seedu.finclient.model.order.MatchingMode;
+import seedu.finclient.model.order.Order;
+import seedu.finclient.model.order.Trade;
 import seedu.finclient.model.person.Person;
+import seedu.finclient.model.person.PersonChange;
+import seedu.finclient.model.person.PersonSortOrder;
 import seedu.finclient.model.person.UniquePersonList;
+import seedu.finclient.model.query.PersonQuery;
+import seedu.finclient.model.search.SearchRanking;
 
 /**
  * Wraps all data at the address-book level
@@ -95,6 +106,29 @@ public class FinClient implements ReadOnlyFinClient {
         persons.remove(key);
     }
 
+    /**
+     * Returns a predicate that accepts the persons whose name contains any of {@code keywords}, using the
+     * name index of this FinClient.
+     */
+    public Predicate<Person> nameContainsAnyOf(List<String> keywords) {
+        return persons.nameContainsAnyOf(keywords);
+    }
+
+    /**
+     * Returns a predicate that accepts the persons matching {@code query}, using the query index of this FinClient.
+     */
+    public Predicate<Person> plan(PersonQuery query) {
+        return persons.plan(query);
+    }
+
+    /**
+     * Returns the ranking of the persons whose details match every word of {@code keywords}, best match first.
+     * It follows the changes to this FinClient.
+     */
+    public SearchRanking rankPersons(List<String> keywords) {
+        return persons.rank(keywords);
+    }
+
     /**
      * Hides details of the person that satisfies the predicate.
      */
@@ -124,15 +158,105 @@ public class FinClient implements ReadOnlyFinClient {
     }
 
     /**
-     * Returns the clearing price based on current orders.
+     * Returns true if a person in the address book holds the order {@code orderId}.
+     */
+    public boolean hasOrder(long orderId) {
+        return persons.hasOrder(orderId);
+    }
+
+    /**
+     * Returns the order {@code orderId}, or empty if no person holds it.
+     */
+    public Optional<Order> getOrder(long orderId) {
+        return persons.getOrder(orderId);
+    }
+
+    /**
+     * Places {@code order} as an additional order of {@code person} and returns its order id.
+     * {@code person} must exist in the address book.
+     */
+    public long placeOrder(Person person, Order order) {
+        return persons.placeOrder(person, order);
+    }
+
+    /**
+     * Replaces the order {@code orderId} with {@code editedOrder}.
+     * The order must exist in the address book.
+     */
+    public void amendOrder(long orderId, Order editedOrder) {
+        persons.amendOrder(orderId, editedOrder);
+    }
+
+    /**
+     * Cancels the order {@code orderId}.
+     * The order must exist in the address book.
+     */
+    public void cancelOrder(long orderId) {
+        persons.cancelOrder(orderId);
+    }
+
+    public MatchingMode getMatchingMode() {
+        return persons.getMatchingMode();
+    }
+
+    /**
+     * Sets how orders placed or amended from now on are handled.
+     */
+    public void setMatchingMode(MatchingMode matchingMode) {
+        persons.setMatchingMode(matchingMode);
+    }
+
+    /**
+     * Returns the most recent trades executed in {@code CONTINUOUS} mode, earliest first.
+     */
+    public List<Trade> getTradeList() {
+        return persons.getTrades();
+    }
+
+    /**
+     * Returns the clearing price of the default instrument based on current orders.
      */
     public Optional<Double> calculateClearingPrice() {
         return persons.calculateClearingPrice();
     }
 
-    public void sortPersons(String criteria) {
-        persons.sortPersons(criteria);
+    /**
+     * Returns the clearing price of every instrument with orders, keyed by ticker.
+     */
+    public Map<String, Optional<Double>> calculateClearingPrices() {
+        return persons.calculateClearingPrices();
+    }
+
+    /**
+     * Returns the indicative price of every instrument whose orders changed since the last call, keyed by ticker.
+     */
+    public Map<String, IndicativePrice> pollIndicativePriceChanges() {
+        return persons.pollIndicativePriceChanges();
+    }
+
+    /**
+     * Returns the changes to the persons since the last call, oldest first, and forgets them.
+     */
+    public List<PersonChange> pollPersonChanges() {
+        return persons.pollChanges();
+    }
+
+    /**
+     * Runs the call auction over current orders for the instrument {@code ticker}, allocating fills by
+     * {@code rule}. Fills are keyed by order id.
+     */
+    public AuctionResult calculateAuction(String ticker, AllocationRule rule) {
+        return persons.calculateAuction(ticker, rule);
+    }
+
+    /**
+     * Shows the persons in {@code sortOrder} in {@link #getSortedPersonList()}, and keeps them in that order as they
+     * change. The order of {@link #getPersonList()} is left as it is.
+     */
+    public void sortPersons(PersonSortOrder sortOrder) {
+        persons.sortPersons(sortOrder);
     }
+
     public List<Person> getUpcomingPersons(int count) {
         return persons.upcomingPersons(count);
     }
@@ -151,6 +275,19 @@ public class FinClient implements ReadOnlyFinClient {
         return persons.asUnmodifiableObservableList();
     }
 
+    @Override
+    public long getVersion() {
+        return persons.getVersion();
+    }
+
+    /**
+     * Returns the persons in the order last selected by {@link #sortPersons(PersonSortOrder)}, or in the order of
+     * {@link #getPersonList()} if none was selected.
+     */
+    public ObservableList<Person> getSortedPersonList() {
+        return persons.asSortedObservableList();
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -2,12 +2,23 @@ package seedu.finclient.model;
 
 import java.nio.file.Path;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.finclient.commons.core.GuiSettings;
+import seedu.finclient.model.order.AllocationRule;
+import seedu.finclient.model.order.AuctionResult;
+import seedu.finclient.model.order.IndicativePrice;
+import seedu.finclient.model.order.MatchingMode;
+import seedu.finclient.model.order.Order;
+import seedu.finclient.model.order.Trade;
+import seedu.finclient.model.person.NameContainsKeywordsPredicate;
 import seedu.finclient.model.person.Person;
+import seedu.finclient.model.person.PersonChange;
+import seedu.finclient.model.person.PersonSortOrder;
+import seedu.finclient.model.query.PersonQuery;
 
 /**
  * The API of the Model component.
@@ -113,14 +124,82 @@ public interface Model {
     void revealAllPersons();
 
     /**
-     * Returns the clearing price based on current orders.
+     * Returns true if a person in the address book holds the order {@code orderId}.
+     */
+    boolean hasOrder(long orderId);
+
+    /**
+     * Returns the order {@code orderId}, or empty if no person holds it.
+     */
+    Optional<Order> getOrder(long orderId);
+
+    /**
+     * Places {@code order} as an additional working order of {@code person} and returns its order id.
+     * {@code person} must exist in the address book.
+     */
+    long placeOrder(Person person, Order order);
+
+    /**
+     * Replaces the order {@code orderId} with {@code editedOrder}, keeping its order id.
+     * The order must exist in the address book.
+     */
+    void amendOrder(long orderId, Order editedOrder);
+
+    /**
+     * Cancels the order {@code orderId}.
+     * The order must exist in the address book.
+     */
+    void cancelOrder(long orderId);
+
+    /**
+     * Returns how orders placed or amended are handled.
+     */
+    MatchingMode getMatchingMode();
+
+    /**
+     * Sets how orders placed or amended from now on are handled.
+     */
+    void setMatchingMode(MatchingMode matchingMode);
+
+    /**
+     * Returns the most recent trades executed in {@code CONTINUOUS} mode, earliest first, as an unmodifiable list.
+     */
+    List<Trade> getTradeList();
+
+    /**
+     * Returns the clearing price of the default instrument based on current orders.
      */
     Optional<Double> calculateClearingPrice();
 
     /**
-     * Sorts the persons in the address book by the given criteria.
+     * Returns the clearing price of every instrument with orders, keyed by ticker in alphabetical order.
      */
-    void sortPersons(String criteria);
+    Map<String, Optional<Double>> calculateClearingPrices();
+
+    /**
+     * Returns the indicative price of every instrument whose orders changed since the last call, keyed by ticker,
+     * and forgets those changes. Instruments left without orders map to {@link IndicativePrice#NO_MATCH}.
+     * Meant for a single consumer that publishes the changes.
+     */
+    Map<String, IndicativePrice> pollIndicativePriceChanges();
+
+    /**
+     * Returns the changes to the persons in the address book since the last call, oldest first, and forgets them.
+     * Meant for a single consumer that saves the changes.
+     */
+    List<PersonChange> pollPersonChanges();
+
+    /**
+     * Runs the call auction over current orders for the instrument {@code ticker} and allocates fills by
+     * {@code rule}. Fills are keyed by order id, see {@link AuctionResult#getFilledQuantityOfOrder(long)}.
+     */
+    AuctionResult calculateAuction(String ticker, AllocationRule rule);
+
+    /**
+     * Shows the persons in the filtered person list stably sorted in {@code sortOrder}, and keeps them in that
+     * order as they are added and changed. The persons in the address book keep their order.
+     */
+    void sortPersons(PersonSortOrder sortOrder);
 
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
@@ -130,5 +209,28 @@ public interface Model {
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
+
+    /**
+     * Updates the filter of the filtered person list to the persons matching {@code predicate}, looking them up
+     * in the name index instead of testing every person's name.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    void updateFilteredPersonList(NameContainsKeywordsPredicate predicate);
+
+    /**
+     * Updates the filter of the filtered person list to the persons matching {@code query}, starting from the
+     * persons that its most selective indexed condition allows instead of testing every person.
+     * @throws NullPointerException if {@code query} is null.
+     */
+    void updateFilteredPersonList(PersonQuery query);
+
+    /**
+     * Updates the filtered person list to the persons whose name, company, job, email or tags match every one of
+     * {@code keywords} exactly, as a prefix or with a few typos, ordered from the best match to the worst.
+     * The order is dropped again by the next update of the filter.
+     * @throws NullPointerException if {@code keywords} is null.
+     */
+    void updateFilteredPersonListToSearch(List<String> keywords);
+
     List<Person> getUpcomingPersons(int count);
 }
@@ -4,16 +4,30 @@ import static java.util.Objects.requireNonNull;
 import static seedu.finclient.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import seedu.finclient.commons.core.GuiSettings;
 import seedu.finclient.commons.core.LogsCenter;
+import seedu.finclient.model.order.AllocationRule;
+import seedu.finclient.model.order.AuctionResult;
+import seedu.finclient.model.order.IndicativePrice;
+import seedu.finclient.model.order.MatchingMode;
+import seedu.finclient.model.order.Order;
+import seedu.finclient.model.order.Trade;
+import seedu.finclient.model.person.NameContainsKeywordsPredicate;
 import seedu.finclient.model.person.Person;
+import seedu.finclient.model.person.PersonChange;
+import seedu.finclient.model.person.PersonSortOrder;
+import seedu.finclient.model.query.PersonQuery;
+import seedu.finclient.model.search.SearchRanking;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -24,6 +38,8 @@ public class ModelManager implements Model {
     private final FinClient finClient;
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
+    // The filtered persons in the order of the last search, or in the sort order selected in the FinClient
+    private final SortedList<Person> displayedPersons;
 
     /**
      * Initializes a ModelManager with the given finClient and userPrefs.
@@ -35,7 +51,10 @@ public class ModelManager implements Model {
 
         this.finClient = new FinClient(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
-        filteredPersons = new FilteredList<>(this.finClient.getPersonList());
+        filteredPersons = new FilteredList<>(this.finClient.getSortedPersonList());
+        displayedPersons = new SortedList<>(filteredPersons);
+        // Copying addressBook is not a change; storage is told separately if addressBook was never saved
+        this.finClient.pollPersonChanges();
     }
 
     public ModelManager() {
@@ -146,15 +165,81 @@ public class ModelManager implements Model {
         finClient.revealPerson(PREDICATE_SHOW_ALL_PERSONS);
     }
 
+    @Override
+    public boolean hasOrder(long orderId) {
+        return finClient.hasOrder(orderId);
+    }
+
+    @Override
+    public Optional<Order> getOrder(long orderId) {
+        return finClient.getOrder(orderId);
+    }
+
+    @Override
+    public long placeOrder(Person person, Order order) {
+        requireAllNonNull(person, order);
+        return finClient.placeOrder(person, order);
+    }
+
+    @Override
+    public void amendOrder(long orderId, Order editedOrder) {
+        requireNonNull(editedOrder);
+        finClient.amendOrder(orderId, editedOrder);
+    }
+
+    @Override
+    public void cancelOrder(long orderId) {
+        finClient.cancelOrder(orderId);
+    }
+
+    @Override
+    public MatchingMode getMatchingMode() {
+        return finClient.getMatchingMode();
+    }
+
+    @Override
+    public void setMatchingMode(MatchingMode matchingMode) {
+        requireNonNull(matchingMode);
+        finClient.setMatchingMode(matchingMode);
+    }
+
+    @Override
+    public List<Trade> getTradeList() {
+        return finClient.getTradeList();
+    }
+
     @Override
     public Optional<Double> calculateClearingPrice() {
         return finClient.calculateClearingPrice();
     }
 
     @Override
-    public void sortPersons(String criteria) {
-        finClient.sortPersons(criteria);
+    public Map<String, Optional<Double>> calculateClearingPrices() {
+        return finClient.calculateClearingPrices();
     }
+
+    @Override
+    public Map<String, IndicativePrice> pollIndicativePriceChanges() {
+        return finClient.pollIndicativePriceChanges();
+    }
+
+    @Override
+    public List<PersonChange> pollPersonChanges() {
+        return finClient.pollPersonChanges();
+    }
+
+    @Override
+    public AuctionResult calculateAuction(String ticker, AllocationRule rule) {
+        requireAllNonNull(ticker, rule);
+        return finClient.calculateAuction(ticker, rule);
+    }
+
+    @Override
+    public void sortPersons(PersonSortOrder sortOrder) {
+        requireNonNull(sortOrder);
+        finClient.sortPersons(sortOrder);
+    }
+
     @Override
     public List<Person> getUpcomingPersons(int count) {
         return finClient.getUpcomingPersons(count);
@@ -167,15 +252,39 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return filteredPersons;
+        return displayedPersons;
     }
 
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
+        displayedPersons.setComparator(null);
         filteredPersons.setPredicate(predicate);
     }
 
+    @Override
+    public void updateFilteredPersonList(NameContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        displayedPersons.setComparator(null);
+        filteredPersons.setPredicate(finClient.nameContainsAnyOf(predicate.getKeywords()));
+    }
+
+    @Override
+    public void updateFilteredPersonList(PersonQuery query) {
+        requireNonNull(query);
+        displayedPersons.setComparator(null);
+        filteredPersons.setPredicate(finClient.plan(query));
+    }
+
+    @Override
+    public void updateFilteredPersonListToSearch(List<String> keywords) {
+        requireNonNull(keywords);
+        // Searched again when the details change, so edited persons are ranked by their new details
+        SearchRanking ranking = finClient.rankPersons(keywords);
+        filteredPersons.setPredicate(ranking::contains);
+        displayedPersons.setComparator(Comparator.comparingInt(ranking::rankOf));
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -190,6 +299,6 @@ public class ModelManager implements Model {
         ModelManager otherModelManager = (ModelManager) other;
         return finClient.equals(otherModelManager.finClient)
                 && userPrefs.equals(otherModelManager.userPrefs)
-                && filteredPersons.equals(otherModelManager.filteredPersons);
+                && displayedPersons.equals(otherModelManager.displayedPersons);
     }
 }
@@ -14,4 +14,10 @@ public interface ReadOnlyFinClient {
      */
     ObservableList<Person> getPersonList();
 
+    /**
+     * Returns a number that changes whenever the persons change, so that a saved copy can be told apart from one
+     * that has changed since.
+     */
+    long getVersion();
+
 }
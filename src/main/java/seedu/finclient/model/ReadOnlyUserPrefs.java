@@ -2,6 +2,7 @@ package seedu.finclient.model;
 
 import java.nio.file.Path;
 
+import seedu.finclient.commons.core.DataFileFormat;
 import seedu.finclient.commons.core.GuiSettings;
 
 /**
@@ -13,4 +14,6 @@ public interface ReadOnlyUserPrefs {
 
     Path getFinClientFilePath();
 
+    DataFileFormat getDataFileFormat();
+
 }
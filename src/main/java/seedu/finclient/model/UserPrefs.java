@@ -5,7 +5,9 @@ import static java.util.Objects.requireNonNull;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Objects;
+import java.util.Optional;
 
+import seedu.finclient.commons.core.DataFileFormat;
 import seedu.finclient.commons.core.GuiSettings;
 
 /**
@@ -15,6 +17,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
     private GuiSettings guiSettings = new GuiSettings();
     private Path finClientFilePath = Paths.get("data" , "finclient.json");
+    private DataFileFormat dataFileFormat = DataFileFormat.JSON;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +39,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setFinClientFilePath(newUserPrefs.getFinClientFilePath());
+        setDataFileFormat(newUserPrefs.getDataFileFormat());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +60,28 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.finClientFilePath = finClientFilePath;
     }
 
+    public DataFileFormat getDataFileFormat() {
+        return dataFileFormat;
+    }
+
+    public void setDataFileFormat(DataFileFormat dataFileFormat) {
+        requireNonNull(dataFileFormat);
+        this.dataFileFormat = dataFileFormat;
+    }
+
+    /**
+     * Sets the data file format to the one that the extension of the data file names, if it names one.
+     * Returns true if that changed the format.
+     */
+    public boolean matchDataFileFormatToFilePath() {
+        Optional<DataFileFormat> formatOfFile = DataFileFormat.ofFile(finClientFilePath);
+        if (formatOfFile.isEmpty() || formatOfFile.get() == dataFileFormat) {
+            return false;
+        }
+        dataFileFormat = formatOfFile.get();
+        return true;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +95,13 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && finClientFilePath.equals(otherUserPrefs.finClientFilePath);
+                && finClientFilePath.equals(otherUserPrefs.finClientFilePath)
+                && dataFileFormat == otherUserPrefs.dataFileFormat;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, finClientFilePath);
+        return Objects.hash(guiSettings, finClientFilePath, dataFileFormat);
     }
 
     @Override
@@ -82,6 +109,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + finClientFilePath);
+        sb.append("\nLocal data file format : " + dataFileFormat);
         return sb.toString();
     }
 
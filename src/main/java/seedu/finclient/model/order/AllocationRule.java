@@ -0,0 +1,17 @@
+package seedu.finclient.model.order;
+
+/**
+ * How the quantity executed in a call auction is shared among the orders on the side with surplus.
+ *
+ * Either way, orders with a better limit than the clearing price are filled before those at a worse one
+ * (price priority); the rule only decides how the marginal price level that cannot be filled in full is rationed.
+ */
+public enum AllocationRule {
+    /** Earlier orders at the marginal price are filled in full before later ones. */
+    PRICE_TIME,
+    /**
+     * Every order at the marginal price receives the same fraction of its quantity, rounded down.
+     * Units left over from rounding go to the earliest orders.
+     */
+    PRO_RATA
+}
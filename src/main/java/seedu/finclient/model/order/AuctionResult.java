@@ -0,0 +1,178 @@
+package seedu.finclient.model.order;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+import seedu.finclient.commons.util.ToStringBuilder;
+
+/**
+ * The outcome of a call auction over a list of orders: the clearing price, how much executes at it,
+ * which side is left with unfilled quantity, and how much of each order is filled.
+ *
+ * Fills are indexed by the position of the order in the list that was auctioned. Results of auctions over
+ * orders keyed by id can also be read by order id.
+ */
+public class AuctionResult {
+
+    private final boolean hasClearingPrice;
+    private final long clearingPriceInCents;
+    private final long executableVolume;
+    private final long demand;
+    private final long supply;
+    private final long[] fills;
+    // Ascending id of each auctioned order, or null if the orders had no ids
+    private final long[] orderIds;
+
+    /**
+     * Creates a result with a clearing price. {@code demand} and {@code supply} are the quantities
+     * willing to trade at that price, and {@code fills[i]} is the quantity filled for the i-th order.
+     */
+    AuctionResult(long clearingPriceInCents, long demand, long supply, long[] fills) {
+        this.hasClearingPrice = true;
+        this.clearingPriceInCents = clearingPriceInCents;
+        this.executableVolume = Math.min(demand, supply);
+        this.demand = demand;
+        this.supply = supply;
+        this.fills = fills;
+        this.orderIds = null;
+    }
+
+    private AuctionResult(AuctionResult result, long[] orderIds) {
+        assert orderIds.length == result.fills.length;
+        this.hasClearingPrice = result.hasClearingPrice;
+        this.clearingPriceInCents = result.clearingPriceInCents;
+        this.executableVolume = result.executableVolume;
+        this.demand = result.demand;
+        this.supply = result.supply;
+        this.fills = result.fills;
+        this.orderIds = orderIds;
+    }
+
+    private AuctionResult(int orderCount) {
+        this.hasClearingPrice = false;
+        this.clearingPriceInCents = 0;
+        this.executableVolume = 0;
+        this.demand = 0;
+        this.supply = 0;
+        this.fills = new long[orderCount];
+        this.orderIds = null;
+    }
+
+    /**
+     * Returns the result of an auction over {@code orderCount} orders in which nothing can match.
+     */
+    static AuctionResult noMatch(int orderCount) {
+        return new AuctionResult(orderCount);
+    }
+
+    /**
+     * Returns this result with the i-th fill belonging to the order with id {@code orderIds[i]}.
+     * {@code orderIds} must be in ascending order.
+     */
+    AuctionResult withOrderIds(long[] orderIds) {
+        return new AuctionResult(this, orderIds);
+    }
+
+    public boolean hasClearingPrice() {
+        return hasClearingPrice;
+    }
+
+    /**
+     * Returns the clearing price, or empty if no BUY and SELL could match.
+     */
+    public Optional<Double> getClearingPrice() {
+        return hasClearingPrice
+                ? Optional.of(CallAuctionCalculator.toPrice(clearingPriceInCents))
+                : Optional.empty();
+    }
+
+    public long getClearingPriceInCents() {
+        return clearingPriceInCents;
+    }
+
+    /**
+     * Returns the total quantity that executes at the clearing price.
+     */
+    public long getExecutableVolume() {
+        return executableVolume;
+    }
+
+    /**
+     * Returns the side left with unfilled quantity at the clearing price: BUY, SELL, or NONE if
+     * demand and supply are balanced (or nothing matched).
+     */
+    public Order.OrderType getSurplusSide() {
+        if (demand > supply) {
+            return Order.OrderType.BUY;
+        } else if (supply > demand) {
+            return Order.OrderType.SELL;
+        }
+        return Order.OrderType.NONE;
+    }
+
+    /**
+     * Returns the quantity left unfilled on {@link #getSurplusSide()}.
+     */
+    public long getSurplusSize() {
+        return Math.abs(demand - supply);
+    }
+
+    /**
+     * Returns the quantity filled for the order at {@code orderIndex} in the auctioned list.
+     */
+    public long getFilledQuantity(int orderIndex) {
+        return fills[orderIndex];
+    }
+
+    /**
+     * Returns the quantity filled for the order with id {@code orderId}, or 0 if it was not in the auction.
+     * Only available for auctions over orders keyed by id.
+     */
+    public long getFilledQuantityOfOrder(long orderId) {
+        assert orderIds != null : "The auctioned orders had no ids";
+        int index = Arrays.binarySearch(orderIds, orderId);
+        return index < 0 ? 0 : fills[index];
+    }
+
+    /**
+     * Returns the number of orders this result covers, i.e. the size of the auctioned list.
+     */
+    public int getOrderCount() {
+        return fills.length;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AuctionResult)) {
+            return false;
+        }
+
+        AuctionResult otherResult = (AuctionResult) other;
+        return hasClearingPrice == otherResult.hasClearingPrice
+                && clearingPriceInCents == otherResult.clearingPriceInCents
+                && demand == otherResult.demand
+                && supply == otherResult.supply
+                && Arrays.equals(fills, otherResult.fills);
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(clearingPriceInCents) ^ Arrays.hashCode(fills);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("clearingPrice", getClearingPrice())
+                .add("executableVolume", executableVolume)
+                .add("surplusSide", getSurplusSide())
+                .add("surplusSize", getSurplusSize())
+                .add("fills", Arrays.toString(fills))
+                .toString();
+    }
+}
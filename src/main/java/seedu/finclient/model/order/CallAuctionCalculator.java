@@ -1,11 +1,14 @@
 package seedu.finclient.model.order;
 
+import static seedu.finclient.commons.util.CollectionUtil.requireAllNonNull;
+
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.SortedMap;
 
 /**
  * Utility class that calculates a single clearing price for a group of buy/sell orders
@@ -20,7 +23,17 @@ import java.util.Set;
  *    If there's a tie, pick the price with the smallest absolute leftover (|Demand - Supply|).
  *    If still tied, pick the lowest price.
  *
- * Ignores HIDDEN and NONE orders.
+ * {@link #calculateAuction(List, AllocationRule)} additionally reports the executable volume and surplus,
+ * and allocates fills to the individual orders.
+ *
+ * Ignores HIDDEN and NONE orders. Prices are compared as whole cents (see {@link Order#getPriceInCents()}).
+ * Every order is treated as one instrument; callers run a separate auction for each ticker.
+ *
+ * {@link #calculateClearingPrice(List)} delegates to {@link PriceLevelAuction}, which sorts the buy and sell
+ * limits into aggregated price levels and evaluates every level in a single sweep. Callers on a hot path can
+ * hold on to a {@code PriceLevelAuction} themselves to run repeated auctions without allocating.
+ * {@link #calculateClearingPriceByScan(List)} is the original O(P * N) implementation, kept as a reference
+ * oracle for cross-checking.
  */
 public class CallAuctionCalculator {
 
@@ -28,19 +41,19 @@ public class CallAuctionCalculator {
      * A small container to track the results at each candidate price.
      */
     private static class CandidateResult {
-        private double price;
+        private long price;
         private int matchedVolume;
         private int demand;
         private int supply;
 
-        CandidateResult(double price, int matchedVolume, int demand, int supply) {
+        CandidateResult(long price, int matchedVolume, int demand, int supply) {
             this.price = price;
             this.matchedVolume = matchedVolume;
             this.demand = demand;
             this.supply = supply;
         }
 
-        public double getPrice() {
+        public long getPrice() {
             return price;
         }
 
@@ -64,10 +77,161 @@ public class CallAuctionCalculator {
      *
      * This method:
      *  - Ignores orders marked HIDDEN or NONE
-     *  - Tries every distinct limit price in the book
+     *  - Sorts the buy and sell limits once and collapses them into ascending price levels
+     *  - Sweeps those levels, maintaining cumulative demand and supply as it goes
+     *    (see {@link PriceLevelAuction#run()})
      *  - Follows the standard "maximize matched volume; minimize leftover; pick lowest price" tie-break
      */
     public static Optional<Double> calculateClearingPrice(List<Order> allOrders) {
+        PriceLevelAuction auction = new PriceLevelAuction(allOrders.size());
+        for (Order o : allOrders) {
+            auction.addOrder(o);
+        }
+
+        if (!auction.run()) {
+            return Optional.empty();
+        }
+        return Optional.of(toPrice(auction.getClearingPriceInCents()));
+    }
+
+    /**
+     * Runs the call auction over {@code allOrders} and allocates the executed quantity to the orders.
+     *
+     * The clearing price is the one {@link #calculateClearingPrice(List)} returns. At that price the side with
+     * less quantity is filled in full. The side with surplus is filled in price priority (higher BUY limits,
+     * lower SELL limits first), and the one price level that cannot be filled in full is rationed by {@code rule}.
+     * Time priority is the position of an order in {@code allOrders}.
+     *
+     * The fills of the returned result are indexed like {@code allOrders}.
+     */
+    public static AuctionResult calculateAuction(List<Order> allOrders, AllocationRule rule) {
+        requireAllNonNull(allOrders, rule);
+        Order[] orders = allOrders.toArray(new Order[0]);
+
+        PriceLevelAuction auction = new PriceLevelAuction(orders.length);
+        for (Order o : orders) {
+            auction.addOrder(o);
+        }
+        if (!auction.run()) {
+            return AuctionResult.noMatch(orders.length);
+        }
+
+        long price = auction.getClearingPriceInCents();
+        long volume = auction.getMatchedVolume();
+        long[] fills = new long[orders.length];
+        allocate(orders, Order.OrderType.BUY, price, volume, rule, fills);
+        allocate(orders, Order.OrderType.SELL, price, volume, rule, fills);
+        return new AuctionResult(price, auction.getDemandAtClearingPrice(), auction.getSupplyAtClearingPrice(),
+                fills);
+    }
+
+    /**
+     * Runs the call auction over {@code ordersById} like {@link #calculateAuction(List, AllocationRule)}, with
+     * ascending order ids as time priority. Fills of the returned result can be read by order id.
+     */
+    public static AuctionResult calculateAuction(SortedMap<Long, Order> ordersById, AllocationRule rule) {
+        requireAllNonNull(ordersById, rule);
+        assert ordersById.comparator() == null : "Order ids must be in ascending order";
+        long[] orderIds = ordersById.keySet().stream().mapToLong(Long::longValue).toArray();
+        return calculateAuction(new ArrayList<>(ordersById.values()), rule).withOrderIds(orderIds);
+    }
+
+    /**
+     * Shares {@code volume} among the orders on {@code side} that are willing to trade at {@code price},
+     * best limit first, recording each order's share in {@code fills}.
+     */
+    private static void allocate(Order[] orders, Order.OrderType side, long price, long volume,
+                                 AllocationRule rule, long[] fills) {
+        boolean isBuy = side == Order.OrderType.BUY;
+        List<Integer> eligible = new ArrayList<>();
+        for (int i = 0; i < orders.length; i++) {
+            Order o = orders[i];
+            if (o.getOrderType() == side
+                    && (isBuy ? o.getPriceInCents() >= price : o.getPriceInCents() <= price)) {
+                eligible.add(i);
+            }
+        }
+
+        // List.sort is stable, so orders at the same price stay in time priority
+        Comparator<Integer> byPrice = Comparator.comparingLong(i -> orders[i].getPriceInCents());
+        eligible.sort(isBuy ? byPrice.reversed() : byPrice);
+
+        long remaining = volume;
+        int start = 0;
+        while (start < eligible.size() && remaining > 0) {
+            long levelPrice = orders[eligible.get(start)].getPriceInCents();
+            long levelQuantity = 0;
+            int end = start;
+            while (end < eligible.size() && orders[eligible.get(end)].getPriceInCents() == levelPrice) {
+                levelQuantity += orders[eligible.get(end)].getQuantity();
+                end++;
+            }
+
+            List<Integer> level = eligible.subList(start, end);
+            if (levelQuantity <= remaining) {
+                for (int i : level) {
+                    fills[i] = orders[i].getQuantity();
+                }
+                remaining -= levelQuantity;
+            } else {
+                ration(orders, level, levelQuantity, remaining, rule, fills);
+                remaining = 0;
+            }
+            start = end;
+        }
+    }
+
+    /**
+     * Shares {@code available} among the orders in {@code level}, which together want {@code levelQuantity}
+     * (more than is available).
+     */
+    private static void ration(Order[] orders, List<Integer> level, long levelQuantity, long available,
+                               AllocationRule rule, long[] fills) {
+        long remaining = available;
+        if (rule == AllocationRule.PRICE_TIME) {
+            for (int i : level) {
+                fills[i] = Math.min(orders[i].getQuantity(), remaining);
+                remaining -= fills[i];
+            }
+            return;
+        }
+
+        for (int i : level) {
+            fills[i] = Math.multiplyExact((long) orders[i].getQuantity(), available) / levelQuantity;
+            remaining -= fills[i];
+        }
+        // Rounding down leaves fewer units than there are orders, and no order is full yet,
+        // so hand the rest out one unit each in time priority
+        for (int i : level) {
+            if (remaining == 0) {
+                break;
+            }
+            fills[i]++;
+            remaining--;
+        }
+    }
+
+    /**
+     * Converts a price in cents back to the {@code double} representation returned by this class.
+     */
+    static double toPrice(long priceInCents) {
+        return (double) priceInCents / Order.CENTS_PER_UNIT;
+    }
+
+    /**
+     * Computes the single clearing price for the provided orders (if any).
+     * Returns an Optional containing the clearing price, or empty if
+     * no valid match is possible (e.g., no buys or no sells).
+     *
+     * This is the reference implementation: it re-scans every order for every candidate price,
+     * which costs O(P * N). It is kept only to cross-check {@link #calculateClearingPrice(List)}.
+     *
+     * This method:
+     *  - Ignores orders marked HIDDEN or NONE
+     *  - Tries every distinct limit price in the book
+     *  - Follows the standard "maximize matched volume; minimize leftover; pick lowest price" tie-break
+     */
+    static Optional<Double> calculateClearingPriceByScan(List<Order> allOrders) {
         // Separate into buy vs sell (ignore HIDDEN, NONE)
         List<Order> buyOrders = new ArrayList<>();
         List<Order> sellOrders = new ArrayList<>();
@@ -86,21 +250,21 @@ public class CallAuctionCalculator {
         }
 
         // Collect all unique prices from buy + sell
-        Set<Double> candidatePrices = new HashSet<>();
+        Set<Long> candidatePrices = new HashSet<>();
         for (Order b : buyOrders) {
-            candidatePrices.add(b.getPrice());
+            candidatePrices.add(b.getPriceInCents());
         }
         for (Order s : sellOrders) {
-            candidatePrices.add(s.getPrice());
+            candidatePrices.add(s.getPriceInCents());
         }
 
         // Sort ascending
-        List<Double> sortedPrices = new ArrayList<>(candidatePrices);
-        sortedPrices.sort(Double::compareTo);
+        List<Long> sortedPrices = new ArrayList<>(candidatePrices);
+        sortedPrices.sort(Long::compareTo);
 
         // Evaluate matched volume at each candidate price
         List<CandidateResult> results = new ArrayList<>();
-        for (double p : sortedPrices) {
+        for (long p : sortedPrices) {
             int demand = calculateDemand(buyOrders, p);
             int supply = calculateSupply(sellOrders, p);
             int matched = Math.min(demand, supply);
@@ -140,19 +304,19 @@ public class CallAuctionCalculator {
         }
 
         // 3) If there's still more than one, pick the lowest price
-        bestLeftoverResults.sort(Comparator.comparingDouble(r -> r.price));
-        double finalClearingPrice = bestLeftoverResults.get(0).price;
+        bestLeftoverResults.sort(Comparator.comparingLong(r -> r.price));
+        long finalClearingPrice = bestLeftoverResults.get(0).price;
 
-        return Optional.of(finalClearingPrice);
+        return Optional.of(toPrice(finalClearingPrice));
     }
 
     /**
      * Sum of all buy orders' quantities whose limit >= p
      */
-    private static int calculateDemand(List<Order> buyOrders, double p) {
+    private static int calculateDemand(List<Order> buyOrders, long p) {
         int sum = 0;
         for (Order b : buyOrders) {
-            if (b.getPrice() >= p) {
+            if (b.getPriceInCents() >= p) {
                 sum += b.getQuantity();
             }
         }
@@ -162,10 +326,10 @@ public class CallAuctionCalculator {
     /**
      * Sum of all sell orders' quantities whose limit <= p
      */
-    private static int calculateSupply(List<Order> sellOrders, double p) {
+    private static int calculateSupply(List<Order> sellOrders, long p) {
         int sum = 0;
         for (Order s : sellOrders) {
-            if (s.getPrice() <= p) {
+            if (s.getPriceInCents() <= p) {
                 sum += s.getQuantity();
             }
         }
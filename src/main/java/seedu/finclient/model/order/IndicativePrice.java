@@ -0,0 +1,90 @@
+package seedu.finclient.model.order;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import seedu.finclient.commons.util.ToStringBuilder;
+
+/**
+ * The price at which the call auction would uncross an instrument's book if it ran now, and how much would trade.
+ * Guarantees: immutable.
+ */
+public class IndicativePrice {
+
+    /** The indicative price of a book in which nothing can match, e.g. one that is empty. */
+    public static final IndicativePrice NO_MATCH = new IndicativePrice(false, 0, 0, 0);
+
+    private final boolean hasPrice;
+    private final long priceInCents;
+    private final long matchedVolume;
+    private final long imbalance;
+
+    private IndicativePrice(boolean hasPrice, long priceInCents, long matchedVolume, long imbalance) {
+        this.hasPrice = hasPrice;
+        this.priceInCents = priceInCents;
+        this.matchedVolume = matchedVolume;
+        this.imbalance = imbalance;
+    }
+
+    /**
+     * Creates an indicative price of {@code priceInCents} at which {@code matchedVolume} trades, leaving
+     * {@code imbalance} unfilled: positive for BUY quantity, negative for SELL quantity.
+     */
+    public static IndicativePrice of(long priceInCents, long matchedVolume, long imbalance) {
+        assert priceInCents >= 0 && matchedVolume >= 0;
+        return new IndicativePrice(true, priceInCents, matchedVolume, imbalance);
+    }
+
+    /**
+     * Returns the indicative price, or empty if nothing can match.
+     */
+    public Optional<Double> getPrice() {
+        return hasPrice ? Optional.of(CallAuctionCalculator.toPrice(priceInCents)) : Optional.empty();
+    }
+
+    /**
+     * Returns the quantity that would trade at the indicative price.
+     */
+    public long getMatchedVolume() {
+        return matchedVolume;
+    }
+
+    /**
+     * Returns demand minus supply at the indicative price.
+     */
+    public long getImbalance() {
+        return imbalance;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof IndicativePrice)) {
+            return false;
+        }
+
+        IndicativePrice otherPrice = (IndicativePrice) other;
+        return hasPrice == otherPrice.hasPrice
+                && priceInCents == otherPrice.priceInCents
+                && matchedVolume == otherPrice.matchedVolume
+                && imbalance == otherPrice.imbalance;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(hasPrice, priceInCents, matchedVolume, imbalance);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("price", getPrice())
+                .add("matchedVolume", matchedVolume)
+                .add("imbalance", imbalance)
+                .toString();
+    }
+}
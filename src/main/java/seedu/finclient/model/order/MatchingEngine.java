@@ -0,0 +1,293 @@
+package seedu.finclient.model.order;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.finclient.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.LongPredicate;
+
+/**
+ * A continuous limit order book per instrument, matching incoming orders against resting ones by price-time
+ * priority.
+ *
+ * Each side keeps its price levels in a {@code TreeMap} keyed by price in cents, best price first, and each level
+ * queues its orders by arrival in a {@code LinkedHashMap} keyed by order id. Resting an order costs O(log P) where P
+ * is the number of distinct prices on its side, and cancelling one is O(1) unless it empties its level. The best
+ * level of each side is cached, so the best bid and ask are read in O(1), and every fill against the front of the
+ * queue is O(1) too.
+ *
+ * An incoming order can be kept from trading with resting orders of its own owner, which it then passes over.
+ *
+ * Ignores HIDDEN and NONE orders, so callers may pass any order without filtering first.
+ */
+public class MatchingEngine {
+
+    /**
+     * An order resting in the book and the quantity of it that is still unfilled.
+     */
+    private static class RestingOrder {
+        private final long orderId;
+        private final Order order;
+        private final PriceLevel level;
+        private int remainingQuantity;
+
+        RestingOrder(long orderId, Order order, PriceLevel level) {
+            this.orderId = orderId;
+            this.order = order;
+            this.level = level;
+            this.remainingQuantity = order.getQuantity();
+        }
+    }
+
+    /**
+     * The orders resting at a single limit price on one side, earliest first.
+     */
+    private static class PriceLevel {
+        private final long priceInCents;
+        private final LinkedHashMap<Long, RestingOrder> queue = new LinkedHashMap<>();
+
+        PriceLevel(long priceInCents) {
+            this.priceInCents = priceInCents;
+        }
+    }
+
+    /**
+     * One side of the book of an instrument.
+     */
+    private static class Side {
+        private final TreeMap<Long, PriceLevel> levels;
+        // The first level of levels, or null if the side is empty
+        private PriceLevel best;
+
+        Side(Comparator<Long> bestFirst) {
+            levels = new TreeMap<>(bestFirst);
+        }
+
+        PriceLevel levelFor(long priceInCents) {
+            PriceLevel level = levels.get(priceInCents);
+            if (level == null) {
+                level = new PriceLevel(priceInCents);
+                levels.put(priceInCents, level);
+                if (best == null || levels.comparator().compare(priceInCents, best.priceInCents) < 0) {
+                    best = level;
+                }
+            }
+            return level;
+        }
+
+        void removeIfEmpty(PriceLevel level) {
+            if (!level.queue.isEmpty()) {
+                return;
+            }
+            levels.remove(level.priceInCents);
+            if (level == best) {
+                updateBest();
+            }
+        }
+
+        void updateBest() {
+            Map.Entry<Long, PriceLevel> first = levels.firstEntry();
+            best = first == null ? null : first.getValue();
+        }
+
+        boolean isEmpty() {
+            return best == null;
+        }
+    }
+
+    /**
+     * The two sides of the book of an instrument.
+     */
+    private static class Book {
+        private final Side bids = new Side(Comparator.reverseOrder());
+        private final Side asks = new Side(Comparator.naturalOrder());
+
+        Side sideOf(Order.OrderType orderType) {
+            return orderType == Order.OrderType.BUY ? bids : asks;
+        }
+
+        boolean isEmpty() {
+            return bids.isEmpty() && asks.isEmpty();
+        }
+    }
+
+    private final Map<String, Book> books = new HashMap<>();
+    private final Map<Long, RestingOrder> restingOrders = new HashMap<>();
+
+    /**
+     * Rests {@code order} under {@code orderId} behind the orders already at its price, without matching it.
+     * {@code orderId} must not be resting already.
+     */
+    public void add(long orderId, Order order) {
+        requireNonNull(order);
+        if (!isBookable(order)) {
+            return;
+        }
+        assert !restingOrders.containsKey(orderId) : "Order " + orderId + " is already resting";
+
+        Book book = books.computeIfAbsent(order.getTicker(), unused -> new Book());
+        PriceLevel level = book.sideOf(order.getOrderType()).levelFor(order.getPriceInCents());
+        RestingOrder restingOrder = new RestingOrder(orderId, order, level);
+        level.queue.put(orderId, restingOrder);
+        restingOrders.put(orderId, restingOrder);
+    }
+
+    /**
+     * Removes the order {@code orderId} from the book. Does nothing if it is not resting, e.g. because it was
+     * filled in full.
+     */
+    public void remove(long orderId) {
+        RestingOrder restingOrder = restingOrders.remove(orderId);
+        if (restingOrder == null) {
+            return;
+        }
+
+        String ticker = restingOrder.order.getTicker();
+        Book book = books.get(ticker);
+        Side side = book.sideOf(restingOrder.order.getOrderType());
+        restingOrder.level.queue.remove(orderId);
+        side.removeIfEmpty(restingOrder.level);
+        if (book.isEmpty()) {
+            books.remove(ticker);
+        }
+    }
+
+    /**
+     * Removes every order.
+     */
+    public void clear() {
+        books.clear();
+        restingOrders.clear();
+    }
+
+    /**
+     * Returns true if the order {@code orderId} is resting in the book.
+     */
+    public boolean contains(long orderId) {
+        return restingOrders.containsKey(orderId);
+    }
+
+    /**
+     * Returns the unfilled quantity of the resting order {@code orderId}, or 0 if it is not resting.
+     */
+    public int getRemainingQuantity(long orderId) {
+        RestingOrder restingOrder = restingOrders.get(orderId);
+        return restingOrder == null ? 0 : restingOrder.remainingQuantity;
+    }
+
+    /**
+     * Matches the incoming {@code order} with id {@code orderId} against the resting orders on the other side of
+     * its instrument, and returns the trades in the order they happened.
+     *
+     * Resting orders are filled best price first and earliest first within a price, as long as their price
+     * crosses the limit of {@code order}, and every trade is at the resting order's price. Resting orders that
+     * are filled in full leave the book. The unfilled rest of {@code order} is not rested; callers
+     * {@link #add(long, Order)} it if it should be.
+     */
+    public List<Trade> match(long orderId, Order order) {
+        return match(orderId, order, unused -> false);
+    }
+
+    /**
+     * Matches the incoming {@code order} like {@link #match(long, Order)}, except that it never trades with the
+     * resting orders {@code isSameOwner} accepts. Those are passed over and keep their place in the book, so that
+     * an owner's order cannot cross another order of the same owner.
+     *
+     * Passing over is a walk of the queue, so an owner with k orders resting at the prices it crosses adds O(k)
+     * to every order of that owner that arrives while they rest.
+     */
+    public List<Trade> match(long orderId, Order order, LongPredicate isSameOwner) {
+        requireAllNonNull(order, isSameOwner);
+        List<Trade> trades = new ArrayList<>();
+        Book book = books.get(order.getTicker());
+        if (!isBookable(order) || book == null) {
+            return trades;
+        }
+
+        boolean isBuy = order.getOrderType() == Order.OrderType.BUY;
+        Side opposite = isBuy ? book.asks : book.bids;
+        int remainingQuantity = order.getQuantity();
+        Iterator<PriceLevel> levels = opposite.levels.values().iterator();
+        while (remainingQuantity > 0 && levels.hasNext()) {
+            PriceLevel level = levels.next();
+            if (!crosses(order, level.priceInCents)) {
+                break;
+            }
+
+            Iterator<RestingOrder> queue = level.queue.values().iterator();
+            while (remainingQuantity > 0 && queue.hasNext()) {
+                RestingOrder resting = queue.next();
+                if (isSameOwner.test(resting.orderId)) {
+                    continue;
+                }
+                int fill = Math.min(remainingQuantity, resting.remainingQuantity);
+                trades.add(isBuy
+                        ? new Trade(order.getTicker(), orderId, resting.orderId, level.priceInCents, fill)
+                        : new Trade(order.getTicker(), resting.orderId, orderId, level.priceInCents, fill));
+                remainingQuantity -= fill;
+                resting.remainingQuantity -= fill;
+                if (resting.remainingQuantity == 0) {
+                    queue.remove();
+                    restingOrders.remove(resting.orderId);
+                }
+            }
+            if (level.queue.isEmpty()) {
+                levels.remove();
+            }
+        }
+        opposite.updateBest();
+
+        if (book.isEmpty()) {
+            books.remove(order.getTicker());
+        }
+        return trades;
+    }
+
+    /**
+     * Returns the highest BUY price resting for the instrument {@code ticker}, or empty if there is none.
+     */
+    public Optional<Double> getBestBid(String ticker) {
+        return bestPriceOf(ticker, Order.OrderType.BUY);
+    }
+
+    /**
+     * Returns the lowest SELL price resting for the instrument {@code ticker}, or empty if there is none.
+     */
+    public Optional<Double> getBestAsk(String ticker) {
+        return bestPriceOf(ticker, Order.OrderType.SELL);
+    }
+
+    /**
+     * Returns the number of orders resting in the book.
+     */
+    public int size() {
+        return restingOrders.size();
+    }
+
+    private Optional<Double> bestPriceOf(String ticker, Order.OrderType orderType) {
+        requireNonNull(ticker);
+        Book book = books.get(ticker);
+        if (book == null || book.sideOf(orderType).isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(CallAuctionCalculator.toPrice(book.sideOf(orderType).best.priceInCents));
+    }
+
+    private static boolean crosses(Order incoming, long restingPriceInCents) {
+        return incoming.getOrderType() == Order.OrderType.BUY
+                ? restingPriceInCents <= incoming.getPriceInCents()
+                : restingPriceInCents >= incoming.getPriceInCents();
+    }
+
+    private static boolean isBookable(Order order) {
+        return order.getOrderType() == Order.OrderType.BUY || order.getOrderType() == Order.OrderType.SELL;
+    }
+}
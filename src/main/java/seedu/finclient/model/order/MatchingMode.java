@@ -0,0 +1,15 @@
+package seedu.finclient.model.order;
+
+/**
+ * How new orders are handled when they are placed.
+ */
+public enum MatchingMode {
+    /** Orders rest in the book until the call auction uncrosses it at a single clearing price. */
+    AUCTION,
+    /**
+     * Orders are matched on arrival against resting orders on the other side, best price first and earliest
+     * order first within a price, and trade at the resting order's price. Only the unfilled rest of an order
+     * is left in the book.
+     */
+    CONTINUOUS
+}
@@ -5,8 +5,14 @@ import static seedu.finclient.commons.util.AppUtil.checkArgument;
 import static seedu.finclient.commons.util.CollectionUtil.requireAllNonNull;
 
 /**
- * Represents an Order in the address book (buy or sell at a given price).
- * Guarantees: immutable; is valid as declared in {@link #isValidPrice(String)}
+ * Represents an Order in the address book (buy or sell of an instrument at a given price).
+ * Guarantees: immutable; is valid as declared in {@link #isValidPrice(String)} and {@link #isValidTicker(String)}
+ *
+ * Every order is for the instrument named by its ticker. Orders entered without one are for
+ * {@link #DEFAULT_TICKER}, which is left out of the description so existing data keeps its format.
+ *
+ * The price is parsed once into a whole number of cents, so comparisons and the auction never touch
+ * floating point. The original text is kept only for display and storage.
  */
 public class Order {
 
@@ -19,9 +25,19 @@ public class Order {
 
     public static final String MESSAGE_CONSTRAINTS = "Order should be with amount and price";
 
-    private OrderType orderType;
-    private String price;
-    private int quantity;
+    public static final String MESSAGE_CONSTRAINTS_TICKER =
+            "Ticker should be 1 to 10 uppercase letters, digits or dots, starting with a letter";
+    public static final String VALIDATION_REGEX_TICKER = "[A-Z][A-Z0-9.]{0,9}";
+
+    public static final String DEFAULT_TICKER = "DEFAULT";
+
+    public static final int CENTS_PER_UNIT = 100;
+
+    private final String ticker;
+    private final OrderType orderType;
+    private final String price;
+    private final long priceInCents;
+    private final int quantity;
 
     /**
      * Constructs a {@code Order}.
@@ -31,17 +47,33 @@ public class Order {
      * @param quantity  A valid quantity (e.g. 100).
      */
     public Order(OrderType orderType, String price, int quantity) {
-        requireAllNonNull(orderType, price, quantity);
+        this(orderType, DEFAULT_TICKER, price, quantity);
+    }
+
+    /**
+     * Constructs a {@code Order} for the instrument {@code ticker}.
+     *
+     * @param orderType Either BUY or SELL.
+     * @param ticker    A valid ticker (e.g. "AAPL").
+     * @param price     A valid price (e.g. "10.50").
+     * @param quantity  A valid quantity (e.g. 100).
+     */
+    public Order(OrderType orderType, String ticker, String price, int quantity) {
+        requireAllNonNull(orderType, ticker, price, quantity);
+        checkArgument(isValidTicker(ticker), MESSAGE_CONSTRAINTS_TICKER);
         checkArgument(isValidPrice(price), MESSAGE_CONSTRAINTS_PRICE);
         checkArgument(isValidQuantity(quantity), MESSAGE_CONSTRAINTS_QUANTITY);
         this.orderType = orderType;
+        this.ticker = ticker;
         this.price = price;
+        this.priceInCents = parsePriceInCents(price);
         this.quantity = quantity;
     }
 
     /**
-     * Constructs a {@code Order} from a string using the format ("%s %d @ $%s", orderType, quantity, price).
-     * Example: "BUY 10 @ $5.50"
+     * Constructs a {@code Order} from a string using the format ("%s %d @ $%s", orderType, quantity, price),
+     * or ("%s %d %s @ $%s", orderType, quantity, ticker, price) for an instrument other than the default.
+     * Example: "BUY 10 @ $5.50", "BUY 10 AAPL @ $5.50"
      *
      * If the string is exactly "NONE", creates a none order.
      * if the string is exactly "HIDDEN", creates a hidden order.
@@ -52,26 +84,32 @@ public class Order {
         if (orderDescription.equals("NONE")) {
             // Special none-case initialization
             this.orderType = OrderType.NONE;
+            this.ticker = DEFAULT_TICKER;
             this.price = "1";
+            this.priceInCents = CENTS_PER_UNIT;
             this.quantity = 1;
         } else if (orderDescription.equals("HIDDEN")) {
             // Special hidden-case initialization
             this.orderType = OrderType.HIDDEN;
+            this.ticker = DEFAULT_TICKER;
             this.price = "1";
+            this.priceInCents = CENTS_PER_UNIT;
             this.quantity = 1;
         } else {
-            // Expected format: e.g. "BUY 10 @ $5.50"
+            // Expected format: e.g. "BUY 10 @ $5.50" or "BUY 10 AAPL @ $5.50"
             String[] orderParts = orderDescription.split(" ");
 
-            // Quick safety check: we expect exactly 4 tokens
+            // Quick safety check: we expect exactly 4 tokens, or 5 with a ticker
             // [0] = "BUY" or "SELL"
             // [1] = "10" (quantity)
-            // [2] = "@"
-            // [3] = "$5.50" (price with $)
-            if (orderParts.length != 4) {
+            // [2] = "AAPL" (ticker, optional)
+            // [2 or 3] = "@"
+            // [3 or 4] = "$5.50" (price with $)
+            if (orderParts.length != 4 && orderParts.length != 5) {
                 throw new IllegalArgumentException(
                         "Invalid order description format! Expected something like: BUY 10 @ $5.50");
             }
+            boolean hasTicker = orderParts.length == 5;
 
             // Parse order type
             this.orderType = OrderType.valueOf(orderParts[0].toUpperCase());
@@ -84,8 +122,14 @@ public class Order {
                 throw new IllegalArgumentException("Quantity must be an integer. Example: '10'");
             }
 
+            // Parse ticker
+            if (hasTicker) {
+                checkArgument(isValidTicker(orderParts[2]), MESSAGE_CONSTRAINTS_TICKER);
+            }
+            this.ticker = hasTicker ? orderParts[2] : DEFAULT_TICKER;
+
             // Parse price (remove the leading '$')
-            String rawPrice = orderParts[3];
+            String rawPrice = orderParts[hasTicker ? 4 : 3];
             if (rawPrice.startsWith("$")) {
                 rawPrice = rawPrice.substring(1);
             }
@@ -96,6 +140,7 @@ public class Order {
 
             this.quantity = parsedQuantity;
             this.price = rawPrice;
+            this.priceInCents = parsePriceInCents(rawPrice);
         }
     }
 
@@ -103,40 +148,77 @@ public class Order {
      * Returns true if a given string is a valid price.
      */
     public static boolean isValidPrice(String test) {
-        return test.matches(VALIDATION_REGEX_PRICE) && Double.parseDouble(test) > 0;
+        if (!test.matches(VALIDATION_REGEX_PRICE)) {
+            return false;
+        }
+        try {
+            return parsePriceInCents(test) > 0;
+        } catch (ArithmeticException | NumberFormatException e) {
+            // too large to be represented in cents
+            return false;
+        }
+    }
+
+    /**
+     * Converts a price matching {@link #VALIDATION_REGEX_PRICE} (e.g. "5", "5.5" or "5.50") into cents.
+     */
+    private static long parsePriceInCents(String price) {
+        int point = price.indexOf('.');
+        if (point == -1) {
+            return Math.multiplyExact(Long.parseLong(price), CENTS_PER_UNIT);
+        }
+
+        long units = Long.parseLong(price.substring(0, point));
+        String fraction = price.substring(point + 1);
+        long cents = Long.parseLong(fraction);
+        if (fraction.length() == 1) {
+            cents *= 10;
+        }
+        return Math.addExact(Math.multiplyExact(units, CENTS_PER_UNIT), cents);
     }
 
     public static boolean isValidQuantity(int test) {
         return test > 0;
     }
 
+    /**
+     * Returns true if a given string is a valid ticker.
+     */
+    public static boolean isValidTicker(String test) {
+        return test.matches(VALIDATION_REGEX_TICKER);
+    }
+
+    /**
+     * Returns the ticker of the instrument this order is for.
+     */
+    public String getTicker() {
+        return ticker;
+    }
+
     public OrderType getOrderType() {
         return orderType;
     }
 
     public double getPrice() {
-        return Double.parseDouble(price);
-    }
-
-    public int getQuantity() {
-        return quantity;
+        return (double) priceInCents / CENTS_PER_UNIT;
     }
 
-    public void setOrderType(OrderType orderType) {
-        requireNonNull(orderType);
-        this.orderType = orderType;
+    /**
+     * Returns the price as a whole number of cents.
+     */
+    public long getPriceInCents() {
+        return priceInCents;
     }
 
-    public void setPrice(String price) {
-        requireNonNull(price);
-        checkArgument(isValidPrice(price), MESSAGE_CONSTRAINTS_PRICE);
-        this.price = price;
+    public int getQuantity() {
+        return quantity;
     }
 
-    public void setQuantity(int quantity) {
-        requireNonNull(quantity);
-        checkArgument(isValidQuantity(quantity), MESSAGE_CONSTRAINTS_QUANTITY);
-        this.quantity = quantity;
+    /**
+     * Returns a copy of this order for {@code quantity} instead, e.g. the unfilled remainder after a partial fill.
+     */
+    public Order withQuantity(int quantity) {
+        return new Order(orderType, ticker, price, quantity);
     }
 
     @Override
@@ -149,7 +231,10 @@ public class Order {
             return "NONE";
         }
 
-        return String.format("%s %d @ $%s", orderType, quantity, price);
+        if (ticker.equals(DEFAULT_TICKER)) {
+            return String.format("%s %d @ $%s", orderType, quantity, price);
+        }
+        return String.format("%s %d %s @ $%s", orderType, quantity, ticker, price);
     }
 
     @Override
@@ -162,13 +247,14 @@ public class Order {
         }
         Order otherOrder = (Order) other;
         return orderType == otherOrder.orderType
-                && price.equals(otherOrder.price)
+                && ticker.equals(otherOrder.ticker)
+                && priceInCents == otherOrder.priceInCents
                 && quantity == otherOrder.quantity;
     }
 
     @Override
     public int hashCode() {
-        return orderType.hashCode() ^ price.hashCode() ^ quantity;
+        return orderType.hashCode() ^ ticker.hashCode() ^ Long.hashCode(priceInCents) ^ quantity;
     }
 
     /**
@@ -184,7 +270,7 @@ public class Order {
     public int compareTo(Order other, String criteria) {
         requireAllNonNull(other, criteria);
         return switch (criteria) {
-        case "price" -> Double.compare(getPrice(), other.getPrice());
+        case "price" -> Long.compare(priceInCents, other.priceInCents);
         case "amount" -> Integer.compare(getQuantity(), other.getQuantity());
         default -> 0;
         };
@@ -0,0 +1,95 @@
+package seedu.finclient.model.order;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+
+/**
+ * An order book that aggregates live BUY and SELL quantity by limit price.
+ *
+ * Levels are kept in a {@link PriceLevelTree} that also sums the quantity on each side, so adding or removing an
+ * order, and finding the indicative price after a change, each cost O(log P) where P is the number of distinct
+ * prices. The indicative price is cached, so reading it again before the book changes is O(1).
+ *
+ * Ignores HIDDEN and NONE orders, so callers may pass any order without filtering first.
+ */
+public class OrderBook {
+
+    private final PriceLevelTree levels = new PriceLevelTree();
+
+    // null whenever the book has changed since the indicative price was last computed
+    private IndicativePrice cachedIndicativePrice = IndicativePrice.NO_MATCH;
+
+    /**
+     * Adds the quantity of {@code order} to its price level.
+     */
+    public void add(Order order) {
+        requireNonNull(order);
+        if (!isBookable(order)) {
+            return;
+        }
+
+        if (order.getOrderType() == Order.OrderType.BUY) {
+            levels.add(order.getPriceInCents(), order.getQuantity(), 0);
+        } else {
+            levels.add(order.getPriceInCents(), 0, order.getQuantity());
+        }
+        cachedIndicativePrice = null;
+    }
+
+    /**
+     * Removes the quantity of {@code order} from its price level.
+     * {@code order} must have been added to this book before.
+     */
+    public void remove(Order order) {
+        requireNonNull(order);
+        if (!isBookable(order)) {
+            return;
+        }
+
+        if (order.getOrderType() == Order.OrderType.BUY) {
+            levels.add(order.getPriceInCents(), -order.getQuantity(), 0);
+        } else {
+            levels.add(order.getPriceInCents(), 0, -order.getQuantity());
+        }
+        cachedIndicativePrice = null;
+    }
+
+    /**
+     * Removes every order from the book.
+     */
+    public void clear() {
+        levels.clear();
+        cachedIndicativePrice = IndicativePrice.NO_MATCH;
+    }
+
+    /**
+     * Returns the number of distinct prices that currently have resting quantity.
+     */
+    public int getLevelCount() {
+        return levels.size();
+    }
+
+    /**
+     * Returns the clearing price of the orders currently in the book, with the same rules as
+     * {@link PriceLevelAuction}, or empty if no match is possible.
+     */
+    public Optional<Double> getClearingPrice() {
+        return getIndicativePrice().getPrice();
+    }
+
+    /**
+     * Returns the clearing price of the orders currently in the book together with the volume that would trade
+     * at it, or {@link IndicativePrice#NO_MATCH} if no match is possible.
+     */
+    public IndicativePrice getIndicativePrice() {
+        if (cachedIndicativePrice == null) {
+            cachedIndicativePrice = levels.getIndicativePrice();
+        }
+        return cachedIndicativePrice;
+    }
+
+    private static boolean isBookable(Order order) {
+        return order.getOrderType() == Order.OrderType.BUY || order.getOrderType() == Order.OrderType.SELL;
+    }
+}
@@ -0,0 +1,142 @@
+package seedu.finclient.model.order;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * One {@link OrderBook} per instrument, keyed by ticker.
+ *
+ * Orders are routed to the book of their {@link Order#getTicker()}, and books are dropped once their last
+ * order is removed, so {@link #getTickers()} only lists instruments with resting orders.
+ *
+ * Every book caches its own clearing price, so {@link #getClearingPrices()} only re-runs the auction for
+ * instruments whose book changed.
+ *
+ * Separately, the registry remembers which instruments changed since {@link #pollIndicativePriceChanges()} was
+ * last called, so that indicative prices can be published for those instruments only.
+ */
+public class OrderBookRegistry {
+
+    private final Map<String, OrderBook> books = new HashMap<>();
+    private final Set<String> changedTickers = new HashSet<>();
+
+    /**
+     * Adds {@code order} to the book of its instrument. HIDDEN and NONE orders are ignored.
+     */
+    public void add(Order order) {
+        requireNonNull(order);
+        if (!isBookable(order)) {
+            return;
+        }
+
+        OrderBook book = books.computeIfAbsent(order.getTicker(), unused -> new OrderBook());
+        book.add(order);
+        changedTickers.add(order.getTicker());
+    }
+
+    /**
+     * Removes {@code order} from the book of its instrument.
+     * {@code order} must have been added to this registry before.
+     */
+    public void remove(Order order) {
+        requireNonNull(order);
+        if (!isBookable(order)) {
+            return;
+        }
+
+        OrderBook book = books.get(order.getTicker());
+        assert book != null : "Removing an order for an instrument that has no book";
+        book.remove(order);
+        if (book.getLevelCount() == 0) {
+            books.remove(order.getTicker());
+        }
+        changedTickers.add(order.getTicker());
+    }
+
+    /**
+     * Removes every book.
+     */
+    public void clear() {
+        changedTickers.addAll(books.keySet());
+        books.clear();
+    }
+
+    /**
+     * Returns the tickers of the instruments that currently have resting orders, in alphabetical order.
+     */
+    public SortedSet<String> getTickers() {
+        return Collections.unmodifiableSortedSet(new TreeSet<>(books.keySet()));
+    }
+
+    /**
+     * Returns the clearing price of the instrument {@code ticker}, or empty if it has no book or no match
+     * is possible.
+     */
+    public Optional<Double> getClearingPrice(String ticker) {
+        return getIndicativePrice(ticker).getPrice();
+    }
+
+    /**
+     * Returns the clearing price of every instrument with resting orders, keyed by ticker in alphabetical order.
+     */
+    public Map<String, Optional<Double>> getClearingPrices() {
+        Map<String, Optional<Double>> clearingPrices = new TreeMap<>();
+        getIndicativePrices().forEach((ticker, price) -> clearingPrices.put(ticker, price.getPrice()));
+        return clearingPrices;
+    }
+
+    /**
+     * Returns the indicative price of the instrument {@code ticker}, or {@link IndicativePrice#NO_MATCH} if it has
+     * no book or no match is possible.
+     */
+    public IndicativePrice getIndicativePrice(String ticker) {
+        requireNonNull(ticker);
+        OrderBook book = books.get(ticker);
+        if (book == null) {
+            return IndicativePrice.NO_MATCH;
+        }
+        return book.getIndicativePrice();
+    }
+
+    /**
+     * Returns the indicative price of every instrument with resting orders, keyed by ticker in alphabetical order.
+     * Only the books that changed since they were last read re-run the auction.
+     */
+    public SortedMap<String, IndicativePrice> getIndicativePrices() {
+        SortedMap<String, IndicativePrice> indicativePrices = new TreeMap<>();
+        books.forEach((ticker, book) -> indicativePrices.put(ticker, book.getIndicativePrice()));
+        return indicativePrices;
+    }
+
+    /**
+     * Returns the indicative price of every instrument whose book changed since the last call, keyed by ticker,
+     * and forgets those changes. Instruments whose book was dropped map to {@link IndicativePrice#NO_MATCH}.
+     */
+    public Map<String, IndicativePrice> pollIndicativePriceChanges() {
+        Map<String, IndicativePrice> changes = new HashMap<>();
+        changedTickers.forEach(ticker -> changes.put(ticker, getIndicativePrice(ticker)));
+        changedTickers.clear();
+        return changes;
+    }
+
+    /**
+     * Returns the number of instruments that currently have resting orders.
+     */
+    public int size() {
+        return books.size();
+    }
+
+    private static boolean isBookable(Order order) {
+        return order.getOrderType() == Order.OrderType.BUY || order.getOrderType() == Order.OrderType.SELL;
+    }
+}
@@ -0,0 +1,260 @@
+package seedu.finclient.model.order;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+
+/**
+ * A reusable, allocation-free call auction over primitive price levels.
+ *
+ * Orders are added as (side, price in cents, quantity) into buffers owned by this object, and
+ * {@link #run()} computes the clearing price with the same rules as {@link CallAuctionCalculator}.
+ * The buffers only grow when a larger book than any seen before is added, so repeated auctions of
+ * similar size through {@link #clear()}, {@code addOrder} and {@code run()} create no garbage.
+ *
+ * Results are exposed as primitives through the getters below. Not thread-safe: use one instance per thread.
+ */
+public class PriceLevelAuction {
+
+    private static final int RADIX_BITS = 11;
+    private static final int RADIX_MASK = (1 << RADIX_BITS) - 1;
+
+    // Orders as added, in arrival order
+    private long[] orderPrices;
+    private long[] orderQuantities;
+    private boolean[] orderIsBuy;
+    private int orderCount;
+
+    // Distinct prices in ascending order with the total quantity on each side
+    private long[] levelPrices;
+    private long[] levelBuys;
+    private long[] levelSells;
+    private int levelCount;
+
+    // Scratch space for sorting
+    private long[] sortBuffer;
+    private final int[] radixCounts = new int[RADIX_MASK + 1];
+
+    // Outcome of the last run()
+    private boolean hasClearingPrice;
+    private long clearingPriceInCents;
+    private long matchedVolume;
+    private long demandAtClearingPrice;
+    private long supplyAtClearingPrice;
+
+    /**
+     * Creates an auction with room for {@code initialCapacity} orders before any buffer has to grow.
+     */
+    public PriceLevelAuction(int initialCapacity) {
+        int capacity = Math.max(1, initialCapacity);
+        orderPrices = new long[capacity];
+        orderQuantities = new long[capacity];
+        orderIsBuy = new boolean[capacity];
+        levelPrices = new long[capacity];
+        levelBuys = new long[capacity];
+        levelSells = new long[capacity];
+        sortBuffer = new long[capacity];
+    }
+
+    public PriceLevelAuction() {
+        this(16);
+    }
+
+    /**
+     * Removes all orders and the outcome of the last run, keeping the buffers for reuse.
+     */
+    public void clear() {
+        orderCount = 0;
+        levelCount = 0;
+        hasClearingPrice = false;
+    }
+
+    /**
+     * Adds {@code order} to the auction. HIDDEN and NONE orders are ignored.
+     */
+    public void addOrder(Order order) {
+        requireNonNull(order);
+        if (order.getOrderType() == Order.OrderType.BUY) {
+            addOrder(true, order.getPriceInCents(), order.getQuantity());
+        } else if (order.getOrderType() == Order.OrderType.SELL) {
+            addOrder(false, order.getPriceInCents(), order.getQuantity());
+        }
+    }
+
+    /**
+     * Adds a BUY ({@code isBuy}) or SELL of {@code quantity} limited at {@code priceInCents}.
+     * Quantities at the same price and side may be aggregated by the caller or added separately.
+     */
+    public void addOrder(boolean isBuy, long priceInCents, long quantity) {
+        assert priceInCents >= 0 && quantity >= 0;
+        if (orderCount == orderPrices.length) {
+            growTo(orderCount * 2);
+        }
+        orderPrices[orderCount] = priceInCents;
+        orderQuantities[orderCount] = quantity;
+        orderIsBuy[orderCount] = isBuy;
+        orderCount++;
+    }
+
+    public int getOrderCount() {
+        return orderCount;
+    }
+
+    /**
+     * Runs the call auction over the orders added since the last {@link #clear()}.
+     * Returns true if a clearing price exists, i.e. there is at least one BUY and one SELL.
+     */
+    public boolean run() {
+        buildLevels();
+
+        long totalDemand = 0;
+        long totalSupply = 0;
+        for (int i = 0; i < levelCount; i++) {
+            totalDemand += levelBuys[i];
+            totalSupply += levelSells[i];
+        }
+
+        // If we have no buys or no sells, we can't match anything
+        hasClearingPrice = totalDemand > 0 && totalSupply > 0;
+        if (!hasClearingPrice) {
+            return false;
+        }
+
+        // Demand(p) = totalDemand - (buys strictly below p); Supply(p) = sells at or below p.
+        long demand = totalDemand;
+        long supply = 0;
+        long bestLeftover = Long.MAX_VALUE;
+        matchedVolume = -1;
+        for (int i = 0; i < levelCount; i++) {
+            supply += levelSells[i];
+
+            long matched = Math.min(demand, supply);
+            long leftover = Math.abs(demand - supply);
+            // Prices are visited in ascending order, so only a strict improvement moves the result;
+            // this leaves the lowest price in place when volume and leftover are both tied.
+            if (matched > matchedVolume || (matched == matchedVolume && leftover < bestLeftover)) {
+                matchedVolume = matched;
+                bestLeftover = leftover;
+                clearingPriceInCents = levelPrices[i];
+                demandAtClearingPrice = demand;
+                supplyAtClearingPrice = supply;
+            }
+
+            // Buys limited at exactly this price no longer count towards demand at any higher price
+            demand -= levelBuys[i];
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if the last {@link #run()} found a clearing price.
+     */
+    public boolean hasClearingPrice() {
+        return hasClearingPrice;
+    }
+
+    public long getClearingPriceInCents() {
+        assert hasClearingPrice;
+        return clearingPriceInCents;
+    }
+
+    /**
+     * Returns the quantity that executes at the clearing price, i.e. min(demand, supply).
+     */
+    public long getMatchedVolume() {
+        assert hasClearingPrice;
+        return matchedVolume;
+    }
+
+    /**
+     * Returns demand minus supply at the clearing price.
+     * Positive values are unfilled BUY quantity, negative values unfilled SELL quantity.
+     */
+    public long getImbalance() {
+        assert hasClearingPrice;
+        return demandAtClearingPrice - supplyAtClearingPrice;
+    }
+
+    public long getDemandAtClearingPrice() {
+        assert hasClearingPrice;
+        return demandAtClearingPrice;
+    }
+
+    public long getSupplyAtClearingPrice() {
+        assert hasClearingPrice;
+        return supplyAtClearingPrice;
+    }
+
+    /**
+     * Collapses the added orders into {@code levelCount} ascending, distinct price levels.
+     */
+    private void buildLevels() {
+        System.arraycopy(orderPrices, 0, levelPrices, 0, orderCount);
+        sortLevelPrices(orderCount);
+
+        levelCount = 0;
+        for (int i = 0; i < orderCount; i++) {
+            if (levelCount == 0 || levelPrices[levelCount - 1] != levelPrices[i]) {
+                levelPrices[levelCount++] = levelPrices[i];
+            }
+        }
+
+        Arrays.fill(levelBuys, 0, levelCount, 0);
+        Arrays.fill(levelSells, 0, levelCount, 0);
+        for (int i = 0; i < orderCount; i++) {
+            int level = Arrays.binarySearch(levelPrices, 0, levelCount, orderPrices[i]);
+            if (orderIsBuy[i]) {
+                levelBuys[level] += orderQuantities[i];
+            } else {
+                levelSells[level] += orderQuantities[i];
+            }
+        }
+    }
+
+    /**
+     * Sorts the first {@code n} entries of {@code levelPrices} with an LSD radix sort through
+     * {@code sortBuffer}. Unlike {@code Arrays.sort}, this never allocates, even for presorted input.
+     * Prices are non-negative, so only as many digits as the largest price needs are processed.
+     */
+    private void sortLevelPrices(int n) {
+        long max = 0;
+        for (int i = 0; i < n; i++) {
+            max = Math.max(max, levelPrices[i]);
+        }
+
+        long[] src = levelPrices;
+        long[] dst = sortBuffer;
+        for (int shift = 0; shift < Long.SIZE && (max >>> shift) != 0; shift += RADIX_BITS) {
+            Arrays.fill(radixCounts, 0);
+            for (int i = 0; i < n; i++) {
+                radixCounts[(int) ((src[i] >>> shift) & RADIX_MASK)]++;
+            }
+            int position = 0;
+            for (int digit = 0; digit <= RADIX_MASK; digit++) {
+                int count = radixCounts[digit];
+                radixCounts[digit] = position;
+                position += count;
+            }
+            for (int i = 0; i < n; i++) {
+                dst[radixCounts[(int) ((src[i] >>> shift) & RADIX_MASK)]++] = src[i];
+            }
+            long[] swap = src;
+            src = dst;
+            dst = swap;
+        }
+
+        if (src != levelPrices) {
+            System.arraycopy(src, 0, levelPrices, 0, n);
+        }
+    }
+
+    private void growTo(int capacity) {
+        orderPrices = Arrays.copyOf(orderPrices, capacity);
+        orderQuantities = Arrays.copyOf(orderQuantities, capacity);
+        orderIsBuy = Arrays.copyOf(orderIsBuy, capacity);
+        levelPrices = new long[capacity];
+        levelBuys = new long[capacity];
+        levelSells = new long[capacity];
+        sortBuffer = new long[capacity];
+    }
+}
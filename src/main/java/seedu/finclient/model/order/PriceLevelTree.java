@@ -0,0 +1,228 @@
+package seedu.finclient.model.order;
+
+import java.util.Random;
+
+/**
+ * The price levels of an {@link OrderBook}, kept in a treap ordered by price in which every node also holds the
+ * BUY and SELL quantity of its whole subtree.
+ *
+ * Changing the quantity at a price costs O(log P) expected time, where P is the number of distinct prices. Those
+ * subtree sums give the quantity at or below any price on the way down the tree, so the call auction run by
+ * {@link PriceLevelAuction} can be uncrossed in O(log P) as well, by two searches instead of a sweep of all levels.
+ *
+ * Not thread-safe.
+ */
+class PriceLevelTree {
+
+    /**
+     * A test on the supply at or below a level and the demand at or above it, which is false below some level
+     * and true from it on.
+     */
+    @FunctionalInterface
+    private interface LevelTest {
+        boolean test(long supply, long demand);
+    }
+
+    private static class Node {
+        private final long price;
+        private final int priority;
+        private long buyQuantity;
+        private long sellQuantity;
+        private long subtreeBuyQuantity;
+        private long subtreeSellQuantity;
+        private Node left;
+        private Node right;
+
+        Node(long price, int priority) {
+            this.price = price;
+            this.priority = priority;
+        }
+    }
+
+    private final Random random = new Random();
+    private Node root;
+    private int size;
+
+    // Outputs of split()
+    private Node splitLeft;
+    private Node splitRight;
+
+    // Outputs of search(): the lowest level that passes the test and the highest that fails it, if any
+    private boolean hasPassingLevel;
+    private long passingPrice;
+    private long passingSupply;
+    private long passingDemand;
+    private boolean hasFailingLevel;
+    private long failingSupply;
+    private long failingDemand;
+
+    /**
+     * Adds {@code buyDelta} and {@code sellDelta}, either of which may be negative, to the quantities resting at
+     * {@code priceInCents}. The level is created if it is missing, and dropped once both of its quantities are 0.
+     */
+    void add(long priceInCents, long buyDelta, long sellDelta) {
+        split(root, priceInCents, false);
+        Node below = splitLeft;
+        split(splitRight, priceInCents, true);
+        Node level = splitLeft;
+        Node above = splitRight;
+
+        if (level == null) {
+            level = new Node(priceInCents, random.nextInt());
+            size++;
+        }
+        level.buyQuantity += buyDelta;
+        level.sellQuantity += sellDelta;
+        assert level.buyQuantity >= 0 && level.sellQuantity >= 0 : "Removing more than rests at a price";
+        if (level.buyQuantity == 0 && level.sellQuantity == 0) {
+            level = null;
+            size--;
+        } else {
+            update(level);
+        }
+
+        root = merge(merge(below, level), above);
+    }
+
+    /**
+     * Removes every level.
+     */
+    void clear() {
+        root = null;
+        size = 0;
+    }
+
+    /**
+     * Returns the number of prices that have resting quantity.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the outcome of the call auction over the levels, with the same rules and tie-breaks as
+     * {@link PriceLevelAuction#run()}.
+     *
+     * Supply at or below a price only grows with the price, and demand at or above it only shrinks, so the
+     * traded volume, min(demand, supply), peaks either at the lowest level where supply catches up with demand
+     * or at the level just below it. Those two candidates are found by searching the tree, as is the lowest level
+     * below the crossing that ties with the second on both volume and imbalance.
+     */
+    IndicativePrice getIndicativePrice() {
+        if (subtreeBuyQuantity(root) == 0 || subtreeSellQuantity(root) == 0) {
+            return IndicativePrice.NO_MATCH;
+        }
+
+        search((supply, demand) -> supply >= demand);
+        IndicativePrice atCrossing = hasPassingLevel
+                ? IndicativePrice.of(passingPrice, passingDemand, passingDemand - passingSupply)
+                : null;
+        if (!hasFailingLevel) {
+            return atCrossing;
+        }
+
+        long supplyBelow = failingSupply;
+        long demandBelow = failingDemand;
+        search((supply, demand) -> supply >= supplyBelow && demand <= demandBelow);
+        assert hasPassingLevel && passingSupply == supplyBelow && passingDemand == demandBelow;
+        IndicativePrice belowCrossing = IndicativePrice.of(passingPrice, supplyBelow, demandBelow - supplyBelow);
+
+        if (atCrossing == null
+                || belowCrossing.getMatchedVolume() > atCrossing.getMatchedVolume()
+                || (belowCrossing.getMatchedVolume() == atCrossing.getMatchedVolume()
+                        && Math.abs(belowCrossing.getImbalance()) <= Math.abs(atCrossing.getImbalance()))) {
+            return belowCrossing;
+        }
+        return atCrossing;
+    }
+
+    /**
+     * Finds the lowest level that passes {@code levelTest} and the highest level that fails it.
+     */
+    private void search(LevelTest levelTest) {
+        long totalBuyQuantity = subtreeBuyQuantity(root);
+        long sellsBefore = 0;
+        long buysBefore = 0;
+        hasPassingLevel = false;
+        hasFailingLevel = false;
+
+        Node node = root;
+        while (node != null) {
+            long supply = sellsBefore + subtreeSellQuantity(node.left) + node.sellQuantity;
+            long buysBelow = buysBefore + subtreeBuyQuantity(node.left);
+            long demand = totalBuyQuantity - buysBelow;
+            if (levelTest.test(supply, demand)) {
+                hasPassingLevel = true;
+                passingPrice = node.price;
+                passingSupply = supply;
+                passingDemand = demand;
+                node = node.left;
+            } else {
+                hasFailingLevel = true;
+                failingSupply = supply;
+                failingDemand = demand;
+                sellsBefore = supply;
+                buysBefore = buysBelow + node.buyQuantity;
+                node = node.right;
+            }
+        }
+    }
+
+    /**
+     * Splits the tree at {@code node} into {@link #splitLeft}, which holds the prices below {@code price} (and
+     * {@code price} itself if {@code isEqualLeft}), and {@link #splitRight}, which holds the rest.
+     */
+    private void split(Node node, long price, boolean isEqualLeft) {
+        if (node == null) {
+            splitLeft = null;
+            splitRight = null;
+            return;
+        }
+
+        if (node.price < price || (isEqualLeft && node.price == price)) {
+            split(node.right, price, isEqualLeft);
+            node.right = splitLeft;
+            splitLeft = node;
+        } else {
+            split(node.left, price, isEqualLeft);
+            node.left = splitRight;
+            splitRight = node;
+        }
+        update(node);
+    }
+
+    /**
+     * Joins {@code lower} and {@code higher}, all of whose prices are above those in {@code lower}.
+     */
+    private static Node merge(Node lower, Node higher) {
+        if (lower == null) {
+            return higher;
+        }
+        if (higher == null) {
+            return lower;
+        }
+
+        if (lower.priority > higher.priority) {
+            lower.right = merge(lower.right, higher);
+            update(lower);
+            return lower;
+        }
+        higher.left = merge(lower, higher.left);
+        update(higher);
+        return higher;
+    }
+
+    private static void update(Node node) {
+        node.subtreeBuyQuantity = subtreeBuyQuantity(node.left) + node.buyQuantity + subtreeBuyQuantity(node.right);
+        node.subtreeSellQuantity = subtreeSellQuantity(node.left) + node.sellQuantity
+                + subtreeSellQuantity(node.right);
+    }
+
+    private static long subtreeBuyQuantity(Node node) {
+        return node == null ? 0 : node.subtreeBuyQuantity;
+    }
+
+    private static long subtreeSellQuantity(Node node) {
+        return node == null ? 0 : node.subtreeSellQuantity;
+    }
+}
@@ -0,0 +1,100 @@
+package seedu.finclient.model.order;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+
+import seedu.finclient.commons.util.ToStringBuilder;
+
+/**
+ * An execution between a BUY and a SELL order of the same instrument, identified by their order ids.
+ * Guarantees: immutable.
+ */
+public class Trade {
+
+    private final String ticker;
+    private final long buyOrderId;
+    private final long sellOrderId;
+    private final long priceInCents;
+    private final int quantity;
+
+    /**
+     * Every field must be present and valid.
+     */
+    public Trade(String ticker, long buyOrderId, long sellOrderId, long priceInCents, int quantity) {
+        requireNonNull(ticker);
+        assert priceInCents >= 0 && quantity > 0;
+        this.ticker = ticker;
+        this.buyOrderId = buyOrderId;
+        this.sellOrderId = sellOrderId;
+        this.priceInCents = priceInCents;
+        this.quantity = quantity;
+    }
+
+    public String getTicker() {
+        return ticker;
+    }
+
+    public long getBuyOrderId() {
+        return buyOrderId;
+    }
+
+    public long getSellOrderId() {
+        return sellOrderId;
+    }
+
+    /**
+     * Returns the id of the order on the other side of {@code orderId}, which must be one of the two orders.
+     */
+    public long getCounterpartyOrderId(long orderId) {
+        assert orderId == buyOrderId || orderId == sellOrderId;
+        return orderId == buyOrderId ? sellOrderId : buyOrderId;
+    }
+
+    public double getPrice() {
+        return CallAuctionCalculator.toPrice(priceInCents);
+    }
+
+    public long getPriceInCents() {
+        return priceInCents;
+    }
+
+    public int getQuantity() {
+        return quantity;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof Trade)) {
+            return false;
+        }
+
+        Trade otherTrade = (Trade) other;
+        return ticker.equals(otherTrade.ticker)
+                && buyOrderId == otherTrade.buyOrderId
+                && sellOrderId == otherTrade.sellOrderId
+                && priceInCents == otherTrade.priceInCents
+                && quantity == otherTrade.quantity;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(ticker, buyOrderId, sellOrderId, priceInCents, quantity);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("ticker", ticker)
+                .add("buyOrderId", buyOrderId)
+                .add("sellOrderId", sellOrderId)
+                .add("price", getPrice())
+                .add("quantity", quantity)
+                .toString();
+    }
+}
@@ -0,0 +1,131 @@
+package seedu.finclient.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * An inverted index from each lowercase word of a name to the persons whose name contains that word.
+ *
+ * Persons are held by identity, so two persons that are equal but distinct instances are indexed separately.
+ * The index must be told of every person that is added or removed, before any listener of the person list
+ * sees the change, which it is when it listens to the list.
+ */
+public class NameTokenIndex implements PersonListListener {
+
+    private final Map<String, Set<Person>> postings = new HashMap<>();
+    // Bumped on every change, so that matchers know to rebuild their matches
+    private long version = 0;
+
+    /**
+     * Indexes {@code person} under every word of its name.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        for (String token : tokenize(person.getName().fullName)) {
+            postings.computeIfAbsent(token, unused -> Collections.newSetFromMap(new IdentityHashMap<>()))
+                    .add(person);
+        }
+        version++;
+    }
+
+    /**
+     * Removes {@code person}, which must have been added before, from the index.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        for (String token : tokenize(person.getName().fullName)) {
+            Set<Person> posting = postings.get(token);
+            assert posting != null && posting.contains(person) : "Removing a person that is not indexed";
+            posting.remove(person);
+            if (posting.isEmpty()) {
+                postings.remove(token);
+            }
+        }
+        version++;
+    }
+
+    public void clear() {
+        postings.clear();
+        version++;
+    }
+
+    @Override
+    public void personAdded(long personId, Person person) {
+        add(person);
+    }
+
+    @Override
+    public void personReplaced(long personId, Person target, Person person) {
+        if (target != person) {
+            remove(target);
+            add(person);
+        }
+    }
+
+    @Override
+    public void personRemoved(long personId, Person person) {
+        remove(person);
+    }
+
+    @Override
+    public void personsReset(List<Long> personIds, List<Person> persons) {
+        clear();
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Returns the persons whose name contains any of {@code keywords} as a whole word, ignoring case,
+     * as the union of the keywords' postings.
+     */
+    public Set<Person> find(Collection<String> keywords) {
+        requireNonNull(keywords);
+        Set<Person> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (String keyword : keywords) {
+            matches.addAll(postings.getOrDefault(normalize(keyword), Collections.emptySet()));
+        }
+        return matches;
+    }
+
+    /**
+     * Returns a predicate that accepts the persons whose name contains any of {@code keywords}, for use as the
+     * filter of a list of the indexed persons. The matches are looked up once, and again only after the index
+     * changes, so each test is a single hash lookup.
+     */
+    public Predicate<Person> matchingAnyOf(List<String> keywords) {
+        requireNonNull(keywords);
+        List<String> keywordsCopy = List.copyOf(keywords);
+        return new Predicate<>() {
+            private long matchesVersion = -1;
+            private Set<Person> matches;
+
+            @Override
+            public boolean test(Person person) {
+                if (matchesVersion != version) {
+                    matches = find(keywordsCopy);
+                    matchesVersion = version;
+                }
+                return matches.contains(person);
+            }
+        };
+    }
+
+    private static Set<String> tokenize(String fullName) {
+        // A word may appear more than once in a name, but is indexed once
+        return new HashSet<>(Arrays.asList(fullName.toLowerCase(Locale.ROOT).split("\\s+")));
+    }
+
+    private static String normalize(String keyword) {
+        return keyword.trim().toLowerCase(Locale.ROOT);
+    }
+}
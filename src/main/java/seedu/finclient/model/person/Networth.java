@@ -4,7 +4,9 @@ import static java.util.Objects.requireNonNull;
 import static seedu.finclient.commons.util.AppUtil.checkArgument;
 
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.logging.Logger;
 
 import seedu.finclient.commons.core.LogsCenter;
@@ -12,14 +14,79 @@ import seedu.finclient.commons.core.LogsCenter;
 /**
  * Represents a Person's networth in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidNetworth(String)}
+ *
+ * A networth is only ever one of a few brackets, so {@link #of(String)} hands out one shared instance per bracket.
  */
 public class Networth {
     public static final String MESSAGE_CONSTRAINTS =
             "Networth can take any positive values, and it should not be blank";
     public static final String VALIDATION_REGEX = "[^\\s].*";
 
+    /** The networth brackets, from the lowest to the highest. */
+    public static final List<String> BRACKETS = Arrays.stream(Bracket.values()).map(Bracket::getLabel).toList();
+    /** The lowest networth in each of {@link #BRACKETS}. */
+    public static final List<Long> BRACKET_LOWER_BOUNDS =
+            Arrays.stream(Bracket.values()).map(Bracket::getLowerBound).toList();
+
+    public static final Networth EMPTY = new Networth();
+    public static final Networth HIDDEN = new Networth("Hidden", null);
+
+    private static final Logger logger = LogsCenter.getLogger(Networth.class);
+
+    // The shared instance of every bracket and special input
+    private static final Map<String, Networth> canonicalNetworths = new HashMap<>();
+
+    static {
+        for (Bracket bracket : Bracket.values()) {
+            canonicalNetworths.put(bracket.getLabel(), new Networth(bracket.getLabel(), bracket));
+        }
+        canonicalNetworths.put(HIDDEN.value, HIDDEN);
+        canonicalNetworths.put("delete", new Networth("delete", null));
+    }
+
     public final String value;
-    private final Logger logger = LogsCenter.getLogger(getClass());
+    private final Bracket bracket;
+
+    /**
+     * The brackets that a networth falls in, from the lowest to the highest.
+     */
+    public enum Bracket {
+        BELOW_100K("< $100k", 0),
+        FROM_100K("$100k - $250k", 100000),
+        FROM_250K("$250k - $500k", 250000),
+        FROM_500K("$500k - $1 million", 500000),
+        FROM_1_MILLION("$1 million - $5 million", 1000000),
+        ABOVE_5_MILLION("> $5 million", 5000000);
+
+        private final String label;
+        private final long lowerBound;
+
+        Bracket(String label, long lowerBound) {
+            this.label = label;
+            this.lowerBound = lowerBound;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+
+        public long getLowerBound() {
+            return lowerBound;
+        }
+
+        /**
+         * Returns the bracket that {@code amount} falls in. Amounts below every bracket fall in the lowest.
+         */
+        public static Bracket of(long amount) {
+            Bracket[] brackets = values();
+            for (int i = brackets.length - 1; i > 0; i--) {
+                if (amount >= brackets[i].lowerBound) {
+                    return brackets[i];
+                }
+            }
+            return brackets[0];
+        }
+    }
 
     /**
      * Constructs an {@code Networth}.
@@ -36,10 +103,32 @@ public class Networth {
             logger.info("Networth inputted is a number: " + networthAmount);
             value = getNetworthBracket(networthAmount);
         }
+        bracket = bracketOf(value);
     }
 
     public Networth() {
         value = "";
+        bracket = null;
+    }
+
+    private Networth(String value, Bracket bracket) {
+        this.value = value;
+        this.bracket = bracket;
+    }
+
+    /**
+     * Returns the shared {@code Networth} of {@code networthAmount}.
+     *
+     * @param networthAmount A valid networth amount, either in number or the bracket name.
+     */
+    public static Networth of(String networthAmount) {
+        requireNonNull(networthAmount);
+        Networth networth = canonicalNetworths.get(networthAmount);
+        if (networth != null) {
+            return networth;
+        }
+        checkArgument(isValidNetworth(networthAmount), MESSAGE_CONSTRAINTS);
+        return canonicalNetworths.get(Bracket.of(Integer.parseInt(networthAmount)).getLabel());
     }
 
     /**
@@ -56,12 +145,7 @@ public class Networth {
      * @return true if it's the bracket name or a special name.
      */
     public static boolean isBracket(String test) {
-        return test.equals("< $100k")
-                || test.equals("$100k - $250k")
-                || test.equals("$250k - $500k")
-                || test.equals("$500k - $1 million")
-                || test.equals("$1 million - $5 million")
-                || test.equals("> $5 million")
+        return BRACKETS.contains(test)
                 || test.equals("Hidden")
                 || test.equals("delete");
     }
@@ -73,20 +157,14 @@ public class Networth {
      * @return String of the bucket they belong in
      */
     public String getNetworthBracket(String networthAmount) {
-        int networth = Integer.parseInt(networthAmount);
-        if (networth < 100000) {
-            return "< $100k";
-        } else if (networth >= 100000 && networth < 250000) {
-            return "$100k - $250k";
-        } else if (networth >= 250000 && networth < 500000) {
-            return "$250k - $500k";
-        } else if (networth >= 500000 && networth < 1000000) {
-            return "$500k - $1 million";
-        } else if (networth >= 1000000 && networth < 5000000) {
-            return "$1 million - $5 million";
-        } else {
-            return "> $5 million";
-        }
+        return Bracket.of(Integer.parseInt(networthAmount)).getLabel();
+    }
+
+    private static Bracket bracketOf(String value) {
+        return Arrays.stream(Bracket.values())
+                .filter(bracket -> bracket.getLabel().equals(value))
+                .findFirst()
+                .orElse(null);
     }
 
     @Override
@@ -115,13 +193,18 @@ public class Networth {
     }
 
 
+    /**
+     * Returns the position of this networth's bracket in {@link #BRACKETS}, or -1 if it is empty or hidden.
+     */
+    public int getBracketIndex() {
+        return bracket == null ? -1 : bracket.ordinal();
+    }
+
     /**
      * Compares this networth with another networth.
      */
     public int compareTo(Networth other) {
-        List<String> order = Arrays.asList("< $100k", "$100k - $250k", "$250k - $500k", "$500k - $1 million",
-                "$1 million - $5 million", "> $5 million");
         requireNonNull(other);
-        return Integer.compare(order.indexOf(this.value), order.indexOf(other.value));
+        return Integer.compare(getBracketIndex(), other.getBracketIndex());
     }
 }
@@ -0,0 +1,191 @@
+package seedu.finclient.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.finclient.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import seedu.finclient.model.order.Order;
+
+/**
+ * Represents the working orders of a person, each under a stable order id, in the order they were placed.
+ *
+ * Order ids are handed out by the {@code UniquePersonList} that holds the person, so they are unique within it and
+ * grow with time priority. An order a person is created with has no id. A list that the person is added to numbers
+ * the orders of the copy of the person it keeps. Until then the order is shown after the numbered orders.
+ *
+ * Only BUY and SELL orders are kept; HIDDEN and NONE orders stand for "no order" and are dropped.
+ * Reading is public, but only {@code Person} and {@code UniquePersonList} may change the orders, so that the
+ * order index of the list stays in step.
+ */
+public class OrderList {
+
+    public static final String MESSAGE_CONSTRAINTS = "Order ids should be positive and unique";
+
+    private final LinkedHashMap<Long, Order> orders = new LinkedHashMap<>();
+    // Orders that no list has given an id yet, in the order they were added
+    private final List<Order> unnumberedOrders = new ArrayList<>();
+
+    /**
+     * Constructs an empty OrderList.
+     */
+    public OrderList() {
+    }
+
+    /**
+     * Constructs an OrderList holding {@code order} without an id, or an empty one if {@code order}
+     * is null, HIDDEN or NONE.
+     */
+    public OrderList(Order order) {
+        if (order != null && isWorkingOrder(order)) {
+            unnumberedOrders.add(order);
+        }
+    }
+
+    /**
+     * Constructs a copy of {@code toCopy}, keeping its order ids.
+     */
+    public OrderList(OrderList toCopy) {
+        requireNonNull(toCopy);
+        orders.putAll(toCopy.orders);
+        unnumberedOrders.addAll(toCopy.unnumberedOrders);
+    }
+
+    /**
+     * Returns true if {@code order} is a working order rather than a placeholder for "no order".
+     */
+    public static boolean isWorkingOrder(Order order) {
+        return order.getOrderType() == Order.OrderType.BUY || order.getOrderType() == Order.OrderType.SELL;
+    }
+
+    /**
+     * Returns true if a given id is a valid order id.
+     */
+    public static boolean isValidOrderId(long test) {
+        return test > 0;
+    }
+
+    /**
+     * Adds {@code order} under {@code orderId}, e.g. when loading from storage or placing a new order.
+     *
+     * @throws IllegalArgumentException if the id is invalid or already in this list.
+     */
+    public void add(long orderId, Order order) {
+        requireNonNull(order);
+        checkArgument(isValidOrderId(orderId) && !orders.containsKey(orderId), MESSAGE_CONSTRAINTS);
+        if (!isWorkingOrder(order)) {
+            return;
+        }
+        orders.put(orderId, order);
+    }
+
+    /**
+     * Gives every order without an id the next id from {@code nextOrderId}, in the order they were added.
+     */
+    void numberOrders(LongSupplier nextOrderId) {
+        for (Order order : unnumberedOrders) {
+            add(nextOrderId.getAsLong(), order);
+        }
+        unnumberedOrders.clear();
+    }
+
+    /**
+     * Moves the order under {@code orderId}, which must be in this list, to {@code newOrderId}, keeping its place.
+     */
+    void renumber(long orderId, long newOrderId) {
+        assert orders.containsKey(orderId) && !orders.containsKey(newOrderId);
+        LinkedHashMap<Long, Order> renumberedOrders = new LinkedHashMap<>();
+        orders.forEach((id, order) -> renumberedOrders.put(id == orderId ? newOrderId : id, order));
+        orders.clear();
+        orders.putAll(renumberedOrders);
+    }
+
+    /**
+     * Replaces the order under {@code orderId}, which must be in this list, and returns the old order.
+     */
+    Order replace(long orderId, Order order) {
+        requireNonNull(order);
+        assert orders.containsKey(orderId);
+        return orders.put(orderId, order);
+    }
+
+    /**
+     * Removes and returns the order under {@code orderId}, which must be in this list.
+     */
+    Order remove(long orderId) {
+        assert orders.containsKey(orderId);
+        return orders.remove(orderId);
+    }
+
+    public boolean contains(long orderId) {
+        return orders.containsKey(orderId);
+    }
+
+    public boolean isEmpty() {
+        return orders.isEmpty() && unnumberedOrders.isEmpty();
+    }
+
+    public int size() {
+        return orders.size() + unnumberedOrders.size();
+    }
+
+    /**
+     * Returns the earliest working order, or a NONE order if there is none.
+     */
+    public Order getFirst() {
+        if (!orders.isEmpty()) {
+            return orders.values().iterator().next();
+        }
+        return unnumberedOrders.isEmpty() ? new Order("NONE") : unnumberedOrders.get(0);
+    }
+
+    /**
+     * Returns an unmodifiable view of the numbered orders keyed by id, in the order they were placed.
+     */
+    public Map<Long, Order> asMap() {
+        return Collections.unmodifiableMap(orders);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof OrderList)) {
+            return false;
+        }
+
+        OrderList otherOrderList = (OrderList) other;
+        return orders.equals(otherOrderList.orders) && unnumberedOrders.equals(otherOrderList.unnumberedOrders);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(orders, unnumberedOrders);
+    }
+
+    /**
+     * Formats the orders as "#1 BUY 10 @ $5.50, #2 SELL 5 @ $6.00", with orders without an id last and
+     * without a number, or "NONE" if there are none.
+     */
+    @Override
+    public String toString() {
+        if (isEmpty()) {
+            return "NONE";
+        }
+        return Stream.concat(
+                orders.entrySet().stream().map(entry -> "#" + entry.getKey() + " " + entry.getValue()),
+                unnumberedOrders.stream().map(Order::toString))
+                .collect(Collectors.joining(", "));
+    }
+}
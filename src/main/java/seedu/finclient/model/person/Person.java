@@ -15,8 +15,10 @@ import seedu.finclient.model.tag.Tag;
 
 /**
  * Represents a Person in the address book.
- * Guarantees: details are present and not null,
- * field values are validated, immutable.
+ * Guarantees: details are present and not null, field values are validated.
+ * The details are immutable. The working orders and the hidden flag are changed in place, but only by the
+ * {@code UniquePersonList} that holds the person. It keeps its own copy of every person added to it (see
+ * {@link #copy()}), so those changes never reach a person held elsewhere.
  */
 public class Person {
 
@@ -27,9 +29,10 @@ public class Person {
 
     // Data fields
     private final Address address;
-    private final Order order;
+    private final OrderList orders;
     private final Remark remark;
     private final Set<Tag> tags = new HashSet<>();
+    private final Set<Tag> unmodifiableTags = Collections.unmodifiableSet(tags);
 
     // Hidden detail flag
     private boolean isHidden = false;
@@ -51,7 +54,7 @@ public class Person {
         this.phoneList = phoneList;
         this.email = email;
         this.address = address;
-        this.order = order;
+        this.orders = new OrderList(order);
         this.remark = remark;
         this.tags.addAll(tags);
 
@@ -73,7 +76,7 @@ public class Person {
         this.phoneList = phoneList;
         this.email = email;
         this.address = address;
-        this.order = order;
+        this.orders = new OrderList(order);
         this.remark = remark;
         this.tags.addAll(tags);
 
@@ -96,7 +99,7 @@ public class Person {
         this.phoneList = phoneList;
         this.email = email;
         this.address = address;
-        this.order = new Order("NONE");
+        this.orders = new OrderList();
         this.remark = remark;
         this.tags.addAll(tags);
 
@@ -106,6 +109,39 @@ public class Person {
         this.networth = networth;
     }
 
+    /**
+     * Alternate constructor for a person with several working orders.
+     * The orders are copied, keeping their order ids.
+     */
+    public Person(Name name, PhoneList phoneList, Email email, Address address, OrderList orders, Remark remark,
+                  Set<Tag> tags, Company company, Job job, StockPlatform stockPlatform, Networth networth) {
+        requireAllNonNull(name, phoneList, email, address, orders, tags, company, job, stockPlatform, networth);
+
+        this.name = name;
+        this.phoneList = phoneList;
+        this.email = email;
+        this.address = address;
+        this.orders = new OrderList(orders);
+        this.remark = remark;
+        this.tags.addAll(tags);
+
+        this.company = company;
+        this.job = job;
+        this.stockPlatform = stockPlatform;
+        this.networth = networth;
+    }
+
+    /**
+     * Returns a copy of this person, hidden or not alike, that later changes to the orders or to whether this
+     * person is hidden do not show in.
+     */
+    public Person copy() {
+        Person copy = new Person(name, phoneList, email, address, orders, remark, tags, company, job, stockPlatform,
+                networth);
+        copy.isHidden = isHidden;
+        return copy;
+    }
+
     public void setHidden() {
         this.isHidden = true;
     }
@@ -130,8 +166,25 @@ public class Person {
         return isHidden ? new Address("Hidden") : address;
     }
 
+    /**
+     * Returns the earliest working order of the person, or a NONE order if there is none.
+     */
     public Order getOrder() {
-        return isHidden ? new Order(Order.OrderType.HIDDEN, "1", 1) : order;
+        return isHidden ? new Order(Order.OrderType.HIDDEN, "1", 1) : orders.getFirst();
+    }
+
+    /**
+     * Returns all working orders of the person, or none if the person is hidden.
+     */
+    public OrderList getOrderList() {
+        return isHidden ? new OrderList() : orders;
+    }
+
+    /**
+     * Returns the working orders regardless of the hidden flag, for {@code UniquePersonList} to index and amend.
+     */
+    OrderList getOrdersForIndexing() {
+        return orders;
     }
 
     public Remark getRemark() {
@@ -143,7 +196,7 @@ public class Person {
      * if modification is attempted.
      */
     public Set<Tag> getTags() {
-        return isHidden ? Collections.emptySet() : Collections.unmodifiableSet(tags);
+        return isHidden ? Collections.emptySet() : unmodifiableTags;
     }
 
     /**
@@ -162,11 +215,18 @@ public class Person {
     }
 
     public StockPlatform getStockPlatform() {
-        return isHidden ? new StockPlatform("Hidden") : stockPlatform;
+        return isHidden ? StockPlatform.HIDDEN : stockPlatform;
     }
 
     public Networth getNetworth() {
-        return isHidden ? new Networth("Hidden") : networth;
+        return isHidden ? Networth.HIDDEN : networth;
+    }
+
+    /**
+     * Returns the networth regardless of the hidden flag, for sorting.
+     */
+    Networth getNetworthForIndexing() {
+        return networth;
     }
 
     /**
@@ -222,13 +282,9 @@ public class Person {
      */
     public int compareTo(Person other, String criteria) {
         requireAllNonNull(other, criteria);
-        return switch (criteria) {
-        case "name" -> name.toString().compareTo(other.name.toString());
-        case "price" -> order.compareTo(other.order, "price");
-        case "amount" -> order.compareTo(other.order, "amount");
-        case "networth" -> networth.compareTo(other.networth);
-        default -> 0;
-        };
+        return PersonSortOrder.Criterion.fromKeyword(criteria)
+                .map(criterion -> criterion.compare(this, other))
+                .orElse(0);
     }
 
     @Override
@@ -245,7 +301,7 @@ public class Person {
                     .add("phones", phoneList)
                     .add("email", email)
                     .add("address", address)
-                    .add("order", order)
+                    .add("orders", orders)
                     .add("remark", remark)
                     .add("tags", tags)
                     .add("company", company)
@@ -0,0 +1,113 @@
+package seedu.finclient.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+
+import seedu.finclient.commons.util.ToStringBuilder;
+
+/**
+ * One change to the slots of a person list, recorded so that storage can save the change alone instead of the
+ * whole list. Replaying the changes of a list in order, slot by slot, turns a copy of the list as it was into the
+ * list as it is.
+ *
+ * The person of a change is the instance in the list, not a copy, so a change read later shows the person as it
+ * is then. That is enough for replay, as a person replaced in place keeps its name.
+ */
+public class PersonChange {
+
+    /**
+     * The kinds of changes to a person list.
+     */
+    public enum Kind {
+        /** A person was added to the end of the list. */
+        ADDED,
+        /** The person in a slot was replaced, or changed in place. */
+        REPLACED,
+        /** The person in a slot was removed, moving the persons after it up. */
+        REMOVED,
+        /** The whole list was replaced; there is no slot or person. */
+        RESET
+    }
+
+    public static final PersonChange RESET = new PersonChange(Kind.RESET, -1, null);
+
+    private final Kind kind;
+    private final int slot;
+    private final Person person;
+
+    private PersonChange(Kind kind, int slot, Person person) {
+        this.kind = kind;
+        this.slot = slot;
+        this.person = person;
+    }
+
+    /**
+     * Returns the change of adding {@code person} to the end of the list, into {@code slot}.
+     */
+    public static PersonChange added(int slot, Person person) {
+        requireNonNull(person);
+        return new PersonChange(Kind.ADDED, slot, person);
+    }
+
+    /**
+     * Returns the change of putting {@code person} into {@code slot}, in place of the person there.
+     */
+    public static PersonChange replaced(int slot, Person person) {
+        requireNonNull(person);
+        return new PersonChange(Kind.REPLACED, slot, person);
+    }
+
+    /**
+     * Returns the change of removing the person in {@code slot}.
+     */
+    public static PersonChange removed(int slot) {
+        return new PersonChange(Kind.REMOVED, slot, null);
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    public int getSlot() {
+        return slot;
+    }
+
+    /**
+     * Returns the person added or put into the slot, or null for removals and resets.
+     */
+    public Person getPerson() {
+        return person;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersonChange)) {
+            return false;
+        }
+
+        PersonChange otherChange = (PersonChange) other;
+        return kind == otherChange.kind
+                && slot == otherChange.slot
+                && Objects.equals(person, otherChange.person);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(kind, slot, person);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("kind", kind)
+                .add("slot", slot)
+                .add("person", person)
+                .toString();
+    }
+}
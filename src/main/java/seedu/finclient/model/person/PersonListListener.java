@@ -0,0 +1,43 @@
+package seedu.finclient.model.person;
+
+import java.util.List;
+
+/**
+ * Something kept in step with the persons of a {@code UniquePersonList}, such as an index of their details.
+ *
+ * The list tells its listeners of every change to its persons, in the order they subscribed, before the change
+ * reaches the list itself, so that filters of the list see them in step with it. Persons are held by identity,
+ * and each is told with the internal id the list gives it, which stays the same when the person is replaced.
+ * These are the same changes the list records as {@code PersonChange}s for storage, told by person instead of by
+ * slot, with the person that was replaced or removed.
+ */
+public interface PersonListListener {
+
+    /**
+     * Called when {@code person} joins the list with the id {@code personId}.
+     */
+    void personAdded(long personId, Person person);
+
+    /**
+     * Called when {@code target} is replaced by {@code person}, which keeps its id {@code personId}. They are the
+     * same instance if the shown details of the person changed in place, e.g. when it was hidden.
+     */
+    void personReplaced(long personId, Person target, Person person);
+
+    /**
+     * Called when {@code person}, with the id {@code personId}, leaves the list.
+     */
+    void personRemoved(long personId, Person person);
+
+    /**
+     * Called when the working orders of {@code person}, with the id {@code personId}, changed in place. Its shown
+     * details did not change, so listeners that do not read orders need not do anything.
+     */
+    default void ordersChanged(long personId, Person person) {
+    }
+
+    /**
+     * Called when the whole list is replaced by {@code persons}, whose ids are {@code personIds}, slot by slot.
+     */
+    void personsReset(List<Long> personIds, List<Person> persons);
+}
@@ -0,0 +1,378 @@
+package seedu.finclient.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.finclient.commons.util.AppUtil.checkArgument;
+import static seedu.finclient.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.function.LongPredicate;
+
+import seedu.finclient.model.order.AllocationRule;
+import seedu.finclient.model.order.AuctionResult;
+import seedu.finclient.model.order.CallAuctionCalculator;
+import seedu.finclient.model.order.IndicativePrice;
+import seedu.finclient.model.order.MatchingEngine;
+import seedu.finclient.model.order.MatchingMode;
+import seedu.finclient.model.order.Order;
+import seedu.finclient.model.order.OrderBookRegistry;
+import seedu.finclient.model.order.Trade;
+import seedu.finclient.model.person.exceptions.OrderNotFoundException;
+import seedu.finclient.model.query.QueryIndex;
+
+/**
+ * The working orders of the persons of a {@code UniquePersonList}, which it follows as a
+ * {@code PersonListListener}, and through which the list places, amends and cancels single orders.
+ *
+ * The orders are kept in an {@code OrderBookRegistry}, one book per instrument, that is updated on every change,
+ * so clearing prices never need to be recomputed from the whole list. The orders of hidden persons are withdrawn
+ * from the books until their persons are revealed.
+ *
+ * Every working order is also indexed by its order id, so that a single order can be placed, amended or
+ * cancelled in O(1) without rebuilding its {@code Person} or searching the list. Order ids are handed out here,
+ * past the largest id of any person that joined the list, to new orders and to orders that persons join it
+ * without. A person that joins with an order id another person of the list holds has that order renumbered.
+ *
+ * The same orders also rest in a {@code MatchingEngine} by price-time priority. In {@code CONTINUOUS} mode, an order
+ * that is placed or amended is first matched against it, the resting orders it trades with are reduced or removed,
+ * and only its unfilled rest stays with its person. An order never trades with another order of its own person,
+ * and only the last {@link #MAX_TRADES} trades are kept.
+ */
+public class PersonOrderBook implements PersonListListener {
+
+    // The trades kept in the history. Matching itself is not bounded by it: an order passes over the orders of its
+    // own person resting at the prices it crosses one by one, so k of them add O(k) to each of that person's orders
+    public static final int MAX_TRADES = 1000;
+
+    private final OrderBookRegistry orderBooks = new OrderBookRegistry();
+    // The person holding each order id
+    private final HashMap<Long, Person> orderOwners = new HashMap<>();
+    // The order each id contributed to the books, as the hidden flag of its person may have changed since
+    private final HashMap<Long, Order> bookedOrders = new HashMap<>();
+    private long nextOrderId = 1;
+    private final MatchingEngine matchingEngine = new MatchingEngine();
+    private final List<Trade> trades = new ArrayList<>();
+    private MatchingMode matchingMode = MatchingMode.AUCTION;
+
+    private final QueryIndex queryIndex;
+    private final Consumer<Person> onOrdersChanged;
+
+    /**
+     * Creates an empty order book, which indexes the booked orders in {@code queryIndex}, and passes every person
+     * whose orders it changes in place to {@code onOrdersChanged}.
+     */
+    public PersonOrderBook(QueryIndex queryIndex, Consumer<Person> onOrdersChanged) {
+        requireAllNonNull(queryIndex, onOrdersChanged);
+        this.queryIndex = queryIndex;
+        this.onOrdersChanged = onOrdersChanged;
+    }
+
+    @Override
+    public void personAdded(long personId, Person person) {
+        numberOrders(List.of(person), orderOwners::containsKey);
+        book(person);
+    }
+
+    @Override
+    public void personReplaced(long personId, Person target, Person person) {
+        numberOrders(List.of(person), orderId -> orderOwners.containsKey(orderId)
+                && orderOwners.get(orderId) != target);
+        unbook(target);
+        book(person);
+    }
+
+    @Override
+    public void personRemoved(long personId, Person person) {
+        unbook(person);
+    }
+
+    @Override
+    public void personsReset(List<Long> personIds, List<Person> persons) {
+        numberOrders(persons, orderId -> false);
+        orderBooks.clear();
+        orderOwners.clear();
+        bookedOrders.clear();
+        matchingEngine.clear();
+        queryIndex.clearOrders();
+        persons.forEach(this::book);
+        // Rest the orders again by id, so that time priority does not depend on the order of the persons
+        matchingEngine.clear();
+        new TreeMap<>(bookedOrders).forEach(matchingEngine::add);
+    }
+
+    /**
+     * Moves the next order id past every id that {@code other} has handed out, so that the orders of persons copied
+     * from it keep their ids, and new orders are not given the ids of its cancelled ones.
+     */
+    public void skipOrderIdsOf(PersonOrderBook other) {
+        nextOrderId = Math.max(nextOrderId, other.nextOrderId);
+    }
+
+    /**
+     * Returns true if a person holds the order {@code orderId}.
+     */
+    public boolean hasOrder(long orderId) {
+        return orderOwners.containsKey(orderId);
+    }
+
+    /**
+     * Returns the order {@code orderId}, or empty if no person holds it.
+     */
+    public Optional<Order> getOrder(long orderId) {
+        Person owner = orderOwners.get(orderId);
+        return owner == null
+                ? Optional.empty()
+                : Optional.of(owner.getOrdersForIndexing().asMap().get(orderId));
+    }
+
+    /**
+     * Places {@code order} as an additional working order of {@code owner}, which is in the list, and returns its
+     * new order id. {@code order} must be a BUY or SELL order.
+     * In {@code CONTINUOUS} mode the order may trade in full on arrival, in which case the id is not kept.
+     */
+    public long placeOrder(Person owner, Order order) {
+        requireAllNonNull(owner, order);
+        checkArgument(OrderList.isWorkingOrder(order), Order.MESSAGE_CONSTRAINTS);
+        long orderId = nextOrderId++;
+        owner.getOrdersForIndexing().add(orderId, order);
+        rest(owner, orderId, order);
+        onOrdersChanged.accept(owner);
+        return orderId;
+    }
+
+    /**
+     * Replaces the order {@code orderId} with {@code editedOrder}, keeping its id but not its time priority.
+     * {@code editedOrder} must be a BUY or SELL order, and is matched like a new order in {@code CONTINUOUS} mode.
+     *
+     * @throws OrderNotFoundException if no person holds the order.
+     */
+    public void amendOrder(long orderId, Order editedOrder) {
+        requireNonNull(editedOrder);
+        checkArgument(OrderList.isWorkingOrder(editedOrder), Order.MESSAGE_CONSTRAINTS);
+        Person owner = orderOwners.get(orderId);
+        if (owner == null) {
+            throw new OrderNotFoundException();
+        }
+
+        unbookOrder(orderId);
+        owner.getOrdersForIndexing().replace(orderId, editedOrder);
+        rest(owner, orderId, editedOrder);
+        onOrdersChanged.accept(owner);
+    }
+
+    /**
+     * Cancels the order {@code orderId} and returns it.
+     *
+     * @throws OrderNotFoundException if no person holds the order.
+     */
+    public Order cancelOrder(long orderId) {
+        Person owner = orderOwners.get(orderId);
+        if (owner == null) {
+            throw new OrderNotFoundException();
+        }
+
+        unbookOrder(orderId);
+        Order cancelledOrder = owner.getOrdersForIndexing().remove(orderId);
+        onOrdersChanged.accept(owner);
+        return cancelledOrder;
+    }
+
+    public MatchingMode getMatchingMode() {
+        return matchingMode;
+    }
+
+    /**
+     * Sets how orders placed or amended from now on are handled. Orders already resting are left as they are,
+     * so a book crossed during the auction stays crossed until the auction uncrosses it.
+     */
+    public void setMatchingMode(MatchingMode matchingMode) {
+        requireNonNull(matchingMode);
+        this.matchingMode = matchingMode;
+    }
+
+    /**
+     * Returns the last {@link #MAX_TRADES} trades executed in {@code CONTINUOUS} mode, earliest first, as an
+     * unmodifiable list.
+     */
+    public List<Trade> getTrades() {
+        return Collections.unmodifiableList(trades.subList(Math.max(0, trades.size() - MAX_TRADES), trades.size()));
+    }
+
+    /**
+     * Returns the clearing price of the instrument {@code ticker} based on current orders.
+     */
+    public Optional<Double> calculateClearingPrice(String ticker) {
+        return orderBooks.getClearingPrice(ticker);
+    }
+
+    /**
+     * Returns the clearing price of every instrument with orders, keyed by ticker in alphabetical order.
+     */
+    public Map<String, Optional<Double>> calculateClearingPrices() {
+        return orderBooks.getClearingPrices();
+    }
+
+    /**
+     * Returns the indicative price of every instrument whose orders changed since the last call, keyed by ticker.
+     * Instruments left without orders map to {@link IndicativePrice#NO_MATCH}.
+     */
+    public Map<String, IndicativePrice> pollIndicativePriceChanges() {
+        return orderBooks.pollIndicativePriceChanges();
+    }
+
+    /**
+     * Runs the call auction over the current orders for the instrument {@code ticker} and allocates fills
+     * by {@code rule}. Fills are keyed by order id (see {@link AuctionResult#getFilledQuantityOfOrder(long)}),
+     * and earlier order ids have time priority.
+     */
+    public AuctionResult calculateAuction(String ticker, AllocationRule rule) {
+        requireAllNonNull(ticker, rule);
+        SortedMap<Long, Order> ordersById = new TreeMap<>();
+        bookedOrders.forEach((orderId, order) -> {
+            if (order.getTicker().equals(ticker)) {
+                ordersById.put(orderId, order);
+            }
+        });
+
+        return CallAuctionCalculator.calculateAuction(ordersById, rule);
+    }
+
+    /**
+     * Indexes the orders of {@code person}, adding them to the books unless the person is hidden.
+     */
+    private void book(Person person) {
+        person.getOrdersForIndexing().asMap().forEach((orderId, order) -> bookOrder(person, orderId, order));
+    }
+
+    /**
+     * Removes the orders of {@code person} from the index and from the books.
+     */
+    private void unbook(Person person) {
+        person.getOrdersForIndexing().asMap().keySet().forEach(this::unbookOrder);
+    }
+
+    /**
+     * Books the new or amended order {@code orderId} of {@code owner}. In {@code CONTINUOUS} mode it is first
+     * matched against the book, and only its unfilled rest is kept, if any.
+     */
+    private void rest(Person owner, long orderId, Order order) {
+        Order unfilledOrder = order;
+        if (matchingMode == MatchingMode.CONTINUOUS && !owner.getIsHidden()) {
+            int filledQuantity = execute(owner, orderId, order);
+            if (filledQuantity == order.getQuantity()) {
+                owner.getOrdersForIndexing().remove(orderId);
+                return;
+            }
+            if (filledQuantity > 0) {
+                unfilledOrder = order.withQuantity(order.getQuantity() - filledQuantity);
+                owner.getOrdersForIndexing().replace(orderId, unfilledOrder);
+            }
+        }
+        bookOrder(owner, orderId, unfilledOrder);
+    }
+
+    /**
+     * Matches the incoming order {@code orderId} of {@code owner} against the book, passing over the other orders
+     * of {@code owner}, fills the resting orders it trades with, and returns the quantity of it that was filled.
+     */
+    private int execute(Person owner, long orderId, Order order) {
+        List<Trade> newTrades = matchingEngine.match(orderId, order, restingOrderId ->
+                orderOwners.get(restingOrderId) == owner);
+        int filledQuantity = 0;
+        for (Trade trade : newTrades) {
+            fillRestingOrder(trade.getCounterpartyOrderId(orderId), trade.getQuantity());
+            filledQuantity += trade.getQuantity();
+        }
+        recordTrades(newTrades);
+        return filledQuantity;
+    }
+
+    /**
+     * Appends {@code newTrades} to the trade history, dropping the oldest trades once more than
+     * {@link #MAX_TRADES} are kept. The dropped trades are cleared in batches, so each trade costs O(1) amortized.
+     */
+    private void recordTrades(List<Trade> newTrades) {
+        trades.addAll(newTrades);
+        if (trades.size() >= 2 * MAX_TRADES) {
+            trades.subList(0, trades.size() - MAX_TRADES).clear();
+        }
+    }
+
+    /**
+     * Reduces the booked order {@code orderId} by {@code quantity}, which the matching engine has already done
+     * on its side, removing the order from its person once it is filled in full.
+     */
+    private void fillRestingOrder(long orderId, int quantity) {
+        Person owner = orderOwners.get(orderId);
+        Order order = bookedOrders.get(orderId);
+        assert owner != null && order != null : "Matched order " + orderId + " is not booked";
+        orderBooks.remove(order);
+
+        if (quantity == order.getQuantity()) {
+            orderOwners.remove(orderId);
+            bookedOrders.remove(orderId);
+            queryIndex.removeOrder(orderId);
+            owner.getOrdersForIndexing().remove(orderId);
+        } else {
+            Order unfilledOrder = order.withQuantity(order.getQuantity() - quantity);
+            bookedOrders.put(orderId, unfilledOrder);
+            orderBooks.add(unfilledOrder);
+            owner.getOrdersForIndexing().replace(orderId, unfilledOrder);
+        }
+        onOrdersChanged.accept(owner);
+    }
+
+    private void bookOrder(Person owner, long orderId, Order order) {
+        Person previousOwner = orderOwners.put(orderId, owner);
+        assert previousOwner == null : "Order id " + orderId + " is held by two persons";
+        if (!owner.getIsHidden()) {
+            bookedOrders.put(orderId, order);
+            orderBooks.add(order);
+            matchingEngine.add(orderId, order);
+            queryIndex.addOrder(orderId, owner, order);
+        }
+    }
+
+    private void unbookOrder(long orderId) {
+        orderOwners.remove(orderId);
+        Order order = bookedOrders.remove(orderId);
+        if (order != null) {
+            orderBooks.remove(order);
+            matchingEngine.remove(orderId);
+            queryIndex.removeOrder(orderId);
+        }
+    }
+
+    /**
+     * Numbers the orders of {@code persons}, which are joining the list, so that every order id is unique in it.
+     * Orders without an id, and orders whose id {@code isHeldByOthers} or another of {@code persons} holds, get the
+     * next ids, once the next id has moved past the ids {@code persons} already hold.
+     */
+    private void numberOrders(List<Person> persons, LongPredicate isHeldByOthers) {
+        for (Person person : persons) {
+            for (long orderId : person.getOrdersForIndexing().asMap().keySet()) {
+                nextOrderId = Math.max(nextOrderId, orderId + 1);
+            }
+        }
+
+        Set<Long> seenOrderIds = new HashSet<>();
+        for (Person person : persons) {
+            OrderList orders = person.getOrdersForIndexing();
+            for (long orderId : List.copyOf(orders.asMap().keySet())) {
+                if (isHeldByOthers.test(orderId) || !seenOrderIds.add(orderId)) {
+                    orders.renumber(orderId, nextOrderId++);
+                }
+            }
+            orders.numberOrders(() -> nextOrderId++);
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package seedu.finclient.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * An order to sort persons in, by one or more criteria, each breaking the ties left by the ones before it.
+ *
+ * {@link #sort(List)} reads the keys of every criterion once per person into a {@link Key}, and then sorts
+ * positions by those keys, instead of reading the details of both persons on every comparison. The sort is
+ * stable, so persons with the same keys keep their relative order.
+ *
+ * Every {@link Key} ends with an id of its person, which breaks the ties left by the criteria, so that no two
+ * persons have equal keys.
+ *
+ * Like {@link Person#compareTo(Person, String)}, the keys are read from the details of a person whether or not
+ * it is hidden, so hiding a person does not move it.
+ */
+public class PersonSortOrder {
+
+    /**
+     * The details that persons can be sorted by.
+     */
+    public enum Criterion {
+        NAME("name"),
+        PRICE("price"),
+        AMOUNT("amount"),
+        NETWORTH("networth");
+
+        private final String keyword;
+
+        Criterion(String keyword) {
+            this.keyword = keyword;
+        }
+
+        public String getKeyword() {
+            return keyword;
+        }
+
+        /**
+         * Returns the criterion called {@code keyword}, if any.
+         */
+        public static Optional<Criterion> fromKeyword(String keyword) {
+            requireNonNull(keyword);
+            return Arrays.stream(values()).filter(criterion -> criterion.keyword.equals(keyword)).findFirst();
+        }
+
+        /**
+         * Compares {@code person} and {@code other} by this criterion alone.
+         */
+        public int compare(Person person, Person other) {
+            return this == NAME
+                    ? textKeyOf(person).compareTo(textKeyOf(other))
+                    : Long.compare(numericKeyOf(person), numericKeyOf(other));
+        }
+
+        private String textKeyOf(Person person) {
+            return person.getName().fullName;
+        }
+
+        private long numericKeyOf(Person person) {
+            switch (this) {
+            case PRICE:
+                return person.getOrdersForIndexing().getFirst().getPriceInCents();
+            case AMOUNT:
+                return person.getOrdersForIndexing().getFirst().getQuantity();
+            case NETWORTH:
+                return person.getNetworthForIndexing().getBracketIndex();
+            default:
+                throw new AssertionError("Criterion " + this + " has no numeric key");
+            }
+        }
+    }
+
+    /**
+     * The keys of a person in one sort order, read once, so that comparing them does not read the person again.
+     * Keys are only comparable with keys of the same sort order. Keys with the same criteria keys are ordered by
+     * the id of their person.
+     */
+    public static final class Key implements Comparable<Key> {
+        // The key of each criterion; text keys are null for numeric criteria
+        private final String[] textKeys;
+        private final long[] numericKeys;
+        private final long personId;
+
+        private Key(String[] textKeys, long[] numericKeys, long personId) {
+            this.textKeys = textKeys;
+            this.numericKeys = numericKeys;
+            this.personId = personId;
+        }
+
+        public long getPersonId() {
+            return personId;
+        }
+
+        @Override
+        public int compareTo(Key other) {
+            for (int i = 0; i < textKeys.length; i++) {
+                int comparison = textKeys[i] != null
+                        ? textKeys[i].compareTo(other.textKeys[i])
+                        : Long.compare(numericKeys[i], other.numericKeys[i]);
+                if (comparison != 0) {
+                    return comparison;
+                }
+            }
+            return Long.compare(personId, other.personId);
+        }
+    }
+
+    private final List<Criterion> criteria;
+    private final Comparator<Person> comparator;
+
+    /**
+     * Creates an order by {@code criteria}, most significant first. {@code criteria} must not be empty.
+     */
+    public PersonSortOrder(List<Criterion> criteria) {
+        requireNonNull(criteria);
+        assert !criteria.isEmpty() : "A sort order needs at least one criterion";
+        this.criteria = List.copyOf(criteria);
+
+        Comparator<Person> chained = this.criteria.get(0)::compare;
+        for (Criterion criterion : this.criteria.subList(1, this.criteria.size())) {
+            chained = chained.thenComparing(criterion::compare);
+        }
+        this.comparator = chained;
+    }
+
+    /**
+     * Creates an order by {@code criteria}, most significant first.
+     */
+    public PersonSortOrder(Criterion... criteria) {
+        this(Arrays.asList(criteria));
+    }
+
+    public List<Criterion> getCriteria() {
+        return criteria;
+    }
+
+    /**
+     * Returns a comparator of persons in this order. It reads the keys of both persons on every comparison, so
+     * prefer {@link #sort(List)} to sort many persons at once.
+     */
+    public Comparator<Person> comparator() {
+        return comparator;
+    }
+
+    /**
+     * Returns {@code persons} sorted stably in this order, reading the keys of every person only once.
+     */
+    public List<Person> sort(List<Person> persons) {
+        requireNonNull(persons);
+        Key[] keys = new Key[persons.size()];
+        // The position of each person is its id, so ties keep their positions
+        Arrays.setAll(keys, position -> keyOf(persons.get(position), position));
+
+        Integer[] positions = new Integer[persons.size()];
+        Arrays.setAll(positions, position -> position);
+        Arrays.sort(positions, (first, second) -> keys[first].compareTo(keys[second]));
+
+        List<Person> sorted = new ArrayList<>(persons.size());
+        for (int position : positions) {
+            sorted.add(persons.get(position));
+        }
+        return sorted;
+    }
+
+    /**
+     * Returns the keys of {@code person} in this order, as they are now, ending with {@code personId}.
+     */
+    public Key keyOf(Person person, long personId) {
+        requireNonNull(person);
+        String[] textKeys = new String[criteria.size()];
+        long[] numericKeys = new long[criteria.size()];
+        for (int i = 0; i < criteria.size(); i++) {
+            Criterion criterion = criteria.get(i);
+            if (criterion == Criterion.NAME) {
+                textKeys[i] = criterion.textKeyOf(person);
+            } else {
+                numericKeys[i] = criterion.numericKeyOf(person);
+            }
+        }
+        return new Key(textKeys, numericKeys, personId);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersonSortOrder)) {
+            return false;
+        }
+
+        PersonSortOrder otherOrder = (PersonSortOrder) other;
+        return criteria.equals(otherOrder.criteria);
+    }
+
+    @Override
+    public int hashCode() {
+        return criteria.hashCode();
+    }
+
+    /**
+     * Formats the criteria as "networth, name".
+     */
+    @Override
+    public String toString() {
+        return criteria.stream().map(Criterion::getKeyword).collect(Collectors.joining(", "));
+    }
+}
@@ -0,0 +1,213 @@
+package seedu.finclient.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.finclient.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToLongFunction;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+/**
+ * The persons of a person list kept in one {@code PersonSortOrder}, next to the list rather than in it.
+ *
+ * Each person is held with the keys it was last placed by, so a person whose orders changed in place can still be
+ * found by binary search on its old keys, and is then moved to the place of its new keys. Adding, removing or
+ * moving a person changes only that person's place in the view, so listeners see a single small change instead
+ * of a resorted list. The keys end with the id the person list gave the person, so no two persons have the same
+ * keys, and persons with the same details are in the order of their ids, which is the order of the list.
+ *
+ * Persons are held by identity. The view must be told of every person that is added, removed, replaced or whose
+ * keys may have changed, which it is when it listens to the person list.
+ */
+public class SortedPersonView implements PersonListListener {
+
+    private final PersonSortOrder sortOrder;
+    private final ObservableList<Person> persons = FXCollections.observableArrayList();
+    private final ObservableList<Person> unmodifiablePersons = FXCollections.unmodifiableObservableList(persons);
+    // The keys of the person at each position of persons
+    private final ArrayList<PersonSortOrder.Key> keys = new ArrayList<>();
+    private final Map<Person, PersonSortOrder.Key> keysByPerson = new IdentityHashMap<>();
+    private final ToLongFunction<Person> idOf;
+
+    /**
+     * Creates a view of {@code persons} in {@code sortOrder}, ordering persons with the same details by the ids
+     * {@code idOf} gives them, which must be unique.
+     */
+    public SortedPersonView(PersonSortOrder sortOrder, List<Person> persons, ToLongFunction<Person> idOf) {
+        requireAllNonNull(sortOrder, idOf);
+        this.sortOrder = sortOrder;
+        this.idOf = idOf;
+        setAll(persons);
+    }
+
+    public PersonSortOrder getSortOrder() {
+        return sortOrder;
+    }
+
+    /**
+     * Places {@code person} by its keys, after the persons with the same details.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        PersonSortOrder.Key key = sortOrder.keyOf(person, idOf.applyAsLong(person));
+        int position = lowerBound(key);
+        keys.add(position, key);
+        keysByPerson.put(person, key);
+        persons.add(position, person);
+    }
+
+    /**
+     * Removes {@code person}, which must be in the view.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        int position = positionOf(person);
+        keys.remove(position);
+        keysByPerson.remove(person);
+        persons.remove(position);
+    }
+
+    /**
+     * Replaces {@code target}, which must be in the view, with {@code editedPerson}, which keeps the id of
+     * {@code target}, and keeps its place if {@code editedPerson} still belongs there.
+     */
+    public void replace(Person target, Person editedPerson) {
+        requireNonNull(editedPerson);
+        int position = positionOf(target);
+        PersonSortOrder.Key key = sortOrder.keyOf(editedPerson, keys.get(position).getPersonId());
+        keysByPerson.remove(target);
+        keysByPerson.put(editedPerson, key);
+        if (isInPlace(position, key)) {
+            keys.set(position, key);
+            persons.set(position, editedPerson);
+            return;
+        }
+
+        keys.remove(position);
+        persons.remove(position);
+        int newPosition = lowerBound(key);
+        keys.add(newPosition, key);
+        persons.add(newPosition, editedPerson);
+    }
+
+    /**
+     * Moves {@code person}, which must be in the view, to the place of its current keys, unless it is still in
+     * order with its neighbours.
+     */
+    public void reposition(Person person) {
+        requireNonNull(person);
+        int position = positionOf(person);
+        PersonSortOrder.Key key = sortOrder.keyOf(person, keys.get(position).getPersonId());
+        keysByPerson.put(person, key);
+        keys.set(position, key);
+        if (isInPlace(position, key)) {
+            return;
+        }
+
+        keys.remove(position);
+        persons.remove(position);
+        int newPosition = lowerBound(key);
+        keys.add(newPosition, key);
+        persons.add(newPosition, person);
+    }
+
+    /**
+     * Replaces the persons in the view with {@code replacement}, sorted by their keys.
+     */
+    public void setAll(List<Person> replacement) {
+        requireNonNull(replacement);
+        PersonSortOrder.Key[] replacementKeys = new PersonSortOrder.Key[replacement.size()];
+        Arrays.setAll(replacementKeys, position -> {
+            Person person = replacement.get(position);
+            return sortOrder.keyOf(person, idOf.applyAsLong(person));
+        });
+        Integer[] positions = new Integer[replacement.size()];
+        Arrays.setAll(positions, position -> position);
+        Arrays.sort(positions, (first, second) -> replacementKeys[first].compareTo(replacementKeys[second]));
+
+        List<Person> sorted = new ArrayList<>(replacement.size());
+        keys.clear();
+        keysByPerson.clear();
+        for (int position : positions) {
+            Person person = replacement.get(position);
+            sorted.add(person);
+            keys.add(replacementKeys[position]);
+            keysByPerson.put(person, replacementKeys[position]);
+        }
+        persons.setAll(sorted);
+    }
+
+    @Override
+    public void personAdded(long personId, Person person) {
+        add(person);
+    }
+
+    @Override
+    public void personReplaced(long personId, Person target, Person person) {
+        replace(target, person);
+    }
+
+    @Override
+    public void personRemoved(long personId, Person person) {
+        remove(person);
+    }
+
+    @Override
+    public void ordersChanged(long personId, Person person) {
+        reposition(person);
+    }
+
+    @Override
+    public void personsReset(List<Long> personIds, List<Person> persons) {
+        setAll(persons);
+    }
+
+    /**
+     * Returns the persons in the view, in its sort order, as an unmodifiable {@code ObservableList}.
+     */
+    public ObservableList<Person> asUnmodifiableObservableList() {
+        return unmodifiablePersons;
+    }
+
+    /**
+     * Returns the position of {@code person}, found by binary search on the keys it was last placed by.
+     */
+    private int positionOf(Person person) {
+        PersonSortOrder.Key key = keysByPerson.get(person);
+        assert key != null : "Person " + person.getName() + " is not in the view";
+        int position = lowerBound(key);
+        assert persons.get(position) == person : "Two persons of the view have the same keys";
+        return position;
+    }
+
+    /**
+     * Returns true if {@code key} is in order with the keys next to {@code position}.
+     */
+    private boolean isInPlace(int position, PersonSortOrder.Key key) {
+        return (position == 0 || keys.get(position - 1).compareTo(key) < 0)
+                && (position == keys.size() - 1 || key.compareTo(keys.get(position + 1)) < 0);
+    }
+
+    /**
+     * Returns the first position whose keys are not before {@code key}.
+     */
+    private int lowerBound(PersonSortOrder.Key key) {
+        int low = 0;
+        int high = keys.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (keys.get(middle).compareTo(key) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+}
@@ -3,14 +3,29 @@ package seedu.finclient.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.finclient.commons.util.AppUtil.checkArgument;
 
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
 /**
  * Represents a Person's chosen stock platform in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidStockPlatform(String)}
+ *
+ * Most clients use one of a handful of platforms, so {@link #of(String)} hands out one shared instance per name.
  */
 public class StockPlatform {
     public static final String MESSAGE_CONSTRAINTS =
             "Stock platform can be any name, and it should not be blank";
     public static final String VALIDATION_REGEX = "[^\\s].*";
+
+    public static final StockPlatform EMPTY = new StockPlatform();
+    public static final StockPlatform HIDDEN = new StockPlatform("Hidden");
+
+    private static final ConcurrentMap<String, StockPlatform> canonicalPlatforms = new ConcurrentHashMap<>();
+
+    static {
+        canonicalPlatforms.put(HIDDEN.value, HIDDEN);
+    }
+
     public final String value;
 
     /**
@@ -28,6 +43,21 @@ public class StockPlatform {
         value = "";
     }
 
+    /**
+     * Returns the shared {@code StockPlatform} named {@code platformName}.
+     *
+     * @param platformName A valid stock platform.
+     */
+    public static StockPlatform of(String platformName) {
+        requireNonNull(platformName);
+        StockPlatform platform = canonicalPlatforms.get(platformName);
+        if (platform != null) {
+            return platform;
+        }
+        checkArgument(isValidStockPlatform(platformName), MESSAGE_CONSTRAINTS);
+        return canonicalPlatforms.computeIfAbsent(platformName, StockPlatform::new);
+    }
+
     /**
      * Returns true if a given string is a valid stock platform.
      */
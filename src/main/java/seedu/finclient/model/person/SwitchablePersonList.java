@@ -0,0 +1,88 @@
+package seedu.finclient.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+
+/**
+ * An unmodifiable {@code ObservableList} that shows one of several source lists at a time, and passes the changes
+ * of that source on to its own listeners.
+ *
+ * Switching to another source is reported as a single replacement of the whole list; the sources themselves are
+ * neither changed nor re-emitted.
+ */
+public class SwitchablePersonList extends ObservableListBase<Person> {
+
+    private final ListChangeListener<Person> forwarder = this::forward;
+    private ObservableList<Person> source;
+
+    /**
+     * Creates a list that shows {@code source}.
+     */
+    public SwitchablePersonList(ObservableList<Person> source) {
+        requireNonNull(source);
+        this.source = source;
+        source.addListener(forwarder);
+    }
+
+    public ObservableList<Person> getSource() {
+        return source;
+    }
+
+    /**
+     * Shows {@code newSource} instead of the current source.
+     */
+    public void switchTo(ObservableList<Person> newSource) {
+        requireNonNull(newSource);
+        if (newSource == source) {
+            return;
+        }
+
+        ArrayList<Person> removed = new ArrayList<>(source);
+        source.removeListener(forwarder);
+        source = newSource;
+        source.addListener(forwarder);
+
+        beginChange();
+        nextReplace(0, source.size(), removed);
+        endChange();
+    }
+
+    @Override
+    public Person get(int index) {
+        return source.get(index);
+    }
+
+    @Override
+    public int size() {
+        return source.size();
+    }
+
+    private void forward(ListChangeListener.Change<? extends Person> change) {
+        beginChange();
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                int[] permutation = new int[change.getTo() - change.getFrom()];
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    permutation[i - change.getFrom()] = change.getPermutation(i);
+                }
+                nextPermutation(change.getFrom(), change.getTo(), permutation);
+            } else if (change.wasUpdated()) {
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    nextUpdate(i);
+                }
+            } else if (change.wasReplaced()) {
+                nextReplace(change.getFrom(), change.getTo(), new ArrayList<>(change.getRemoved()));
+            } else if (change.wasRemoved()) {
+                nextRemove(change.getFrom(), new ArrayList<>(change.getRemoved()));
+            } else if (change.wasAdded()) {
+                nextAdd(change.getFrom(), change.getTo());
+            }
+        }
+        endChange();
+    }
+}
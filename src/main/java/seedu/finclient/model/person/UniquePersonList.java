@@ -1,21 +1,37 @@
 package seedu.finclient.model.person;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.finclient.commons.util.AppUtil.checkArgument;
 import static seedu.finclient.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.time.LocalDate;
-import java.util.Comparator;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
-import seedu.finclient.model.order.CallAuctionCalculator;
+import seedu.finclient.model.order.AllocationRule;
+import seedu.finclient.model.order.AuctionResult;
+import seedu.finclient.model.order.IndicativePrice;
+import seedu.finclient.model.order.MatchingMode;
 import seedu.finclient.model.order.Order;
+import seedu.finclient.model.order.Trade;
 import seedu.finclient.model.person.exceptions.DuplicatePersonException;
+import seedu.finclient.model.person.exceptions.OrderNotFoundException;
 import seedu.finclient.model.person.exceptions.PersonNotFoundException;
+import seedu.finclient.model.query.PersonQuery;
+import seedu.finclient.model.query.QueryIndex;
+import seedu.finclient.model.search.ContactSearchIndex;
+import seedu.finclient.model.search.SearchRanking;
 
 /**
  * A list of persons that enforces uniqueness between its elements and does not allow nulls.
@@ -26,24 +42,80 @@ import seedu.finclient.model.person.exceptions.PersonNotFoundException;
  *
  * Supports a minimal set of list operations.
  *
+ * The list keeps its own copy of every person added to it. It changes the orders and the hidden flag of those
+ * copies in place, so no other list or model ever sees those changes, and the persons passed in are never
+ * changed. Methods that take a person act on the person in the list that equals it.
+ *
+ * Persons are also indexed by {@code Name}, the identity that {@code Person#isSamePerson(Person)} compares, so
+ * duplicate checks take O(1) and replacing the whole list takes O(n). Each name maps to an internal person id that
+ * stays the same across edits, and each id to its slot in the list, so a person is found without scanning the list.
+ * Removing a person shifts the slots after it; those slots are only looked up again when next needed.
+ *
+ * Everything else kept about the persons listens to the list as a {@code PersonListListener}, and is told of every
+ * change before the list itself changes: the working orders in a {@code PersonOrderBook}, the words of every name
+ * in a {@code NameTokenIndex}, the words of every searchable detail in a {@code ContactSearchIndex}, the tags and
+ * networth brackets in a {@code QueryIndex}, which {@code PersonQuery} plans with, and the timestamps of shown
+ * remarks in an {@code UpcomingEventIndex}, so upcoming events are read in order without sorting the list.
+ *
+ * The list itself keeps persons in the order they were added. Sorting it selects a {@code SortedPersonView} of it
+ * instead, which {@link #asSortedObservableList()} then shows. Each view listens to the list too, so it stays in its
+ * order as persons are added, edited, removed or have their orders changed, and selecting a view again does not
+ * resort the list. Ties in a view are broken by the ids of the persons in this list, which follow the order of the
+ * list. Up to {@link #MAX_SORTED_VIEWS} views are kept, dropping the one selected longest ago.
+ *
+ * Every change to the slots of the list, or to a person in place, is recorded as a {@code PersonChange} until
+ * {@link #pollChanges()} is called, so that storage can save the changes alone. Past
+ * {@link #MAX_PENDING_CHANGES} changes, they are folded into a single {@code RESET}. Every change also bumps the
+ * {@link #getVersion() version} of the list, so that a save can be skipped when nothing changed since the last.
+ *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
 
+    public static final int MAX_SORTED_VIEWS = 4;
+    public static final int MAX_PENDING_CHANGES = 4096;
+
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final HashMap<Name, Long> idsByName = new HashMap<>();
+    private final HashMap<Long, Integer> slotsById = new HashMap<>();
+    // The id of the person in each slot of internalList
+    private final ArrayList<Long> idsBySlot = new ArrayList<>();
+    // The slots from here on may have shifted since they were recorded in slotsById
+    private int firstStaleSlot = 0;
+    private long nextPersonId = 1;
+    // The views kept beside the list, the one selected longest ago first
+    private final LinkedHashMap<PersonSortOrder, SortedPersonView> sortedViews =
+            new LinkedHashMap<>(MAX_SORTED_VIEWS + 1, 0.75f, true);
+    // Shows internalList, or the selected view
+    private final SwitchablePersonList sortedList = new SwitchablePersonList(internalUnmodifiableList);
+    // The order of the selected view, or null if the list is shown as it is
+    private PersonSortOrder sortOrder = null;
+
+    private final NameTokenIndex nameIndex = new NameTokenIndex();
+    private final ContactSearchIndex searchIndex = new ContactSearchIndex();
+    private final QueryIndex queryIndex = new QueryIndex();
+    private final UpcomingEventIndex upcomingEvents = new UpcomingEventIndex();
+    private final PersonOrderBook orderBook = new PersonOrderBook(queryIndex, this::ordersChangedInPlace);
+    // Told of every change before the sorted views, the order book first, as it numbers the orders of new persons
+    private final List<PersonListListener> listeners =
+            List.of(orderBook, nameIndex, searchIndex, queryIndex, upcomingEvents);
+
+    // The changes since the last poll, oldest first
+    private final List<PersonChange> pendingChanges = new ArrayList<>();
+    private long version = 0;
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return idsByName.containsKey(toCheck.getName());
     }
 
     /**
-     * Adds a person to the list.
+     * Adds a copy of {@code toAdd} to the list.
      * The person must not already exist in the list.
      */
     public void add(Person toAdd) {
@@ -51,19 +123,29 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
-        internalList.add(toAdd);
+        Person person = toAdd.copy();
+        long id = nextPersonId++;
+        idsByName.put(person.getName(), id);
+        slotsById.put(id, idsBySlot.size());
+        idsBySlot.add(id);
+        if (firstStaleSlot == idsBySlot.size() - 1) {
+            firstStaleSlot++;
+        }
+        notifyListeners(listener -> listener.personAdded(id, person));
+        internalList.add(person);
+        recordChange(PersonChange.added(idsBySlot.size() - 1, person));
     }
 
     /**
-     * Replaces the person {@code target} in the list with {@code editedPerson}.
+     * Replaces the person {@code target} in the list with a copy of {@code editedPerson}.
      * {@code target} must exist in the list.
      * The person identity of {@code editedPerson} must not be the same as another existing person in the list.
      */
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        int slot = slotOf(target);
+        if (slot == -1) {
             throw new PersonNotFoundException();
         }
 
@@ -71,7 +153,13 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
-        internalList.set(index, editedPerson);
+        Person replaced = internalList.get(slot);
+        Person person = editedPerson.copy();
+        long id = idsByName.remove(replaced.getName());
+        idsByName.put(person.getName(), id);
+        notifyListeners(listener -> listener.personReplaced(id, replaced, person));
+        internalList.set(slot, person);
+        recordChange(PersonChange.replaced(slot, person));
     }
 
     /**
@@ -80,27 +168,44 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int slot = slotOf(toRemove);
+        if (slot == -1) {
             throw new PersonNotFoundException();
         }
+        Person removed = internalList.get(slot);
+        long id = idsBySlot.get(slot);
+        notifyListeners(listener -> listener.personRemoved(id, removed));
+        internalList.remove(slot);
+        idsByName.remove(removed.getName());
+        idsBySlot.remove(slot);
+        slotsById.remove(id);
+        firstStaleSlot = Math.min(firstStaleSlot, slot);
+        recordChange(PersonChange.removed(slot));
     }
 
+    /**
+     * Replaces the contents of this list with copies of those of {@code replacement}, showing them in its selected
+     * sort order.
+     */
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        orderBook.skipOrderIdsOf(replacement.orderBook);
+        reset(replacement.internalList.stream().map(Person::copy).toList());
+        if (replacement.sortOrder != null) {
+            sortPersons(replacement.sortOrder);
+        }
     }
 
     /**
-     * Replaces the contents of this list with {@code persons}.
-     * {@code persons} must not contain duplicate persons.
+     * Replaces the contents of this list with copies of {@code replacement}, in their order.
+     * {@code replacement} must not contain duplicate persons.
      */
-    public void setPersons(List<Person> persons) {
-        requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
+    public void setPersons(List<Person> replacement) {
+        requireAllNonNull(replacement);
+        if (!personsAreUnique(replacement)) {
             throw new DuplicatePersonException();
         }
-
-        internalList.setAll(persons);
+        reset(replacement.stream().map(Person::copy).toList());
     }
 
     /**
@@ -109,7 +214,7 @@ public class UniquePersonList implements Iterable<Person> {
     public void hidePerson(Predicate<Person> predicate) {
         requireNonNull(predicate);
         internalList.filtered(predicate)
-                .forEach(Person::setHidden);
+                .forEach(this::hide);
     }
 
     /**
@@ -117,8 +222,7 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void hidePerson(Person person) {
         requireNonNull(person);
-        internalList.filtered(person::isSamePerson)
-                .forEach(Person::setHidden);
+        findSamePerson(person).ifPresent(this::hide);
     }
 
     /**
@@ -127,7 +231,7 @@ public class UniquePersonList implements Iterable<Person> {
     public void revealPerson(Predicate<Person> predicate) {
         requireNonNull(predicate);
         internalList.filtered(predicate)
-                .forEach(Person::setUnhidden);
+                .forEach(this::reveal);
     }
 
     /**
@@ -135,35 +239,197 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void revealPerson(Person person) {
         requireNonNull(person);
-        internalList.filtered(person::isSamePerson)
-                .forEach(Person::setUnhidden);
+        findSamePerson(person).ifPresent(this::reveal);
+    }
+
+    /**
+     * Returns a predicate that accepts the persons in this list whose name contains any of {@code keywords} as a
+     * whole word, ignoring case. It looks the persons up in the name index, and stays correct as the list changes.
+     */
+    public Predicate<Person> nameContainsAnyOf(List<String> keywords) {
+        return nameIndex.matchingAnyOf(keywords);
+    }
+
+    /**
+     * Returns the persons in this list whose details match every word of {@code keywords} exactly, as a prefix,
+     * or with a few typos, best match first.
+     */
+    public List<Person> search(List<String> keywords) {
+        return searchIndex.search(keywords);
+    }
+
+    /**
+     * Returns the ranking of the persons in this list that {@link #search(List)} finds for {@code keywords}.
+     * It searches again whenever the details of the list change.
+     */
+    public SearchRanking rank(List<String> keywords) {
+        return searchIndex.rank(keywords);
+    }
+
+    /**
+     * Returns a predicate that accepts the persons in this list matching {@code query}, planned against the query
+     * index of this list. It stays correct as the list changes.
+     */
+    public Predicate<Person> plan(PersonQuery query) {
+        requireNonNull(query);
+        return query.plan(queryIndex);
+    }
+
+    /**
+     * Returns true if the list contains a person with the order {@code orderId}.
+     */
+    public boolean hasOrder(long orderId) {
+        return orderBook.hasOrder(orderId);
+    }
+
+    /**
+     * Returns the order {@code orderId}, or empty if no person in the list holds it.
+     */
+    public Optional<Order> getOrder(long orderId) {
+        return orderBook.getOrder(orderId);
     }
 
     /**
-     * Returns the clearing price based on current orders.
+     * Places {@code order} as an additional working order of the person in the list that equals {@code person},
+     * and returns its new order id. {@code order} must be a BUY or SELL order.
+     * In {@code CONTINUOUS} mode the order may trade in full on arrival, in which case the id is not kept.
+     *
+     * @throws PersonNotFoundException if no person in the list equals {@code person}.
+     */
+    public long placeOrder(Person person, Order order) {
+        requireAllNonNull(person, order);
+        int slot = slotOf(person);
+        if (slot == -1) {
+            throw new PersonNotFoundException();
+        }
+        return orderBook.placeOrder(internalList.get(slot), order);
+    }
+
+    /**
+     * Replaces the order {@code orderId} with {@code editedOrder}, keeping its id but not its time priority.
+     * {@code editedOrder} must be a BUY or SELL order, and is matched like a new order in {@code CONTINUOUS} mode.
+     *
+     * @throws OrderNotFoundException if no person in the list holds the order.
+     */
+    public void amendOrder(long orderId, Order editedOrder) {
+        orderBook.amendOrder(orderId, editedOrder);
+    }
+
+    /**
+     * Cancels the order {@code orderId} and returns it.
+     *
+     * @throws OrderNotFoundException if no person in the list holds the order.
+     */
+    public Order cancelOrder(long orderId) {
+        return orderBook.cancelOrder(orderId);
+    }
+
+    public MatchingMode getMatchingMode() {
+        return orderBook.getMatchingMode();
+    }
+
+    /**
+     * Sets how orders placed or amended from now on are handled (see {@link PersonOrderBook#setMatchingMode}).
+     */
+    public void setMatchingMode(MatchingMode matchingMode) {
+        orderBook.setMatchingMode(matchingMode);
+    }
+
+    /**
+     * Returns the last {@link PersonOrderBook#MAX_TRADES} trades executed in {@code CONTINUOUS} mode, earliest
+     * first, as an unmodifiable list.
+     */
+    public List<Trade> getTrades() {
+        return orderBook.getTrades();
+    }
+
+    /**
+     * Returns the clearing price of the default instrument based on current orders.
      */
     public Optional<Double> calculateClearingPrice() {
-        List<Order> orders = internalList.stream()
-                .map(p -> p.getOrder())
-                .toList();
+        return calculateClearingPrice(Order.DEFAULT_TICKER);
+    }
 
-        return CallAuctionCalculator.calculateClearingPrice(orders);
+    /**
+     * Returns the clearing price of the instrument {@code ticker} based on current orders.
+     */
+    public Optional<Double> calculateClearingPrice(String ticker) {
+        return orderBook.calculateClearingPrice(ticker);
     }
 
-    public void sortPersons(String criteria) {
-        internalList.setAll(internalList.sorted((p1, p2) -> p1.compareTo(p2, criteria)));
+    /**
+     * Returns the clearing price of every instrument with orders, keyed by ticker in alphabetical order.
+     */
+    public Map<String, Optional<Double>> calculateClearingPrices() {
+        return orderBook.calculateClearingPrices();
     }
+
+    /**
+     * Returns the indicative price of every instrument whose orders changed since the last call, keyed by ticker.
+     * Instruments left without orders map to {@link IndicativePrice#NO_MATCH}.
+     */
+    public Map<String, IndicativePrice> pollIndicativePriceChanges() {
+        return orderBook.pollIndicativePriceChanges();
+    }
+
+    /**
+     * Runs the call auction over the current orders for the instrument {@code ticker} and allocates fills
+     * by {@code rule}. Fills are keyed by order id (see {@link AuctionResult#getFilledQuantityOfOrder(long)}),
+     * and earlier order ids have time priority.
+     */
+    public AuctionResult calculateAuction(String ticker, AllocationRule rule) {
+        return orderBook.calculateAuction(ticker, rule);
+    }
+
     /**
-     * Returns a list of persons who have remarks with upcoming timestamps.
+     * Shows the persons stably sorted in {@code sortOrder} in {@link #asSortedObservableList()}, and keeps them in
+     * that order as they are added and changed. The view is only built the first time {@code sortOrder} is
+     * selected; the list itself is left as it is.
+     */
+    public void sortPersons(PersonSortOrder sortOrder) {
+        requireNonNull(sortOrder);
+        SortedPersonView view = sortedViews.get(sortOrder);
+        if (view == null) {
+            view = new SortedPersonView(sortOrder, internalList, person -> idsByName.get(person.getName()));
+            sortedViews.put(sortOrder, view);
+            if (sortedViews.size() > MAX_SORTED_VIEWS) {
+                sortedViews.remove(sortedViews.keySet().iterator().next());
+            }
+        }
+        this.sortOrder = sortOrder;
+        sortedList.switchTo(view.asUnmodifiableObservableList());
+    }
+
+    /**
+     * Returns the order the persons are shown in by {@link #asSortedObservableList()}, if one was selected.
+     */
+    public Optional<PersonSortOrder> getSortOrder() {
+        return Optional.ofNullable(sortOrder);
+    }
+
+    /**
+     * Returns up to {@code count} persons whose shown remarks have timestamps from today on, earliest first.
+     * Persons with the same timestamp are in the order of the list.
      */
     public List<Person> upcomingPersons(int count) {
-        LocalDate today = LocalDate.now();
-        return internalList.stream()
-                .filter(p -> p.getRemark().getTimestamp().isPresent())
-                .filter(p -> !p.getRemark().getTimestamp().get().toLocalDate().isBefore(today))
-                .sorted(Comparator.comparing(a -> a.getRemark().getTimestamp().get()))
-                .limit(count)
-                .toList();
+        checkArgument(count >= 0, "The number of upcoming persons must not be negative");
+        return upcomingEvents.upcoming(count, LocalDate.now());
+    }
+
+    /**
+     * Returns a number that grows with every change to the list, or to a person in place.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the changes to the list since the last call, oldest first, and forgets them.
+     */
+    public List<PersonChange> pollChanges() {
+        List<PersonChange> changes = List.copyOf(pendingChanges);
+        pendingChanges.clear();
+        return changes;
     }
 
     /**
@@ -173,6 +439,14 @@ public class UniquePersonList implements Iterable<Person> {
         return internalUnmodifiableList;
     }
 
+    /**
+     * Returns the persons in the selected sort order, or in the order of the backing list if none was selected,
+     * as an unmodifiable {@code ObservableList}. Selecting another order is reported as one replacement.
+     */
+    public ObservableList<Person> asSortedObservableList() {
+        return sortedList;
+    }
+
     @Override
     public Iterator<Person> iterator() {
         return internalList.iterator();
@@ -203,15 +477,152 @@ public class UniquePersonList implements Iterable<Person> {
         return internalList.toString();
     }
 
+    /**
+     * Hides {@code person}, withdrawing its order from the book.
+     */
+    private void hide(Person person) {
+        person.setHidden();
+        detailsChangedInPlace(person);
+    }
+
+    /**
+     * Reveals {@code person}, returning its order to the book.
+     */
+    private void reveal(Person person) {
+        person.setUnhidden();
+        detailsChangedInPlace(person);
+    }
+
+    /**
+     * Tells the listeners that the shown details of {@code person}, which is in the list, changed in place, and
+     * records the change.
+     */
+    private void detailsChangedInPlace(Person person) {
+        long id = idsByName.get(person.getName());
+        notifyListeners(listener -> listener.personReplaced(id, person, person));
+        recordChange(PersonChange.replaced(slotOfId(id), person));
+    }
+
+    /**
+     * Tells the listeners that the orders of {@code person}, which is in the list, changed in place, and records
+     * the change.
+     */
+    private void ordersChangedInPlace(Person person) {
+        long id = idsByName.get(person.getName());
+        notifyListeners(listener -> listener.ordersChanged(id, person));
+        recordChange(PersonChange.replaced(slotOfId(id), person));
+    }
+
+    /**
+     * Tells every listener of a change, and then every sorted view.
+     */
+    private void notifyListeners(Consumer<PersonListListener> notification) {
+        listeners.forEach(notification);
+        sortedViews.values().forEach(notification);
+    }
+
+    /**
+     * Replaces the whole list with {@code persons}, giving every person a new id, and shows it as it is.
+     */
+    private void reset(List<Person> persons) {
+        clearSortedViews();
+        idsByName.clear();
+        slotsById.clear();
+        idsBySlot.clear();
+        for (Person person : persons) {
+            long id = nextPersonId++;
+            idsByName.put(person.getName(), id);
+            slotsById.put(id, idsBySlot.size());
+            idsBySlot.add(id);
+        }
+        firstStaleSlot = idsBySlot.size();
+        List<Long> ids = List.copyOf(idsBySlot);
+        notifyListeners(listener -> listener.personsReset(ids, persons));
+        internalList.setAll(persons);
+        recordReset();
+    }
+
+    /**
+     * Records {@code change}, unless it only repeats the last change, which shows the person as it is anyway.
+     */
+    private void recordChange(PersonChange change) {
+        version++;
+        if (!pendingChanges.isEmpty()) {
+            PersonChange lastChange = pendingChanges.get(pendingChanges.size() - 1);
+            if (lastChange.getKind() == PersonChange.Kind.RESET) {
+                return;
+            }
+            boolean isRepeated = change.getKind() == PersonChange.Kind.REPLACED
+                    && lastChange.getKind() != PersonChange.Kind.REMOVED
+                    && lastChange.getSlot() == change.getSlot()
+                    && lastChange.getPerson() == change.getPerson();
+            if (isRepeated) {
+                return;
+            }
+        }
+        if (pendingChanges.size() == MAX_PENDING_CHANGES) {
+            recordReset();
+            return;
+        }
+        pendingChanges.add(change);
+    }
+
+    private void recordReset() {
+        version++;
+        pendingChanges.clear();
+        pendingChanges.add(PersonChange.RESET);
+    }
+
+    /**
+     * Drops every sorted view after the whole list was replaced, and shows the list as it is.
+     */
+    private void clearSortedViews() {
+        sortedViews.clear();
+        sortOrder = null;
+        sortedList.switchTo(internalUnmodifiableList);
+    }
+
+    /**
+     * Returns the person in the list with the same identity as {@code person}, if any.
+     */
+    private Optional<Person> findSamePerson(Person person) {
+        Long id = idsByName.get(person.getName());
+        return id == null ? Optional.empty() : Optional.of(internalList.get(slotOfId(id)));
+    }
+
+    /**
+     * Returns the slot of the person in the list that equals {@code person}, or -1 if there is none.
+     * As equal persons have the same name, only the person with that name needs to be compared.
+     */
+    private int slotOf(Person person) {
+        Long id = idsByName.get(person.getName());
+        if (id == null) {
+            return -1;
+        }
+        int slot = slotOfId(id);
+        return internalList.get(slot).equals(person) ? slot : -1;
+    }
+
+    private int slotOfId(long id) {
+        int slot = slotsById.get(id);
+        if (slot >= firstStaleSlot) {
+            for (int i = firstStaleSlot; i < idsBySlot.size(); i++) {
+                slotsById.put(idsBySlot.get(i), i);
+            }
+            firstStaleSlot = idsBySlot.size();
+            slot = slotsById.get(id);
+        }
+        return slot;
+    }
+
     /**
      * Returns true if {@code persons} contains only unique persons.
      */
     private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+        Set<Name> names = new HashSet<>();
+        for (Person person : persons) {
+            if (!names.add(person.getName())) {
+                return false;
             }
         }
         return true;
@@ -0,0 +1,118 @@
+package seedu.finclient.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * The persons whose shown remark has a timestamp, ordered by that timestamp, and then by internal person id.
+ *
+ * The earliest {@code k} events from a day on are read in O(log n + k), without scanning the persons that have no
+ * event. Events before that day are swept out of the index as it is read, since they can never be upcoming again;
+ * removing a person whose event was swept out is a no-op.
+ */
+public class UpcomingEventIndex implements PersonListListener {
+
+    // Persons with an event at each timestamp, by internal person id
+    private final TreeMap<LocalDateTime, TreeMap<Long, Person>> events = new TreeMap<>();
+    private final Map<Long, LocalDateTime> timestampsById = new HashMap<>();
+
+    /**
+     * Indexes the event of {@code person}, whose internal id is {@code personId}, if its shown remark has one.
+     */
+    public void add(long personId, Person person) {
+        requireNonNull(person);
+        person.getRemark().getTimestamp().ifPresent(timestamp -> {
+            LocalDateTime previous = timestampsById.put(personId, timestamp);
+            assert previous == null : "Person " + personId + " is indexed twice";
+            events.computeIfAbsent(timestamp, unused -> new TreeMap<>()).put(personId, person);
+        });
+    }
+
+    /**
+     * Removes the event of the person with internal id {@code personId}, if it is in the index.
+     */
+    public void remove(long personId) {
+        LocalDateTime timestamp = timestampsById.remove(personId);
+        if (timestamp == null) {
+            return;
+        }
+        TreeMap<Long, Person> persons = events.get(timestamp);
+        persons.remove(personId);
+        if (persons.isEmpty()) {
+            events.remove(timestamp);
+        }
+    }
+
+    public void clear() {
+        events.clear();
+        timestampsById.clear();
+    }
+
+    @Override
+    public void personAdded(long personId, Person person) {
+        add(personId, person);
+    }
+
+    @Override
+    public void personReplaced(long personId, Person target, Person person) {
+        remove(personId);
+        add(personId, person);
+    }
+
+    @Override
+    public void personRemoved(long personId, Person person) {
+        remove(personId);
+    }
+
+    @Override
+    public void personsReset(List<Long> personIds, List<Person> persons) {
+        clear();
+        for (int i = 0; i < persons.size(); i++) {
+            add(personIds.get(i), persons.get(i));
+        }
+    }
+
+    /**
+     * Returns up to {@code count} persons with an event on or after {@code today}, earliest first. Persons with
+     * events at the same time are in the order of their ids.
+     */
+    public List<Person> upcoming(int count, LocalDate today) {
+        requireNonNull(today);
+        expireBefore(today);
+        List<Person> upcoming = new ArrayList<>(Math.min(count, timestampsById.size()));
+        for (TreeMap<Long, Person> persons : events.values()) {
+            for (Person person : persons.values()) {
+                if (upcoming.size() == count) {
+                    return upcoming;
+                }
+                upcoming.add(person);
+            }
+        }
+        return upcoming;
+    }
+
+    /**
+     * Drops every event before {@code today} from the index.
+     */
+    public void expireBefore(LocalDate today) {
+        requireNonNull(today);
+        SortedMap<LocalDateTime, TreeMap<Long, Person>> expired = events.headMap(today.atStartOfDay());
+        expired.values().forEach(persons -> persons.keySet().forEach(timestampsById::remove));
+        expired.clear();
+    }
+
+    /**
+     * Returns the number of events in the index.
+     */
+    public int size() {
+        return timestampsById.size();
+    }
+}
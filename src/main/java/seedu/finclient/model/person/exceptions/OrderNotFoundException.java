@@ -0,0 +1,6 @@
+package seedu.finclient.model.person.exceptions;
+
+/**
+ * Signals that the operation is unable to find the specified order.
+ */
+public class OrderNotFoundException extends RuntimeException {}
@@ -0,0 +1,51 @@
+package seedu.finclient.model.query;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * A comparison of a person's detail against a value in a {@code PersonQuery}.
+ */
+public enum Comparison {
+    LESS("<"),
+    LESS_OR_EQUAL("<="),
+    EQUAL("="),
+    GREATER_OR_EQUAL(">="),
+    GREATER(">");
+
+    private final String symbol;
+
+    Comparison(String symbol) {
+        this.symbol = symbol;
+    }
+
+    /**
+     * Returns the comparison written as {@code symbol}, if any.
+     */
+    public static Optional<Comparison> fromSymbol(String symbol) {
+        return Arrays.stream(values()).filter(comparison -> comparison.symbol.equals(symbol)).findFirst();
+    }
+
+    /**
+     * Returns true if {@code left} compares to {@code right} this way.
+     */
+    public boolean test(long left, long right) {
+        switch (this) {
+        case LESS:
+            return left < right;
+        case LESS_OR_EQUAL:
+            return left <= right;
+        case EQUAL:
+            return left == right;
+        case GREATER_OR_EQUAL:
+            return left >= right;
+        default:
+            return left > right;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return symbol;
+    }
+}
@@ -0,0 +1,32 @@
+package seedu.finclient.model.query;
+
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.finclient.model.person.Person;
+
+/**
+ * One condition of a {@code PersonQuery}, which tests a person's shown details.
+ *
+ * A condition that a {@code QueryIndex} can answer also tells the planner how many persons it may match, and
+ * looks those persons up, so that the other conditions only need to test them.
+ */
+public interface Condition extends Predicate<Person> {
+
+    /**
+     * Returns the number of persons in {@code index} that may match this condition, or an overestimate of it,
+     * or empty if {@code index} cannot look them up.
+     */
+    default OptionalInt estimateMatches(QueryIndex index) {
+        return OptionalInt.empty();
+    }
+
+    /**
+     * Returns every person in {@code index} that may match this condition. Only called if
+     * {@link #estimateMatches(QueryIndex)} is present.
+     */
+    default Set<Person> lookUpCandidates(QueryIndex index) {
+        throw new UnsupportedOperationException("This condition cannot be looked up in an index");
+    }
+}
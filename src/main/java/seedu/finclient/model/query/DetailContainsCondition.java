@@ -0,0 +1,74 @@
+package seedu.finclient.model.query;
+
+import static seedu.finclient.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Locale;
+import java.util.Objects;
+import java.util.function.Function;
+
+import seedu.finclient.commons.util.ToStringBuilder;
+import seedu.finclient.model.person.Person;
+
+/**
+ * Tests that a person's name, company or job contains some text, ignoring case. No index can answer this, so it
+ * is only ever tested against the candidates of the other conditions, or against every person.
+ */
+public class DetailContainsCondition implements Condition {
+
+    /**
+     * The details that can be searched for text.
+     */
+    public enum Detail {
+        NAME(person -> person.getName().fullName),
+        COMPANY(person -> person.getCompany().value),
+        JOB(person -> person.getJob().value);
+
+        private final Function<Person, String> getter;
+
+        Detail(Function<Person, String> getter) {
+            this.getter = getter;
+        }
+    }
+
+    private final Detail detail;
+    private final String text;
+
+    /**
+     * Creates a condition that {@code detail} contains {@code text}.
+     */
+    public DetailContainsCondition(Detail detail, String text) {
+        requireAllNonNull(detail, text);
+        this.detail = detail;
+        this.text = text.toLowerCase(Locale.ROOT);
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return detail.getter.apply(person).toLowerCase(Locale.ROOT).contains(text);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof DetailContainsCondition)) {
+            return false;
+        }
+
+        DetailContainsCondition otherCondition = (DetailContainsCondition) other;
+        return detail == otherCondition.detail && text.equals(otherCondition.text);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(detail, text);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("detail", detail).add("text", text).toString();
+    }
+}
@@ -0,0 +1,106 @@
+package seedu.finclient.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.OptionalInt;
+import java.util.Set;
+
+import seedu.finclient.commons.util.ToStringBuilder;
+import seedu.finclient.model.person.Networth;
+import seedu.finclient.model.person.Person;
+
+/**
+ * Tests a person's networth against an amount.
+ *
+ * Only the bracket of a networth is known, so a person matches if some networth in the bracket compares to the
+ * amount as asked. For example, {@code networth >= 1000000} matches the {@code $1 million - $5 million} and
+ * {@code > $5 million} brackets, while {@code networth < 1000000} matches every bracket below those.
+ */
+public class NetworthCondition implements Condition {
+
+    private final Comparison comparison;
+    private final long amount;
+    // The brackets that match, from fromBracket to toBracket inclusive; empty if fromBracket > toBracket
+    private final int fromBracket;
+    private final int toBracket;
+
+    /**
+     * Creates a condition that a person's networth compares to {@code amount} as {@code comparison} says.
+     */
+    public NetworthCondition(Comparison comparison, long amount) {
+        requireNonNull(comparison);
+        this.comparison = comparison;
+        this.amount = amount;
+
+        List<Long> lowerBounds = Networth.BRACKET_LOWER_BOUNDS;
+        int from = lowerBounds.size();
+        int to = -1;
+        for (int i = 0; i < lowerBounds.size(); i++) {
+            long lowest = lowerBounds.get(i);
+            long highest = i + 1 < lowerBounds.size() ? lowerBounds.get(i + 1) - 1 : Long.MAX_VALUE;
+            if (bracketMatches(lowest, highest)) {
+                from = Math.min(from, i);
+                to = i;
+            }
+        }
+        fromBracket = from;
+        toBracket = to;
+    }
+
+    private boolean bracketMatches(long lowest, long highest) {
+        switch (comparison) {
+        case LESS:
+            return lowest < amount;
+        case LESS_OR_EQUAL:
+            return lowest <= amount;
+        case EQUAL:
+            return lowest <= amount && amount <= highest;
+        default:
+            // GREATER and GREATER_OR_EQUAL
+            return comparison.test(highest, amount);
+        }
+    }
+
+    @Override
+    public boolean test(Person person) {
+        int bracket = person.getNetworth().getBracketIndex();
+        return bracket != -1 && fromBracket <= bracket && bracket <= toBracket;
+    }
+
+    @Override
+    public OptionalInt estimateMatches(QueryIndex index) {
+        return OptionalInt.of(index.countPersonsInBrackets(fromBracket, toBracket));
+    }
+
+    @Override
+    public Set<Person> lookUpCandidates(QueryIndex index) {
+        return index.getPersonsInBrackets(fromBracket, toBracket);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof NetworthCondition)) {
+            return false;
+        }
+
+        NetworthCondition otherCondition = (NetworthCondition) other;
+        return comparison == otherCondition.comparison && amount == otherCondition.amount;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(comparison, amount);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("comparison", comparison).add("amount", amount).toString();
+    }
+}
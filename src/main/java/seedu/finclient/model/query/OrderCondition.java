@@ -0,0 +1,124 @@
+package seedu.finclient.model.query;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.finclient.commons.util.AppUtil.checkArgument;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Set;
+
+import seedu.finclient.commons.util.ToStringBuilder;
+import seedu.finclient.model.order.Order;
+import seedu.finclient.model.order.Order.OrderType;
+import seedu.finclient.model.person.Person;
+
+/**
+ * Tests that a person shows a working order on one side, optionally priced within a range and for one instrument.
+ * All the parts must hold for the same order.
+ */
+public class OrderCondition implements Condition {
+
+    private final OrderType side;
+    private final long minPriceInCents;
+    private final long maxPriceInCents;
+    private final Optional<String> ticker;
+
+    /**
+     * Creates a condition that a person has a {@code side} order priced from {@code minPriceInCents} to
+     * {@code maxPriceInCents}, both inclusive, for the instrument {@code ticker} if present.
+     */
+    public OrderCondition(OrderType side, long minPriceInCents, long maxPriceInCents, Optional<String> ticker) {
+        requireNonNull(side);
+        requireNonNull(ticker);
+        checkArgument(side == OrderType.BUY || side == OrderType.SELL, Order.MESSAGE_CONSTRAINTS);
+        this.side = side;
+        this.minPriceInCents = minPriceInCents;
+        this.maxPriceInCents = maxPriceInCents;
+        this.ticker = ticker;
+    }
+
+    /**
+     * Creates a condition that a person has a {@code side} order priced as {@code comparison} says against
+     * {@code priceInCents}, for the instrument {@code ticker} if present.
+     */
+    public static OrderCondition priced(OrderType side, Comparison comparison, long priceInCents,
+            Optional<String> ticker) {
+        requireNonNull(comparison);
+        long min = 0;
+        long max = Long.MAX_VALUE;
+        switch (comparison) {
+        case LESS:
+            max = priceInCents - 1;
+            break;
+        case LESS_OR_EQUAL:
+            max = priceInCents;
+            break;
+        case EQUAL:
+            min = priceInCents;
+            max = priceInCents;
+            break;
+        case GREATER_OR_EQUAL:
+            min = priceInCents;
+            break;
+        default:
+            min = priceInCents + 1;
+            break;
+        }
+        return new OrderCondition(side, min, max, ticker);
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return person.getOrderList().asMap().values().stream().anyMatch(this::matches);
+    }
+
+    private boolean matches(Order order) {
+        return order.getOrderType() == side
+                && minPriceInCents <= order.getPriceInCents() && order.getPriceInCents() <= maxPriceInCents
+                && ticker.map(order.getTicker()::equals).orElse(true);
+    }
+
+    @Override
+    public OptionalInt estimateMatches(QueryIndex index) {
+        return OptionalInt.of(index.countOrders(side, minPriceInCents, maxPriceInCents));
+    }
+
+    @Override
+    public Set<Person> lookUpCandidates(QueryIndex index) {
+        return index.getPersonsWithOrders(side, minPriceInCents, maxPriceInCents);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof OrderCondition)) {
+            return false;
+        }
+
+        OrderCondition otherCondition = (OrderCondition) other;
+        return side == otherCondition.side
+                && minPriceInCents == otherCondition.minPriceInCents
+                && maxPriceInCents == otherCondition.maxPriceInCents
+                && ticker.equals(otherCondition.ticker);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(side, minPriceInCents, maxPriceInCents, ticker);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("side", side)
+                .add("minPriceInCents", minPriceInCents)
+                .add("maxPriceInCents", maxPriceInCents)
+                .add("ticker", ticker.orElse("any"))
+                .toString();
+    }
+}
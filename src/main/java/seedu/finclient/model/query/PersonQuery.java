@@ -0,0 +1,117 @@
+package seedu.finclient.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.finclient.commons.util.ToStringBuilder;
+import seedu.finclient.model.person.Person;
+
+/**
+ * A query that a person matches if it meets every one of its conditions.
+ *
+ * Before testing anyone, the query is planned against a {@code QueryIndex}: of the conditions the index can
+ * answer, the one expected to match the fewest persons is looked up, and only those candidates are tested
+ * against the other conditions. If no condition can be looked up, every person is tested.
+ */
+public class PersonQuery implements Predicate<Person> {
+
+    private final List<Condition> conditions;
+
+    /**
+     * Creates a query of {@code conditions}, which must not be empty.
+     */
+    public PersonQuery(List<Condition> conditions) {
+        requireNonNull(conditions);
+        assert !conditions.isEmpty() : "A query needs at least one condition";
+        this.conditions = List.copyOf(conditions);
+    }
+
+    public List<Condition> getConditions() {
+        return conditions;
+    }
+
+    /**
+     * Tests {@code person} against every condition, without any index.
+     */
+    @Override
+    public boolean test(Person person) {
+        return conditions.stream().allMatch(condition -> condition.test(person));
+    }
+
+    /**
+     * Returns the condition that {@code index} can look up with the fewest expected matches, if any.
+     */
+    public Optional<Condition> chooseIndexedCondition(QueryIndex index) {
+        requireNonNull(index);
+        Condition mostSelective = null;
+        int fewestMatches = Integer.MAX_VALUE;
+        for (Condition condition : conditions) {
+            OptionalInt matches = condition.estimateMatches(index);
+            if (matches.isPresent() && matches.getAsInt() < fewestMatches) {
+                mostSelective = condition;
+                fewestMatches = matches.getAsInt();
+            }
+        }
+        return Optional.ofNullable(mostSelective);
+    }
+
+    /**
+     * Returns a predicate equivalent to this query for the persons in {@code index}, which tests the candidates of
+     * the most selective indexed condition only. It plans again whenever {@code index} changes, so it can be used
+     * as the filter of a list of the indexed persons.
+     */
+    public Predicate<Person> plan(QueryIndex index) {
+        requireNonNull(index);
+        return new Predicate<>() {
+            private long plannedVersion = -1;
+            private Set<Person> candidates;
+            private List<Condition> remainingConditions;
+
+            @Override
+            public boolean test(Person person) {
+                if (plannedVersion != index.getVersion()) {
+                    Optional<Condition> indexedCondition = chooseIndexedCondition(index);
+                    candidates = indexedCondition.map(condition -> condition.lookUpCandidates(index)).orElse(null);
+                    remainingConditions = conditions.stream()
+                            .filter(condition -> indexedCondition.map(chosen -> chosen != condition).orElse(true))
+                            .toList();
+                    plannedVersion = index.getVersion();
+                }
+                if (candidates != null && !candidates.contains(person)) {
+                    return false;
+                }
+                return remainingConditions.stream().allMatch(condition -> condition.test(person));
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersonQuery)) {
+            return false;
+        }
+
+        PersonQuery otherQuery = (PersonQuery) other;
+        return conditions.equals(otherQuery.conditions);
+    }
+
+    @Override
+    public int hashCode() {
+        return conditions.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("conditions", conditions).toString();
+    }
+}
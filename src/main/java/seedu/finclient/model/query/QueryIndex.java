@@ -0,0 +1,326 @@
+package seedu.finclient.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+import seedu.finclient.model.order.Order;
+import seedu.finclient.model.order.Order.OrderType;
+import seedu.finclient.model.person.Networth;
+import seedu.finclient.model.person.Person;
+import seedu.finclient.model.person.PersonListListener;
+import seedu.finclient.model.tag.Tag;
+
+/**
+ * Indexes persons by tag and networth bracket, and their working orders by side and price, so that a
+ * {@code PersonQuery} can start from the persons one of its conditions allows instead of testing every person.
+ *
+ * Only what a person shows is indexed: the tags and networth of a hidden person are not, and neither are its orders.
+ * Persons are held by identity. The index remembers what it read from a person, so that a person whose details
+ * change in place, e.g. when hidden, is removed correctly before being added again.
+ *
+ * Every indexed person is given a small internal id, reused once the person is removed, and each tag maps to the
+ * bitset of the ids of the persons showing it. Persons with several tags, or any of several tags, are then found
+ * by intersecting or uniting those bitsets a word at a time.
+ */
+public class QueryIndex implements PersonListListener {
+
+    private final Map<String, BitSet> idsByTag = new HashMap<>();
+    // The person of each internal id, or null if the id is free
+    private final List<Person> personsById = new ArrayList<>();
+    private final BitSet freeIds = new BitSet();
+    private final List<Set<Person>> personsByBracket = new ArrayList<>();
+    // What was indexed for each person: its internal id, its lowercase tag names and its bracket
+    private final Map<Person, IndexedDetails> indexedDetails = new IdentityHashMap<>();
+
+    private final Map<OrderType, NavigableMap<Long, Set<Long>>> orderIdsByPrice = Map.of(
+            OrderType.BUY, new TreeMap<>(), OrderType.SELL, new TreeMap<>());
+    private final Map<Long, IndexedOrder> indexedOrders = new HashMap<>();
+
+    // Bumped on every change, so that planned queries know to plan again
+    private long version = 0;
+
+    /**
+     * Constructs an empty QueryIndex.
+     */
+    public QueryIndex() {
+        for (int i = 0; i < Networth.BRACKETS.size(); i++) {
+            personsByBracket.add(newIdentitySet());
+        }
+    }
+
+    /**
+     * Indexes the tags and networth that {@code person} shows.
+     */
+    public void addPerson(Person person) {
+        requireNonNull(person);
+        assert !indexedDetails.containsKey(person) : "Person is already indexed";
+        int id = freeIds.nextSetBit(0);
+        if (id == -1) {
+            id = personsById.size();
+            personsById.add(person);
+        } else {
+            freeIds.clear(id);
+            personsById.set(id, person);
+        }
+
+        Set<String> tagNames = new HashSet<>();
+        for (Tag tag : person.getTags()) {
+            String tagName = normalizeTag(tag.tagName);
+            tagNames.add(tagName);
+            idsByTag.computeIfAbsent(tagName, unused -> new BitSet()).set(id);
+        }
+        int bracket = person.getNetworth().getBracketIndex();
+        if (bracket != -1) {
+            personsByBracket.get(bracket).add(person);
+        }
+        indexedDetails.put(person, new IndexedDetails(id, tagNames, bracket));
+        version++;
+    }
+
+    /**
+     * Removes {@code person}, which must have been added before.
+     */
+    public void removePerson(Person person) {
+        requireNonNull(person);
+        IndexedDetails details = indexedDetails.remove(person);
+        assert details != null : "Removing a person that is not indexed";
+        for (String tagName : details.tagNames) {
+            BitSet ids = idsByTag.get(tagName);
+            ids.clear(details.id);
+            if (ids.isEmpty()) {
+                idsByTag.remove(tagName);
+            }
+        }
+        personsById.set(details.id, null);
+        freeIds.set(details.id);
+        if (details.bracket != -1) {
+            personsByBracket.get(details.bracket).remove(person);
+        }
+        version++;
+    }
+
+    /**
+     * Indexes the working order {@code orderId} of {@code owner}.
+     */
+    public void addOrder(long orderId, Person owner, Order order) {
+        requireNonNull(owner);
+        requireNonNull(order);
+        IndexedOrder indexedOrder = new IndexedOrder(owner, order.getOrderType(), order.getPriceInCents());
+        IndexedOrder previous = indexedOrders.put(orderId, indexedOrder);
+        assert previous == null : "Order " + orderId + " is already indexed";
+        orderIdsByPrice.get(indexedOrder.side)
+                .computeIfAbsent(indexedOrder.priceInCents, unused -> new HashSet<>()).add(orderId);
+        version++;
+    }
+
+    /**
+     * Removes the order {@code orderId}, if it is indexed.
+     */
+    public void removeOrder(long orderId) {
+        IndexedOrder indexedOrder = indexedOrders.remove(orderId);
+        if (indexedOrder == null) {
+            return;
+        }
+        NavigableMap<Long, Set<Long>> side = orderIdsByPrice.get(indexedOrder.side);
+        Set<Long> orderIds = side.get(indexedOrder.priceInCents);
+        orderIds.remove(orderId);
+        if (orderIds.isEmpty()) {
+            side.remove(indexedOrder.priceInCents);
+        }
+        version++;
+    }
+
+    @Override
+    public void personAdded(long personId, Person person) {
+        addPerson(person);
+    }
+
+    @Override
+    public void personReplaced(long personId, Person target, Person person) {
+        removePerson(target);
+        addPerson(person);
+    }
+
+    @Override
+    public void personRemoved(long personId, Person person) {
+        removePerson(person);
+    }
+
+    /**
+     * Indexes {@code persons} in place of every person, but not their orders, which their order book indexes.
+     */
+    @Override
+    public void personsReset(List<Long> personIds, List<Person> persons) {
+        clearPersons();
+        persons.forEach(this::addPerson);
+    }
+
+    /**
+     * Removes every person, but not their orders.
+     */
+    public void clearPersons() {
+        idsByTag.clear();
+        personsById.clear();
+        freeIds.clear();
+        personsByBracket.forEach(Set::clear);
+        indexedDetails.clear();
+        version++;
+    }
+
+    /**
+     * Removes every order.
+     */
+    public void clearOrders() {
+        orderIdsByPrice.values().forEach(Map::clear);
+        indexedOrders.clear();
+        version++;
+    }
+
+    /**
+     * Returns a number that changes whenever the index does.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the number of persons showing all of {@code tagNames} if {@code matchAll}, or any of them otherwise,
+     * ignoring case.
+     */
+    public int countPersonsWithTags(Collection<String> tagNames, boolean matchAll) {
+        return idsWithTags(tagNames, matchAll).cardinality();
+    }
+
+    /**
+     * Returns the persons showing all of {@code tagNames} if {@code matchAll}, or any of them otherwise,
+     * ignoring case.
+     */
+    public Set<Person> getPersonsWithTags(Collection<String> tagNames, boolean matchAll) {
+        BitSet ids = idsWithTags(tagNames, matchAll);
+        Set<Person> persons = newIdentitySet();
+        ids.stream().forEach(id -> persons.add(personsById.get(id)));
+        return persons;
+    }
+
+    private BitSet idsWithTags(Collection<String> tagNames, boolean matchAll) {
+        requireNonNull(tagNames);
+        BitSet ids = null;
+        for (String tagName : tagNames) {
+            BitSet tagIds = idsByTag.get(normalizeTag(tagName));
+            if (tagIds == null) {
+                if (matchAll) {
+                    return new BitSet();
+                }
+                continue;
+            }
+            if (ids == null) {
+                ids = (BitSet) tagIds.clone();
+            } else if (matchAll) {
+                ids.and(tagIds);
+            } else {
+                ids.or(tagIds);
+            }
+        }
+        return ids == null ? new BitSet() : ids;
+    }
+
+    /**
+     * Returns the number of persons whose networth bracket is from {@code fromBracket} to {@code toBracket},
+     * both inclusive.
+     */
+    public int countPersonsInBrackets(int fromBracket, int toBracket) {
+        int count = 0;
+        for (int i = Math.max(0, fromBracket); i <= Math.min(toBracket, personsByBracket.size() - 1); i++) {
+            count += personsByBracket.get(i).size();
+        }
+        return count;
+    }
+
+    /**
+     * Returns the persons whose networth bracket is from {@code fromBracket} to {@code toBracket}, both inclusive.
+     */
+    public Set<Person> getPersonsInBrackets(int fromBracket, int toBracket) {
+        Set<Person> persons = newIdentitySet();
+        for (int i = Math.max(0, fromBracket); i <= Math.min(toBracket, personsByBracket.size() - 1); i++) {
+            persons.addAll(personsByBracket.get(i));
+        }
+        return persons;
+    }
+
+    /**
+     * Returns the number of working {@code side} orders priced from {@code minCents} to {@code maxCents},
+     * both inclusive. It is at least the number of persons holding them.
+     */
+    public int countOrders(OrderType side, long minCents, long maxCents) {
+        int count = 0;
+        for (Set<Long> orderIds : ordersInRange(side, minCents, maxCents).values()) {
+            count += orderIds.size();
+        }
+        return count;
+    }
+
+    /**
+     * Returns the persons holding a working {@code side} order priced from {@code minCents} to {@code maxCents},
+     * both inclusive.
+     */
+    public Set<Person> getPersonsWithOrders(OrderType side, long minCents, long maxCents) {
+        Set<Person> persons = newIdentitySet();
+        for (Set<Long> orderIds : ordersInRange(side, minCents, maxCents).values()) {
+            orderIds.forEach(orderId -> persons.add(indexedOrders.get(orderId).owner));
+        }
+        return persons;
+    }
+
+    private NavigableMap<Long, Set<Long>> ordersInRange(OrderType side, long minCents, long maxCents) {
+        NavigableMap<Long, Set<Long>> orders = orderIdsByPrice.get(side);
+        if (orders == null || minCents > maxCents) {
+            return Collections.emptyNavigableMap();
+        }
+        return orders.subMap(minCents, true, maxCents, true);
+    }
+
+    private static String normalizeTag(String tagName) {
+        return tagName.toLowerCase(Locale.ROOT);
+    }
+
+    private static Set<Person> newIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    private static class IndexedDetails {
+        private final int id;
+        private final Set<String> tagNames;
+        private final int bracket;
+
+        IndexedDetails(int id, Set<String> tagNames, int bracket) {
+            this.id = id;
+            this.tagNames = tagNames;
+            this.bracket = bracket;
+        }
+    }
+
+    private static class IndexedOrder {
+        private final Person owner;
+        private final OrderType side;
+        private final long priceInCents;
+
+        IndexedOrder(Person owner, OrderType side, long priceInCents) {
+            this.owner = owner;
+            this.side = side;
+            this.priceInCents = priceInCents;
+        }
+    }
+}
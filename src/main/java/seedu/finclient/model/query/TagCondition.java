@@ -0,0 +1,86 @@
+package seedu.finclient.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.finclient.commons.util.ToStringBuilder;
+import seedu.finclient.model.person.Person;
+
+/**
+ * Tests that a person shows all of some tags, or any of them, ignoring case.
+ */
+public class TagCondition implements Condition {
+
+    private final List<String> tagNames;
+    private final boolean matchAll;
+
+    /**
+     * Creates a condition that a person shows the tag {@code tagName}.
+     */
+    public TagCondition(String tagName) {
+        this(List.of(tagName), true);
+    }
+
+    /**
+     * Creates a condition that a person shows all of {@code tagNames} if {@code matchAll}, or any of them otherwise.
+     * {@code tagNames} must not be empty.
+     */
+    public TagCondition(Collection<String> tagNames, boolean matchAll) {
+        requireNonNull(tagNames);
+        assert !tagNames.isEmpty() : "A tag condition needs at least one tag";
+        this.tagNames = tagNames.stream().map(tagName -> tagName.toLowerCase(Locale.ROOT)).distinct().toList();
+        this.matchAll = matchAll;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        Set<String> shownTagNames = person.getTags().stream()
+                .map(tag -> tag.tagName.toLowerCase(Locale.ROOT))
+                .collect(Collectors.toSet());
+        return matchAll
+                ? shownTagNames.containsAll(tagNames)
+                : tagNames.stream().anyMatch(shownTagNames::contains);
+    }
+
+    @Override
+    public OptionalInt estimateMatches(QueryIndex index) {
+        return OptionalInt.of(index.countPersonsWithTags(tagNames, matchAll));
+    }
+
+    @Override
+    public Set<Person> lookUpCandidates(QueryIndex index) {
+        return index.getPersonsWithTags(tagNames, matchAll);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof TagCondition)) {
+            return false;
+        }
+
+        TagCondition otherCondition = (TagCondition) other;
+        return tagNames.equals(otherCondition.tagNames) && matchAll == otherCondition.matchAll;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(tagNames, matchAll);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("tagNames", tagNames).add("matchAll", matchAll).toString();
+    }
+}
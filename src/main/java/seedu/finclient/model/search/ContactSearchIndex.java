@@ -0,0 +1,268 @@
+package seedu.finclient.model.search;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.finclient.model.person.Person;
+import seedu.finclient.model.person.PersonListListener;
+import seedu.finclient.model.tag.Tag;
+
+/**
+ * Indexes the words of every person's name, company, job, email and tags for prefix and fuzzy search.
+ *
+ * Each word is a term of a {@code PrefixTrie}, which finds the terms a keyword is the start of, and of a
+ * {@code TrigramIndex}, which finds the terms a misspelt keyword is close to. Matches are ranked by how far the
+ * keyword is from the term: an exact word beats a word it is the start of, which beats a word within
+ * {@link #maxEditsFor(String)} edits of it.
+ *
+ * Persons are held by identity. The index reads a person's details when the person is added, and forgets exactly
+ * those details when the person is removed, so a person whose details change in place, e.g. when hidden, must be
+ * removed and added again.
+ */
+public class ContactSearchIndex implements PersonListListener {
+
+    /** The cost of a keyword that is the start of a word, rather than the whole word. */
+    public static final int PREFIX_COST = 1;
+
+    private final Map<String, Set<Person>> postings = new HashMap<>();
+    private final Map<Person, Set<String>> termsByPerson = new IdentityHashMap<>();
+    private final PrefixTrie trie = new PrefixTrie();
+    private final TrigramIndex trigrams = new TrigramIndex();
+    private long version = 0;
+
+    /**
+     * Indexes the searchable details of {@code person}.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        assert !termsByPerson.containsKey(person) : "Person is already indexed";
+        Set<String> terms = termsOf(person);
+        termsByPerson.put(person, terms);
+        for (String term : terms) {
+            postings.computeIfAbsent(term, unused -> {
+                trie.add(term);
+                trigrams.add(term);
+                return Collections.newSetFromMap(new IdentityHashMap<>());
+            }).add(person);
+        }
+        version++;
+    }
+
+    /**
+     * Removes {@code person}, which must have been added before, from the index.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        Set<String> terms = termsByPerson.remove(person);
+        assert terms != null : "Removing a person that is not indexed";
+        for (String term : terms) {
+            Set<Person> persons = postings.get(term);
+            persons.remove(person);
+            if (persons.isEmpty()) {
+                postings.remove(term);
+                trie.remove(term);
+                trigrams.remove(term);
+            }
+        }
+        version++;
+    }
+
+    public void clear() {
+        postings.clear();
+        termsByPerson.clear();
+        trie.clear();
+        trigrams.clear();
+        version++;
+    }
+
+    @Override
+    public void personAdded(long personId, Person person) {
+        add(person);
+    }
+
+    @Override
+    public void personReplaced(long personId, Person target, Person person) {
+        remove(target);
+        add(person);
+    }
+
+    @Override
+    public void personRemoved(long personId, Person person) {
+        remove(person);
+    }
+
+    @Override
+    public void personsReset(List<Long> personIds, List<Person> persons) {
+        clear();
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Returns the persons that match every word of {@code keywords}, best match first.
+     * A person's cost is the sum, over the words, of its closest word to each; persons of equal cost
+     * are ordered by name.
+     */
+    public List<Person> search(List<String> keywords) {
+        requireNonNull(keywords);
+        Set<String> words = new HashSet<>();
+        keywords.forEach(keyword -> addWords(words, keyword));
+
+        Map<Person, Integer> costs = null;
+        for (String word : words) {
+            Map<Person, Integer> keywordCosts = match(word);
+            if (costs == null) {
+                costs = keywordCosts;
+                continue;
+            }
+            Map<Person, Integer> combinedCosts = new IdentityHashMap<>();
+            for (Map.Entry<Person, Integer> entry : costs.entrySet()) {
+                Integer keywordCost = keywordCosts.get(entry.getKey());
+                if (keywordCost != null) {
+                    combinedCosts.put(entry.getKey(), entry.getValue() + keywordCost);
+                }
+            }
+            costs = combinedCosts;
+        }
+        if (costs == null) {
+            return List.of();
+        }
+
+        Map<Person, Integer> finalCosts = costs;
+        List<Person> results = new ArrayList<>(finalCosts.keySet());
+        results.sort(Comparator.<Person>comparingInt(finalCosts::get)
+                .thenComparing(person -> person.getName().fullName, String.CASE_INSENSITIVE_ORDER));
+        return results;
+    }
+
+    /**
+     * Returns the ranking of the persons that match every word of {@code keywords}, which follows the changes to
+     * this index.
+     */
+    public SearchRanking rank(List<String> keywords) {
+        requireNonNull(keywords);
+        return new SearchRanking(this, keywords);
+    }
+
+    /**
+     * Returns a number that changes whenever the index does.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the number of persons in the index.
+     */
+    public int size() {
+        return termsByPerson.size();
+    }
+
+    /**
+     * Returns the number of edits a keyword may be away from a word and still match it: none for very short
+     * keywords, which would otherwise match almost anything, and more for longer ones.
+     */
+    static int maxEditsFor(String keyword) {
+        if (keyword.length() <= 2) {
+            return 0;
+        }
+        return keyword.length() <= 5 ? 1 : 2;
+    }
+
+    /**
+     * Returns the edit distance between {@code a} and {@code b}, or {@code maxEdits + 1} if it is more than
+     * {@code maxEdits}, in which case the comparison stops as soon as that is certain.
+     */
+    static int editDistance(String a, String b, int maxEdits) {
+        if (Math.abs(a.length() - b.length()) > maxEdits) {
+            return maxEdits + 1;
+        }
+
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = i;
+            for (int j = 1; j <= b.length(); j++) {
+                int substitution = previous[j - 1] + (a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            if (rowMin > maxEdits) {
+                return maxEdits + 1;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return Math.min(previous[b.length()], maxEdits + 1);
+    }
+
+    /**
+     * Returns the cost of the closest word of every person matching {@code keyword}.
+     */
+    private Map<Person, Integer> match(String keyword) {
+        Map<String, Integer> termCosts = new HashMap<>();
+        int maxEdits = maxEditsFor(keyword);
+        if (maxEdits > 0) {
+            // Each edit changes at most three trigrams
+            int minShared = Math.max(1, TrigramIndex.trigramsOf(keyword).size() - 3 * maxEdits);
+            for (String term : trigrams.candidates(keyword, minShared)) {
+                int distance = editDistance(keyword, term, maxEdits);
+                if (distance <= maxEdits) {
+                    termCosts.put(term, distance == 0 ? 0 : PREFIX_COST + distance);
+                }
+            }
+        }
+        for (String term : trie.withPrefix(keyword)) {
+            termCosts.merge(term, term.equals(keyword) ? 0 : PREFIX_COST, Math::min);
+        }
+
+        Map<Person, Integer> personCosts = new IdentityHashMap<>();
+        termCosts.forEach((term, cost) -> {
+            for (Person person : postings.get(term)) {
+                personCosts.merge(person, cost, Math::min);
+            }
+        });
+        return personCosts;
+    }
+
+    /**
+     * Returns the lowercase words of the searchable details of {@code person}.
+     */
+    private static Set<String> termsOf(Person person) {
+        Set<String> terms = new HashSet<>();
+        addWords(terms, person.getName().fullName);
+        addWords(terms, person.getCompany().value);
+        addWords(terms, person.getJob().value);
+        addWords(terms, person.getEmail().value);
+        for (Tag tag : person.getTags()) {
+            addWords(terms, tag.tagName);
+        }
+        return terms;
+    }
+
+    private static void addWords(Set<String> terms, String text) {
+        for (String word : text.split("[^\\p{Alnum}]+")) {
+            if (!word.isEmpty()) {
+                terms.add(normalize(word));
+            }
+        }
+    }
+
+    private static String normalize(String word) {
+        return word.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,113 @@
+package seedu.finclient.model.search;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A set of terms arranged as a trie, so that every term starting with a given prefix is found by walking the
+ * prefix and then its subtree, without looking at any other term.
+ */
+public class PrefixTrie {
+
+    private final Node root = new Node();
+
+    /**
+     * Adds {@code term}. Returns true if it was not in the trie before.
+     */
+    public boolean add(String term) {
+        requireNonNull(term);
+        if (contains(term)) {
+            return false;
+        }
+
+        Node node = root;
+        node.termCount++;
+        for (int i = 0; i < term.length(); i++) {
+            node = node.children.computeIfAbsent(term.charAt(i), unused -> new Node());
+            node.termCount++;
+        }
+        node.isTerm = true;
+        return true;
+    }
+
+    /**
+     * Removes {@code term}, pruning the branches that no longer lead to any term. Returns true if it was in the
+     * trie.
+     */
+    public boolean remove(String term) {
+        requireNonNull(term);
+        if (!contains(term)) {
+            return false;
+        }
+
+        Node node = root;
+        node.termCount--;
+        for (int i = 0; i < term.length(); i++) {
+            Node child = node.children.get(term.charAt(i));
+            if (--child.termCount == 0) {
+                node.children.remove(term.charAt(i));
+                return true;
+            }
+            node = child;
+        }
+        node.isTerm = false;
+        return true;
+    }
+
+    public boolean contains(String term) {
+        Node node = find(term);
+        return node != null && node.isTerm;
+    }
+
+    /**
+     * Returns every term that starts with {@code prefix}, including {@code prefix} itself if it is a term.
+     */
+    public List<String> withPrefix(String prefix) {
+        requireNonNull(prefix);
+        Node node = find(prefix);
+        List<String> terms = new ArrayList<>();
+        if (node != null) {
+            collect(node, new StringBuilder(prefix), terms);
+        }
+        return terms;
+    }
+
+    public int size() {
+        return root.termCount;
+    }
+
+    public void clear() {
+        root.children.clear();
+        root.termCount = 0;
+    }
+
+    private Node find(String prefix) {
+        Node node = root;
+        for (int i = 0; i < prefix.length() && node != null; i++) {
+            node = node.children.get(prefix.charAt(i));
+        }
+        return node;
+    }
+
+    private static void collect(Node node, StringBuilder path, List<String> terms) {
+        if (node.isTerm) {
+            terms.add(path.toString());
+        }
+        for (Map.Entry<Character, Node> child : node.children.entrySet()) {
+            path.append(child.getKey());
+            collect(child.getValue(), path, terms);
+            path.setLength(path.length() - 1);
+        }
+    }
+
+    private static class Node {
+        private final Map<Character, Node> children = new HashMap<>();
+        // The number of terms in this subtree, so that emptied branches can be pruned
+        private int termCount;
+        private boolean isTerm;
+    }
+}
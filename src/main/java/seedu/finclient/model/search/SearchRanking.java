@@ -0,0 +1,50 @@
+package seedu.finclient.model.search;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+
+import seedu.finclient.model.person.Person;
+
+/**
+ * The ranking of the persons in a {@code ContactSearchIndex} that match some keywords, best match first.
+ *
+ * The search is run again whenever the index changes, so a person whose details are edited is ranked by its new
+ * details, and the ranking can be used as the filter and order of a list of the indexed persons.
+ */
+public class SearchRanking {
+
+    private final ContactSearchIndex index;
+    private final List<String> keywords;
+    private long rankedVersion = -1;
+    private final IdentityHashMap<Person, Integer> ranks = new IdentityHashMap<>();
+
+    SearchRanking(ContactSearchIndex index, List<String> keywords) {
+        this.index = index;
+        this.keywords = List.copyOf(keywords);
+    }
+
+    /**
+     * Returns true if {@code person} matches the keywords.
+     */
+    public boolean contains(Person person) {
+        return currentRanks().containsKey(person);
+    }
+
+    /**
+     * Returns the position of {@code person} in the ranking, or {@code Integer.MAX_VALUE} if it does not match.
+     */
+    public int rankOf(Person person) {
+        return currentRanks().getOrDefault(person, Integer.MAX_VALUE);
+    }
+
+    private IdentityHashMap<Person, Integer> currentRanks() {
+        if (rankedVersion != index.getVersion()) {
+            ranks.clear();
+            for (Person person : index.search(keywords)) {
+                ranks.put(person, ranks.size());
+            }
+            rankedVersion = index.getVersion();
+        }
+        return ranks;
+    }
+}
@@ -0,0 +1,83 @@
+package seedu.finclient.model.search;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An index from each trigram to the terms containing it, for finding the terms that are close to a misspelt
+ * query without comparing the query to every term.
+ *
+ * Terms are padded with {@code $} on both sides before they are split, so that short terms still have trigrams
+ * and the first and last letters weigh as much as the middle ones.
+ */
+public class TrigramIndex {
+
+    private static final char PADDING = '$';
+
+    private final Map<String, Set<String>> termsByTrigram = new HashMap<>();
+
+    /**
+     * Adds {@code term}, which must not be in the index yet.
+     */
+    public void add(String term) {
+        requireNonNull(term);
+        for (String trigram : trigramsOf(term)) {
+            termsByTrigram.computeIfAbsent(trigram, unused -> new HashSet<>()).add(term);
+        }
+    }
+
+    /**
+     * Removes {@code term}, which must be in the index.
+     */
+    public void remove(String term) {
+        requireNonNull(term);
+        for (String trigram : trigramsOf(term)) {
+            Set<String> terms = termsByTrigram.get(trigram);
+            terms.remove(term);
+            if (terms.isEmpty()) {
+                termsByTrigram.remove(trigram);
+            }
+        }
+    }
+
+    public void clear() {
+        termsByTrigram.clear();
+    }
+
+    /**
+     * Returns the terms that share at least {@code minShared} trigrams with {@code query}.
+     */
+    public Set<String> candidates(String query, int minShared) {
+        requireNonNull(query);
+        Map<String, Integer> sharedCounts = new HashMap<>();
+        for (String trigram : trigramsOf(query)) {
+            for (String term : termsByTrigram.getOrDefault(trigram, Set.of())) {
+                sharedCounts.merge(term, 1, Integer::sum);
+            }
+        }
+
+        Set<String> candidates = new HashSet<>();
+        sharedCounts.forEach((term, shared) -> {
+            if (shared >= minShared) {
+                candidates.add(term);
+            }
+        });
+        return candidates;
+    }
+
+    /**
+     * Returns the distinct trigrams of {@code term} once padded.
+     */
+    static Set<String> trigramsOf(String term) {
+        String padded = PADDING + term + PADDING;
+        Set<String> trigrams = new HashSet<>();
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            trigrams.add(padded.substring(i, i + 3));
+        }
+        return trigrams;
+    }
+}
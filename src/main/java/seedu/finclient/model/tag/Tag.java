@@ -3,15 +3,22 @@ package seedu.finclient.model.tag;
 import static java.util.Objects.requireNonNull;
 import static seedu.finclient.commons.util.AppUtil.checkArgument;
 
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
 /**
  * Represents a Tag in the address book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
+ *
+ * There are few distinct tags but many tagged persons, so {@link #of(String)} hands out one shared Tag per name.
  */
 public class Tag {
 
     public static final String MESSAGE_CONSTRAINTS = "Tags names should be alphanumeric";
     public static final String VALIDATION_REGEX = "\\p{Alnum}+";
 
+    private static final ConcurrentMap<String, Tag> canonicalTags = new ConcurrentHashMap<>();
+
     public final String tagName;
 
     /**
@@ -25,6 +32,21 @@ public class Tag {
         this.tagName = tagName;
     }
 
+    /**
+     * Returns the shared {@code Tag} named {@code tagName}.
+     *
+     * @param tagName A valid tag name.
+     */
+    public static Tag of(String tagName) {
+        requireNonNull(tagName);
+        Tag tag = canonicalTags.get(tagName);
+        if (tag != null) {
+            return tag;
+        }
+        checkArgument(isValidTagName(tagName), MESSAGE_CONSTRAINTS);
+        return canonicalTags.computeIfAbsent(tagName, Tag::new);
+    }
+
     /**
      * Returns true if a given string is a valid tag name.
      */
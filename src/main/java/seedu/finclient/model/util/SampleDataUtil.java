@@ -28,8 +28,8 @@ public class SampleDataUtil {
     public static final Remark EMPTY_REMARK = new Remark("");
     public static final Company EMPTY_COMPANY = new Company();
     public static final Job EMPTY_JOB = new Job();
-    public static final StockPlatform EMPTY_STOCK_PLATFORM = new StockPlatform();
-    public static final Networth EMPTY_NEWWORTH = new Networth();
+    public static final StockPlatform EMPTY_STOCK_PLATFORM = StockPlatform.EMPTY;
+    public static final Networth EMPTY_NEWWORTH = Networth.EMPTY;
 
     public static Person[] getSamplePersons() {
         return new Person[] {
@@ -41,8 +41,8 @@ public class SampleDataUtil {
                     getTagSet("friends"),
                     new Company("Nimbus Technologies"),
                     new Job("Software Engineer"),
-                    new StockPlatform("TradeHubX"),
-                    new Networth("120000")),
+                    StockPlatform.of("TradeHubX"),
+                    Networth.of("120000")),
 
             new Person(new Name("Bernice Yu"), getPhoneList("99272758"),
                     new Email("berniceyu@example.com"),
@@ -52,8 +52,8 @@ public class SampleDataUtil {
                     getTagSet("colleagues", "friends"),
                     new Company("Zenith Finance"),
                     new Job("Financial Analyst"),
-                    new StockPlatform("WealthGo"),
-                    new Networth("85000")),
+                    StockPlatform.of("WealthGo"),
+                    Networth.of("85000")),
 
             new Person(new Name("Charlotte Oliveiro"), getPhoneList("93210283", "81234567"),
                     new Email("charlotte@example.com"),
@@ -62,8 +62,8 @@ public class SampleDataUtil {
                     getTagSet("neighbours"),
                     EMPTY_COMPANY,
                     EMPTY_JOB,
-                    new StockPlatform("BullBear App"),
-                    new Networth("40000")),
+                    StockPlatform.of("BullBear App"),
+                    Networth.of("40000")),
 
             new Person(new Name("David Li"), getPhoneList("91031282"),
                     new Email("lidavid@example.com"),
@@ -74,7 +74,7 @@ public class SampleDataUtil {
                     new Company("BrightSpark Learning"),
                     new Job("Education Consultant"),
                     EMPTY_STOCK_PLATFORM,
-                    new Networth("60000")),
+                    Networth.of("60000")),
 
             new Person(new Name("Irfan Ibrahim"), getPhoneList("92492021", "82345678"),
                     new Email("irfan@example.com"),
@@ -84,7 +84,7 @@ public class SampleDataUtil {
                     getTagSet("classmates"),
                     new Company("Arcade Labs"),
                     new Job("UX Designer"),
-                    new StockPlatform("AlphaInvest"),
+                    StockPlatform.of("AlphaInvest"),
                     EMPTY_NEWWORTH),
 
             new Person(new Name("Roy Balakrishnan"), getPhoneList("92624417"),
@@ -96,7 +96,7 @@ public class SampleDataUtil {
                     EMPTY_COMPANY,
                     EMPTY_JOB,
                     EMPTY_STOCK_PLATFORM,
-                    new Networth("22500"))
+                    Networth.of("22500"))
         };
     }
 
@@ -114,7 +114,7 @@ public class SampleDataUtil {
      */
     public static Set<Tag> getTagSet(String... strings) {
         return Arrays.stream(strings)
-                .map(Tag::new)
+                .map(Tag::of)
                 .collect(Collectors.toSet());
     }
 
@@ -0,0 +1,337 @@
+package seedu.finclient.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.finclient.commons.core.LogsCenter;
+import seedu.finclient.commons.exceptions.DataLoadingException;
+import seedu.finclient.commons.exceptions.IllegalValueException;
+import seedu.finclient.commons.util.FileUtil;
+import seedu.finclient.model.FinClient;
+import seedu.finclient.model.ReadOnlyFinClient;
+import seedu.finclient.model.order.Order;
+import seedu.finclient.model.order.Order.OrderType;
+import seedu.finclient.model.person.Person;
+import seedu.finclient.model.person.Phone;
+import seedu.finclient.model.tag.Tag;
+
+/**
+ * A class to access FinClient data stored as a compact binary file on the hard disk.
+ *
+ * The file starts with {@link #MAGIC} and the {@link #FORMAT_VERSION} it was written in. A dictionary follows,
+ * holding each distinct tag, company, job, stock platform, net worth bracket and ticker once, which the persons
+ * refer to by index. Then come the persons, each as one length-prefixed record, so that a reader can skip fields
+ * that a later version adds to the end of a record. Orders are stored as integers: the price in cents and the
+ * quantity. Strings are length-prefixed UTF-8.
+ *
+ * Persons read are converted through {@code JsonAdaptedPerson}, so that they are checked exactly as persons read
+ * from a JSON file are.
+ */
+public class BinaryFinClientStorage implements FinClientStorage {
+
+    public static final int MAGIC = 0x46434C42; // "FCLB"
+    public static final int FORMAT_VERSION = 1;
+
+    public static final String MESSAGE_NOT_BINARY_FILE = "Not a FinClient binary data file.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Binary data file version %d is not supported.";
+    public static final String MESSAGE_CORRUPT_FILE = "Binary data file is corrupt: %s";
+    public static final String MESSAGE_UNKNOWN_ORDER_TYPE = "Binary data file has an unknown order type: %d";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryFinClientStorage.class);
+
+    private static final int NO_STRING = -1;
+    private static final int MAX_STRING_BYTES = 1 << 20;
+    private static final int MAX_RECORD_BYTES = 1 << 24;
+    private static final byte BUY = 0;
+    private static final byte SELL = 1;
+
+    private Path filePath;
+
+    public BinaryFinClientStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getFinClientFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyFinClient> readFinClient() throws DataLoadingException {
+        return readFinClient(filePath);
+    }
+
+    /**
+     * Similar to {@link #readFinClient()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyFinClient> readFinClient(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        logger.info("Binary file " + filePath + " found.");
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(filePath)))) {
+            return Optional.of(readPersons(in));
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveFinClient(ReadOnlyFinClient finClient) throws IOException {
+        saveFinClient(finClient, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveFinClient(ReadOnlyFinClient)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveFinClient(ReadOnlyFinClient finClient, Path filePath) throws IOException {
+        requireNonNull(finClient);
+        requireNonNull(filePath);
+
+        Map<String, Integer> dictionary = new LinkedHashMap<>();
+        for (Person person : finClient.getPersonList()) {
+            addToDictionary(dictionary, unhidden(person));
+        }
+
+        FileUtil.createIfMissing(filePath);
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(FileUtil.getTempFile(filePath))))) {
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeInt(dictionary.size());
+            for (String value : dictionary.keySet()) {
+                writeString(out, value);
+            }
+
+            out.writeInt(finClient.getPersonList().size());
+            ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+            DataOutputStream record = new DataOutputStream(recordBytes);
+            for (Person person : finClient.getPersonList()) {
+                recordBytes.reset();
+                writePerson(record, unhidden(person), person.getIsHidden(), dictionary);
+                out.writeInt(recordBytes.size());
+                recordBytes.writeTo(out);
+            }
+        }
+        FileUtil.replaceWithTempFile(filePath);
+    }
+
+    /**
+     * Returns {@code person}, or an unhidden copy of it if it is hidden, so that its details can be read.
+     */
+    private static Person unhidden(Person person) {
+        if (!person.getIsHidden()) {
+            return person;
+        }
+        Person copy = person.copy();
+        copy.setUnhidden();
+        return copy;
+    }
+
+    private static void addToDictionary(Map<String, Integer> dictionary, Person person) {
+        for (Tag tag : person.getTags()) {
+            dictionary.putIfAbsent(tag.tagName, dictionary.size());
+        }
+        dictionary.putIfAbsent(person.getCompany().value, dictionary.size());
+        dictionary.putIfAbsent(person.getJob().value, dictionary.size());
+        dictionary.putIfAbsent(person.getStockPlatform().value, dictionary.size());
+        dictionary.putIfAbsent(person.getNetworth().value, dictionary.size());
+        for (Order order : person.getOrderList().asMap().values()) {
+            dictionary.putIfAbsent(order.getTicker(), dictionary.size());
+        }
+    }
+
+    private static void writePerson(DataOutputStream out, Person person, boolean isHidden,
+                                    Map<String, Integer> dictionary) throws IOException {
+        writeString(out, person.getName().fullName);
+        out.writeInt(person.getPhoneList().phoneList.size());
+        for (Phone phone : person.getPhoneList().phoneList) {
+            writeString(out, phone.toString());
+        }
+        writeString(out, person.getEmail().value);
+        writeString(out, person.getAddress().value);
+        writeString(out, person.getRemark().value);
+        writeString(out, person.getRemark().getTimestamp().map(LocalDateTime::toString).orElse(null));
+
+        out.writeInt(person.getTags().size());
+        for (Tag tag : person.getTags()) {
+            out.writeInt(dictionary.get(tag.tagName));
+        }
+        out.writeInt(dictionary.get(person.getCompany().value));
+        out.writeInt(dictionary.get(person.getJob().value));
+        out.writeInt(dictionary.get(person.getStockPlatform().value));
+        out.writeInt(dictionary.get(person.getNetworth().value));
+        out.writeBoolean(isHidden);
+
+        Map<Long, Order> orders = person.getOrderList().asMap();
+        out.writeInt(orders.size());
+        for (Map.Entry<Long, Order> entry : orders.entrySet()) {
+            Order order = entry.getValue();
+            out.writeLong(entry.getKey());
+            out.writeByte(order.getOrderType() == OrderType.BUY ? BUY : SELL);
+            out.writeInt(dictionary.get(order.getTicker()));
+            out.writeLong(order.getPriceInCents());
+            out.writeInt(order.getQuantity());
+        }
+    }
+
+    private static FinClient readPersons(DataInputStream in) throws IOException, IllegalValueException {
+        if (in.readInt() != MAGIC) {
+            throw new IOException(MESSAGE_NOT_BINARY_FILE);
+        }
+        int version = in.readInt();
+        if (version != FORMAT_VERSION) {
+            throw new IOException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+
+        int dictionarySize = readCount(in);
+        List<String> dictionary = new ArrayList<>();
+        for (int i = 0; i < dictionarySize; i++) {
+            dictionary.add(readDictionaryString(in));
+        }
+
+        int personCount = readCount(in);
+        FinClient finClient = new FinClient();
+        for (int i = 0; i < personCount; i++) {
+            int recordLength = in.readInt();
+            if (recordLength < 0 || recordLength > MAX_RECORD_BYTES) {
+                throw new IOException(String.format(MESSAGE_CORRUPT_FILE, "record length " + recordLength));
+            }
+            byte[] record = new byte[recordLength];
+            in.readFully(record);
+            JsonAdaptedPerson person = readPerson(new DataInputStream(new ByteArrayInputStream(record)), dictionary);
+            JsonSerializableFinClient.addPerson(finClient, person);
+        }
+        return finClient;
+    }
+
+    private static JsonAdaptedPerson readPerson(DataInputStream in, List<String> dictionary)
+            throws IOException, IllegalValueException {
+        String name = readString(in);
+        int phoneCount = readCount(in);
+        List<String> phones = new ArrayList<>();
+        for (int i = 0; i < phoneCount; i++) {
+            phones.add(readString(in));
+        }
+        String email = readString(in);
+        String address = readString(in);
+        String remark = readString(in);
+        String remarkTimestamp = readString(in);
+
+        int tagCount = readCount(in);
+        List<JsonAdaptedTag> tags = new ArrayList<>();
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(new JsonAdaptedTag(lookUp(dictionary, in.readInt())));
+        }
+        String company = lookUp(dictionary, in.readInt());
+        String job = lookUp(dictionary, in.readInt());
+        String stockPlatform = lookUp(dictionary, in.readInt());
+        String networth = lookUp(dictionary, in.readInt());
+        boolean isHidden = in.readBoolean();
+
+        int orderCount = readCount(in);
+        List<JsonAdaptedOrder> orders = new ArrayList<>();
+        for (int i = 0; i < orderCount; i++) {
+            long orderId = in.readLong();
+            byte orderType = in.readByte();
+            String ticker = lookUp(dictionary, in.readInt());
+            long priceInCents = in.readLong();
+            int quantity = in.readInt();
+            orders.add(new JsonAdaptedOrder(orderId, toOrder(orderType, ticker, priceInCents, quantity)));
+        }
+
+        return new JsonAdaptedPerson(name, phones, email, address, null, orders, remark, remarkTimestamp, tags,
+                company, job, stockPlatform, networth, isHidden);
+    }
+
+    private static Order toOrder(byte orderType, String ticker, long priceInCents, int quantity)
+            throws IllegalValueException {
+        if (orderType != BUY && orderType != SELL) {
+            throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_ORDER_TYPE, orderType));
+        }
+        String price = String.format("%d.%02d", priceInCents / Order.CENTS_PER_UNIT,
+                Math.abs(priceInCents % Order.CENTS_PER_UNIT));
+        try {
+            return new Order(orderType == BUY ? OrderType.BUY : OrderType.SELL, ticker, price, quantity);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(e.getMessage());
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(NO_STRING);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length == NO_STRING) {
+            return null;
+        }
+        if (length < 0 || length > MAX_STRING_BYTES) {
+            throw new IOException(String.format(MESSAGE_CORRUPT_FILE, "string length " + length));
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static String readDictionaryString(DataInputStream in) throws IOException {
+        String value = readString(in);
+        if (value == null) {
+            throw new IOException(String.format(MESSAGE_CORRUPT_FILE, "missing dictionary entry"));
+        }
+        return value;
+    }
+
+    private static int readCount(DataInputStream in) throws IOException {
+        int count = in.readInt();
+        if (count < 0) {
+            throw new IOException(String.format(MESSAGE_CORRUPT_FILE, "count " + count));
+        }
+        return count;
+    }
+
+    private static String lookUp(List<String> dictionary, int index) throws IOException {
+        if (index < 0 || index >= dictionary.size()) {
+            throw new IOException(String.format(MESSAGE_CORRUPT_FILE, "dictionary index " + index));
+        }
+        return dictionary.get(index);
+    }
+}
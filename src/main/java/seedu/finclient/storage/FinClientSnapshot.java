@@ -0,0 +1,38 @@
+package seedu.finclient.storage;
+
+import java.util.List;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.finclient.model.ReadOnlyFinClient;
+import seedu.finclient.model.person.Person;
+
+/**
+ * An immutable copy of FinClient data, which a background thread can save while the data it was taken from
+ * changes on.
+ *
+ * The persons are copies that no one else changes; a snapshot may share them with the snapshot taken before it.
+ */
+class FinClientSnapshot implements ReadOnlyFinClient {
+
+    private final ObservableList<Person> persons;
+    private final long version;
+
+    /**
+     * Creates a snapshot of {@code persons}, which must be copies that no one changes, at {@code version}.
+     */
+    FinClientSnapshot(List<Person> persons, long version) {
+        this.persons = FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(persons));
+        this.version = version;
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return persons;
+    }
+
+    @Override
+    public long getVersion() {
+        return version;
+    }
+}
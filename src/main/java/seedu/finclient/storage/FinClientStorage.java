@@ -2,17 +2,30 @@ package seedu.finclient.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 
+import seedu.finclient.commons.core.DataFileFormat;
 import seedu.finclient.commons.exceptions.DataLoadingException;
 import seedu.finclient.model.FinClient;
 import seedu.finclient.model.ReadOnlyFinClient;
+import seedu.finclient.model.person.PersonChange;
 
 /**
  * Represents a storage for {@link FinClient}.
  */
 public interface FinClientStorage {
 
+    /**
+     * Returns a storage that keeps FinClient data at {@code filePath} in {@code format}.
+     */
+    static FinClientStorage of(DataFileFormat format, Path filePath) {
+        return switch (format) {
+        case JSON -> new JsonFinClientStorage(filePath);
+        case BINARY -> new BinaryFinClientStorage(filePath);
+        };
+    }
+
     /**
      * Returns the file path of the data file.
      */
@@ -43,4 +56,15 @@ public interface FinClientStorage {
      */
     void saveFinClient(ReadOnlyFinClient addressBook, Path filePath) throws IOException;
 
+    /**
+     * Saves {@code changes}, the changes made to {@code addressBook} since it was last read or saved, to the storage.
+     * Storages that cannot save changes alone save the whole of {@code addressBook}.
+     * @param addressBook cannot be null.
+     * @param changes cannot be null.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    default void saveFinClientChanges(ReadOnlyFinClient addressBook, List<PersonChange> changes) throws IOException {
+        saveFinClient(addressBook);
+    }
+
 }
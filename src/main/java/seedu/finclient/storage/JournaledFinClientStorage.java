@@ -0,0 +1,282 @@
+package seedu.finclient.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.finclient.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.finclient.commons.core.LogsCenter;
+import seedu.finclient.commons.exceptions.DataLoadingException;
+import seedu.finclient.commons.exceptions.IllegalValueException;
+import seedu.finclient.commons.util.FileUtil;
+import seedu.finclient.commons.util.JsonUtil;
+import seedu.finclient.model.FinClient;
+import seedu.finclient.model.ReadOnlyFinClient;
+import seedu.finclient.model.person.PersonChange;
+
+/**
+ * A {@code FinClientStorage} that keeps a snapshot of the data in another storage, and the changes made since
+ * then in an append-only journal next to the snapshot file, so that saving a command costs one small sequential
+ * write instead of a rewrite of the whole file.
+ *
+ * The journal is a text file with one JSON object per line. The first line names the CRC-32 checksum of the
+ * snapshot the journal applies to, and every other line is one {@code PersonChange}. Reading replays the journal
+ * over the snapshot. Once the journal holds more entries than the snapshot holds persons, and at least
+ * {@link #MIN_ENTRIES_BEFORE_COMPACTION}, it is compacted: the whole data is written as a new snapshot and the
+ * journal is emptied.
+ *
+ * The snapshot is always written before its journal is emptied, so a crash in between leaves a journal whose
+ * checksum no longer matches, and which is therefore ignored. A crash while an entry is being appended leaves a
+ * torn last line, which is dropped when the journal is read.
+ */
+public class JournaledFinClientStorage implements FinClientStorage {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    public static final int MIN_ENTRIES_BEFORE_COMPACTION = 1000;
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledFinClientStorage.class);
+
+    private final FinClientStorage snapshotStorage;
+    // The checksum of the snapshot in the data file, or null if the next save must write a new snapshot
+    private Long snapshotChecksum = null;
+    // The number of entries in the journal of that snapshot, or -1 if the journal must be started afresh
+    private int journalEntryCount = -1;
+
+    /**
+     * Creates a storage that keeps its snapshots in {@code snapshotStorage}.
+     */
+    public JournaledFinClientStorage(FinClientStorage snapshotStorage) {
+        requireNonNull(snapshotStorage);
+        this.snapshotStorage = snapshotStorage;
+    }
+
+    @Override
+    public Path getFinClientFilePath() {
+        return snapshotStorage.getFinClientFilePath();
+    }
+
+    /**
+     * Returns the path of the journal of the data file at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyFinClient> readFinClient() throws DataLoadingException {
+        return readFinClient(getFinClientFilePath());
+    }
+
+    /**
+     * Reads the snapshot at {@code filePath} and replays its journal over it.
+     *
+     * @throws DataLoadingException if the snapshot, or an entry of the journal other than the last, is invalid.
+     */
+    @Override
+    public Optional<ReadOnlyFinClient> readFinClient(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        boolean isDataFile = filePath.equals(getFinClientFilePath());
+        if (isDataFile) {
+            snapshotChecksum = null;
+            journalEntryCount = -1;
+        }
+
+        Optional<ReadOnlyFinClient> snapshot = snapshotStorage.readFinClient(filePath);
+        if (snapshot.isEmpty()) {
+            return snapshot;
+        }
+
+        long checksum;
+        Optional<List<String>> entries;
+        try {
+            checksum = checksumOf(filePath);
+            entries = readJournalEntries(getJournalFilePath(filePath), checksum);
+        } catch (IOException e) {
+            logger.warning("Error reading the journal of " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+        if (entries.isEmpty()) {
+            if (isDataFile) {
+                snapshotChecksum = checksum;
+            }
+            return snapshot;
+        }
+
+        FinClient finClient = new FinClient(snapshot.get());
+        boolean isTorn = replay(entries.get(), finClient);
+        finClient.pollPersonChanges();
+        if (isDataFile && !isTorn) {
+            snapshotChecksum = checksum;
+            journalEntryCount = entries.get().size();
+        }
+        logger.info("Replayed " + entries.get().size() + " journal entries over " + filePath);
+        return Optional.of(finClient);
+    }
+
+    @Override
+    public void saveFinClient(ReadOnlyFinClient finClient) throws IOException {
+        saveFinClient(finClient, getFinClientFilePath());
+    }
+
+    /**
+     * Writes the whole of {@code finClient} as a new snapshot at {@code filePath}, and empties the journal if
+     * {@code filePath} is the data file of this storage.
+     */
+    @Override
+    public void saveFinClient(ReadOnlyFinClient finClient, Path filePath) throws IOException {
+        requireAllNonNull(finClient, filePath);
+        boolean isDataFile = filePath.equals(getFinClientFilePath());
+        if (isDataFile) {
+            snapshotChecksum = null;
+        }
+
+        snapshotStorage.saveFinClient(finClient, filePath);
+        if (!isDataFile) {
+            return;
+        }
+
+        long checksum = checksumOf(filePath);
+        FileUtil.writeToFile(getJournalFilePath(filePath), toHeaderLine(checksum));
+        snapshotChecksum = checksum;
+        journalEntryCount = 0;
+    }
+
+    /**
+     * Appends {@code changes} to the journal, or writes a new snapshot if the journal is due for compaction,
+     * cannot be appended to, or {@code changes} replace the whole list. Without changes, a snapshot is still written
+     * if the data file was never read or saved, so that a missing data file is created by the first command.
+     */
+    @Override
+    public void saveFinClientChanges(ReadOnlyFinClient finClient, List<PersonChange> changes) throws IOException {
+        requireAllNonNull(finClient, changes);
+        if (changes.isEmpty() && snapshotChecksum != null) {
+            return;
+        }
+
+        int entryCount = Math.max(journalEntryCount, 0) + changes.size();
+        boolean isDueForCompaction = entryCount > Math.max(MIN_ENTRIES_BEFORE_COMPACTION,
+                finClient.getPersonList().size());
+        boolean isReset = changes.stream().anyMatch(change -> change.getKind() == PersonChange.Kind.RESET);
+        if (snapshotChecksum == null || isDueForCompaction || isReset) {
+            saveFinClient(finClient);
+            return;
+        }
+
+        StringBuilder lines = new StringBuilder();
+        if (journalEntryCount < 0) {
+            lines.append(toHeaderLine(snapshotChecksum));
+        }
+        for (PersonChange change : changes) {
+            lines.append(JsonUtil.toCompactJsonString(new JsonAdaptedPersonChange(change))).append('\n');
+        }
+
+        StandardOpenOption mode = journalEntryCount < 0 ? StandardOpenOption.TRUNCATE_EXISTING
+                : StandardOpenOption.APPEND;
+        try {
+            Files.writeString(getJournalFilePath(getFinClientFilePath()), lines, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, mode);
+        } catch (IOException e) {
+            // The journal may now end in a torn entry, which must not be appended to
+            snapshotChecksum = null;
+            throw e;
+        }
+        journalEntryCount = entryCount;
+    }
+
+    /**
+     * Returns the entries of the journal at {@code journalPath}, or empty if there is no journal, or it belongs to
+     * another snapshot than the one with {@code checksum}.
+     */
+    private static Optional<List<String>> readJournalEntries(Path journalPath, long checksum) throws IOException {
+        if (!Files.exists(journalPath)) {
+            return Optional.empty();
+        }
+
+        List<String> entries = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(journalPath, StandardCharsets.UTF_8)) {
+            String header = reader.readLine();
+            if (header == null || !isHeaderOf(header, checksum)) {
+                logger.info("Ignoring the journal " + journalPath + " of another snapshot");
+                return Optional.empty();
+            }
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                entries.add(line);
+            }
+        }
+        return Optional.of(entries);
+    }
+
+    /**
+     * Applies {@code entries} to {@code finClient} in order, and returns true if the last entry was torn.
+     */
+    private static boolean replay(List<String> entries, FinClient finClient) throws DataLoadingException {
+        for (int i = 0; i < entries.size(); i++) {
+            JsonAdaptedPersonChange change;
+            try {
+                change = JsonUtil.fromJsonString(entries.get(i), JsonAdaptedPersonChange.class);
+            } catch (IOException e) {
+                if (i == entries.size() - 1) {
+                    logger.warning("Dropping the torn last journal entry: " + e.getMessage());
+                    return true;
+                }
+                throw new DataLoadingException(e);
+            }
+
+            try {
+                change.applyTo(finClient);
+            } catch (IllegalValueException ive) {
+                logger.info("Illegal journal entry " + (i + 1) + ": " + ive.getMessage());
+                throw new DataLoadingException(ive);
+            }
+        }
+        return false;
+    }
+
+    private static long checksumOf(Path filePath) throws IOException {
+        CRC32 crc = new CRC32();
+        try (InputStream in = new CheckedInputStream(Files.newInputStream(filePath), crc)) {
+            in.transferTo(OutputStream.nullOutputStream());
+        }
+        return crc.getValue();
+    }
+
+    private static String toHeaderLine(long checksum) throws IOException {
+        return JsonUtil.toCompactJsonString(new JsonJournalHeader(checksum)) + '\n';
+    }
+
+    private static boolean isHeaderOf(String line, long checksum) {
+        try {
+            return JsonUtil.fromJsonString(line, JsonJournalHeader.class).snapshotChecksum == checksum;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Jackson-friendly first line of a journal.
+     */
+    private static class JsonJournalHeader {
+        private final long snapshotChecksum;
+
+        @JsonCreator
+        JsonJournalHeader(@JsonProperty("snapshotChecksum") long snapshotChecksum) {
+            this.snapshotChecksum = snapshotChecksum;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package seedu.finclient.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.finclient.commons.exceptions.IllegalValueException;
+import seedu.finclient.model.order.Order;
+import seedu.finclient.model.person.OrderList;
+
+/**
+ * Jackson-friendly version of a working {@link Order} together with its order id.
+ */
+class JsonAdaptedOrder {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Order's %s field is missing!";
+
+    private final long id;
+    private final String order;
+
+    /**
+     * Constructs a {@code JsonAdaptedOrder} with the given order id and order description.
+     */
+    @JsonCreator
+    public JsonAdaptedOrder(@JsonProperty("id") long id, @JsonProperty("order") String order) {
+        this.id = id;
+        this.order = order;
+    }
+
+    /**
+     * Converts a given order id and {@code Order} into this class for Jackson use.
+     */
+    public JsonAdaptedOrder(long id, Order source) {
+        this.id = id;
+        this.order = source.toString();
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted order into the model's {@code Order} object.
+     *
+     * @throws IllegalValueException if the order id is invalid or the order is missing.
+     */
+    public Order toModelType() throws IllegalValueException {
+        if (!OrderList.isValidOrderId(id)) {
+            throw new IllegalValueException(OrderList.MESSAGE_CONSTRAINTS);
+        }
+        if (order == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Order.class.getSimpleName()));
+        }
+        return new Order(order);
+    }
+
+}
@@ -9,6 +9,7 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.finclient.commons.exceptions.IllegalValueException;
@@ -19,6 +20,7 @@ import seedu.finclient.model.person.Email;
 import seedu.finclient.model.person.Job;
 import seedu.finclient.model.person.Name;
 import seedu.finclient.model.person.Networth;
+import seedu.finclient.model.person.OrderList;
 import seedu.finclient.model.person.Person;
 import seedu.finclient.model.person.Phone;
 import seedu.finclient.model.person.PhoneList;
@@ -36,7 +38,10 @@ class JsonAdaptedPerson {
     private final String name;
     private final String email;
     private final String address;
+    // Single order of data files written before a person could hold several orders; never written back
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private final String order;
+    private final List<JsonAdaptedOrder> orders;
     private final String remark;
     private final String remarkTimestamp;
     private final List<String> phones;
@@ -56,6 +61,7 @@ class JsonAdaptedPerson {
                              @JsonProperty("email") String email,
                              @JsonProperty("address") String address,
                              @JsonProperty("order") String order,
+                             @JsonProperty("orders") List<JsonAdaptedOrder> orders,
                              @JsonProperty("remark") String remark,
                              @JsonProperty("remarkTimestamp") String remarkTimestamp,
                              @JsonProperty("tags") List<JsonAdaptedTag> tags,
@@ -69,6 +75,7 @@ class JsonAdaptedPerson {
         this.email = email;
         this.address = address;
         this.order = order;
+        this.orders = (orders != null) ? new ArrayList<>(orders) : null;
         this.remark = remark;
         this.remarkTimestamp = remarkTimestamp;
         if (tags != null) {
@@ -93,7 +100,10 @@ class JsonAdaptedPerson {
                 .collect(Collectors.toList());
         email = source.getEmail().value;
         address = source.getAddress().value;
-        order = source.getOrder().toString();
+        order = null;
+        orders = source.getOrderList().asMap().entrySet().stream()
+                .map(entry -> new JsonAdaptedOrder(entry.getKey(), entry.getValue()))
+                .collect(Collectors.toList());
         remark = source.getRemark().value;
         remarkTimestamp = source.getRemark().getTimestamp()
                 .map(LocalDateTime::toString)
@@ -110,6 +120,15 @@ class JsonAdaptedPerson {
         networth = source.getNetworth().value;
     }
 
+    /**
+     * Returns the ids of the orders stored for this person; legacy single orders have no stored id.
+     */
+    List<Long> getOrderIds() {
+        return orders == null
+                ? List.of()
+                : orders.stream().map(JsonAdaptedOrder::getId).collect(Collectors.toList());
+    }
+
     /**
      * Converts this Jackson-friendly adapted person object into the model's {@code Person} object.
      *
@@ -157,12 +176,21 @@ class JsonAdaptedPerson {
         }
         final Address modelAddress = new Address(address);
 
-        final Order modelOrder;
+        final OrderList modelOrders;
 
-        if (order == null) {
-            modelOrder = new Order("NONE");
+        if (orders != null) {
+            modelOrders = new OrderList();
+            for (JsonAdaptedOrder adaptedOrder : orders) {
+                Order modelOrder = adaptedOrder.toModelType();
+                if (modelOrders.contains(adaptedOrder.getId())) {
+                    throw new IllegalValueException(OrderList.MESSAGE_CONSTRAINTS);
+                }
+                modelOrders.add(adaptedOrder.getId(), modelOrder);
+            }
+        } else if (order != null) {
+            modelOrders = new OrderList(new Order(order));
         } else {
-            modelOrder = new Order(order);
+            modelOrders = new OrderList();
         }
 
         final Remark modelRemark;
@@ -184,14 +212,18 @@ class JsonAdaptedPerson {
         final Job modelJob = job.isEmpty() ? new Job() : new Job(job);
 
         final StockPlatform modelStockPlatform = stockPlatform.isEmpty()
-                ? new StockPlatform()
-                : new StockPlatform(stockPlatform);
+                ? StockPlatform.EMPTY
+                : StockPlatform.of(stockPlatform);
 
         final Networth modelNetworth = networth.isEmpty()
-                ? new Networth()
-                : new Networth(networth);
+                ? Networth.EMPTY
+                : Networth.of(networth);
 
-        return new Person(modelName, modelPhoneList, modelEmail, modelAddress, modelOrder, modelRemark, modelTags,
-                modelCompany, modelJob, modelStockPlatform, modelNetworth, isHidden);
+        Person person = new Person(modelName, modelPhoneList, modelEmail, modelAddress, modelOrders, modelRemark,
+                modelTags, modelCompany, modelJob, modelStockPlatform, modelNetworth);
+        if (modelIsHidden) {
+            person.setHidden();
+        }
+        return person;
     }
 }
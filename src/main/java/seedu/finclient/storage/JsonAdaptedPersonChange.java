@@ -0,0 +1,95 @@
+package seedu.finclient.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.finclient.commons.exceptions.IllegalValueException;
+import seedu.finclient.model.FinClient;
+import seedu.finclient.model.person.Person;
+import seedu.finclient.model.person.PersonChange;
+
+/**
+ * Jackson-friendly version of a {@link PersonChange}, as one entry of the journal of a data file.
+ */
+class JsonAdaptedPersonChange {
+
+    public static final String MESSAGE_INVALID_KIND = "Journal entry has an unknown kind: %s";
+    public static final String MESSAGE_INVALID_SLOT = "Journal entry refers to slot %d of %d person(s).";
+    public static final String MESSAGE_MISSING_PERSON = "Journal entry is missing its person.";
+    public static final String MESSAGE_DUPLICATE_PERSON = "Journal entry adds a duplicate person.";
+
+    private final String kind;
+    private final int slot;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final JsonAdaptedPerson person;
+
+    /**
+     * Constructs a {@code JsonAdaptedPersonChange} with the given change details.
+     */
+    @JsonCreator
+    public JsonAdaptedPersonChange(@JsonProperty("kind") String kind, @JsonProperty("slot") int slot,
+                                   @JsonProperty("person") JsonAdaptedPerson person) {
+        this.kind = kind;
+        this.slot = slot;
+        this.person = person;
+    }
+
+    /**
+     * Converts a given {@code PersonChange} into this class for Jackson use. Resets cannot be journaled.
+     */
+    public JsonAdaptedPersonChange(PersonChange source) {
+        assert source.getKind() != PersonChange.Kind.RESET : "A reset is saved as a snapshot";
+        kind = source.getKind().name();
+        slot = source.getSlot();
+        person = source.getPerson() == null ? null : new JsonAdaptedPerson(source.getPerson());
+    }
+
+    /**
+     * Applies this change to {@code finClient}, which must be in the state the change was made in.
+     *
+     * @throws IllegalValueException if the change is invalid or does not fit {@code finClient}.
+     */
+    public void applyTo(FinClient finClient) throws IllegalValueException {
+        PersonChange.Kind changeKind = toKind();
+        int size = finClient.getPersonList().size();
+        int expectedSlots = changeKind == PersonChange.Kind.ADDED ? size + 1 : size;
+        if (slot < 0 || slot >= expectedSlots || (changeKind == PersonChange.Kind.ADDED && slot != size)) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_SLOT, slot, size));
+        }
+        if (changeKind == PersonChange.Kind.REMOVED) {
+            finClient.removePerson(finClient.getPersonList().get(slot));
+            return;
+        }
+
+        if (person == null) {
+            throw new IllegalValueException(MESSAGE_MISSING_PERSON);
+        }
+        Person modelPerson = person.toModelType();
+        if (changeKind == PersonChange.Kind.ADDED) {
+            if (finClient.hasPerson(modelPerson)) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+            }
+            finClient.addPerson(modelPerson);
+            return;
+        }
+
+        Person target = finClient.getPersonList().get(slot);
+        if (!target.isSamePerson(modelPerson) && finClient.hasPerson(modelPerson)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+        }
+        // The orders of the target leave the books before those of its replacement enter them
+        finClient.setPerson(target, modelPerson);
+    }
+
+    private PersonChange.Kind toKind() throws IllegalValueException {
+        if (kind != null) {
+            for (PersonChange.Kind changeKind : PersonChange.Kind.values()) {
+                if (changeKind != PersonChange.Kind.RESET && changeKind.name().equals(kind)) {
+                    return changeKind;
+                }
+            }
+        }
+        throw new IllegalValueException(String.format(MESSAGE_INVALID_KIND, kind));
+    }
+}
@@ -2,23 +2,39 @@ package seedu.finclient.storage;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
 import seedu.finclient.commons.core.LogsCenter;
 import seedu.finclient.commons.exceptions.DataLoadingException;
 import seedu.finclient.commons.exceptions.IllegalValueException;
 import seedu.finclient.commons.util.FileUtil;
 import seedu.finclient.commons.util.JsonUtil;
+import seedu.finclient.model.FinClient;
 import seedu.finclient.model.ReadOnlyFinClient;
+import seedu.finclient.model.person.Person;
 
 /**
  * A class to access FinClient data stored as a json file on the hard disk.
+ *
+ * The file has the layout of a {@code JsonSerializableFinClient}, but is streamed one person at a time, so that
+ * reading or writing it never holds more than one person's JSON in memory.
  */
 public class JsonFinClientStorage implements FinClientStorage {
 
+    private static final String PERSONS_FIELD = "persons";
     private static final Logger logger = LogsCenter.getLogger(JsonFinClientStorage.class);
 
     private Path filePath;
@@ -45,14 +61,17 @@ public class JsonFinClientStorage implements FinClientStorage {
     public Optional<ReadOnlyFinClient> readFinClient(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableFinClient> jsonFinClient = JsonUtil.readJsonFile(
-                filePath, JsonSerializableFinClient.class);
-        if (!jsonFinClient.isPresent()) {
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
-
-        try {
-            return Optional.of(jsonFinClient.get().toModelType());
+        logger.info("JSON file " + filePath + " found.");
+
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(filePath));
+                JsonParser parser = JsonUtil.createJsonParser(in)) {
+            return Optional.of(readPersons(parser));
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
@@ -74,7 +93,49 @@ public class JsonFinClientStorage implements FinClientStorage {
         requireNonNull(filePath);
 
         FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableFinClient(finclient), filePath);
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(FileUtil.getTempFile(filePath)));
+                JsonGenerator generator = JsonUtil.createJsonGenerator(out)) {
+            writePersons(finclient, generator);
+        }
+        FileUtil.replaceWithTempFile(filePath);
+    }
+
+    /**
+     * Reads the persons of the object that {@code parser} is at the start of, skipping any other fields.
+     */
+    private static FinClient readPersons(JsonParser parser) throws IOException, IllegalValueException {
+        expectToken(parser, parser.nextToken(), JsonToken.START_OBJECT);
+        FinClient finClient = new FinClient();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            JsonToken valueToken = parser.nextToken();
+            if (!PERSONS_FIELD.equals(parser.getCurrentName())) {
+                parser.skipChildren();
+                continue;
+            }
+            expectToken(parser, valueToken, JsonToken.START_ARRAY);
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                JsonAdaptedPerson jsonAdaptedPerson = parser.readValueAs(JsonAdaptedPerson.class);
+                JsonSerializableFinClient.addPerson(finClient, jsonAdaptedPerson);
+            }
+        }
+        expectToken(parser, parser.getCurrentToken(), JsonToken.END_OBJECT);
+        return finClient;
+    }
+
+    private static void writePersons(ReadOnlyFinClient finclient, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeArrayFieldStart(PERSONS_FIELD);
+        for (Person person : finclient.getPersonList()) {
+            generator.writeObject(new JsonAdaptedPerson(person));
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    private static void expectToken(JsonParser parser, JsonToken actual, JsonToken expected) throws IOException {
+        if (actual != expected) {
+            throw new JsonParseException(parser, "Expected " + expected + " but found " + actual);
+        }
     }
 
 }
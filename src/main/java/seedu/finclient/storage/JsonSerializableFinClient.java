@@ -20,6 +20,7 @@ import seedu.finclient.model.person.Person;
 class JsonSerializableFinClient {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
+    public static final String MESSAGE_DUPLICATE_ORDER_ID = "Persons list contains duplicate order id(s).";
 
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
 
@@ -48,13 +49,26 @@ class JsonSerializableFinClient {
     public FinClient toModelType() throws IllegalValueException {
         FinClient finClient = new FinClient();
         for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (finClient.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
-            }
-            finClient.addPerson(person);
+            addPerson(finClient, jsonAdaptedPerson);
         }
         return finClient;
     }
 
+    /**
+     * Converts {@code jsonAdaptedPerson} and adds it to {@code finClient}, which holds the persons read before it.
+     *
+     * @throws IllegalValueException if the person is invalid, or clashes with a person read before it.
+     */
+    static void addPerson(FinClient finClient, JsonAdaptedPerson jsonAdaptedPerson) throws IllegalValueException {
+        Person person = jsonAdaptedPerson.toModelType();
+        if (finClient.hasPerson(person)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+        }
+        // Ids are checked on the adapted person, as the orders of a hidden person are not visible
+        if (jsonAdaptedPerson.getOrderIds().stream().anyMatch(finClient::hasOrder)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_ORDER_ID);
+        }
+        finClient.addPerson(person);
+    }
+
 }
@@ -2,12 +2,14 @@ package seedu.finclient.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 
 import seedu.finclient.commons.exceptions.DataLoadingException;
 import seedu.finclient.model.ReadOnlyFinClient;
 import seedu.finclient.model.ReadOnlyUserPrefs;
 import seedu.finclient.model.UserPrefs;
+import seedu.finclient.model.person.PersonChange;
 
 /**
  * API of the Storage component
@@ -29,4 +31,36 @@ public interface Storage extends FinClientStorage, UserPrefsStorage {
     @Override
     void saveFinClient(ReadOnlyFinClient finclient) throws IOException;
 
+    @Override
+    void saveFinClientChanges(ReadOnlyFinClient finclient, List<PersonChange> changes) throws IOException;
+
+    /**
+     * Writes the whole of {@code finClient} to {@code filePath}, which is not the data file, in the format its
+     * extension names. The file is written after every save still being written in the background.
+     */
+    void exportFinClient(ReadOnlyFinClient finClient, Path filePath) throws IOException;
+
+    /**
+     * Reads FinClient data from {@code filePath}, which is not the data file, in the format its extension names.
+     * Returns {@code Optional.empty()} if the file is not found.
+     */
+    Optional<ReadOnlyFinClient> importFinClient(Path filePath) throws DataLoadingException;
+
+    /**
+     * Waits for every save of FinClient data still being written in the background.
+     *
+     * @throws IOException if a save in the background failed and was not reported yet.
+     */
+    void flush() throws IOException;
+
+    /**
+     * Returns the number of times FinClient data was written to the data file.
+     */
+    long getPerformedSaveCount();
+
+    /**
+     * Returns the number of saves skipped because the data had not changed since it was last written.
+     */
+    long getSkippedSaveCount();
+
 }
@@ -1,31 +1,78 @@
 package seedu.finclient.storage;
 
+import static seedu.finclient.commons.util.AppUtil.checkArgument;
+
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
+import seedu.finclient.commons.core.DataFileFormat;
 import seedu.finclient.commons.core.LogsCenter;
 import seedu.finclient.commons.exceptions.DataLoadingException;
 import seedu.finclient.model.ReadOnlyFinClient;
 import seedu.finclient.model.ReadOnlyUserPrefs;
 import seedu.finclient.model.UserPrefs;
+import seedu.finclient.model.person.Person;
+import seedu.finclient.model.person.PersonChange;
 
 /**
  * Manages storage of FinClient data in local storage.
+ *
+ * Saving the same {@code ReadOnlyFinClient} again at the same {@link ReadOnlyFinClient#getVersion() version} is
+ * skipped, so that commands which do not change the data do not write it.
+ *
+ * Given an executor, changes are saved on it in the background, so that commands do not wait for the disk. Each
+ * save takes an immutable snapshot of the data on the calling thread, copying only the persons that changed since
+ * the last snapshot. Saves requested while an earlier one is still waiting to run are merged into it, so a burst
+ * of commands is written once. A save that fails in the background is reported by the next save, or by
+ * {@link #flush()}.
  */
 public class StorageManager implements Storage {
 
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private FinClientStorage finClientStorage;
     private UserPrefsStorage userPrefsStorage;
+    // The data last saved to the data file, or handed to the background to save, and its version then
+    private ReadOnlyFinClient savedFinClient;
+    private long savedVersion;
+    private long skippedSaveCount = 0;
+
+    // Null if saves are written on the calling thread
+    private final Executor saveExecutor;
+    // Copies of the persons of snapshotSource as of the last snapshot, slot by slot
+    private ReadOnlyFinClient snapshotSource;
+    private List<Person> snapshotPersons;
+    // The save waiting to run, the last save scheduled, and the error of a failed save not yet reported;
+    // guarded by this
+    private ReadOnlyFinClient pendingSnapshot;
+    private List<PersonChange> pendingChanges;
+    private CompletableFuture<Void> lastSave = CompletableFuture.completedFuture(null);
+    private IOException saveError;
+    private long performedSaveCount = 0;
 
     /**
-     * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
+     * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}, which
+     * saves on the calling thread.
      */
     public StorageManager(FinClientStorage finClientStorage, UserPrefsStorage userPrefsStorage) {
+        this(finClientStorage, userPrefsStorage, null);
+    }
+
+    /**
+     * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}, which
+     * saves changes on {@code saveExecutor}. The executor must run its tasks one at a time, in order.
+     */
+    public StorageManager(FinClientStorage finClientStorage, UserPrefsStorage userPrefsStorage,
+                          Executor saveExecutor) {
         this.finClientStorage = finClientStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.saveExecutor = saveExecutor;
     }
 
     // ================ UserPrefs methods ==============================
@@ -69,10 +116,214 @@ public class StorageManager implements Storage {
         saveFinClient(finClient, finClientStorage.getFinClientFilePath());
     }
 
+    /**
+     * Writes the whole of {@code finClient} on the calling thread, after any save in the background has finished.
+     */
     @Override
     public void saveFinClient(ReadOnlyFinClient finClient, Path filePath) throws IOException {
         logger.fine("Attempting to write to data file: " + filePath);
+        long version = finClient.getVersion();
+        waitForLastSave();
         finClientStorage.saveFinClient(finClient, filePath);
+        if (filePath.equals(getFinClientFilePath())) {
+            markSaved(finClient, version);
+            synchronized (this) {
+                performedSaveCount++;
+            }
+        }
+    }
+
+    /**
+     * Saves {@code changes}, or hands them to the background if there is an executor. Throws the error of an
+     * earlier save in the background that failed, if any, after handing the changes over.
+     */
+    @Override
+    public void saveFinClientChanges(ReadOnlyFinClient finClient, List<PersonChange> changes) throws IOException {
+        long version = finClient.getVersion();
+        IOException earlierError = takeSaveError();
+        if (earlierError == null && finClient == savedFinClient && version == savedVersion) {
+            assert changes.isEmpty() : "Every change bumps the version";
+            skippedSaveCount++;
+            logger.fine("Skipping save of unchanged data to data file: " + getFinClientFilePath());
+            return;
+        }
+
+        logger.fine("Attempting to save " + changes.size() + " change(s) to data file: " + getFinClientFilePath());
+        if (saveExecutor == null) {
+            finClientStorage.saveFinClientChanges(finClient, changes);
+            synchronized (this) {
+                performedSaveCount++;
+            }
+        } else {
+            List<PersonChange> copiedChanges = updateSnapshotPersons(finClient, changes);
+            scheduleSave(new FinClientSnapshot(snapshotPersons, version), copiedChanges);
+        }
+        markSaved(finClient, version);
+
+        if (earlierError != null) {
+            throw earlierError;
+        }
+    }
+
+    @Override
+    public void exportFinClient(ReadOnlyFinClient finClient, Path filePath) throws IOException {
+        FinClientStorage exportStorage = storageOf(filePath);
+        logger.fine("Attempting to export data to file: " + filePath);
+        waitForLastSave();
+        exportStorage.saveFinClient(finClient);
+    }
+
+    @Override
+    public Optional<ReadOnlyFinClient> importFinClient(Path filePath) throws DataLoadingException {
+        FinClientStorage importStorage = storageOf(filePath);
+        logger.fine("Attempting to import data from file: " + filePath);
+        return importStorage.readFinClient();
+    }
+
+    /**
+     * Returns a storage for {@code filePath} in the format its extension names, which must not be the data file.
+     */
+    private FinClientStorage storageOf(Path filePath) {
+        Optional<DataFileFormat> format = DataFileFormat.ofFile(filePath);
+        checkArgument(format.isPresent(), "Not named for a data file format: " + filePath);
+        checkArgument(!filePath.toAbsolutePath().normalize().equals(
+                getFinClientFilePath().toAbsolutePath().normalize()), "The data file is in use: " + filePath);
+        return FinClientStorage.of(format.get(), filePath);
+    }
+
+    /**
+     * Waits for every save handed to the background to be written.
+     *
+     * @throws IOException if a save in the background failed and was not reported yet.
+     */
+    @Override
+    public void flush() throws IOException {
+        waitForLastSave();
+        IOException error = takeSaveError();
+        if (error != null) {
+            throw error;
+        }
+    }
+
+    @Override
+    public synchronized long getPerformedSaveCount() {
+        return performedSaveCount;
+    }
+
+    @Override
+    public long getSkippedSaveCount() {
+        return skippedSaveCount;
+    }
+
+    private void markSaved(ReadOnlyFinClient finClient, long version) {
+        savedFinClient = finClient;
+        savedVersion = version;
+    }
+
+    /**
+     * Brings the copies of the persons of {@code finClient} up to date with {@code changes}, and returns the changes
+     * with each person replaced by its copy. All persons are copied afresh for new data or a reset.
+     */
+    private List<PersonChange> updateSnapshotPersons(ReadOnlyFinClient finClient, List<PersonChange> changes) {
+        boolean isReset = changes.stream().anyMatch(change -> change.getKind() == PersonChange.Kind.RESET);
+        if (finClient != snapshotSource || isReset) {
+            snapshotSource = finClient;
+            snapshotPersons = finClient.getPersonList().stream()
+                    .map(Person::copy)
+                    .collect(Collectors.toCollection(ArrayList::new));
+            return isReset ? List.of(PersonChange.RESET) : copyPersons(changes);
+        }
+
+        List<PersonChange> copiedChanges = copyPersons(changes);
+        for (PersonChange change : copiedChanges) {
+            switch (change.getKind()) {
+            case ADDED:
+                snapshotPersons.add(change.getPerson());
+                break;
+            case REPLACED:
+                snapshotPersons.set(change.getSlot(), change.getPerson());
+                break;
+            case REMOVED:
+                snapshotPersons.remove(change.getSlot());
+                break;
+            default:
+                throw new AssertionError("Unexpected change: " + change);
+            }
+        }
+        assert snapshotPersons.size() == finClient.getPersonList().size() : "Changes were polled elsewhere";
+        return copiedChanges;
+    }
+
+    private static List<PersonChange> copyPersons(List<PersonChange> changes) {
+        return changes.stream()
+                .map(change -> {
+                    switch (change.getKind()) {
+                    case ADDED:
+                        return PersonChange.added(change.getSlot(), change.getPerson().copy());
+                    case REPLACED:
+                        return PersonChange.replaced(change.getSlot(), change.getPerson().copy());
+                    default:
+                        return change;
+                    }
+                })
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Hands {@code snapshot} and {@code changes} to the background, merging them into the save waiting to run if
+     * there is one.
+     */
+    private synchronized void scheduleSave(ReadOnlyFinClient snapshot, List<PersonChange> changes) {
+        boolean isSaveScheduled = pendingSnapshot != null;
+        pendingSnapshot = snapshot;
+        if (!isSaveScheduled) {
+            pendingChanges = new ArrayList<>();
+        }
+        if (changes.contains(PersonChange.RESET) || pendingChanges.contains(PersonChange.RESET)) {
+            pendingChanges = new ArrayList<>(List.of(PersonChange.RESET));
+        } else {
+            pendingChanges.addAll(changes);
+        }
+        if (!isSaveScheduled) {
+            lastSave = CompletableFuture.runAsync(this::runPendingSave, saveExecutor);
+        }
+    }
+
+    private void runPendingSave() {
+        ReadOnlyFinClient snapshot;
+        List<PersonChange> changes;
+        synchronized (this) {
+            snapshot = pendingSnapshot;
+            changes = pendingChanges;
+            pendingSnapshot = null;
+            pendingChanges = null;
+        }
+
+        try {
+            finClientStorage.saveFinClientChanges(snapshot, changes);
+            synchronized (this) {
+                performedSaveCount++;
+            }
+        } catch (IOException e) {
+            logger.warning("Failed to save data to data file: " + getFinClientFilePath() + ": " + e);
+            synchronized (this) {
+                saveError = e;
+            }
+        }
+    }
+
+    private void waitForLastSave() {
+        CompletableFuture<Void> save;
+        synchronized (this) {
+            save = lastSave;
+        }
+        save.join();
+    }
+
+    private synchronized IOException takeSaveError() {
+        IOException error = saveError;
+        saveError = null;
+        return error;
     }
 
 }
@@ -1,7 +1,11 @@
 package seedu.finclient.ui;
 
+import java.util.List;
+import java.util.Map;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
@@ -19,6 +23,10 @@ import seedu.finclient.logic.commands.ExitCommand;
 import seedu.finclient.logic.commands.HelpCommand;
 import seedu.finclient.logic.commands.exceptions.CommandException;
 import seedu.finclient.logic.parser.exceptions.ParseException;
+import seedu.finclient.logic.pricefeed.IndicativePricePublisher;
+import seedu.finclient.model.order.IndicativePrice;
+import seedu.finclient.model.order.Order;
+import seedu.finclient.model.person.Person;
 
 /**
  * The Main Window. Provides the basic application layout containing
@@ -27,6 +35,7 @@ import seedu.finclient.logic.parser.exceptions.ParseException;
 public class MainWindow extends UiPart<Stage> {
 
     private static final String FXML = "MainWindow.fxml";
+    private static final int UPCOMING_EVENT_COUNT = 2;
 
     private final Logger logger = LogsCenter.getLogger(getClass());
 
@@ -38,6 +47,8 @@ public class MainWindow extends UiPart<Stage> {
     private ResultDisplay resultDisplay;
     private HelpWindow helpWindow;
     private UpcomingEventsPanel upcomingEventsPanel;
+    // The persons shown by upcomingEventsPanel
+    private List<Person> shownUpcomingPersons = List.of();
 
     @FXML
     private StackPane commandBoxPlaceholder;
@@ -119,12 +130,45 @@ public class MainWindow extends UiPart<Stage> {
         });
     }
 
+    /**
+     * Shows the upcoming events, rebuilding their panel only if they changed since it was last built.
+     */
+    private void refreshUpcomingEvents() {
+        List<Person> upcomingPersons = logic.getUpcomingPersons(UPCOMING_EVENT_COUNT);
+        if (upcomingEventsPanel != null && upcomingPersons.equals(shownUpcomingPersons)) {
+            return;
+        }
+        shownUpcomingPersons = upcomingPersons;
+        upcomingEventsPanel = new UpcomingEventsPanel(upcomingPersons);
+        upcomingEventsPlaceholder.getChildren().setAll(upcomingEventsPanel.getRoot());
+    }
+
+    /**
+     * Shows the latest indicative price, or the indicative price of each instrument once orders name a ticker.
+     */
+    private void refreshPriceLabel() {
+        Map<String, IndicativePrice> indicativePrices = logic.getIndicativePricePublisher().getSnapshot();
+        if (indicativePrices.keySet().stream().allMatch(Order.DEFAULT_TICKER::equals)) {
+            IndicativePrice indicativePrice = indicativePrices.getOrDefault(Order.DEFAULT_TICKER,
+                    IndicativePrice.NO_MATCH);
+            priceLabel.setText("Clearing Price: " + indicativePrice.getPrice().orElse(0.0)
+                    + ", Volume: " + indicativePrice.getMatchedVolume());
+            return;
+        }
+        priceLabel.setText("Clearing Prices: " + indicativePrices.entrySet().stream()
+                .map(entry -> entry.getKey() + " " + entry.getValue().getPrice().orElse(0.0))
+                .collect(Collectors.joining(", ")));
+    }
+
     /**
      * Fills up all the placeholders of this window.
      */
     void fillInnerParts() {
 
-        priceLabel.setText("Clearing Price: " + logic.getClearingPrice().orElse(0.0));
+        refreshPriceLabel();
+        // Updates arrive after every command; bursts are folded into one refresh on the FX thread
+        logic.getIndicativePricePublisher().subscribe(
+                IndicativePricePublisher.coalescing(Platform::runLater, unused -> refreshPriceLabel()));
 
         personListPanel = new PersonListPanel(logic.getFilteredPersonList());
         personListPanelPlaceholder.getChildren().add(personListPanel.getRoot());
@@ -138,8 +182,7 @@ public class MainWindow extends UiPart<Stage> {
         CommandBox commandBox = new CommandBox(this::executeCommand);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
 
-        UpcomingEventsPanel upcomingEventsPanel = new UpcomingEventsPanel(logic.getUpcomingPersons(2));
-        upcomingEventsPlaceholder.getChildren().add(upcomingEventsPanel.getRoot());
+        refreshUpcomingEvents();
     }
 
     /**
@@ -215,10 +258,7 @@ public class MainWindow extends UiPart<Stage> {
             // force refresh
             personListPanel = new PersonListPanel(logic.getFilteredPersonList());
             personListPanelPlaceholder.getChildren().add(personListPanel.getRoot());
-            priceLabel.setText("Clearing Price: " + logic.getClearingPrice().orElse(0.0));
-            upcomingEventsPlaceholder.getChildren().clear();
-            upcomingEventsPanel = new UpcomingEventsPanel(logic.getUpcomingPersons(2));
-            upcomingEventsPlaceholder.getChildren().add(upcomingEventsPanel.getRoot());
+            refreshUpcomingEvents();
 
             return commandResult;
         } catch (CommandException | ParseException e) {
@@ -68,7 +68,7 @@ public class PersonCard extends UiPart<Region> {
         phone.setText("Phone: " + person.getPhoneList().toString());
         address.setText("Address: " + person.getAddress().value);
         email.setText("Email: " + person.getEmail().value);
-        order.setText("Order: " + person.getOrder().toString());
+        order.setText("Order: " + (person.getIsHidden() ? person.getOrder() : person.getOrderList()));
 
         // Optionals
         if (person.getRemark().value.isEmpty()) {
@@ -9,9 +9,13 @@ import static seedu.finclient.logic.commands.CommandTestUtil.NAME_DESC_AMY;
 import static seedu.finclient.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
 import static seedu.finclient.logic.commands.CommandTestUtil.REMARK_DESC_AMY;
 import static seedu.finclient.testutil.Assert.assertThrows;
+import static seedu.finclient.testutil.TypicalPersons.ALICE;
+import static seedu.finclient.testutil.TypicalPersons.HOON;
+import static seedu.finclient.testutil.TypicalPersons.getTypicalFinClient;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -20,13 +24,17 @@ import org.junit.jupiter.api.io.TempDir;
 
 import seedu.finclient.logic.commands.AddCommand;
 import seedu.finclient.logic.commands.CommandResult;
+import seedu.finclient.logic.commands.ExportCommand;
+import seedu.finclient.logic.commands.ImportCommand;
 import seedu.finclient.logic.commands.ListCommand;
 import seedu.finclient.logic.commands.exceptions.CommandException;
 import seedu.finclient.logic.parser.exceptions.ParseException;
+import seedu.finclient.model.FinClient;
 import seedu.finclient.model.Model;
 import seedu.finclient.model.ModelManager;
 import seedu.finclient.model.ReadOnlyFinClient;
 import seedu.finclient.model.UserPrefs;
+import seedu.finclient.storage.BinaryFinClientStorage;
 import seedu.finclient.storage.JsonFinClientStorage;
 import seedu.finclient.storage.JsonUserPrefsStorage;
 import seedu.finclient.storage.StorageManager;
@@ -80,6 +88,38 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_exportThenImport_contactsReplaced() throws Exception {
+        FinClient exported = new FinClient();
+        exported.addPerson(ALICE);
+        exported.addPerson(HOON);
+        model.setFinClient(exported);
+        Model expectedModel = new ModelManager(exported, new UserPrefs());
+
+        Path filePath = temporaryFolder.resolve("export.bin");
+        assertCommandSuccess(ExportCommand.COMMAND_WORD + " " + filePath,
+                String.format(ExportCommand.MESSAGE_SUCCESS, 2, filePath), expectedModel);
+
+        model.setFinClient(getTypicalFinClient());
+        assertCommandSuccess(ImportCommand.COMMAND_WORD + " " + filePath,
+                String.format(ImportCommand.MESSAGE_SUCCESS, 2, filePath), expectedModel);
+    }
+
+    @Test
+    public void execute_importMissingFile_throwsCommandException() {
+        Path filePath = temporaryFolder.resolve("missing.bin");
+        assertCommandException(ImportCommand.COMMAND_WORD + " " + filePath,
+                String.format(ImportCommand.MESSAGE_FILE_NOT_FOUND, filePath));
+    }
+
+    @Test
+    public void execute_importWrongFormat_throwsCommandException() throws Exception {
+        Path filePath = temporaryFolder.resolve("contacts.bin");
+        Files.writeString(filePath, "{ \"persons\": [] }");
+        assertCommandException(ImportCommand.COMMAND_WORD + " " + filePath, String.format(
+                ImportCommand.MESSAGE_FAILURE, filePath, BinaryFinClientStorage.MESSAGE_NOT_BINARY_FILE));
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
@@ -161,7 +201,7 @@ public class LogicManagerTest {
         StorageManager storage = new StorageManager(finClientStorage, userPrefsStorage);
 
         logic = new LogicManager(model, storage);
-        model.setFinClient(new seedu.finclient.model.FinClient());
+        model.setFinClient(new FinClient());
 
         // Triggers the saveAddressBook method by executing an add command
         String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
@@ -11,6 +11,7 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Predicate;
 
@@ -24,7 +25,17 @@ import seedu.finclient.model.FinClient;
 import seedu.finclient.model.Model;
 import seedu.finclient.model.ReadOnlyFinClient;
 import seedu.finclient.model.ReadOnlyUserPrefs;
+import seedu.finclient.model.order.AllocationRule;
+import seedu.finclient.model.order.AuctionResult;
+import seedu.finclient.model.order.IndicativePrice;
+import seedu.finclient.model.order.MatchingMode;
+import seedu.finclient.model.order.Order;
+import seedu.finclient.model.order.Trade;
+import seedu.finclient.model.person.NameContainsKeywordsPredicate;
 import seedu.finclient.model.person.Person;
+import seedu.finclient.model.person.PersonChange;
+import seedu.finclient.model.person.PersonSortOrder;
+import seedu.finclient.model.query.PersonQuery;
 import seedu.finclient.testutil.PersonBuilder;
 
 public class AddCommandTest {
@@ -180,6 +191,66 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Map<String, Optional<Double>> calculateClearingPrices() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public AuctionResult calculateAuction(String ticker, AllocationRule rule) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Map<String, IndicativePrice> pollIndicativePriceChanges() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<PersonChange> pollPersonChanges() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean hasOrder(long orderId) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<Order> getOrder(long orderId) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public long placeOrder(Person person, Order order) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void amendOrder(long orderId, Order editedOrder) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void cancelOrder(long orderId) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public MatchingMode getMatchingMode() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setMatchingMode(MatchingMode matchingMode) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Trade> getTradeList() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public Optional<Double> calculateClearingPrice() {
             throw new AssertionError("This method should not be called.");
@@ -195,13 +266,28 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void updateFilteredPersonList(NameContainsKeywordsPredicate predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void updateFilteredPersonList(PersonQuery query) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void updateFilteredPersonListToSearch(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public List<Person> getUpcomingPersons(int count) {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public void sortPersons(String criteria) {
+        public void sortPersons(PersonSortOrder sortOrder) {
             throw new AssertionError("This method should not be called.");
         }
     }
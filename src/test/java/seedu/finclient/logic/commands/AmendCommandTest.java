@@ -0,0 +1,66 @@
+package seedu.finclient.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.finclient.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.finclient.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.finclient.testutil.TypicalPersons.getTypicalFinClient;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.finclient.logic.Messages;
+import seedu.finclient.model.Model;
+import seedu.finclient.model.ModelManager;
+import seedu.finclient.model.UserPrefs;
+import seedu.finclient.model.order.Order;
+import seedu.finclient.model.order.Order.OrderType;
+import seedu.finclient.model.person.Person;
+
+public class AmendCommandTest {
+
+    private Model model = new ModelManager(getTypicalFinClient(), new UserPrefs());
+
+    @Test
+    public void execute_amendQuantityAndPrice_success() throws Exception {
+        Person person = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
+        long orderId = model.placeOrder(person, new Order(OrderType.SELL, "AAPL", "10.00", 5));
+
+        CommandResult result = new AmendCommand(orderId, 8, "9.5").execute(model);
+
+        Order expectedOrder = new Order(OrderType.SELL, "AAPL", "9.5", 8);
+        assertEquals(String.format(AmendCommand.MESSAGE_AMEND_ORDER_SUCCESS, orderId, expectedOrder),
+                result.getFeedbackToUser());
+        assertEquals(Optional.of(expectedOrder), model.getOrder(orderId));
+    }
+
+    @Test
+    public void execute_amendQuantityOnly_keepsPrice() throws Exception {
+        Person person = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
+        long orderId = model.placeOrder(person, new Order(OrderType.BUY, "5.05", 5));
+
+        new AmendCommand(orderId, 12, null).execute(model);
+
+        assertEquals(Optional.of(new Order(OrderType.BUY, "5.05", 12)), model.getOrder(orderId));
+    }
+
+    @Test
+    public void execute_unknownOrderId_throwsCommandException() {
+        assertCommandFailure(new AmendCommand(Long.MAX_VALUE, 1, null), model, Messages.MESSAGE_INVALID_ORDER_ID);
+    }
+
+    @Test
+    public void equals() {
+        AmendCommand amendCommand = new AmendCommand(1, 10, "5.50");
+
+        assertTrue(amendCommand.equals(amendCommand));
+        assertTrue(amendCommand.equals(new AmendCommand(1, 10, "5.50")));
+        assertFalse(amendCommand.equals(1));
+        assertFalse(amendCommand.equals(null));
+        assertFalse(amendCommand.equals(new AmendCommand(2, 10, "5.50")));
+        assertFalse(amendCommand.equals(new AmendCommand(1, null, "5.50")));
+        assertFalse(amendCommand.equals(new AmendCommand(1, 10, null)));
+    }
+}
@@ -0,0 +1,59 @@
+package seedu.finclient.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.finclient.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.finclient.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.finclient.testutil.TypicalPersons.getTypicalFinClient;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.finclient.logic.Messages;
+import seedu.finclient.model.Model;
+import seedu.finclient.model.ModelManager;
+import seedu.finclient.model.UserPrefs;
+import seedu.finclient.model.order.Order;
+import seedu.finclient.model.person.Person;
+
+public class CancelCommandTest {
+
+    private Model model = new ModelManager(getTypicalFinClient(), new UserPrefs());
+
+    @Test
+    public void execute_validOrderId_success() throws Exception {
+        Person person = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
+        long firstOrderId = person.getOrderList().asMap().keySet().iterator().next();
+        long placedOrderId = model.placeOrder(person, new Order("SELL 5 @ $7.00"));
+
+        CommandResult result = new CancelCommand(firstOrderId).execute(model);
+
+        assertEquals(String.format(CancelCommand.MESSAGE_CANCEL_ORDER_SUCCESS, firstOrderId),
+                result.getFeedbackToUser());
+        assertFalse(model.hasOrder(firstOrderId));
+        assertTrue(model.hasOrder(placedOrderId));
+        assertEquals(new Order("SELL 5 @ $7.00"), person.getOrder());
+    }
+
+    @Test
+    public void execute_unknownOrderId_throwsCommandException() {
+        assertCommandFailure(new CancelCommand(Long.MAX_VALUE), model, Messages.MESSAGE_INVALID_ORDER_ID);
+    }
+
+    @Test
+    public void equals() {
+        CancelCommand cancelFirstCommand = new CancelCommand(1);
+
+        assertTrue(cancelFirstCommand.equals(cancelFirstCommand));
+        assertTrue(cancelFirstCommand.equals(new CancelCommand(1)));
+        assertFalse(cancelFirstCommand.equals(1));
+        assertFalse(cancelFirstCommand.equals(null));
+        assertFalse(cancelFirstCommand.equals(new CancelCommand(2)));
+    }
+
+    @Test
+    public void toStringMethod() {
+        CancelCommand cancelCommand = new CancelCommand(3);
+        assertEquals(CancelCommand.class.getCanonicalName() + "{orderId=3}", cancelCommand.toString());
+    }
+}
@@ -5,8 +5,12 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.nio.file.Paths;
+
 import org.junit.jupiter.api.Test;
 
+import seedu.finclient.logic.commands.FileTransfer.Direction;
+
 public class CommandResultTest {
     @Test
     public void equals() {
@@ -33,6 +37,15 @@ public class CommandResultTest {
 
         // different exit value -> returns false
         assertFalse(commandResult.equals(new CommandResult("feedback", false, true)));
+
+        // different fileTransfer value -> returns false
+        CommandResult exportResult = new CommandResult("feedback",
+                new FileTransfer(Direction.EXPORT, Paths.get("a.bin")));
+        assertFalse(commandResult.equals(exportResult));
+        assertTrue(exportResult.equals(new CommandResult("feedback",
+                new FileTransfer(Direction.EXPORT, Paths.get("a.bin")))));
+        assertFalse(exportResult.equals(new CommandResult("feedback",
+                new FileTransfer(Direction.IMPORT, Paths.get("a.bin")))));
     }
 
     @Test
@@ -57,7 +70,7 @@ public class CommandResultTest {
         CommandResult commandResult = new CommandResult("feedback");
         String expected = CommandResult.class.getCanonicalName() + "{feedbackToUser="
                 + commandResult.getFeedbackToUser() + ", showHelp=" + commandResult.isShowHelp()
-                + ", exit=" + commandResult.isExit() + "}";
+                + ", exit=" + commandResult.isExit() + ", fileTransfer=null}";
         assertEquals(expected, commandResult.toString());
     }
 }
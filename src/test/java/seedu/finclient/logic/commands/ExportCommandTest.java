@@ -0,0 +1,70 @@
+package seedu.finclient.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.finclient.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.finclient.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.finclient.testutil.Assert.assertThrows;
+import static seedu.finclient.testutil.TypicalPersons.getTypicalFinClient;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.finclient.logic.Messages;
+import seedu.finclient.logic.commands.FileTransfer.Direction;
+import seedu.finclient.model.Model;
+import seedu.finclient.model.ModelManager;
+import seedu.finclient.model.UserPrefs;
+
+public class ExportCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Model model = new ModelManager(getTypicalFinClient(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalFinClient(), new UserPrefs());
+
+    @Test
+    public void constructor_invalidFilePath_throwsException() {
+        assertThrows(NullPointerException.class, () -> new ExportCommand(null));
+        assertThrows(IllegalArgumentException.class, () -> new ExportCommand(Paths.get("finclient.txt")));
+    }
+
+    @Test
+    public void execute_otherFile_requestsExport() {
+        Path filePath = testFolder.resolve("finclient.bin");
+        CommandResult expectedCommandResult = new CommandResult(
+                String.format(ExportCommand.MESSAGE_REQUESTED, filePath), new FileTransfer(Direction.EXPORT, filePath));
+        assertCommandSuccess(new ExportCommand(filePath), model, expectedCommandResult, expectedModel);
+    }
+
+    @Test
+    public void execute_dataFile_failure() {
+        Path dataFilePath = model.getFinClientFilePath().toAbsolutePath();
+        assertCommandFailure(new ExportCommand(dataFilePath), model,
+                String.format(Messages.MESSAGE_DATA_FILE_IN_USE, dataFilePath));
+    }
+
+    @Test
+    public void equals() {
+        ExportCommand exportCommand = new ExportCommand(Paths.get("a.bin"));
+
+        // same object -> returns true
+        assertTrue(exportCommand.equals(exportCommand));
+
+        // same values -> returns true
+        assertTrue(exportCommand.equals(new ExportCommand(Paths.get("a.bin"))));
+
+        // different types -> returns false
+        assertFalse(exportCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(exportCommand.equals(null));
+
+        // different file -> returns false
+        assertFalse(exportCommand.equals(new ExportCommand(Paths.get("a.json"))));
+    }
+}
@@ -0,0 +1,90 @@
+package seedu.finclient.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.finclient.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static seedu.finclient.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.finclient.testutil.TypicalPersons.BENSON;
+import static seedu.finclient.testutil.TypicalPersons.CARL;
+import static seedu.finclient.testutil.TypicalPersons.DANIEL;
+import static seedu.finclient.testutil.TypicalPersons.getTypicalFinClient;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.finclient.model.Model;
+import seedu.finclient.model.ModelManager;
+import seedu.finclient.model.UserPrefs;
+import seedu.finclient.model.order.Order.OrderType;
+import seedu.finclient.model.query.Comparison;
+import seedu.finclient.model.query.NetworthCondition;
+import seedu.finclient.model.query.OrderCondition;
+import seedu.finclient.model.query.PersonQuery;
+import seedu.finclient.model.query.TagCondition;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code FilterCommand}.
+ */
+public class FilterCommandTest {
+    private Model model = new ModelManager(getTypicalFinClient(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalFinClient(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        FilterCommand filterFirstCommand = new FilterCommand(new PersonQuery(List.of(new TagCondition("first"))));
+        FilterCommand filterSecondCommand = new FilterCommand(new PersonQuery(List.of(new TagCondition("second"))));
+
+        // same object -> returns true
+        assertTrue(filterFirstCommand.equals(filterFirstCommand));
+
+        // same values -> returns true
+        assertTrue(filterFirstCommand.equals(new FilterCommand(new PersonQuery(List.of(new TagCondition("first"))))));
+
+        // different types -> returns false
+        assertFalse(filterFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(filterFirstCommand.equals(null));
+
+        // different query -> returns false
+        assertFalse(filterFirstCommand.equals(filterSecondCommand));
+    }
+
+    @Test
+    public void execute_noMatch_noPersonFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 0);
+        PersonQuery query = new PersonQuery(List.of(new TagCondition("colleagues")));
+        expectedModel.updateFilteredPersonList(query);
+        assertCommandSuccess(new FilterCommand(query), model, expectedMessage, expectedModel);
+        assertEquals(Collections.emptyList(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_severalConditions_personsMeetingAll() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2);
+        PersonQuery query = new PersonQuery(List.of(new TagCondition("friends"),
+                new NetworthCondition(Comparison.GREATER_OR_EQUAL, 100_000)));
+        expectedModel.updateFilteredPersonList(query);
+        assertCommandSuccess(new FilterCommand(query), model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(BENSON, DANIEL), model.getFilteredPersonList());
+
+        // every typical person buys at $5.50 unless stated otherwise
+        PersonQuery cheapBuyers = new PersonQuery(List.of(
+                OrderCondition.priced(OrderType.BUY, Comparison.LESS, 500, Optional.empty())));
+        new FilterCommand(cheapBuyers).execute(model);
+        assertEquals(Arrays.asList(BENSON, CARL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void toStringMethod() {
+        PersonQuery query = new PersonQuery(List.of(new TagCondition("vip")));
+        FilterCommand filterCommand = new FilterCommand(query);
+        String expected = FilterCommand.class.getCanonicalName() + "{query=" + query + "}";
+        assertEquals(expected, filterCommand.toString());
+    }
+}
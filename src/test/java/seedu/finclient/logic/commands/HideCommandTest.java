@@ -11,6 +11,7 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Predicate;
 
@@ -24,8 +25,17 @@ import seedu.finclient.logic.commands.exceptions.CommandException;
 import seedu.finclient.model.Model;
 import seedu.finclient.model.ReadOnlyFinClient;
 import seedu.finclient.model.ReadOnlyUserPrefs;
+import seedu.finclient.model.order.AllocationRule;
+import seedu.finclient.model.order.AuctionResult;
+import seedu.finclient.model.order.IndicativePrice;
+import seedu.finclient.model.order.MatchingMode;
+import seedu.finclient.model.order.Order;
+import seedu.finclient.model.order.Trade;
 import seedu.finclient.model.person.NameContainsKeywordsPredicate;
 import seedu.finclient.model.person.Person;
+import seedu.finclient.model.person.PersonChange;
+import seedu.finclient.model.person.PersonSortOrder;
+import seedu.finclient.model.query.PersonQuery;
 
 public class HideCommandTest {
 
@@ -202,6 +212,66 @@ public class HideCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Map<String, Optional<Double>> calculateClearingPrices() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public AuctionResult calculateAuction(String ticker, AllocationRule rule) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Map<String, IndicativePrice> pollIndicativePriceChanges() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<PersonChange> pollPersonChanges() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean hasOrder(long orderId) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<Order> getOrder(long orderId) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public long placeOrder(Person person, Order order) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void amendOrder(long orderId, Order editedOrder) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void cancelOrder(long orderId) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public MatchingMode getMatchingMode() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setMatchingMode(MatchingMode matchingMode) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Trade> getTradeList() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public Optional<Double> calculateClearingPrice() {
             throw new AssertionError("This method should not be called.");
@@ -215,13 +285,28 @@ public class HideCommandTest {
         public void updateFilteredPersonList(Predicate<Person> predicate) {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public void updateFilteredPersonList(NameContainsKeywordsPredicate predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void updateFilteredPersonList(PersonQuery query) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void updateFilteredPersonListToSearch(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
         @Override
         public List<Person> getUpcomingPersons(int count) {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public void sortPersons(String criteria) {
+        public void sortPersons(PersonSortOrder sortOrder) {
             throw new AssertionError("This method should not be called.");
         }
     }
@@ -316,6 +401,66 @@ public class HideCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Map<String, Optional<Double>> calculateClearingPrices() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public AuctionResult calculateAuction(String ticker, AllocationRule rule) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Map<String, IndicativePrice> pollIndicativePriceChanges() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<PersonChange> pollPersonChanges() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean hasOrder(long orderId) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<Order> getOrder(long orderId) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public long placeOrder(Person person, Order order) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void amendOrder(long orderId, Order editedOrder) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void cancelOrder(long orderId) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public MatchingMode getMatchingMode() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setMatchingMode(MatchingMode matchingMode) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Trade> getTradeList() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public Optional<Double> calculateClearingPrice() {
             throw new AssertionError("This method should not be called.");
@@ -326,13 +471,28 @@ public class HideCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void updateFilteredPersonList(NameContainsKeywordsPredicate predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void updateFilteredPersonList(PersonQuery query) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void updateFilteredPersonListToSearch(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public List<Person> getUpcomingPersons(int count) {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public void sortPersons(String criteria) {
+        public void sortPersons(PersonSortOrder sortOrder) {
             throw new AssertionError("This method should not be called.");
         }
     }
@@ -417,6 +577,66 @@ public class HideCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Map<String, Optional<Double>> calculateClearingPrices() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public AuctionResult calculateAuction(String ticker, AllocationRule rule) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Map<String, IndicativePrice> pollIndicativePriceChanges() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<PersonChange> pollPersonChanges() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean hasOrder(long orderId) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<Order> getOrder(long orderId) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public long placeOrder(Person person, Order order) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void amendOrder(long orderId, Order editedOrder) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void cancelOrder(long orderId) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public MatchingMode getMatchingMode() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setMatchingMode(MatchingMode matchingMode) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Trade> getTradeList() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public Optional<Double> calculateClearingPrice() {
             throw new AssertionError("This method should not be called.");
@@ -431,13 +651,28 @@ public class HideCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void updateFilteredPersonList(NameContainsKeywordsPredicate predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void updateFilteredPersonList(PersonQuery query) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void updateFilteredPersonListToSearch(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public List<Person> getUpcomingPersons(int count) {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public void sortPersons(String criteria) {
+        public void sortPersons(PersonSortOrder sortOrder) {
             throw new AssertionError("This method should not be called.");
         }
     }
@@ -0,0 +1,71 @@
+package seedu.finclient.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.finclient.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.finclient.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.finclient.testutil.Assert.assertThrows;
+import static seedu.finclient.testutil.TypicalPersons.getTypicalFinClient;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.finclient.logic.Messages;
+import seedu.finclient.logic.commands.FileTransfer.Direction;
+import seedu.finclient.model.Model;
+import seedu.finclient.model.ModelManager;
+import seedu.finclient.model.UserPrefs;
+
+public class ImportCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Model model = new ModelManager(getTypicalFinClient(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalFinClient(), new UserPrefs());
+
+    @Test
+    public void constructor_invalidFilePath_throwsException() {
+        assertThrows(NullPointerException.class, () -> new ImportCommand(null));
+        assertThrows(IllegalArgumentException.class, () -> new ImportCommand(Paths.get("finclient")));
+    }
+
+    @Test
+    public void execute_otherFile_requestsImport() {
+        // the contacts are only replaced once the file is read
+        Path filePath = testFolder.resolve("finclient.bin");
+        CommandResult expectedCommandResult = new CommandResult(
+                String.format(ImportCommand.MESSAGE_REQUESTED, filePath), new FileTransfer(Direction.IMPORT, filePath));
+        assertCommandSuccess(new ImportCommand(filePath), model, expectedCommandResult, expectedModel);
+    }
+
+    @Test
+    public void execute_dataFile_failure() {
+        Path dataFilePath = model.getFinClientFilePath();
+        assertCommandFailure(new ImportCommand(dataFilePath), model,
+                String.format(Messages.MESSAGE_DATA_FILE_IN_USE, dataFilePath));
+    }
+
+    @Test
+    public void equals() {
+        ImportCommand importCommand = new ImportCommand(Paths.get("a.bin"));
+
+        // same object -> returns true
+        assertTrue(importCommand.equals(importCommand));
+
+        // same values -> returns true
+        assertTrue(importCommand.equals(new ImportCommand(Paths.get("a.bin"))));
+
+        // different types -> returns false
+        assertFalse(importCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(importCommand.equals(null));
+
+        // different file -> returns false
+        assertFalse(importCommand.equals(new ImportCommand(Paths.get("b.bin"))));
+    }
+}
@@ -0,0 +1,52 @@
+package seedu.finclient.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.finclient.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.finclient.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.finclient.testutil.TypicalPersons.getTypicalFinClient;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.finclient.logic.Messages;
+import seedu.finclient.model.Model;
+import seedu.finclient.model.ModelManager;
+import seedu.finclient.model.UserPrefs;
+import seedu.finclient.model.order.MatchingMode;
+import seedu.finclient.model.order.Order;
+import seedu.finclient.model.order.Trade;
+
+public class MarketCommandTest {
+
+    private Model model = new ModelManager(getTypicalFinClient(), new UserPrefs());
+
+    @Test
+    public void execute_continuous_orderCommandReportsTrades() throws Exception {
+        CommandResult result = new MarketCommand(MatchingMode.CONTINUOUS).execute(model);
+        assertEquals(String.format(MarketCommand.MESSAGE_SUCCESS, MatchingMode.CONTINUOUS),
+                result.getFeedbackToUser());
+        assertEquals(MatchingMode.CONTINUOUS, model.getMatchingMode());
+
+        // priced above every typical BUY order, so it rests
+        new OrderCommand(INDEX_FIRST_PERSON, new Order("SELL 5 @ $9.00")).execute(model);
+        assertTrue(model.getTradeList().isEmpty());
+        CommandResult orderResult = new OrderCommand(INDEX_SECOND_PERSON, new Order("BUY 5 @ $9.50"))
+                .execute(model);
+
+        Trade trade = model.getTradeList().get(0);
+        assertEquals(String.format(OrderCommand.MESSAGE_SUCCESS, trade.getBuyOrderId())
+                + "\n" + String.format(Messages.MESSAGE_TRADE, 5, 9.0, trade.getSellOrderId()),
+                orderResult.getFeedbackToUser());
+    }
+
+    @Test
+    public void equals() {
+        MarketCommand continuousCommand = new MarketCommand(MatchingMode.CONTINUOUS);
+
+        assertTrue(continuousCommand.equals(continuousCommand));
+        assertTrue(continuousCommand.equals(new MarketCommand(MatchingMode.CONTINUOUS)));
+        assertFalse(continuousCommand.equals(null));
+        assertFalse(continuousCommand.equals(new MarketCommand(MatchingMode.AUCTION)));
+    }
+}
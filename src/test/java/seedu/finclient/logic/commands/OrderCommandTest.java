@@ -10,6 +10,7 @@ import static seedu.finclient.testutil.Assert.assertThrows;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Predicate;
 
@@ -22,8 +23,17 @@ import seedu.finclient.logic.commands.exceptions.CommandException;
 import seedu.finclient.model.Model;
 import seedu.finclient.model.ReadOnlyFinClient;
 import seedu.finclient.model.ReadOnlyUserPrefs;
+import seedu.finclient.model.order.AllocationRule;
+import seedu.finclient.model.order.AuctionResult;
+import seedu.finclient.model.order.IndicativePrice;
+import seedu.finclient.model.order.MatchingMode;
 import seedu.finclient.model.order.Order;
+import seedu.finclient.model.order.Trade;
+import seedu.finclient.model.person.NameContainsKeywordsPredicate;
 import seedu.finclient.model.person.Person;
+import seedu.finclient.model.person.PersonChange;
+import seedu.finclient.model.person.PersonSortOrder;
+import seedu.finclient.model.query.PersonQuery;
 import seedu.finclient.testutil.PersonBuilder;
 
 public class OrderCommandTest {
@@ -43,12 +53,13 @@ public class OrderCommandTest {
         CommandResult result = orderCommand.execute(modelStub);
 
         // Check the feedback message is what we expect
-        assertEquals(OrderCommand.MESSAGE_SUCCESS, result.getFeedbackToUser());
+        assertEquals(String.format(OrderCommand.MESSAGE_SUCCESS, ModelStubWithOnePerson.PLACED_ORDER_ID),
+                result.getFeedbackToUser());
 
-        // Ensure the person that was saved has been "unhidden" and now has the new Order
-        // The stub sets "editedPerson" to the newly created person in setPerson(...)
-        Person editedPerson = modelStub.editedPerson;
-        assertEquals(sampleOrder, editedPerson.getOrder(),
+        // Ensure the person has been revealed and the order placed for that person, without replacing them
+        assertTrue(modelStub.revealCalled, "The person should be revealed before placing the order.");
+        assertEquals(originalPerson, modelStub.orderOwner);
+        assertEquals(sampleOrder, modelStub.placedOrder,
                 "Person’s order should be the one specified in the OrderCommand.");
 
         // Also check that updateFilteredPersonList was called with PREDICATE_SHOW_ALL_PERSONS
@@ -56,6 +67,19 @@ public class OrderCommandTest {
                 "updateFilteredPersonList(...) should be called once with the 'show all' predicate.");
     }
 
+    @Test
+    public void execute_noneOrder_cancelsAllOrders() throws Exception {
+        Person originalPerson = new PersonBuilder().withName("Alice").withOrder("NONE").build();
+        originalPerson.getOrderList().add(1, new Order(PersonBuilder.DEFAULT_ORDER));
+        ModelStubWithOnePerson modelStub = new ModelStubWithOnePerson(originalPerson);
+
+        CommandResult result = new OrderCommand(Index.fromOneBased(1), new Order("NONE")).execute(modelStub);
+
+        assertEquals(String.format(OrderCommand.MESSAGE_CANCEL_ALL_SUCCESS, 1), result.getFeedbackToUser());
+        assertEquals(new ArrayList<>(originalPerson.getOrderList().asMap().keySet()), modelStub.cancelledOrderIds);
+        assertTrue(modelStub.updateListCalled);
+    }
+
     @Test
     public void execute_invalidIndex_throwsCommandException() {
         // Model stub with exactly one person
@@ -109,12 +133,18 @@ public class OrderCommandTest {
 
     /**
      * A Model stub containing exactly one person.
-     * It records calls to setPerson(...) and updateFilteredPersonList(...).
+     * It records calls to revealPerson(...), placeOrder(...), cancelOrder(...) and updateFilteredPersonList(...).
      */
     private static class ModelStubWithOnePerson implements Model {
+        private static final long PLACED_ORDER_ID = 42;
+
         private final List<Person> internalList = new ArrayList<>();
+        private final List<Long> cancelledOrderIds = new ArrayList<>();
         private Person originalPerson;
         private Person editedPerson;
+        private Person orderOwner;
+        private Order placedOrder;
+        private boolean revealCalled = false;
         private boolean updateListCalled = false;
 
         ModelStubWithOnePerson(Person person) {
@@ -145,6 +175,21 @@ public class OrderCommandTest {
             updateListCalled = true;
         }
 
+        @Override
+        public void updateFilteredPersonList(NameContainsKeywordsPredicate predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void updateFilteredPersonList(PersonQuery query) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void updateFilteredPersonListToSearch(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
             throw new AssertionError("This method should not be called.");
@@ -203,7 +248,7 @@ public class OrderCommandTest {
         }
         @Override
         public void revealPerson(Person person) {
-            throw new AssertionError("This method should not be called.");
+            revealCalled = true;
         }
         @Override
         public void hideAllPersons() {
@@ -213,12 +258,74 @@ public class OrderCommandTest {
         public void revealAllPersons() {
             throw new AssertionError("This method should not be called.");
         }
+        @Override
+        public Map<String, Optional<Double>> calculateClearingPrices() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public AuctionResult calculateAuction(String ticker, AllocationRule rule) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Map<String, IndicativePrice> pollIndicativePriceChanges() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<PersonChange> pollPersonChanges() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean hasOrder(long orderId) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<Order> getOrder(long orderId) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public long placeOrder(Person person, Order order) {
+            orderOwner = person;
+            placedOrder = order;
+            return PLACED_ORDER_ID;
+        }
+
+        @Override
+        public void amendOrder(long orderId, Order editedOrder) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void cancelOrder(long orderId) {
+            cancelledOrderIds.add(orderId);
+        }
+
+        @Override
+        public MatchingMode getMatchingMode() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setMatchingMode(MatchingMode matchingMode) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Trade> getTradeList() {
+            return List.of();
+        }
+
         @Override
         public Optional<Double> calculateClearingPrice() {
             throw new AssertionError("This method should not be called.");
         }
         @Override
-        public void sortPersons(String criteria) {
+        public void sortPersons(PersonSortOrder sortOrder) {
             throw new AssertionError("This method should not be called.");
         }
         @Override
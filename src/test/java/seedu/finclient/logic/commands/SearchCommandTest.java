@@ -0,0 +1,81 @@
+package seedu.finclient.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.finclient.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static seedu.finclient.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.finclient.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+import static seedu.finclient.testutil.TypicalPersons.BENSON;
+import static seedu.finclient.testutil.TypicalPersons.DANIEL;
+import static seedu.finclient.testutil.TypicalPersons.ELLE;
+import static seedu.finclient.testutil.TypicalPersons.getTypicalFinClient;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.finclient.model.Model;
+import seedu.finclient.model.ModelManager;
+import seedu.finclient.model.UserPrefs;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code SearchCommand}.
+ */
+public class SearchCommandTest {
+    private Model model = new ModelManager(getTypicalFinClient(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalFinClient(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        SearchCommand searchFirstCommand = new SearchCommand(Collections.singletonList("first"));
+        SearchCommand searchSecondCommand = new SearchCommand(Collections.singletonList("second"));
+
+        // same object -> returns true
+        assertTrue(searchFirstCommand.equals(searchFirstCommand));
+
+        // same values -> returns true
+        assertTrue(searchFirstCommand.equals(new SearchCommand(Collections.singletonList("first"))));
+
+        // different types -> returns false
+        assertFalse(searchFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(searchFirstCommand.equals(null));
+
+        // different keywords -> returns false
+        assertFalse(searchFirstCommand.equals(searchSecondCommand));
+    }
+
+    @Test
+    public void execute_noMatch_noPersonFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 0);
+        List<String> keywords = Arrays.asList("zzzz");
+        expectedModel.updateFilteredPersonListToSearch(keywords);
+        assertCommandSuccess(new SearchCommand(keywords), model, expectedMessage, expectedModel);
+        assertEquals(Collections.emptyList(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_misspeltKeyword_bestMatchesFirst() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 3);
+        // Meyer exactly, then Meier one letter off
+        List<String> keywords = Arrays.asList("MEYER");
+        expectedModel.updateFilteredPersonListToSearch(keywords);
+        assertCommandSuccess(new SearchCommand(keywords), model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(ELLE, BENSON, DANIEL), model.getFilteredPersonList());
+
+        // listing everyone again restores the order of the list
+        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        assertEquals(BENSON, model.getFilteredPersonList().get(1));
+    }
+
+    @Test
+    public void toStringMethod() {
+        SearchCommand searchCommand = new SearchCommand(Arrays.asList("keyword"));
+        String expected = SearchCommand.class.getCanonicalName() + "{keywords=[keyword]}";
+        assertEquals(expected, searchCommand.toString());
+    }
+}
@@ -11,6 +11,8 @@ import org.junit.jupiter.api.Test;
 
 import seedu.finclient.model.Model;
 import seedu.finclient.model.ModelManager;
+import seedu.finclient.model.person.PersonSortOrder;
+import seedu.finclient.model.person.PersonSortOrder.Criterion;
 
 public class SortCommandTest {
 
@@ -24,18 +26,20 @@ public class SortCommandTest {
 
     @Test
     public void execute_sort_success() {
-        CommandResult expectedCommandResultName =
-                new CommandResult(String.format(MESSAGE_SORT_ACKNOWLEDGEMENT, "name"), false, false);
-        CommandResult expectedCommandResultAmount =
-                new CommandResult(String.format(MESSAGE_SORT_ACKNOWLEDGEMENT, "amount"), false, false);
-        CommandResult expectedCommandResultNetworth =
-                new CommandResult(String.format(MESSAGE_SORT_ACKNOWLEDGEMENT, "networth"), false, false);
-        CommandResult expectedCommandResultPrive =
-                new CommandResult(String.format(MESSAGE_SORT_ACKNOWLEDGEMENT, "price"), false, false);
-        assertCommandSuccess(new SortCommand("name"), model, expectedCommandResultName, expectedModel);
-        assertCommandSuccess(new SortCommand("amount"), model, expectedCommandResultAmount, expectedModel);
-        assertCommandSuccess(new SortCommand("networth"), model, expectedCommandResultNetworth, expectedModel);
-        assertCommandSuccess(new SortCommand("price"), model, expectedCommandResultPrive, expectedModel);
+        for (Criterion criterion : Criterion.values()) {
+            CommandResult expectedCommandResult = new CommandResult(
+                    String.format(MESSAGE_SORT_ACKNOWLEDGEMENT, criterion.getKeyword()), false, false);
+            assertCommandSuccess(new SortCommand(new PersonSortOrder(criterion)), model, expectedCommandResult,
+                    expectedModel);
+        }
+    }
+
+    @Test
+    public void execute_multipleCriteria_success() {
+        CommandResult expectedCommandResult =
+                new CommandResult(String.format(MESSAGE_SORT_ACKNOWLEDGEMENT, "networth, name"), false, false);
+        assertCommandSuccess(new SortCommand(new PersonSortOrder(Criterion.NETWORTH, Criterion.NAME)), model,
+                expectedCommandResult, expectedModel);
     }
 
     @Test
@@ -58,14 +62,14 @@ public class SortCommandTest {
 
     @Test
     public void equals() {
-        SortCommand sortNameCommand = new SortCommand("name");
-        SortCommand sortAmountCommand = new SortCommand("amount");
+        SortCommand sortNameCommand = new SortCommand(new PersonSortOrder(Criterion.NAME));
+        SortCommand sortAmountCommand = new SortCommand(new PersonSortOrder(Criterion.AMOUNT));
 
         // same object -> returns true
         assertTrue(sortNameCommand.equals(sortNameCommand));
 
         // same values -> returns true
-        SortCommand sortNameCommandCopy = new SortCommand("name");
+        SortCommand sortNameCommandCopy = new SortCommand(new PersonSortOrder(Criterion.NAME));
         assertTrue(sortNameCommand.equals(sortNameCommandCopy));
 
         // different types -> returns false
@@ -81,7 +85,7 @@ public class SortCommandTest {
 
     @Test
     public void toStringMethod() {
-        SortCommand sortNameCommand = new SortCommand("name");
+        SortCommand sortNameCommand = new SortCommand(new PersonSortOrder(Criterion.NAME));
         String expected = SortCommand.class.getCanonicalName() + "{criteria=" + "name" + "}";
         assertEquals(expected, sortNameCommand.toString());
     }
@@ -0,0 +1,44 @@
+package seedu.finclient.logic.parser;
+
+import static seedu.finclient.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.finclient.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.finclient.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.finclient.logic.Messages;
+import seedu.finclient.logic.commands.AmendCommand;
+import seedu.finclient.model.order.Order;
+
+public class AmendCommandParserTest {
+
+    private AmendCommandParser parser = new AmendCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsAmendCommand() {
+        assertParseSuccess(parser, "3 am/20 at/5.75", new AmendCommand(3, 20, "5.75"));
+        assertParseSuccess(parser, "#3 am/20", new AmendCommand(3, 20, null));
+        assertParseSuccess(parser, "3 at/5.75", new AmendCommand(3, null, "5.75"));
+    }
+
+    @Test
+    public void parse_invalidOrderId_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, AmendCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "am/20", expectedMessage);
+        assertParseFailure(parser, "0 am/20", expectedMessage);
+        assertParseFailure(parser, "x am/20", expectedMessage);
+    }
+
+    @Test
+    public void parse_noFieldAmended_throwsParseException() {
+        assertParseFailure(parser, "3", AmendCommand.MESSAGE_NOT_AMENDED);
+    }
+
+    @Test
+    public void parse_invalidFields_throwsParseException() {
+        assertParseFailure(parser, "3 am/0", Order.MESSAGE_CONSTRAINTS_QUANTITY);
+        assertParseFailure(parser, "3 at/-1", Order.MESSAGE_CONSTRAINTS_PRICE);
+        assertParseFailure(parser, "3 am/1 am/2",
+                Messages.getErrorMessageForDuplicatePrefixes(CliSyntax.PREFIX_AMOUNT));
+    }
+}
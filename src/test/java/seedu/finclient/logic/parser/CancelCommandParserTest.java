@@ -0,0 +1,30 @@
+package seedu.finclient.logic.parser;
+
+import static seedu.finclient.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.finclient.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.finclient.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.finclient.logic.commands.CancelCommand;
+
+public class CancelCommandParserTest {
+
+    private CancelCommandParser parser = new CancelCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsCancelCommand() {
+        assertParseSuccess(parser, "3", new CancelCommand(3));
+        assertParseSuccess(parser, " #3 ", new CancelCommand(3));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, CancelCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "", expectedMessage);
+        assertParseFailure(parser, "a", expectedMessage);
+        assertParseFailure(parser, "0", expectedMessage);
+        assertParseFailure(parser, "-3", expectedMessage);
+        assertParseFailure(parser, "99999999999999999999", expectedMessage);
+    }
+}
@@ -0,0 +1,86 @@
+package seedu.finclient.logic.parser;
+
+import static seedu.finclient.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.finclient.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.finclient.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.finclient.logic.commands.FilterCommand;
+import seedu.finclient.model.order.Order;
+import seedu.finclient.model.order.Order.OrderType;
+import seedu.finclient.model.query.Comparison;
+import seedu.finclient.model.query.DetailContainsCondition;
+import seedu.finclient.model.query.DetailContainsCondition.Detail;
+import seedu.finclient.model.query.NetworthCondition;
+import seedu.finclient.model.query.OrderCondition;
+import seedu.finclient.model.query.PersonQuery;
+import seedu.finclient.model.query.TagCondition;
+import seedu.finclient.model.tag.Tag;
+
+public class FilterCommandParserTest {
+
+    private FilterCommandParser parser = new FilterCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_validArgs_returnsFilterCommand() {
+        FilterCommand expectedFilterCommand = new FilterCommand(new PersonQuery(List.of(
+                new TagCondition("vip"),
+                new NetworthCondition(Comparison.GREATER_OR_EQUAL, 1_000_000),
+                OrderCondition.priced(OrderType.BUY, Comparison.LESS, 500, Optional.empty()))));
+        assertParseSuccess(parser, "tag=vip AND networth >= $1 million AND order=BUY price<5", expectedFilterCommand);
+
+        // case-insensitive keywords and extra whitespace
+        assertParseSuccess(parser, " \n tag = vip and NETWORTH>=1,000,000 \t AND order=buy price < $5.00 ",
+                expectedFilterCommand);
+    }
+
+    @Test
+    public void parse_otherConditions_returnsFilterCommand() {
+        assertParseSuccess(parser, "networth < 250k AND order=SELL ticker=aapl AND company=Acme Corp",
+                new FilterCommand(new PersonQuery(List.of(
+                        new NetworthCondition(Comparison.LESS, 250_000),
+                        new OrderCondition(OrderType.SELL, 0, Long.MAX_VALUE, Optional.of("AAPL")),
+                        new DetailContainsCondition(Detail.COMPANY, "acme corp")))));
+
+        assertParseSuccess(parser, "order=SELL price=10.5 ticker=TSLA AND networth = 1.5m",
+                new FilterCommand(new PersonQuery(List.of(
+                        OrderCondition.priced(OrderType.SELL, Comparison.EQUAL, 1050, Optional.of("TSLA")),
+                        new NetworthCondition(Comparison.EQUAL, 1_500_000)))));
+    }
+
+    @Test
+    public void parse_severalTags_joinedIntoTagConditions() {
+        // single tags become one condition needing all of them, in the place of the first
+        assertParseSuccess(parser, "tag=vip AND networth < 100 AND tag=friends AND tag=VIP",
+                new FilterCommand(new PersonQuery(List.of(
+                        new TagCondition(List.of("vip", "friends"), true),
+                        new NetworthCondition(Comparison.LESS, 100)))));
+
+        // alternatives need any of them
+        assertParseSuccess(parser, "tag=vip|friends AND tag=owesMoney",
+                new FilterCommand(new PersonQuery(List.of(
+                        new TagCondition(List.of("vip", "friends"), false),
+                        new TagCondition("owesMoney")))));
+    }
+
+    @Test
+    public void parse_invalidCondition_throwsParseException() {
+        assertParseFailure(parser, "tag=vip AND age > 30",
+                String.format(FilterCommand.MESSAGE_INVALID_CONDITION, "age > 30"));
+        assertParseFailure(parser, "networth >> 5", String.format(FilterCommand.MESSAGE_INVALID_CONDITION,
+                "networth >> 5"));
+        assertParseFailure(parser, "tag=v!p", Tag.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, "tag=vip||friends", Tag.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, "order=BUY price<5.123", Order.MESSAGE_CONSTRAINTS_PRICE);
+    }
+}
@@ -8,6 +8,7 @@ import static seedu.finclient.logic.parser.CliSyntax.PREFIX_REMARK;
 import static seedu.finclient.testutil.Assert.assertThrows;
 import static seedu.finclient.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
+import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -15,20 +16,28 @@ import java.util.stream.Collectors;
 import org.junit.jupiter.api.Test;
 
 import seedu.finclient.logic.commands.AddCommand;
+import seedu.finclient.logic.commands.AmendCommand;
+import seedu.finclient.logic.commands.CancelCommand;
 import seedu.finclient.logic.commands.ClearCommand;
 import seedu.finclient.logic.commands.DeleteCommand;
 import seedu.finclient.logic.commands.EditCommand;
 import seedu.finclient.logic.commands.EditCommand.EditPersonDescriptor;
 import seedu.finclient.logic.commands.ExitCommand;
+import seedu.finclient.logic.commands.ExportCommand;
+import seedu.finclient.logic.commands.FilterCommand;
 import seedu.finclient.logic.commands.FindCommand;
 import seedu.finclient.logic.commands.HelpCommand;
+import seedu.finclient.logic.commands.ImportCommand;
 import seedu.finclient.logic.commands.ListCommand;
 import seedu.finclient.logic.commands.RemarkCommand;
+import seedu.finclient.logic.commands.SearchCommand;
 import seedu.finclient.logic.commands.SortCommand;
 import seedu.finclient.logic.parser.exceptions.ParseException;
 import seedu.finclient.model.person.NameContainsKeywordsPredicate;
 import seedu.finclient.model.person.Person;
 import seedu.finclient.model.person.Remark;
+import seedu.finclient.model.query.PersonQuery;
+import seedu.finclient.model.query.TagCondition;
 import seedu.finclient.testutil.EditPersonDescriptorBuilder;
 import seedu.finclient.testutil.PersonBuilder;
 import seedu.finclient.testutil.PersonUtil;
@@ -50,6 +59,18 @@ public class FinClientParserTest {
         assertTrue(parser.parseCommand(ClearCommand.COMMAND_WORD + " 3") instanceof ClearCommand);
     }
 
+    @Test
+    public void parseCommand_amend() throws Exception {
+        AmendCommand command = (AmendCommand) parser.parseCommand(AmendCommand.COMMAND_WORD + " 3 am/20");
+        assertEquals(new AmendCommand(3, 20, null), command);
+    }
+
+    @Test
+    public void parseCommand_cancel() throws Exception {
+        CancelCommand command = (CancelCommand) parser.parseCommand(CancelCommand.COMMAND_WORD + " 3");
+        assertEquals(new CancelCommand(3), command);
+    }
+
     @Test
     public void parseCommand_delete() throws Exception {
         DeleteCommand command = (DeleteCommand) parser.parseCommand(
@@ -74,6 +95,16 @@ public class FinClientParserTest {
         assertTrue(parser.parseCommand(SortCommand.COMMAND_WORD + " price") instanceof SortCommand);
     }
 
+    @Test
+    public void parseCommand_exportAndImport() throws Exception {
+        assertEquals(new ExportCommand(Paths.get("backup", "finclient.bin")),
+                parser.parseCommand(ExportCommand.COMMAND_WORD + " backup/finclient.bin"));
+        assertEquals(new ImportCommand(Paths.get("finclient.json")),
+                parser.parseCommand(ImportCommand.COMMAND_WORD + " finclient.json"));
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                ImportCommand.MESSAGE_USAGE), () -> parser.parseCommand(ImportCommand.COMMAND_WORD));
+    }
+
     @Test
     public void parseCommand_exit() throws Exception {
         assertTrue(parser.parseCommand(ExitCommand.COMMAND_WORD) instanceof ExitCommand);
@@ -88,6 +119,20 @@ public class FinClientParserTest {
         assertEquals(new FindCommand(new NameContainsKeywordsPredicate(keywords)), command);
     }
 
+    @Test
+    public void parseCommand_search() throws Exception {
+        List<String> keywords = Arrays.asList("foo", "bar", "baz");
+        SearchCommand command = (SearchCommand) parser.parseCommand(
+                SearchCommand.COMMAND_WORD + " " + keywords.stream().collect(Collectors.joining(" ")));
+        assertEquals(new SearchCommand(keywords), command);
+    }
+
+    @Test
+    public void parseCommand_filter() throws Exception {
+        FilterCommand command = (FilterCommand) parser.parseCommand(FilterCommand.COMMAND_WORD + " tag=vip");
+        assertEquals(new FilterCommand(new PersonQuery(List.of(new TagCondition("vip")))), command);
+    }
+
     @Test
     public void parseCommand_help() throws Exception {
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD) instanceof HelpCommand);
@@ -0,0 +1,28 @@
+package seedu.finclient.logic.parser;
+
+import static seedu.finclient.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.finclient.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.finclient.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.finclient.logic.commands.MarketCommand;
+import seedu.finclient.model.order.MatchingMode;
+
+public class MarketCommandParserTest {
+
+    private MarketCommandParser parser = new MarketCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsMarketCommand() {
+        assertParseSuccess(parser, " continuous ", new MarketCommand(MatchingMode.CONTINUOUS));
+        assertParseSuccess(parser, "AUCTION", new MarketCommand(MatchingMode.AUCTION));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, MarketCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "", expectedMessage);
+        assertParseFailure(parser, "open", expectedMessage);
+    }
+}
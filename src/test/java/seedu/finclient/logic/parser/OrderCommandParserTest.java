@@ -53,6 +53,16 @@ public class OrderCommandParserTest {
         assertEquals(expectedCommand, parser.parse("2 o/buy am/100 at/50"));
     }
 
+    @Test
+    public void parse_tickerProvided_returnsOrderForInstrument() throws Exception {
+        Order expectedOrder = new Order(Order.OrderType.SELL, "AAPL", "50", 100);
+        OrderCommand expectedCommand = new OrderCommand(Index.fromOneBased(2), expectedOrder);
+
+        assertEquals(expectedCommand, parser.parse("2 o/sell am/100 at/50 tk/aapl"));
+        assertThrows(ParseException.class, () -> parser.parse("2 o/sell am/100 at/50 tk/1x"));
+        assertThrows(ParseException.class, () -> parser.parse("2 tk/AAPL"));
+    }
+
     // 5) Invalid index in preamble -> should throw ParseException
     @Test
     public void parse_invalidIndex_throwsParseException() {
@@ -7,6 +7,7 @@ import static seedu.finclient.logic.parser.ParserUtil.parseOrder;
 import static seedu.finclient.testutil.Assert.assertThrows;
 import static seedu.finclient.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
+import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -383,4 +384,21 @@ public class ParserUtilTest {
         Networth expectedNetworth = new Networth("0");
         assertEquals(expectedNetworth, ParserUtil.parseNetworth(networthWithWhitespace));
     }
+
+    @Test
+    public void parseDataFilePath_validValueWithWhitespace_returnsTrimmedPath() throws Exception {
+        assertEquals(Paths.get("backup", "finclient.bin"),
+                ParserUtil.parseDataFilePath(WHITESPACE + "backup/finclient.bin"));
+        assertEquals(Paths.get("finclient.JSON"), ParserUtil.parseDataFilePath("finclient.JSON" + WHITESPACE));
+    }
+
+    @Test
+    public void parseDataFilePath_invalidValue_throwsParseException() {
+        assertThrows(ParseException.class, ParserUtil.MESSAGE_INVALID_DATA_FILE, () ->
+                ParserUtil.parseDataFilePath(WHITESPACE));
+        assertThrows(ParseException.class, ParserUtil.MESSAGE_INVALID_DATA_FILE, () ->
+                ParserUtil.parseDataFilePath("finclient.txt"));
+        assertThrows(ParseException.class, ParserUtil.MESSAGE_INVALID_DATA_FILE, () ->
+                ParserUtil.parseDataFilePath("finclient\0.bin"));
+    }
 }
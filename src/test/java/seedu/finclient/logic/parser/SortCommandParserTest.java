@@ -8,6 +8,8 @@ import static seedu.finclient.testutil.Assert.assertThrows;
 import org.junit.jupiter.api.Test;
 
 import seedu.finclient.logic.commands.SortCommand;
+import seedu.finclient.model.person.PersonSortOrder;
+import seedu.finclient.model.person.PersonSortOrder.Criterion;
 
 public class SortCommandParserTest {
     private SortCommandParser parser = new SortCommandParser();
@@ -20,10 +22,14 @@ public class SortCommandParserTest {
 
     @Test
     public void parseCorrectArg_success() {
-        assertParseSuccess(parser, "name", new SortCommand("name"));
-        assertParseSuccess(parser, "amount", new SortCommand("amount"));
-        assertParseSuccess(parser, "networth", new SortCommand("networth"));
-        assertParseSuccess(parser, "price", new SortCommand("price"));
+        assertParseSuccess(parser, "name", new SortCommand(new PersonSortOrder(Criterion.NAME)));
+        assertParseSuccess(parser, "amount", new SortCommand(new PersonSortOrder(Criterion.AMOUNT)));
+        assertParseSuccess(parser, "networth", new SortCommand(new PersonSortOrder(Criterion.NETWORTH)));
+        assertParseSuccess(parser, "price", new SortCommand(new PersonSortOrder(Criterion.PRICE)));
+
+        // multiple criteria, most significant first
+        assertParseSuccess(parser, " networth \t name ",
+                new SortCommand(new PersonSortOrder(Criterion.NETWORTH, Criterion.NAME)));
     }
 
     @Test
@@ -38,12 +44,10 @@ public class SortCommandParserTest {
         assertParseFailure(parser, "pricet", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
                 SortCommand.MESSAGE_USAGE));
 
-        // multiple criteria
-        assertParseFailure(parser, "name amount", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+        // multiple criteria with an invalid or repeated one
+        assertParseFailure(parser, "name amountt", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
                 SortCommand.MESSAGE_USAGE));
-        assertParseFailure(parser, "name networth", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
-                SortCommand.MESSAGE_USAGE));
-        assertParseFailure(parser, "name price", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+        assertParseFailure(parser, "name networth name", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
                 SortCommand.MESSAGE_USAGE));
     }
 
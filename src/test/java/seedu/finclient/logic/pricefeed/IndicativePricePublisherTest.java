@@ -0,0 +1,114 @@
+package seedu.finclient.logic.pricefeed;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.finclient.testutil.Assert.assertThrows;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.finclient.model.order.IndicativePrice;
+import seedu.finclient.model.order.Order;
+import seedu.finclient.model.order.Order.OrderType;
+import seedu.finclient.model.order.OrderBookRegistry;
+
+public class IndicativePricePublisherTest {
+
+    private final OrderBookRegistry registry = new OrderBookRegistry();
+    private final IndicativePricePublisher publisher =
+            new IndicativePricePublisher(registry::pollIndicativePriceChanges);
+    private final List<Map<String, IndicativePrice>> updates = new ArrayList<>();
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new IndicativePricePublisher(null));
+    }
+
+    @Test
+    public void publish_noChanges_nothingPushed() {
+        publisher.subscribe(updates::add);
+        publisher.publish();
+        assertTrue(updates.isEmpty());
+    }
+
+    @Test
+    public void publish_onlyChangedInstrumentsPushed() {
+        publisher.subscribe(updates::add);
+        registry.add(new Order(OrderType.BUY, "AAPL", "10.00", 100));
+        registry.add(new Order(OrderType.SELL, "AAPL", "9.50", 50));
+        registry.add(new Order(OrderType.BUY, "TSLA", "200.00", 10));
+        publisher.publish();
+
+        assertEquals(1, updates.size());
+        assertEquals(IndicativePrice.of(950, 50, 50), updates.get(0).get("AAPL"));
+        assertEquals(IndicativePrice.NO_MATCH, updates.get(0).get("TSLA"));
+        // TSLA cannot match, so it is left out of the snapshot
+        assertEquals(Map.of("AAPL", IndicativePrice.of(950, 50, 50)), publisher.getSnapshot());
+
+        registry.add(new Order(OrderType.SELL, "TSLA", "200.00", 10));
+        publisher.publish();
+        assertEquals(2, updates.size());
+        assertEquals(Map.of("TSLA", IndicativePrice.of(20000, 10, 0)), updates.get(1));
+        assertEquals(2, publisher.getSnapshot().size());
+    }
+
+    @Test
+    public void publish_bookDropped_removedFromSnapshot() {
+        Order buy = new Order(OrderType.BUY, "AAPL", "10.00", 100);
+        Order sell = new Order(OrderType.SELL, "AAPL", "9.50", 50);
+        registry.add(buy);
+        registry.add(sell);
+        publisher.publish();
+
+        registry.remove(buy);
+        registry.remove(sell);
+        publisher.subscribe(updates::add);
+        publisher.publish();
+        // the new subscriber first receives the snapshot, then the removal
+        assertEquals(List.of(Map.of("AAPL", IndicativePrice.of(950, 50, 50)),
+                Map.of("AAPL", IndicativePrice.NO_MATCH)), updates);
+        assertTrue(publisher.getSnapshot().isEmpty());
+    }
+
+    @Test
+    public void unsubscribe_nothingPushed() {
+        IndicativePricePublisher.Subscriber subscriber = updates::add;
+        publisher.subscribe(subscriber);
+        publisher.unsubscribe(subscriber);
+        registry.add(new Order(OrderType.BUY, "AAPL", "10.00", 100));
+        publisher.publish();
+        assertTrue(updates.isEmpty());
+    }
+
+    @Test
+    public void coalescing_burstOfUpdates_deliveredOnceWithLatestPrices() {
+        Queue<Runnable> tasks = new ArrayDeque<>();
+        publisher.subscribe(IndicativePricePublisher.coalescing(tasks::add, updates::add));
+
+        registry.add(new Order(OrderType.BUY, "AAPL", "10.00", 100));
+        registry.add(new Order(OrderType.SELL, "AAPL", "9.50", 50));
+        publisher.publish();
+        registry.add(new Order(OrderType.SELL, "AAPL", "9.50", 50));
+        publisher.publish();
+        registry.add(new Order(OrderType.BUY, "TSLA", "200.00", 10));
+        publisher.publish();
+
+        // one delivery is scheduled for the whole burst
+        assertEquals(1, tasks.size());
+        tasks.poll().run();
+        assertEquals(List.of(Map.of("AAPL", IndicativePrice.of(950, 100, 0), "TSLA", IndicativePrice.NO_MATCH)),
+                updates);
+
+        // after a delivery, the next update schedules a new one
+        registry.add(new Order(OrderType.SELL, "TSLA", "190.00", 10));
+        publisher.publish();
+        assertEquals(1, tasks.size());
+        tasks.poll().run();
+        assertEquals(2, updates.size());
+    }
+}
@@ -0,0 +1,38 @@
+package seedu.finclient.logic.pricefeed;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.finclient.model.order.IndicativePrice;
+
+public class IndicativePriceWriterTest {
+
+    private static final Instant NOW = Instant.parse("2024-03-01T01:00:00Z");
+    private static final String NEWLINE = System.lineSeparator();
+
+    @Test
+    public void onUpdate_writesOneLinePerInstrument() throws IOException {
+        StringWriter out = new StringWriter();
+        IndicativePriceWriter writer = new IndicativePriceWriter(out, Clock.fixed(NOW, ZoneOffset.UTC));
+        assertEquals(IndicativePriceWriter.HEADER + NEWLINE, out.toString());
+
+        Map<String, IndicativePrice> update = new TreeMap<>();
+        update.put("AAPL", IndicativePrice.of(950, 50, -20));
+        update.put("TSLA", IndicativePrice.NO_MATCH);
+        writer.onUpdate(update);
+        writer.close();
+
+        assertEquals(IndicativePriceWriter.HEADER + NEWLINE
+                + "2024-03-01T01:00:00Z,AAPL,9.50,50,-20" + NEWLINE
+                + "2024-03-01T01:00:00Z,TSLA,,0,0" + NEWLINE, out.toString());
+    }
+}
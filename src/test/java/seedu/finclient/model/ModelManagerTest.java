@@ -11,12 +11,18 @@ import static seedu.finclient.testutil.TypicalPersons.BENSON;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.finclient.commons.core.GuiSettings;
+import seedu.finclient.model.order.Order;
 import seedu.finclient.model.person.NameContainsKeywordsPredicate;
+import seedu.finclient.model.person.Person;
+import seedu.finclient.model.person.PersonSortOrder;
+import seedu.finclient.model.person.PersonSortOrder.Criterion;
 import seedu.finclient.testutil.FinClientBuilder;
+import seedu.finclient.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -93,6 +99,58 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void updateFilteredPersonList_nameKeywords_followsLaterChanges() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(Arrays.asList("benson", "kurz")));
+        assertEquals(List.of(BENSON), modelManager.getFilteredPersonList());
+
+        Person renamedAlice = new PersonBuilder(ALICE).withName("Alice Kurz").build();
+        modelManager.setPerson(ALICE, renamedAlice);
+        assertEquals(List.of(renamedAlice, BENSON), modelManager.getFilteredPersonList());
+
+        modelManager.deletePerson(BENSON);
+        assertEquals(List.of(renamedAlice), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonListToSearch_followsLaterChanges() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.updateFilteredPersonListToSearch(List.of("meier"));
+        assertEquals(List.of(BENSON), modelManager.getFilteredPersonList());
+
+        // edited persons are ranked by their new details
+        Person renamedAlice = new PersonBuilder(ALICE).withName("Alice Meier").build();
+        modelManager.setPerson(ALICE, renamedAlice);
+        assertEquals(List.of(renamedAlice, BENSON), modelManager.getFilteredPersonList());
+
+        Person renamedBenson = new PersonBuilder(BENSON).withName("Benson Meyer").build();
+        modelManager.setPerson(BENSON, renamedBenson);
+        assertEquals(List.of(renamedAlice, renamedBenson), modelManager.getFilteredPersonList());
+
+        // orders are not searched, so a new order leaves the results as they are
+        modelManager.placeOrder(renamedAlice, new Order("BUY 10 @ $5.00"));
+        assertEquals(List.of(renamedAlice, renamedBenson), modelManager.getFilteredPersonList());
+
+        modelManager.setPerson(renamedAlice, new PersonBuilder(renamedAlice).withName("Alice Pauline").build());
+        assertEquals(List.of(renamedBenson), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void sortPersons_filteredListSorted_addressBookUnchanged() {
+        modelManager.addPerson(BENSON);
+        modelManager.addPerson(ALICE);
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(Arrays.asList("alice", "benson")));
+        modelManager.sortPersons(new PersonSortOrder(Criterion.NAME));
+        assertEquals(List.of(ALICE, BENSON), modelManager.getFilteredPersonList());
+        assertEquals(List.of(BENSON, ALICE), modelManager.getFinClient().getPersonList());
+
+        modelManager.sortPersons(new PersonSortOrder(Criterion.PRICE));
+        assertEquals(List.of(BENSON, ALICE), modelManager.getFilteredPersonList());
+    }
+
     @Test
     public void equals() {
         FinClient finClient = new FinClientBuilder().withPerson(ALICE).withPerson(BENSON).build();
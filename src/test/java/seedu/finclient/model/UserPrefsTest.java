@@ -1,9 +1,16 @@
 package seedu.finclient.model;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.finclient.testutil.Assert.assertThrows;
 
+import java.nio.file.Paths;
+
 import org.junit.jupiter.api.Test;
 
+import seedu.finclient.commons.core.DataFileFormat;
+
 public class UserPrefsTest {
 
     @Test
@@ -18,4 +25,31 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPrefs.setFinClientFilePath(null));
     }
 
+    @Test
+    public void setDataFileFormat_nullFormat_throwsNullPointerException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(NullPointerException.class, () -> userPrefs.setDataFileFormat(null));
+    }
+
+    @Test
+    public void matchDataFileFormatToFilePath() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setDataFileFormat(DataFileFormat.JSON);
+
+        // format agrees with the file name -> unchanged
+        userPrefs.setFinClientFilePath(Paths.get("data", "finclient.json"));
+        assertFalse(userPrefs.matchDataFileFormatToFilePath());
+        assertEquals(DataFileFormat.JSON, userPrefs.getDataFileFormat());
+
+        // file name names no format -> unchanged
+        userPrefs.setFinClientFilePath(Paths.get("data", "finclient"));
+        assertFalse(userPrefs.matchDataFileFormatToFilePath());
+        assertEquals(DataFileFormat.JSON, userPrefs.getDataFileFormat());
+
+        // format disagrees with the file name -> follows the file name
+        userPrefs.setFinClientFilePath(Paths.get("data", "finclient.bin"));
+        assertTrue(userPrefs.matchDataFileFormatToFilePath());
+        assertEquals(DataFileFormat.BINARY, userPrefs.getDataFileFormat());
+    }
+
 }
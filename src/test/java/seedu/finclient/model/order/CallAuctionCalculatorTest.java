@@ -7,6 +7,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Random;
 
 import org.junit.jupiter.api.Test;
 
@@ -180,4 +181,157 @@ public class CallAuctionCalculatorTest {
         // Both p=9.0 and p=10.0 => matched=50, leftover=50 => pick the lower price => 9.0
         assertEquals(9.0, result.get(), 1e-9);
     }
+
+    @Test
+    public void calculateClearingPrice_randomBooks_matchesScanOracle() {
+        Random random = new Random(42);
+        for (int trial = 0; trial < 500; trial++) {
+            // Few distinct price levels and small books, so ties on volume and leftover are common
+            List<Order> orders = randomBook(random, 1 + random.nextInt(30), 1 + random.nextInt(10));
+            assertEquals(CallAuctionCalculator.calculateClearingPriceByScan(orders),
+                    CallAuctionCalculator.calculateClearingPrice(orders), "Mismatch for book " + orders);
+        }
+    }
+
+    @Test
+    public void calculateClearingPrice_largeRandomBooks_matchesScanOracle() {
+        Random random = new Random(7);
+        for (int trial = 0; trial < 20; trial++) {
+            List<Order> orders = randomBook(random, 500 + random.nextInt(1500), 50 + random.nextInt(500));
+            assertEquals(CallAuctionCalculator.calculateClearingPriceByScan(orders),
+                    CallAuctionCalculator.calculateClearingPrice(orders));
+        }
+    }
+
+    @Test
+    public void calculateAuction_noMatch_returnsEmptyResult() {
+        List<Order> orders = new ArrayList<>();
+        orders.add(new Order(OrderType.BUY, "10.00", 100));
+        orders.add(new Order("NONE"));
+
+        AuctionResult result = CallAuctionCalculator.calculateAuction(orders, AllocationRule.PRICE_TIME);
+        assertFalse(result.hasClearingPrice());
+        assertEquals(Optional.empty(), result.getClearingPrice());
+        assertEquals(0, result.getExecutableVolume());
+        assertEquals(OrderType.NONE, result.getSurplusSide());
+        assertEquals(2, result.getOrderCount());
+        assertEquals(0, result.getFilledQuantity(0));
+    }
+
+    @Test
+    public void calculateAuction_buySurplus_priceTimeFillsEarliestFirst() {
+        // At 9.00 and 10.00: demand = 60 + 30 + 40 = 130, supply = 80 => tie, so 9.00 with a BUY surplus of 50
+        List<Order> orders = new ArrayList<>();
+        orders.add(new Order(OrderType.BUY, "10.00", 30));
+        orders.add(new Order(OrderType.SELL, "9.00", 80));
+        orders.add(new Order(OrderType.BUY, "11.00", 60));
+        orders.add(new Order(OrderType.BUY, "10.00", 40));
+        orders.add(new Order(OrderType.HIDDEN, "10.00", 10));
+
+        AuctionResult result = CallAuctionCalculator.calculateAuction(orders, AllocationRule.PRICE_TIME);
+        assertEquals(Optional.of(9.0), result.getClearingPrice());
+        assertEquals(80, result.getExecutableVolume());
+        assertEquals(OrderType.BUY, result.getSurplusSide());
+        assertEquals(50, result.getSurplusSize());
+
+        // The 11.00 BUY has price priority; the earlier 10.00 BUY takes the remaining 20
+        assertEquals(20, result.getFilledQuantity(0));
+        assertEquals(80, result.getFilledQuantity(1));
+        assertEquals(60, result.getFilledQuantity(2));
+        assertEquals(0, result.getFilledQuantity(3));
+        assertEquals(0, result.getFilledQuantity(4));
+    }
+
+    @Test
+    public void calculateAuction_buySurplus_proRataSharesMarginalLevel() {
+        List<Order> orders = new ArrayList<>();
+        orders.add(new Order(OrderType.BUY, "10.00", 30));
+        orders.add(new Order(OrderType.SELL, "9.00", 80));
+        orders.add(new Order(OrderType.BUY, "11.00", 60));
+        orders.add(new Order(OrderType.BUY, "10.00", 40));
+
+        AuctionResult result = CallAuctionCalculator.calculateAuction(orders, AllocationRule.PRO_RATA);
+        // 20 left for 70 at 10.00: 30 * 20 / 70 = 8 (8.57) and 40 * 20 / 70 = 11 (11.43); the last unit goes
+        // to the earlier order
+        assertEquals(9, result.getFilledQuantity(0));
+        assertEquals(80, result.getFilledQuantity(1));
+        assertEquals(60, result.getFilledQuantity(2));
+        assertEquals(11, result.getFilledQuantity(3));
+    }
+
+    @Test
+    public void calculateAuction_sellSurplus_fillsBestSellsFirst() {
+        // At 10.00: demand = 50, supply = 20 + 40 = 60 => SELL surplus of 10
+        List<Order> orders = new ArrayList<>();
+        orders.add(new Order(OrderType.SELL, "10.00", 40));
+        orders.add(new Order(OrderType.SELL, "8.00", 20));
+        orders.add(new Order(OrderType.BUY, "10.00", 50));
+        orders.add(new Order(OrderType.SELL, "12.00", 100));
+
+        AuctionResult result = CallAuctionCalculator.calculateAuction(orders, AllocationRule.PRICE_TIME);
+        assertEquals(Optional.of(10.0), result.getClearingPrice());
+        assertEquals(50, result.getExecutableVolume());
+        assertEquals(OrderType.SELL, result.getSurplusSide());
+        assertEquals(10, result.getSurplusSize());
+        assertEquals(30, result.getFilledQuantity(0));
+        assertEquals(20, result.getFilledQuantity(1));
+        assertEquals(50, result.getFilledQuantity(2));
+        assertEquals(0, result.getFilledQuantity(3));
+    }
+
+    @Test
+    public void calculateAuction_randomBooks_fillsAreConsistent() {
+        Random random = new Random(11);
+        for (int trial = 0; trial < 300; trial++) {
+            List<Order> orders = randomBook(random, 1 + random.nextInt(40), 1 + random.nextInt(10));
+            for (AllocationRule rule : AllocationRule.values()) {
+                AuctionResult result = CallAuctionCalculator.calculateAuction(orders, rule);
+                assertEquals(CallAuctionCalculator.calculateClearingPrice(orders), result.getClearingPrice());
+                assertFillsConsistent(orders, result);
+            }
+        }
+    }
+
+    /**
+     * Asserts that each side fills exactly the executable volume, only with orders willing to trade at the
+     * clearing price, and never more than an order's quantity.
+     */
+    private static void assertFillsConsistent(List<Order> orders, AuctionResult result) {
+        long boughtVolume = 0;
+        long soldVolume = 0;
+        for (int i = 0; i < orders.size(); i++) {
+            Order order = orders.get(i);
+            long filled = result.getFilledQuantity(i);
+            assertTrue(filled >= 0 && filled <= order.getQuantity(), "Overfilled " + order);
+            if (filled == 0) {
+                continue;
+            }
+            if (order.getOrderType() == OrderType.BUY) {
+                assertTrue(order.getPriceInCents() >= result.getClearingPriceInCents());
+                boughtVolume += filled;
+            } else {
+                assertEquals(OrderType.SELL, order.getOrderType());
+                assertTrue(order.getPriceInCents() <= result.getClearingPriceInCents());
+                soldVolume += filled;
+            }
+        }
+        assertEquals(result.getExecutableVolume(), boughtVolume, "Buy fills for " + orders);
+        assertEquals(result.getExecutableVolume(), soldVolume, "Sell fills for " + orders);
+    }
+
+    /**
+     * Builds a book of {@code size} orders of all types, with limit prices spread over {@code priceLevels}
+     * cent-sized ticks around 10.00.
+     */
+    private static List<Order> randomBook(Random random, int size, int priceLevels) {
+        OrderType[] types = OrderType.values();
+        List<Order> orders = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            OrderType type = types[random.nextInt(types.length)];
+            int cents = 1000 + random.nextInt(priceLevels);
+            String price = String.format("%d.%02d", cents / 100, cents % 100);
+            orders.add(new Order(type, price, 1 + random.nextInt(100)));
+        }
+        return orders;
+    }
 }
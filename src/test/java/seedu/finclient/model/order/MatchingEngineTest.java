@@ -0,0 +1,153 @@
+package seedu.finclient.model.order;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.finclient.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.finclient.model.order.Order.OrderType;
+
+public class MatchingEngineTest {
+
+    private final MatchingEngine engine = new MatchingEngine();
+
+    @Test
+    public void add_nullOrder_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> engine.add(1, null));
+    }
+
+    @Test
+    public void add_hiddenAndNoneOrders_ignored() {
+        engine.add(1, new Order("HIDDEN"));
+        engine.add(2, new Order("NONE"));
+        assertEquals(0, engine.size());
+        assertEquals(List.of(), engine.match(3, new Order("NONE")));
+    }
+
+    @Test
+    public void getBestBidAndAsk_cachedAcrossAddAndRemove() {
+        engine.add(1, new Order(OrderType.BUY, "5.00", 10));
+        engine.add(2, new Order(OrderType.BUY, "5.20", 10));
+        engine.add(3, new Order(OrderType.SELL, "6.00", 10));
+        engine.add(4, new Order(OrderType.SELL, "5.80", 10));
+        assertEquals(Optional.of(5.2), engine.getBestBid(Order.DEFAULT_TICKER));
+        assertEquals(Optional.of(5.8), engine.getBestAsk(Order.DEFAULT_TICKER));
+
+        engine.remove(2);
+        engine.remove(4);
+        assertEquals(Optional.of(5.0), engine.getBestBid(Order.DEFAULT_TICKER));
+        assertEquals(Optional.of(6.0), engine.getBestAsk(Order.DEFAULT_TICKER));
+
+        engine.remove(1);
+        engine.remove(3);
+        assertFalse(engine.getBestBid(Order.DEFAULT_TICKER).isPresent());
+        assertFalse(engine.getBestAsk(Order.DEFAULT_TICKER).isPresent());
+        assertEquals(0, engine.size());
+    }
+
+    @Test
+    public void match_noCross_noTrades() {
+        engine.add(1, new Order(OrderType.SELL, "6.00", 10));
+        assertEquals(List.of(), engine.match(2, new Order(OrderType.BUY, "5.99", 10)));
+        assertEquals(10, engine.getRemainingQuantity(1));
+    }
+
+    @Test
+    public void match_walksBookByPriceThenTime() {
+        engine.add(1, new Order(OrderType.SELL, "5.10", 5));
+        engine.add(2, new Order(OrderType.SELL, "5.00", 5));
+        engine.add(3, new Order(OrderType.SELL, "5.00", 5));
+        engine.add(4, new Order(OrderType.SELL, "5.50", 5));
+
+        List<Trade> trades = engine.match(9, new Order(OrderType.BUY, "5.10", 12));
+
+        assertEquals(List.of(
+                new Trade(Order.DEFAULT_TICKER, 9, 2, 500, 5),
+                new Trade(Order.DEFAULT_TICKER, 9, 3, 500, 5),
+                new Trade(Order.DEFAULT_TICKER, 9, 1, 510, 2)), trades);
+        assertFalse(engine.contains(2));
+        assertFalse(engine.contains(3));
+        assertEquals(3, engine.getRemainingQuantity(1));
+        assertEquals(5, engine.getRemainingQuantity(4));
+        assertEquals(Optional.of(5.1), engine.getBestAsk(Order.DEFAULT_TICKER));
+    }
+
+    @Test
+    public void match_incomingSell_tradesAtRestingBuyPrice() {
+        engine.add(1, new Order(OrderType.BUY, "5.00", 5));
+        engine.add(2, new Order(OrderType.BUY, "5.20", 5));
+
+        List<Trade> trades = engine.match(3, new Order(OrderType.SELL, "4.00", 20));
+
+        assertEquals(List.of(
+                new Trade(Order.DEFAULT_TICKER, 2, 3, 520, 5),
+                new Trade(Order.DEFAULT_TICKER, 1, 3, 500, 5)), trades);
+        assertEquals(0, engine.size());
+        // the unfilled rest is not rested by match
+        assertFalse(engine.contains(3));
+    }
+
+    @Test
+    public void match_sameOwner_passedOverAndKeepsPlace() {
+        engine.add(1, new Order(OrderType.SELL, "5.00", 5));
+        engine.add(2, new Order(OrderType.SELL, "5.00", 5));
+        engine.add(3, new Order(OrderType.SELL, "5.10", 5));
+        engine.add(4, new Order(OrderType.SELL, "5.20", 5));
+
+        // orders 1 and 3 belong to the owner of the incoming order
+        List<Trade> trades = engine.match(9, new Order(OrderType.BUY, "5.20", 8), orderId -> orderId % 2 == 1);
+
+        assertEquals(List.of(
+                new Trade(Order.DEFAULT_TICKER, 9, 2, 500, 5),
+                new Trade(Order.DEFAULT_TICKER, 9, 4, 520, 3)), trades);
+        assertEquals(5, engine.getRemainingQuantity(1));
+        assertEquals(5, engine.getRemainingQuantity(3));
+        assertEquals(2, engine.getRemainingQuantity(4));
+        assertEquals(Optional.of(5.0), engine.getBestAsk(Order.DEFAULT_TICKER));
+
+        // another owner still trades with them, earliest first
+        assertEquals(List.of(new Trade(Order.DEFAULT_TICKER, 10, 1, 500, 5)),
+                engine.match(10, new Order(OrderType.BUY, "5.00", 5)));
+        assertEquals(Optional.of(5.1), engine.getBestAsk(Order.DEFAULT_TICKER));
+    }
+
+    @Test
+    public void match_bestLevelAllSameOwner_continuesToNextLevel() {
+        engine.add(1, new Order(OrderType.SELL, "5.00", 5));
+        engine.add(2, new Order(OrderType.SELL, "5.00", 5));
+        engine.add(3, new Order(OrderType.SELL, "5.10", 5));
+
+        // orders 1 and 2 belong to the owner of the incoming order, so only the level behind them trades
+        List<Trade> trades = engine.match(9, new Order(OrderType.BUY, "5.10", 8), orderId -> orderId <= 2);
+
+        assertEquals(List.of(new Trade(Order.DEFAULT_TICKER, 9, 3, 510, 5)), trades);
+        assertFalse(engine.contains(3));
+        assertEquals(5, engine.getRemainingQuantity(1));
+        assertEquals(5, engine.getRemainingQuantity(2));
+        assertEquals(Optional.of(5.0), engine.getBestAsk(Order.DEFAULT_TICKER));
+    }
+
+    @Test
+    public void match_otherInstrument_ignored() {
+        engine.add(1, new Order(OrderType.SELL, "AAPL", "5.00", 5));
+        assertEquals(List.of(), engine.match(2, new Order(OrderType.BUY, "TSLA", "9.00", 5)));
+        assertTrue(engine.contains(1));
+    }
+
+    @Test
+    public void remove_afterPartialFill_dropsRest() {
+        engine.add(1, new Order(OrderType.SELL, "5.00", 10));
+        engine.match(2, new Order(OrderType.BUY, "5.00", 4));
+        assertEquals(6, engine.getRemainingQuantity(1));
+
+        engine.remove(1);
+        engine.remove(1);
+        assertEquals(0, engine.size());
+        assertEquals(List.of(), engine.match(3, new Order(OrderType.BUY, "5.00", 4)));
+    }
+}
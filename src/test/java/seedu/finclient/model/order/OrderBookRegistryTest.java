@@ -0,0 +1,123 @@
+package seedu.finclient.model.order;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.finclient.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.finclient.model.order.Order.OrderType;
+
+public class OrderBookRegistryTest {
+
+    private final OrderBookRegistry registry = new OrderBookRegistry();
+
+    @Test
+    public void add_nullOrder_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> registry.add(null));
+    }
+
+    @Test
+    public void getClearingPrice_unknownTicker_returnsEmpty() {
+        assertFalse(registry.getClearingPrice("AAPL").isPresent());
+        assertEquals(Map.of(), registry.getClearingPrices());
+    }
+
+    @Test
+    public void add_hiddenAndNoneOrders_ignored() {
+        registry.add(new Order("HIDDEN"));
+        registry.add(new Order("NONE"));
+        assertEquals(0, registry.size());
+    }
+
+    @Test
+    public void getClearingPrices_separateInstruments_clearedIndependently() {
+        registry.add(new Order(OrderType.BUY, "AAPL", "10.00", 100));
+        registry.add(new Order(OrderType.SELL, "AAPL", "9.50", 50));
+        registry.add(new Order(OrderType.BUY, "TSLA", "200.00", 10));
+        registry.add(new Order(OrderType.SELL, "TSLA", "210.00", 10));
+        registry.add(new Order(OrderType.BUY, "5.00", 10));
+
+        assertEquals(Set.of("AAPL", "TSLA", Order.DEFAULT_TICKER), registry.getTickers());
+        assertEquals(Optional.of(9.5), registry.getClearingPrice("AAPL"));
+
+        // the TSLA book does not cross, but still picks a price; the DEFAULT book has no sells
+        Map<String, Optional<Double>> clearingPrices = registry.getClearingPrices();
+        assertEquals(List.of("AAPL", Order.DEFAULT_TICKER, "TSLA"), new ArrayList<>(clearingPrices.keySet()));
+        assertEquals(Optional.of(9.5), clearingPrices.get("AAPL"));
+        assertEquals(Optional.empty(), clearingPrices.get(Order.DEFAULT_TICKER));
+        assertEquals(CallAuctionCalculator.calculateClearingPrice(List.of(
+                new Order(OrderType.BUY, "200.00", 10), new Order(OrderType.SELL, "210.00", 10))),
+                clearingPrices.get("TSLA"));
+    }
+
+    @Test
+    public void remove_lastOrderOfInstrument_dropsBook() {
+        Order buy = new Order(OrderType.BUY, "AAPL", "10.00", 100);
+        Order sell = new Order(OrderType.SELL, "AAPL", "9.50", 50);
+        registry.add(buy);
+        registry.add(sell);
+        assertEquals(Optional.of(9.5), registry.getClearingPrice("AAPL"));
+
+        registry.remove(sell);
+        assertFalse(registry.getClearingPrice("AAPL").isPresent());
+        registry.remove(buy);
+        assertEquals(0, registry.size());
+        assertEquals(Map.of(), registry.getClearingPrices());
+    }
+
+    @Test
+    public void getClearingPrices_manyInstruments_matchesPerInstrumentAuctions() {
+        Random random = new Random(3);
+        List<Order> orders = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            String ticker = "T" + random.nextInt(200);
+            OrderType type = random.nextBoolean() ? OrderType.BUY : OrderType.SELL;
+            Order order = new Order(type, ticker, String.valueOf(90 + random.nextInt(20)), 1 + random.nextInt(100));
+            orders.add(order);
+            registry.add(order);
+        }
+        assertEquals(clearingPricesOf(orders), registry.getClearingPrices());
+
+        // Re-price a few instruments; only their books run the auction again
+        for (int i = 0; i < 10; i++) {
+            Order removed = orders.remove(random.nextInt(orders.size()));
+            registry.remove(removed);
+        }
+        assertEquals(clearingPricesOf(orders), registry.getClearingPrices());
+    }
+
+    @Test
+    public void pollIndicativePriceChanges_onlyChangedInstruments() {
+        Order buy = new Order(OrderType.BUY, "AAPL", "10.00", 100);
+        registry.add(buy);
+        registry.add(new Order(OrderType.SELL, "AAPL", "9.50", 50));
+        registry.add(new Order(OrderType.BUY, "TSLA", "200.00", 10));
+        assertEquals(Map.of("AAPL", IndicativePrice.of(950, 50, 50), "TSLA", IndicativePrice.NO_MATCH),
+                registry.pollIndicativePriceChanges());
+        assertEquals(Map.of(), registry.pollIndicativePriceChanges());
+
+        registry.remove(buy);
+        assertEquals(Map.of("AAPL", IndicativePrice.NO_MATCH), registry.pollIndicativePriceChanges());
+
+        registry.clear();
+        assertEquals(Map.of("AAPL", IndicativePrice.NO_MATCH, "TSLA", IndicativePrice.NO_MATCH),
+                registry.pollIndicativePriceChanges());
+    }
+
+    private static Map<String, Optional<Double>> clearingPricesOf(List<Order> orders) {
+        Map<String, Optional<Double>> clearingPrices = new TreeMap<>();
+        orders.stream().collect(Collectors.groupingBy(Order::getTicker)).forEach((ticker, tickerOrders) ->
+                clearingPrices.put(ticker, CallAuctionCalculator.calculateClearingPrice(tickerOrders)));
+        return clearingPrices;
+    }
+}
@@ -0,0 +1,119 @@
+package seedu.finclient.model.order;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.finclient.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.finclient.model.order.Order.OrderType;
+
+public class OrderBookTest {
+
+    private final OrderBook orderBook = new OrderBook();
+
+    @Test
+    public void add_nullOrder_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> orderBook.add(null));
+    }
+
+    @Test
+    public void remove_nullOrder_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> orderBook.remove(null));
+    }
+
+    @Test
+    public void getClearingPrice_emptyBook_returnsEmpty() {
+        assertFalse(orderBook.getClearingPrice().isPresent());
+    }
+
+    @Test
+    public void add_hiddenAndNoneOrders_ignored() {
+        orderBook.add(new Order("HIDDEN"));
+        orderBook.add(new Order("NONE"));
+        assertEquals(0, orderBook.getLevelCount());
+        assertFalse(orderBook.getClearingPrice().isPresent());
+    }
+
+    @Test
+    public void add_ordersAtSamePrice_aggregatedIntoOneLevel() {
+        orderBook.add(new Order(OrderType.BUY, "10.00", 100));
+        orderBook.add(new Order(OrderType.SELL, "10.0", 50));
+        orderBook.add(new Order(OrderType.BUY, "10", 20));
+        assertEquals(1, orderBook.getLevelCount());
+        assertEquals(Optional.of(10.0), orderBook.getClearingPrice());
+    }
+
+    @Test
+    public void remove_lastOrderAtPrice_dropsLevel() {
+        Order buy = new Order(OrderType.BUY, "10.00", 100);
+        Order sell = new Order(OrderType.SELL, "9.50", 50);
+        orderBook.add(buy);
+        orderBook.add(sell);
+        assertEquals(Optional.of(9.5), orderBook.getClearingPrice());
+
+        orderBook.remove(sell);
+        assertEquals(1, orderBook.getLevelCount());
+        assertFalse(orderBook.getClearingPrice().isPresent());
+    }
+
+    @Test
+    public void clear_nonEmptyBook_emptiesBook() {
+        orderBook.add(new Order(OrderType.BUY, "10.00", 100));
+        orderBook.add(new Order(OrderType.SELL, "9.50", 50));
+        orderBook.clear();
+        assertEquals(0, orderBook.getLevelCount());
+        assertFalse(orderBook.getClearingPrice().isPresent());
+    }
+
+    @Test
+    public void getClearingPrice_randomAddsAndRemoves_matchesCalculator() {
+        Random random = new Random(11);
+        OrderType[] types = OrderType.values();
+        List<Order> live = new ArrayList<>();
+        for (int step = 0; step < 2000; step++) {
+            if (!live.isEmpty() && random.nextInt(3) == 0) {
+                orderBook.remove(live.remove(random.nextInt(live.size())));
+            } else {
+                int cents = 1000 + random.nextInt(25);
+                Order order = new Order(types[random.nextInt(types.length)],
+                        String.format("%d.%02d", cents / 100, cents % 100), 1 + random.nextInt(100));
+                live.add(order);
+                orderBook.add(order);
+            }
+            assertEquals(CallAuctionCalculator.calculateClearingPrice(live), orderBook.getClearingPrice());
+        }
+    }
+
+    @Test
+    public void getIndicativePrice_randomAddsAndRemoves_matchesPriceLevelAuction() {
+        Random random = new Random(17);
+        PriceLevelAuction auction = new PriceLevelAuction();
+        List<Order> live = new ArrayList<>();
+        for (int step = 0; step < 5000; step++) {
+            if (!live.isEmpty() && random.nextInt(3) == 0) {
+                orderBook.remove(live.remove(random.nextInt(live.size())));
+            } else {
+                // few, small quantities over a spread of prices, so that volumes and imbalances often tie
+                int cents = 1 + random.nextInt(step % 2 == 0 ? 8 : 5000);
+                Order order = new Order(random.nextBoolean() ? OrderType.BUY : OrderType.SELL,
+                        String.format("%d.%02d", cents / 100, cents % 100), 1 + random.nextInt(3));
+                live.add(order);
+                orderBook.add(order);
+            }
+
+            auction.clear();
+            live.forEach(auction::addOrder);
+            IndicativePrice expected = auction.run()
+                    ? IndicativePrice.of(auction.getClearingPriceInCents(), auction.getMatchedVolume(),
+                            auction.getImbalance())
+                    : IndicativePrice.NO_MATCH;
+            assertEquals(expected, orderBook.getIndicativePrice());
+        }
+    }
+}
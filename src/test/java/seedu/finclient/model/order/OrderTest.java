@@ -79,12 +79,53 @@ public class OrderTest {
         assertTrue(buyOrder.getQuantity() == 10);
     }
 
+    @Test
+    public void constructor_descriptionWithTicker_roundTrips() {
+        Order order = new Order("SELL 20 AAPL @ $123.45");
+        assertEquals(OrderType.SELL, order.getOrderType());
+        assertEquals("AAPL", order.getTicker());
+        assertEquals(12345, order.getPriceInCents());
+        assertEquals(20, order.getQuantity());
+        assertEquals("SELL 20 AAPL @ $123.45", order.toString());
+        assertEquals(order, new Order(order.toString()));
+
+        // no ticker => default instrument, left out of the description
+        Order defaultOrder = new Order("BUY 10 @ $5.50");
+        assertEquals(Order.DEFAULT_TICKER, defaultOrder.getTicker());
+        assertEquals("BUY 10 @ $5.50", defaultOrder.toString());
+    }
+
+    @Test
+    public void constructor_invalidTicker_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new Order(OrderType.BUY, "aapl", "10.00", 10));
+        assertThrows(IllegalArgumentException.class, () -> new Order(OrderType.BUY, "", "10.00", 10));
+    }
+
+    @Test
+    public void isValidTicker() {
+        // invalid tickers
+        assertFalse(Order.isValidTicker("")); // empty string
+        assertFalse(Order.isValidTicker("aapl")); // lowercase
+        assertFalse(Order.isValidTicker("1AAPL")); // starts with a digit
+        assertFalse(Order.isValidTicker("ABCDEFGHIJK")); // too long
+        assertFalse(Order.isValidTicker("BRK B")); // whitespace
+
+        // valid tickers
+        assertTrue(Order.isValidTicker("A"));
+        assertTrue(Order.isValidTicker("BRK.B"));
+        assertTrue(Order.isValidTicker("D05"));
+        assertTrue(Order.isValidTicker(Order.DEFAULT_TICKER));
+    }
+
     @Test
     public void constructor_invalidFormat_throwsIllegalArgumentException() {
         // Not enough tokens => invalid
         assertThrows(IllegalArgumentException.class, () -> new Order("BUY 10 $5.50"));
 
         // Extra tokens => invalid
+        assertThrows(IllegalArgumentException.class, () -> new Order("BUY 10 AAPL now @ $5.50"));
+
+        // Invalid ticker => invalid
         assertThrows(IllegalArgumentException.class, () -> new Order("BUY 10 something @ $5.50"));
 
         // Quantity not an integer => invalid
@@ -121,6 +162,33 @@ public class OrderTest {
         assertTrue(Order.isValidPrice("999999.99"));
     }
 
+    @Test
+    public void isValidPrice_tooLargeForCents_returnsFalse() {
+        assertFalse(Order.isValidPrice("99999999999999999999"));
+        assertFalse(Order.isValidPrice("92233720368547758.08"));
+        assertTrue(Order.isValidPrice("92233720368547758.07"));
+    }
+
+    @Test
+    public void getPriceInCents() {
+        assertEquals(500, new Order(OrderType.BUY, "5", 10).getPriceInCents());
+        assertEquals(550, new Order(OrderType.BUY, "5.5", 10).getPriceInCents());
+        assertEquals(505, new Order(OrderType.BUY, "5.05", 10).getPriceInCents());
+        assertEquals(1, new Order(OrderType.SELL, "0.01", 10).getPriceInCents());
+        assertEquals(550, new Order("BUY 10 @ $5.50").getPriceInCents());
+        assertEquals(100, new Order("NONE").getPriceInCents());
+        assertEquals(100, new Order("HIDDEN").getPriceInCents());
+    }
+
+    @Test
+    public void withQuantity_newQuantity_originalUnchanged() {
+        Order order = new Order(OrderType.BUY, "AAPL", "10.25", 10);
+        Order remainder = order.withQuantity(4);
+        assertEquals(new Order(OrderType.BUY, "AAPL", "10.25", 4), remainder);
+        assertEquals(1025, remainder.getPriceInCents());
+        assertEquals(10, order.getQuantity());
+    }
+
     @Test
     public void isValidQuantity() {
         // invalid quantities
@@ -161,9 +229,18 @@ public class OrderTest {
         Order differentPrice = new Order(OrderType.BUY, "9.99", 10);
         assertFalse(order.equals(differentPrice));
 
+        // same price written differently -> returns true
+        assertTrue(order.equals(new Order(OrderType.BUY, "10", 10)));
+
         // different quantity -> returns false
         Order differentQty = new Order(OrderType.BUY, "10.00", 5);
         assertFalse(order.equals(differentQty));
+
+        // different ticker -> returns false
+        assertFalse(order.equals(new Order(OrderType.BUY, "AAPL", "10.00", 10)));
+
+        // default ticker given explicitly -> returns true
+        assertTrue(order.equals(new Order(OrderType.BUY, Order.DEFAULT_TICKER, "10.00", 10)));
     }
 
     @Test
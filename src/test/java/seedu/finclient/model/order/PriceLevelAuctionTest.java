@@ -0,0 +1,145 @@
+package seedu.finclient.model.order;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static seedu.finclient.testutil.Assert.assertThrows;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import com.sun.management.ThreadMXBean;
+import seedu.finclient.model.order.Order.OrderType;
+
+public class PriceLevelAuctionTest {
+
+    private final PriceLevelAuction auction = new PriceLevelAuction(1);
+
+    @Test
+    public void addOrder_nullOrder_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> auction.addOrder(null));
+    }
+
+    @Test
+    public void run_noOrders_noClearingPrice() {
+        assertFalse(auction.run());
+        assertFalse(auction.hasClearingPrice());
+    }
+
+    @Test
+    public void run_hiddenAndNoneOrders_ignored() {
+        auction.addOrder(new Order("HIDDEN"));
+        auction.addOrder(new Order("NONE"));
+        assertEquals(0, auction.getOrderCount());
+        assertFalse(auction.run());
+    }
+
+    @Test
+    public void run_crossingOrders_reportsVolumeAndImbalance() {
+        // Same book as CallAuctionCalculatorTest#calculateClearingPrice_multipleBuysSells_noTie
+        auction.addOrder(new Order(OrderType.BUY, "10.00", 100));
+        auction.addOrder(new Order(OrderType.BUY, "9.50", 50));
+        auction.addOrder(new Order(OrderType.SELL, "9.00", 70));
+        auction.addOrder(new Order(OrderType.SELL, "10.00", 40));
+
+        assertTrue(auction.run());
+        assertEquals(1000, auction.getClearingPriceInCents());
+        assertEquals(100, auction.getMatchedVolume());
+        assertEquals(100, auction.getDemandAtClearingPrice());
+        assertEquals(110, auction.getSupplyAtClearingPrice());
+        assertEquals(-10, auction.getImbalance());
+    }
+
+    @Test
+    public void clear_afterRun_resetsOrdersAndResult() {
+        auction.addOrder(new Order(OrderType.BUY, "10.00", 100));
+        auction.addOrder(new Order(OrderType.SELL, "9.50", 50));
+        assertTrue(auction.run());
+
+        auction.clear();
+        assertEquals(0, auction.getOrderCount());
+        assertFalse(auction.hasClearingPrice());
+        assertFalse(auction.run());
+    }
+
+    @Test
+    public void run_randomBooksAcrossReuse_matchesScanOracle() {
+        Random random = new Random(3);
+        OrderType[] types = OrderType.values();
+        for (int trial = 0; trial < 300; trial++) {
+            List<Order> orders = new ArrayList<>();
+            int size = 1 + random.nextInt(200);
+            // Wide price range so the radix sort has to process several digits
+            int priceRange = random.nextBoolean() ? 20 : 50_000_000;
+            for (int i = 0; i < size; i++) {
+                long cents = 1 + random.nextInt(priceRange);
+                orders.add(new Order(types[random.nextInt(types.length)],
+                        String.format("%d.%02d", cents / 100, cents % 100), 1 + random.nextInt(100)));
+            }
+
+            auction.clear();
+            orders.forEach(auction::addOrder);
+            Optional<Double> actual = auction.run()
+                    ? Optional.of(CallAuctionCalculator.toPrice(auction.getClearingPriceInCents()))
+                    : Optional.empty();
+            assertEquals(CallAuctionCalculator.calculateClearingPriceByScan(orders), actual);
+        }
+    }
+
+    @Test
+    public void run_repeatedAuctions_allocatesNothing() {
+        // Per-thread allocation counts are a HotSpot extension, so skip the test on JVMs without it
+        assumeTrue(hasThreadAllocationCounter());
+        ThreadMXBean threadBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threadBean.isThreadAllocatedMemorySupported() && threadBean.isThreadAllocatedMemoryEnabled());
+
+        Random random = new Random(5);
+        int size = 5_000;
+        long[] prices = new long[size];
+        long[] quantities = new long[size];
+        boolean[] isBuy = new boolean[size];
+        for (int i = 0; i < size; i++) {
+            // Two ascending runs (e.g. the buy side then the sell side), the case where
+            // Arrays.sort would allocate a buffer to merge the runs
+            prices[i] = 1_000 + (i % (size / 2)) / 4;
+            quantities[i] = 1 + random.nextInt(100);
+            isBuy[i] = random.nextBoolean();
+        }
+
+        // First auction sizes the buffers
+        runAuction(prices, quantities, isBuy);
+
+        long threadId = Thread.currentThread().getId();
+        long before = threadBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < 100; i++) {
+            runAuction(prices, quantities, isBuy);
+        }
+        long allocated = threadBean.getThreadAllocatedBytes(threadId) - before;
+
+        // Leave a little room for the measurement calls themselves
+        assertTrue(allocated < 1024, "Repeated auctions allocated " + allocated + " bytes");
+    }
+
+    private void runAuction(long[] prices, long[] quantities, boolean[] isBuy) {
+        auction.clear();
+        for (int i = 0; i < prices.length; i++) {
+            auction.addOrder(isBuy[i], prices[i], quantities[i]);
+        }
+        auction.run();
+    }
+
+    private static boolean hasThreadAllocationCounter() {
+        try {
+            Class<?> threadBeanClass = Class.forName("com.sun.management.ThreadMXBean");
+            return threadBeanClass.isInstance(ManagementFactory.getThreadMXBean());
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package seedu.finclient.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.finclient.testutil.Assert.assertThrows;
+import static seedu.finclient.testutil.TypicalPersons.ALICE;
+import static seedu.finclient.testutil.TypicalPersons.BENSON;
+import static seedu.finclient.testutil.TypicalPersons.CARL;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.finclient.testutil.PersonBuilder;
+
+public class NameTokenIndexTest {
+
+    private final NameTokenIndex index = new NameTokenIndex();
+
+    @Test
+    public void find_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.find(null));
+    }
+
+    @Test
+    public void find_keywords_unionOfWholeWordMatchesIgnoringCase() {
+        // Alice Pauline, Benson Meier, Carl Kurz
+        index.add(ALICE);
+        index.add(BENSON);
+        index.add(CARL);
+
+        assertEquals(Set.of(ALICE), index.find(List.of("alice")));
+        assertEquals(Set.of(ALICE, CARL), index.find(List.of("PAULINE", "kUrZ", "Zed")));
+        // only whole words match
+        assertEquals(Set.of(), index.find(List.of("Ali")));
+        assertEquals(Set.of(), index.find(List.of()));
+    }
+
+    @Test
+    public void remove_repeatedWord_removedFromIndex() {
+        Person person = new PersonBuilder().withName("Ann Ann Lee").build();
+        index.add(person);
+        assertEquals(Set.of(person), index.find(List.of("ann")));
+
+        index.remove(person);
+        assertEquals(Set.of(), index.find(List.of("ann", "lee")));
+    }
+
+    @Test
+    public void matchingAnyOf_indexChanges_tracksIndex() {
+        Predicate<Person> matchesAlice = index.matchingAnyOf(List.of("Alice"));
+        index.add(ALICE);
+        assertTrue(matchesAlice.test(ALICE));
+
+        // an equal copy is a different entry in the index
+        Person copy = new PersonBuilder(ALICE).build();
+        assertFalse(matchesAlice.test(copy));
+
+        index.remove(ALICE);
+        index.add(copy);
+        assertFalse(matchesAlice.test(ALICE));
+        assertTrue(matchesAlice.test(copy));
+    }
+}
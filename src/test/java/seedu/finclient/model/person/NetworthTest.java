@@ -2,6 +2,7 @@ package seedu.finclient.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.finclient.testutil.Assert.assertThrows;
 
@@ -71,6 +72,17 @@ public class NetworthTest {
         assertEquals("> $5 million", new Networth("9999999").value);
     }
 
+    @Test
+    public void of_sameBracket_returnsSharedNetworth() {
+        Networth networth = Networth.of("150000");
+        assertSame(networth, Networth.of("$100k - $250k"));
+        assertSame(networth, Networth.of("249999"));
+        assertEquals(new Networth("150000"), networth);
+        assertEquals(1, networth.getBracketIndex());
+        assertSame(Networth.HIDDEN, Networth.of("Hidden"));
+        assertEquals(-1, Networth.HIDDEN.getBracketIndex());
+    }
+
     @Test
     public void equals() {
         Networth networth = new Networth("1000000");
@@ -0,0 +1,80 @@
+package seedu.finclient.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.finclient.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.finclient.model.order.MatchingMode;
+import seedu.finclient.model.order.Order;
+import seedu.finclient.model.person.exceptions.OrderNotFoundException;
+import seedu.finclient.model.query.QueryIndex;
+import seedu.finclient.testutil.PersonBuilder;
+
+public class PersonOrderBookTest {
+
+    private final List<Person> changedPersons = new ArrayList<>();
+    private final PersonOrderBook orderBook = new PersonOrderBook(new QueryIndex(), changedPersons::add);
+
+    @Test
+    public void personAdded_ordersNumberedAndBooked() {
+        Person seller = new PersonBuilder().withName("Seller").withOrder("SELL 10 @ $9.00").build();
+        Person buyer = new PersonBuilder().withName("Buyer").withOrder("NONE").build();
+        buyer.getOrdersForIndexing().add(1, new Order("BUY 10 @ $10.00"));
+        orderBook.personAdded(1, seller);
+        orderBook.personAdded(2, buyer);
+
+        // the buyer joined with the id the seller was given, so its order is renumbered
+        assertEquals(List.of(1L), List.copyOf(seller.getOrdersForIndexing().asMap().keySet()));
+        assertEquals(List.of(2L), List.copyOf(buyer.getOrdersForIndexing().asMap().keySet()));
+        assertEquals(Optional.of(new Order("BUY 10 @ $10.00")), orderBook.getOrder(2));
+        assertEquals(Optional.of(9.0), orderBook.calculateClearingPrice(Order.DEFAULT_TICKER));
+
+        orderBook.personRemoved(1, seller);
+        assertFalse(orderBook.hasOrder(1));
+        assertFalse(orderBook.calculateClearingPrice(Order.DEFAULT_TICKER).isPresent());
+    }
+
+    @Test
+    public void personReplaced_hiddenInPlace_ordersWithdrawnUntilRevealed() {
+        Person seller = new PersonBuilder().withName("Seller").withOrder("SELL 10 @ $9.00").build();
+        Person buyer = new PersonBuilder().withName("Buyer").withOrder("BUY 10 @ $10.00").build();
+        orderBook.personsReset(List.of(1L, 2L), List.of(seller, buyer));
+
+        seller.setHidden();
+        orderBook.personReplaced(1, seller, seller);
+        assertTrue(orderBook.hasOrder(1));
+        assertFalse(orderBook.calculateClearingPrice(Order.DEFAULT_TICKER).isPresent());
+
+        seller.setUnhidden();
+        orderBook.personReplaced(1, seller, seller);
+        assertEquals(Optional.of(9.0), orderBook.calculateClearingPrice(Order.DEFAULT_TICKER));
+    }
+
+    @Test
+    public void placeOrder_continuousMode_tellsOfEveryPersonChanged() {
+        Person seller = new PersonBuilder().withName("Seller").withOrder("SELL 10 @ $9.00").build();
+        Person buyer = new PersonBuilder().withName("Buyer").withOrder("NONE").build();
+        orderBook.personsReset(List.of(1L, 2L), List.of(seller, buyer));
+        orderBook.setMatchingMode(MatchingMode.CONTINUOUS);
+
+        long buyId = orderBook.placeOrder(buyer, new Order("BUY 4 @ $9.00"));
+        assertFalse(orderBook.hasOrder(buyId));
+        assertEquals(List.of(seller, buyer), changedPersons);
+        assertSame(seller, changedPersons.get(0));
+        assertEquals(new Order("SELL 6 @ $9.00"), orderBook.getOrder(1).get());
+    }
+
+    @Test
+    public void amendCancelOrder_unknownOrderId_throwsOrderNotFoundException() {
+        assertThrows(OrderNotFoundException.class, () -> orderBook.amendOrder(1, new Order("BUY 1 @ $1.00")));
+        assertThrows(OrderNotFoundException.class, () -> orderBook.cancelOrder(1));
+    }
+}
@@ -0,0 +1,95 @@
+package seedu.finclient.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.finclient.testutil.Assert.assertThrows;
+import static seedu.finclient.testutil.TypicalPersons.ALICE;
+import static seedu.finclient.testutil.TypicalPersons.BENSON;
+import static seedu.finclient.testutil.TypicalPersons.DANIEL;
+import static seedu.finclient.testutil.TypicalPersons.ELLE;
+import static seedu.finclient.testutil.TypicalPersons.FIONA;
+import static seedu.finclient.testutil.TypicalPersons.GEORGE;
+import static seedu.finclient.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.finclient.model.person.PersonSortOrder.Criterion;
+import seedu.finclient.testutil.PersonBuilder;
+
+public class PersonSortOrderTest {
+
+    @Test
+    public void fromKeyword() {
+        assertThrows(NullPointerException.class, () -> Criterion.fromKeyword(null));
+        assertEquals(Optional.of(Criterion.NETWORTH), Criterion.fromKeyword("networth"));
+        assertEquals(Optional.empty(), Criterion.fromKeyword("Name"));
+        assertEquals(Optional.empty(), Criterion.fromKeyword("name price"));
+    }
+
+    @Test
+    public void sort_multipleCriteria_tiesBrokenByLaterCriteria() {
+        Person zed = new PersonBuilder().withName("Zed").withNetworth("50").build();
+        Person amy = new PersonBuilder().withName("Amy").withNetworth("60").build();
+        Person ben = new PersonBuilder().withName("Ben").withNetworth("6000000").build();
+
+        PersonSortOrder byNetworthThenName = new PersonSortOrder(Criterion.NETWORTH, Criterion.NAME);
+        assertEquals(List.of(amy, zed, ben), byNetworthThenName.sort(List.of(ben, zed, amy)));
+
+        // persons with the same keys keep their relative order
+        PersonSortOrder byNetworth = new PersonSortOrder(Criterion.NETWORTH);
+        assertEquals(List.of(zed, amy, ben), byNetworth.sort(List.of(ben, zed, amy)));
+        assertEquals(List.of(amy, zed, ben), byNetworth.sort(List.of(amy, ben, zed)));
+    }
+
+    @Test
+    public void sort_shuffledPersons_agreesWithComparator() {
+        Random random = new Random(7);
+        for (Criterion criterion : Criterion.values()) {
+            PersonSortOrder sortOrder = new PersonSortOrder(criterion, Criterion.NAME);
+            List<Person> persons = new ArrayList<>(getTypicalPersons());
+            Collections.shuffle(persons, random);
+
+            List<Person> expected = new ArrayList<>(persons);
+            expected.sort(sortOrder.comparator());
+            assertEquals(expected, sortOrder.sort(persons));
+        }
+    }
+
+    @Test
+    public void sort_networth_emptyNetworthFirst() {
+        PersonSortOrder sortOrder = new PersonSortOrder(Criterion.NETWORTH);
+        assertEquals(List.of(GEORGE, ALICE, BENSON, DANIEL, ELLE, FIONA),
+                sortOrder.sort(List.of(FIONA, ELLE, DANIEL, GEORGE, BENSON, ALICE)));
+    }
+
+    @Test
+    public void equals() {
+        PersonSortOrder byName = new PersonSortOrder(Criterion.NAME);
+
+        // same values -> returns true
+        assertTrue(byName.equals(new PersonSortOrder(List.of(Criterion.NAME))));
+        assertEquals(byName.hashCode(), new PersonSortOrder(Criterion.NAME).hashCode());
+
+        // different types -> returns false
+        assertFalse(byName.equals("name"));
+
+        // null -> returns false
+        assertFalse(byName.equals(null));
+
+        // different criteria or order of criteria -> returns false
+        assertFalse(new PersonSortOrder(Criterion.NAME, Criterion.PRICE)
+                .equals(new PersonSortOrder(Criterion.PRICE, Criterion.NAME)));
+    }
+
+    @Test
+    public void toStringMethod() {
+        assertEquals("networth, name", new PersonSortOrder(Criterion.NETWORTH, Criterion.NAME).toString());
+    }
+}
@@ -14,6 +14,7 @@ import static seedu.finclient.testutil.TypicalPersons.BOB;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.finclient.model.order.Order;
 import seedu.finclient.testutil.PersonBuilder;
 
 public class PersonTest {
@@ -37,7 +38,7 @@ public class PersonTest {
     public void constructor_nullValues_throwsNullPointerException() {
         // Check if null values are handled by throwing NullPointerException
         assertThrows(NullPointerException.class, () ->
-                new Person(null, null, null, null, null, null,
+                new Person(null, null, null, null, (Order) null, null,
                 null, null, null, null, null));
     }
 
@@ -49,6 +50,23 @@ public class PersonTest {
                         null, null, null, null, null));
     }
 
+    @Test
+    public void copy_laterChangesNotShown() {
+        Person person = new PersonBuilder(ALICE).withOrder("BUY 10 @ $5.00").build();
+        Person copy = person.copy();
+        assertEquals(person, copy);
+
+        person.getOrderList().add(1, new Order("SELL 5 @ $6.00"));
+        person.setHidden();
+        assertFalse(copy.getIsHidden());
+        assertEquals(1, copy.getOrderList().size());
+
+        Person hiddenCopy = person.copy();
+        assertTrue(hiddenCopy.getIsHidden());
+        hiddenCopy.setUnhidden();
+        assertEquals(2, hiddenCopy.getOrderList().size());
+    }
+
     @Test
     public void testHiddenBehavior() {
         // Hide the person
@@ -0,0 +1,133 @@
+package seedu.finclient.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.finclient.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
+import static seedu.finclient.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.ToLongFunction;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+import seedu.finclient.model.order.Order;
+import seedu.finclient.model.order.Order.OrderType;
+import seedu.finclient.model.person.PersonSortOrder.Criterion;
+import seedu.finclient.testutil.PersonBuilder;
+
+public class SortedPersonViewTest {
+
+    private final PersonSortOrder byPrice = new PersonSortOrder(Criterion.PRICE);
+    // Gives each person an id the first time it is seen, as the person list does when it is added
+    private final Map<Person, Long> ids = new IdentityHashMap<>();
+    private final ToLongFunction<Person> idOf = person -> ids.computeIfAbsent(person, unused -> (long) ids.size());
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new SortedPersonView(null, List.of(), idOf));
+        assertThrows(NullPointerException.class, () -> new SortedPersonView(byPrice, null, idOf));
+    }
+
+    @Test
+    public void add_samePrices_placedAfterEqualKeys() {
+        Person first = personWithPrice("First", "5.00");
+        Person second = personWithPrice("Second", "5.00");
+        Person cheap = personWithPrice("Cheap", "1.00");
+        SortedPersonView view = new SortedPersonView(byPrice, List.of(first), idOf);
+        view.add(second);
+        view.add(cheap);
+        assertEquals(List.of(cheap, first, second), view.asUnmodifiableObservableList());
+
+        // persons with the same price are told apart by their ids
+        view.remove(second);
+        assertEquals(List.of(cheap, first), view.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void reposition_orderChangedInPlace_movedByOldKeys() {
+        Person first = personWithPrice("First", "5.00");
+        Person second = personWithPrice("Second", "5.00");
+        Person third = personWithPrice("Third", "5.00");
+        SortedPersonView view = new SortedPersonView(byPrice, List.of(first, second, third), idOf);
+
+        long orderId = second.getOrdersForIndexing().asMap().keySet().iterator().next();
+        second.getOrdersForIndexing().replace(orderId, new Order(OrderType.BUY, "9.00", 10));
+        view.reposition(second);
+        assertEquals(List.of(first, third, second), view.asUnmodifiableObservableList());
+
+        // repositioning a person whose keys did not change leaves it in place
+        view.reposition(first);
+        assertEquals(List.of(first, third, second), view.asUnmodifiableObservableList());
+
+        // back at the same price, ties follow the ids again
+        second.getOrdersForIndexing().replace(orderId, new Order(OrderType.BUY, "5.00", 10));
+        view.reposition(second);
+        assertEquals(List.of(first, second, third), view.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void replace_stillInPlace_singleReplacement() {
+        Person cheap = personWithPrice("Cheap", "1.00");
+        Person dear = personWithPrice("Dear", "9.00");
+        SortedPersonView view = new SortedPersonView(byPrice, List.of(dear, cheap), idOf);
+        List<String> changes = new ArrayList<>();
+        view.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                changes.add(change.wasReplaced() ? "replaced" : change.wasAdded() ? "added" : "removed");
+            }
+        });
+
+        Person editedCheap = new PersonBuilder(cheap).withAddress(VALID_ADDRESS_BOB).build();
+        view.replace(cheap, editedCheap);
+        assertEquals(List.of(editedCheap, dear), view.asUnmodifiableObservableList());
+        assertEquals(List.of("replaced"), changes);
+
+        Person dearest = personWithPrice("Cheap", "20.00");
+        view.replace(editedCheap, dearest);
+        assertEquals(List.of(dear, dearest), view.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void mutations_random_matchFullSort() {
+        Random random = new Random(11);
+        PersonSortOrder sortOrder = new PersonSortOrder(Criterion.PRICE, Criterion.AMOUNT);
+        List<Person> persons = new ArrayList<>();
+        SortedPersonView view = new SortedPersonView(sortOrder, persons, idOf);
+        for (int i = 0; i < 300; i++) {
+            int action = persons.isEmpty() ? 0 : random.nextInt(3);
+            if (action == 0) {
+                Person person = withOrderNumbered(new PersonBuilder().withName("Person " + i)
+                        .withOrder("BUY " + (1 + random.nextInt(3)) + " @ $" + (1 + random.nextInt(4)) + ".00")
+                        .build());
+                persons.add(person);
+                view.add(person);
+            } else if (action == 1) {
+                view.remove(persons.remove(random.nextInt(persons.size())));
+            } else {
+                Person person = persons.get(random.nextInt(persons.size()));
+                long orderId = person.getOrdersForIndexing().asMap().keySet().iterator().next();
+                person.getOrdersForIndexing().replace(orderId,
+                        new Order(OrderType.BUY, (1 + random.nextInt(4)) + ".00", 1 + random.nextInt(3)));
+                view.reposition(person);
+            }
+            assertEquals(sortOrder.sort(view.asUnmodifiableObservableList()), view.asUnmodifiableObservableList());
+            assertEquals(persons.size(), view.asUnmodifiableObservableList().size());
+        }
+    }
+
+    private static Person personWithPrice(String name, String price) {
+        return withOrderNumbered(new PersonBuilder().withName(name).withOrder("BUY 10 @ $" + price).build());
+    }
+
+    /**
+     * Numbers the single order of {@code person}, as the list holding it would, so that it can be replaced.
+     */
+    private static Person withOrderNumbered(Person person) {
+        person.getOrdersForIndexing().numberOrders(() -> 1);
+        return person;
+    }
+}
@@ -1,6 +1,8 @@
 package seedu.finclient.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.finclient.testutil.Assert.assertThrows;
 
@@ -49,6 +51,14 @@ public class StockPlatformTest {
         assertTrue(StockPlatform.isValidStockPlatform("David Roger Jackson Ray Jr 2nd")); // long names
     }
 
+    @Test
+    public void of_sameName_returnsSharedPlatform() {
+        assertSame(StockPlatform.of("Tiger Brokers"), StockPlatform.of("Tiger Brokers"));
+        assertEquals(new StockPlatform("Tiger Brokers"), StockPlatform.of("Tiger Brokers"));
+        assertSame(StockPlatform.HIDDEN, StockPlatform.of("Hidden"));
+        assertThrows(IllegalArgumentException.class, () -> StockPlatform.of(" "));
+    }
+
     @Test
     public void equals() {
         StockPlatform stockPlatform = new StockPlatform("valid@platform");
@@ -15,13 +15,25 @@ import static seedu.finclient.testutil.TypicalPersons.GEORGE;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.finclient.model.order.AllocationRule;
+import seedu.finclient.model.order.AuctionResult;
+import seedu.finclient.model.order.MatchingMode;
+import seedu.finclient.model.order.Order;
+import seedu.finclient.model.order.Order.OrderType;
+import seedu.finclient.model.order.Trade;
+import seedu.finclient.model.person.PersonSortOrder.Criterion;
 import seedu.finclient.model.person.exceptions.DuplicatePersonException;
+import seedu.finclient.model.person.exceptions.OrderNotFoundException;
 import seedu.finclient.model.person.exceptions.PersonNotFoundException;
 import seedu.finclient.testutil.PersonBuilder;
 
@@ -168,6 +180,29 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void contains_afterMutations_tracksNames() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+        uniquePersonList.add(ALICE);
+
+        uniquePersonList.remove(BOB);
+        assertFalse(uniquePersonList.contains(BOB));
+        uniquePersonList.add(BOB);
+
+        uniquePersonList.setPersons(List.of(CARL));
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(CARL));
+        uniquePersonList.add(ALICE);
+
+        // a rejected list leaves the list and its names untouched
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(Arrays.asList(BOB, BOB)));
+        assertFalse(uniquePersonList.contains(BOB));
+        assertTrue(uniquePersonList.contains(ALICE));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -183,13 +218,13 @@ public class UniquePersonListTest {
     public void hidePerson_singlePerson_personIsHidden() {
         uniquePersonList.add(ALICE);
         // ALICE should not be hidden initially
-        assertFalse(ALICE.getIsHidden(), "ALICE should start unhidden.");
+        assertFalse(held(ALICE).getIsHidden(), "ALICE should start unhidden.");
 
         // Hide ALICE
         uniquePersonList.hidePerson(ALICE);
 
         // After hiding, ALICE should be hidden
-        assertTrue(ALICE.getIsHidden(), "ALICE should now be hidden.");
+        assertTrue(held(ALICE).getIsHidden(), "ALICE should now be hidden.");
 
         uniquePersonList.revealPerson(ALICE);
     }
@@ -201,7 +236,7 @@ public class UniquePersonListTest {
         uniquePersonList.hidePerson(BOB);
 
         // ALICE still in the list, still unhidden
-        assertFalse(ALICE.getIsHidden(), "ALICE should remain unhidden because we tried to hide BOB.");
+        assertFalse(held(ALICE).getIsHidden(), "ALICE should remain unhidden because we tried to hide BOB.");
 
         uniquePersonList.revealPerson(BOB);
     }
@@ -212,8 +247,8 @@ public class UniquePersonListTest {
         uniquePersonList.add(BOB);
 
         // Both ALICE & BOB unhidden initially
-        assertFalse(ALICE.getIsHidden());
-        assertFalse(BOB.getIsHidden());
+        assertFalse(held(ALICE).getIsHidden());
+        assertFalse(held(BOB).getIsHidden());
 
         // Hide all persons whose name contains "bob" (case-insensitive),
         // so BOB definitely matches, ALICE does not.
@@ -222,8 +257,8 @@ public class UniquePersonListTest {
         uniquePersonList.hidePerson(nameContainsBob);
 
         // Verify BOB got hidden, ALICE stayed unhidden
-        assertFalse(ALICE.getIsHidden(), "ALICE should still be unhidden.");
-        assertTrue(BOB.getIsHidden(), "BOB should now be hidden.");
+        assertFalse(held(ALICE).getIsHidden(), "ALICE should still be unhidden.");
+        assertTrue(held(BOB).getIsHidden(), "BOB should now be hidden.");
 
         uniquePersonList.revealPerson(nameContainsBob);
     }
@@ -233,11 +268,11 @@ public class UniquePersonListTest {
         // Hide ALICE first, then reveal her
         uniquePersonList.add(ALICE);
         uniquePersonList.hidePerson(ALICE);
-        assertTrue(ALICE.getIsHidden(), "ALICE should be hidden after hidePerson.");
+        assertTrue(held(ALICE).getIsHidden(), "ALICE should be hidden after hidePerson.");
 
         // Now reveal ALICE
         uniquePersonList.revealPerson(ALICE);
-        assertFalse(ALICE.getIsHidden(), "ALICE should be revealed now.");
+        assertFalse(held(ALICE).getIsHidden(), "ALICE should be revealed now.");
     }
 
     @Test
@@ -248,8 +283,8 @@ public class UniquePersonListTest {
 
         uniquePersonList.hidePerson(ALICE);
         uniquePersonList.hidePerson(BOB);
-        assertTrue(ALICE.getIsHidden(), "ALICE hidden.");
-        assertTrue(BOB.getIsHidden(), "BOB hidden.");
+        assertTrue(held(ALICE).getIsHidden(), "ALICE hidden.");
+        assertTrue(held(BOB).getIsHidden(), "BOB hidden.");
 
         // Reveal all persons whose name contains "alice" (case-insensitive)
         NameContainsKeywordsPredicate nameContainsAlice = new NameContainsKeywordsPredicate(
@@ -257,8 +292,8 @@ public class UniquePersonListTest {
         uniquePersonList.revealPerson(nameContainsAlice);
 
         // ALICE should now be revealed, BOB should remain hidden
-        assertFalse(ALICE.getIsHidden(), "ALICE should be revealed now.");
-        assertTrue(BOB.getIsHidden(), "BOB should remain hidden.");
+        assertFalse(held(ALICE).getIsHidden(), "ALICE should be revealed now.");
+        assertTrue(held(BOB).getIsHidden(), "BOB should remain hidden.");
 
         uniquePersonList.revealPerson(BOB);
     }
@@ -300,43 +335,575 @@ public class UniquePersonListTest {
         assertEquals("Future Person", upcoming.get(1).getName().fullName);
     }
 
+    @Test
+    public void upcomingPersons_afterEditsAndHiding_followsChanges() {
+        String tomorrow = LocalDate.now().plusDays(1).atTime(9, 0).format(Remark.FORMATTER);
+        String nextWeek = LocalDate.now().plusDays(7).atTime(9, 0).format(Remark.FORMATTER);
+        Person alice = new PersonBuilder(ALICE).withRemark("Review by/" + nextWeek).build();
+        Person benson = new PersonBuilder(BENSON).withRemark("Call by/" + nextWeek).build();
+        uniquePersonList.setPersons(Arrays.asList(alice, benson, CARL));
+        assertEquals(List.of(alice, benson), uniquePersonList.upcomingPersons(5));
+
+        // an earlier remark moves the person ahead
+        Person editedBenson = new PersonBuilder(benson).withRemark("Call by/" + tomorrow).build();
+        uniquePersonList.setPerson(benson, editedBenson);
+        assertEquals(List.of(editedBenson, alice), uniquePersonList.upcomingPersons(5));
+        assertEquals(List.of(editedBenson), uniquePersonList.upcomingPersons(1));
+
+        // hidden remarks have no timestamp
+        uniquePersonList.hidePerson(editedBenson);
+        assertEquals(List.of(alice), uniquePersonList.upcomingPersons(5));
+        uniquePersonList.revealPerson(editedBenson);
+        assertEquals(List.of(editedBenson, alice), uniquePersonList.upcomingPersons(5));
+
+        uniquePersonList.remove(alice);
+        assertEquals(List.of(editedBenson), uniquePersonList.upcomingPersons(5));
+        assertThrows(IllegalArgumentException.class, () -> uniquePersonList.upcomingPersons(-1));
+    }
+
+    @Test
+    public void setPersonAndRemove_afterRemovalsAndSort_findCorrectSlot() {
+        uniquePersonList.setPersons(Arrays.asList(GEORGE, BOB, ALICE, CARL, FIONA));
+        uniquePersonList.remove(BOB);
+        uniquePersonList.add(BENSON);
+        Person editedCarl = new PersonBuilder(CARL).withAddress(VALID_ADDRESS_BOB).build();
+        uniquePersonList.setPerson(CARL, editedCarl);
+        assertEquals(List.of(GEORGE, ALICE, editedCarl, FIONA, BENSON),
+                uniquePersonList.asUnmodifiableObservableList());
+
+        uniquePersonList.sortPersons(new PersonSortOrder(Criterion.NAME));
+        uniquePersonList.remove(ALICE);
+        // the sorted view moves the replacement to its place by name, the list keeps it in its slot
+        uniquePersonList.setPerson(GEORGE, BOB);
+        assertEquals(List.of(BOB, editedCarl, FIONA, BENSON), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(List.of(BENSON, BOB, editedCarl, FIONA), uniquePersonList.asSortedObservableList());
+        uniquePersonList.setPerson(BOB, GEORGE);
+        assertEquals(List.of(BENSON, editedCarl, FIONA, GEORGE), uniquePersonList.asSortedObservableList());
+
+        // a person with the same name but different details is not removed
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.remove(CARL));
+    }
+
+    @Test
+    public void search_hiddenPerson_onlyShownDetailsSearched() {
+        Person benson = new PersonBuilder(BENSON).build();
+        uniquePersonList.setPersons(Arrays.asList(new PersonBuilder(ALICE).build(), benson));
+        assertEquals(List.of(benson), uniquePersonList.search(List.of("owes")));
+
+        uniquePersonList.hidePerson(benson);
+        assertEquals(List.of(), uniquePersonList.search(List.of("owes")));
+        assertEquals(List.of(benson), uniquePersonList.search(List.of("benson")));
+
+        uniquePersonList.revealPerson(benson);
+        assertEquals(List.of(benson), uniquePersonList.search(List.of("owes")));
+    }
+
     @Test
     public void sortByName() {
         UniquePersonList unsortedUniquePersonList = new UniquePersonList();
         unsortedUniquePersonList.setPersons(Arrays.asList(GEORGE, BOB, ALICE));
-        unsortedUniquePersonList.sortPersons("name");
-        UniquePersonList expectedUniquePersonList = new UniquePersonList();
-        expectedUniquePersonList.setPersons(Arrays.asList(ALICE, BOB, GEORGE));
-        assertEquals(expectedUniquePersonList, unsortedUniquePersonList);
+        unsortedUniquePersonList.sortPersons(new PersonSortOrder(Criterion.NAME));
+        assertEquals(List.of(ALICE, BOB, GEORGE), unsortedUniquePersonList.asSortedObservableList());
+        // the list itself is left as it is
+        assertEquals(List.of(GEORGE, BOB, ALICE), unsortedUniquePersonList.asUnmodifiableObservableList());
     }
 
     @Test
     public void sortByPrice() {
         UniquePersonList unsortedUniquePersonList = new UniquePersonList();
         unsortedUniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL));
-        unsortedUniquePersonList.sortPersons("price");
-        UniquePersonList expectedUniquePersonList = new UniquePersonList();
-        expectedUniquePersonList.setPersons(Arrays.asList(CARL, BENSON, ALICE));
-        assertEquals(expectedUniquePersonList, unsortedUniquePersonList);
+        unsortedUniquePersonList.sortPersons(new PersonSortOrder(Criterion.PRICE));
+        assertEquals(List.of(CARL, BENSON, ALICE), unsortedUniquePersonList.asSortedObservableList());
+        // the list itself is left as it is
+        assertEquals(List.of(ALICE, BENSON, CARL), unsortedUniquePersonList.asUnmodifiableObservableList());
     }
 
     @Test
     public void sortByAmount() {
         UniquePersonList unsortedUniquePersonList = new UniquePersonList();
         unsortedUniquePersonList.setPersons(Arrays.asList(CARL, BENSON, ALICE));
-        unsortedUniquePersonList.sortPersons("name");
-        UniquePersonList expectedUniquePersonList = new UniquePersonList();
-        expectedUniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL));
-        assertEquals(expectedUniquePersonList, unsortedUniquePersonList);
+        unsortedUniquePersonList.sortPersons(new PersonSortOrder(Criterion.AMOUNT));
+        assertEquals(List.of(ALICE, BENSON, CARL), unsortedUniquePersonList.asSortedObservableList());
+        // the list itself is left as it is
+        assertEquals(List.of(CARL, BENSON, ALICE), unsortedUniquePersonList.asUnmodifiableObservableList());
     }
 
     @Test
     public void sortByNetworth() {
         UniquePersonList unsortedUniquePersonList = new UniquePersonList();
         unsortedUniquePersonList.setPersons(Arrays.asList(FIONA, BENSON, ALICE));
-        unsortedUniquePersonList.sortPersons("networth");
-        UniquePersonList expectedUniquePersonList = new UniquePersonList();
-        expectedUniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, FIONA));
-        assertEquals(expectedUniquePersonList, unsortedUniquePersonList);
+        unsortedUniquePersonList.sortPersons(new PersonSortOrder(Criterion.NETWORTH));
+        assertEquals(List.of(ALICE, BENSON, FIONA), unsortedUniquePersonList.asSortedObservableList());
+        // the list itself is left as it is
+        assertEquals(List.of(FIONA, BENSON, ALICE), unsortedUniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void sortPersons_addsAndOrderChanges_keepOrder() {
+        Person alice = new PersonBuilder(ALICE).build();
+        Person benson = new PersonBuilder(BENSON).build();
+        Person carl = new PersonBuilder(CARL).build();
+        uniquePersonList.setPersons(Arrays.asList(alice, benson, carl));
+        uniquePersonList.sortPersons(new PersonSortOrder(Criterion.PRICE, Criterion.NAME));
+        ObservableList<Person> sortedPersons = uniquePersonList.asSortedObservableList();
+        assertEquals(List.of(carl, benson, alice), sortedPersons);
+
+        // added persons are inserted at their place, after persons with the same keys
+        Person daniel = new PersonBuilder().withName("Daniel Meier").withOrder("BUY 5 @ $4.92").build();
+        uniquePersonList.add(daniel);
+        assertEquals(List.of(carl, benson, daniel, alice), sortedPersons);
+
+        // re-pricing an order moves its owner
+        long carlOrderId = orderIdOf(carl);
+        uniquePersonList.amendOrder(carlOrderId, new Order(OrderType.BUY, "6.00", 100));
+        assertEquals(List.of(benson, daniel, alice, carl), sortedPersons);
+        long carlNewOrderId = uniquePersonList.placeOrder(carl, new Order(OrderType.BUY, "4.00", 1));
+        uniquePersonList.cancelOrder(carlOrderId);
+        assertEquals(List.of(carl, benson, daniel, alice), sortedPersons);
+
+        // an edited person keeps its place if it still belongs there
+        Person editedDaniel = new PersonBuilder(daniel).withAddress(VALID_ADDRESS_BOB).build();
+        uniquePersonList.setPerson(daniel, editedDaniel);
+        uniquePersonList.remove(alice);
+        assertEquals(List.of(carl, benson, editedDaniel), sortedPersons);
+        assertEquals(List.of(benson, carl, editedDaniel), uniquePersonList.asUnmodifiableObservableList());
+        assertTrue(uniquePersonList.hasOrder(carlNewOrderId));
+
+        // replacing the whole list shows it as it is
+        uniquePersonList.setPersons(Arrays.asList(carl, benson));
+        uniquePersonList.add(alice);
+        assertEquals(List.of(carl, benson, alice), sortedPersons);
+        assertEquals(Optional.empty(), uniquePersonList.getSortOrder());
+    }
+
+    @Test
+    public void sortPersons_sameKeys_tiesInListOrder() {
+        Person first = new PersonBuilder().withName("First").withNetworth("< $100k").build();
+        Person second = new PersonBuilder().withName("Second").withNetworth("< $100k").build();
+        Person rich = new PersonBuilder().withName("Rich").withNetworth("> $5 million").build();
+        uniquePersonList.setPersons(Arrays.asList(second, rich, first));
+        uniquePersonList.sortPersons(new PersonSortOrder(Criterion.NETWORTH));
+        ObservableList<Person> sortedPersons = uniquePersonList.asSortedObservableList();
+        assertEquals(List.of(second, first, rich), sortedPersons);
+
+        // an edited person keeps its slot in the list, and so its place among the persons with the same keys
+        Person editedSecond = new PersonBuilder(second).withName("Second Edited").withNetworth("> $5 million")
+                .build();
+        uniquePersonList.setPerson(second, editedSecond);
+        assertEquals(List.of(first, editedSecond, rich), sortedPersons);
+        Person poorAgain = new PersonBuilder(editedSecond).withNetworth("< $100k").build();
+        uniquePersonList.setPerson(editedSecond, poorAgain);
+        assertEquals(List.of(poorAgain, first, rich), sortedPersons);
+
+        Person third = new PersonBuilder().withName("Third").withNetworth("< $100k").build();
+        uniquePersonList.add(third);
+        assertEquals(List.of(poorAgain, first, third, rich), sortedPersons);
+    }
+
+    @Test
+    public void sortPersons_switchViews_listNotChanged() {
+        uniquePersonList.setPersons(Arrays.asList(CARL, ALICE, FIONA, BENSON));
+        List<ListChangeListener.Change<? extends Person>> listChanges = new ArrayList<>();
+        uniquePersonList.asUnmodifiableObservableList().addListener(
+                (ListChangeListener<Person>) change -> listChanges.add(change));
+        int[] sortedChanges = {0};
+        uniquePersonList.asSortedObservableList().addListener(
+                (ListChangeListener<Person>) change -> sortedChanges[0]++);
+
+        PersonSortOrder byName = new PersonSortOrder(Criterion.NAME);
+        PersonSortOrder byNetworth = new PersonSortOrder(Criterion.NETWORTH);
+        uniquePersonList.sortPersons(byName);
+        uniquePersonList.sortPersons(byNetworth);
+        assertEquals(List.of(ALICE, BENSON, CARL, FIONA), uniquePersonList.asSortedObservableList());
+        uniquePersonList.sortPersons(byName);
+        assertEquals(List.of(ALICE, BENSON, CARL, FIONA), uniquePersonList.asSortedObservableList());
+        assertEquals(Optional.of(byName), uniquePersonList.getSortOrder());
+
+        // the views that are not shown are kept in order too
+        uniquePersonList.remove(BENSON);
+        uniquePersonList.add(GEORGE);
+        uniquePersonList.sortPersons(byNetworth);
+        assertEquals(List.of(GEORGE, ALICE, CARL, FIONA), uniquePersonList.asSortedObservableList());
+
+        // every switch is one change of the sorted list, and none of the list itself
+        assertEquals(2, listChanges.size());
+        assertEquals(6, sortedChanges[0]);
+        assertEquals(List.of(CARL, ALICE, FIONA, GEORGE), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void sortPersons_manyOrders_oldestViewDropped() {
+        uniquePersonList.setPersons(Arrays.asList(CARL, ALICE));
+        Criterion[] criteria = Criterion.values();
+        for (int i = 0; i <= UniquePersonList.MAX_SORTED_VIEWS; i++) {
+            uniquePersonList.sortPersons(new PersonSortOrder(criteria[i % criteria.length],
+                    criteria[(i + 1) % criteria.length]));
+        }
+        uniquePersonList.add(BENSON);
+        uniquePersonList.sortPersons(new PersonSortOrder(Criterion.NAME, Criterion.PRICE));
+        assertEquals(List.of(ALICE, BENSON, CARL), uniquePersonList.asSortedObservableList());
+    }
+
+    @Test
+    public void calculateClearingPrice_afterMutations_tracksOrders() {
+        Person buyer = new PersonBuilder().withName("Buyer").withOrder("BUY 100 @ $10.00").build();
+        Person seller = new PersonBuilder().withName("Seller").withOrder("SELL 50 @ $9.50").build();
+        assertFalse(uniquePersonList.calculateClearingPrice().isPresent());
+
+        uniquePersonList.add(buyer);
+        uniquePersonList.add(seller);
+        assertEquals(Optional.of(9.5), uniquePersonList.calculateClearingPrice());
+
+        // seller reprices above the buyer => only 10.00 can clear
+        Person repricedSeller = new PersonBuilder(seller).withOrder("SELL 50 @ $10.00").build();
+        uniquePersonList.setPerson(seller, repricedSeller);
+        assertEquals(Optional.of(10.0), uniquePersonList.calculateClearingPrice());
+
+        // hidden orders are withdrawn from the auction until revealed
+        uniquePersonList.hidePerson(repricedSeller);
+        assertFalse(uniquePersonList.calculateClearingPrice().isPresent());
+        uniquePersonList.revealPerson(repricedSeller);
+        assertEquals(Optional.of(10.0), uniquePersonList.calculateClearingPrice());
+
+        uniquePersonList.remove(repricedSeller);
+        assertFalse(uniquePersonList.calculateClearingPrice().isPresent());
+    }
+
+    @Test
+    public void calculateClearingPrice_afterSetPersons_rebuildsBook() {
+        Person buyer = new PersonBuilder().withName("Buyer").withOrder("BUY 100 @ $10.00").build();
+        Person seller = new PersonBuilder().withName("Seller").withOrder("SELL 50 @ $9.50").build();
+        uniquePersonList.add(buyer);
+        uniquePersonList.setPersons(Arrays.asList(buyer, seller));
+        assertEquals(Optional.of(9.5), uniquePersonList.calculateClearingPrice());
+
+        uniquePersonList.setPersons(Collections.singletonList(seller));
+        assertFalse(uniquePersonList.calculateClearingPrice().isPresent());
+    }
+
+    @Test
+    public void calculateClearingPrices_ordersForSeveralInstruments_clearsEachSeparately() {
+        Person appleBuyer = new PersonBuilder().withName("Apple Buyer").withOrder("BUY 100 AAPL @ $10.00").build();
+        Person appleSeller = new PersonBuilder().withName("Apple Seller").withOrder("SELL 50 AAPL @ $9.50").build();
+        Person seller = new PersonBuilder().withName("Seller").withOrder("SELL 50 @ $8.00").build();
+        uniquePersonList.setPersons(Arrays.asList(appleBuyer, appleSeller, seller));
+
+        assertEquals(Optional.of(9.5), uniquePersonList.calculateClearingPrice("AAPL"));
+        assertFalse(uniquePersonList.calculateClearingPrice().isPresent());
+        assertEquals(List.of("AAPL", Order.DEFAULT_TICKER),
+                List.copyOf(uniquePersonList.calculateClearingPrices().keySet()));
+
+        uniquePersonList.remove(appleSeller);
+        assertFalse(uniquePersonList.calculateClearingPrice("AAPL").isPresent());
+
+        // fills only go to orders for the auctioned instrument
+        uniquePersonList.add(appleSeller);
+        AuctionResult result = uniquePersonList.calculateAuction("AAPL", AllocationRule.PRICE_TIME);
+        assertEquals(50, result.getFilledQuantityOfOrder(orderIdOf(appleBuyer)));
+        assertEquals(50, result.getFilledQuantityOfOrder(orderIdOf(appleSeller)));
+        assertEquals(0, result.getFilledQuantityOfOrder(orderIdOf(seller)));
+    }
+
+    @Test
+    public void calculateAuction_fillsKeyedByOrderId() {
+        Person seller = new PersonBuilder().withName("Seller").withOrder("NONE").build();
+        Person firstBuyer = new PersonBuilder().withName("First").withOrder("NONE").build();
+        Person secondBuyer = new PersonBuilder().withName("Second").withOrder("NONE").build();
+        // list position does not matter; the earlier order id has time priority
+        uniquePersonList.setPersons(Arrays.asList(secondBuyer, seller, firstBuyer));
+        uniquePersonList.placeOrder(seller, new Order("SELL 50 @ $9.50"));
+        uniquePersonList.placeOrder(firstBuyer, new Order("BUY 40 @ $10.00"));
+        uniquePersonList.placeOrder(secondBuyer, new Order("BUY 40 @ $10.00"));
+
+        AuctionResult result = uniquePersonList.calculateAuction(Order.DEFAULT_TICKER, AllocationRule.PRICE_TIME);
+        assertEquals(Optional.of(9.5), result.getClearingPrice());
+        assertEquals(50, result.getExecutableVolume());
+        assertEquals(OrderType.BUY, result.getSurplusSide());
+        assertEquals(30, result.getSurplusSize());
+        assertEquals(50, result.getFilledQuantityOfOrder(orderIdOf(seller)));
+        assertEquals(40, result.getFilledQuantityOfOrder(orderIdOf(firstBuyer)));
+        assertEquals(10, result.getFilledQuantityOfOrder(orderIdOf(secondBuyer)));
+
+        // hidden orders take no part in the auction
+        long firstBuyerOrderId = orderIdOf(firstBuyer);
+        uniquePersonList.hidePerson(firstBuyer);
+        result = uniquePersonList.calculateAuction(Order.DEFAULT_TICKER, AllocationRule.PRICE_TIME);
+        assertEquals(0, result.getFilledQuantityOfOrder(firstBuyerOrderId));
+        assertEquals(40, result.getFilledQuantityOfOrder(orderIdOf(secondBuyer)));
+    }
+
+    @Test
+    public void placeOrder_personNotInList_throwsPersonNotFoundException() {
+        assertThrows(PersonNotFoundException.class, () ->
+                uniquePersonList.placeOrder(ALICE, new Order("BUY 10 @ $5.00")));
+    }
+
+    @Test
+    public void placeOrder_noneOrder_throwsIllegalArgumentException() {
+        uniquePersonList.add(ALICE);
+        assertThrows(IllegalArgumentException.class, () -> uniquePersonList.placeOrder(ALICE, new Order("NONE")));
+    }
+
+    @Test
+    public void placeOrder_orderIds_handedOutByEachList() {
+        Person alice = new PersonBuilder().withName("Alice").withOrder("NONE").build();
+        Person bob = new PersonBuilder().withName("Bob").withOrder("NONE").build();
+        uniquePersonList.add(alice);
+        UniquePersonList otherList = new UniquePersonList();
+        otherList.add(bob);
+
+        assertEquals(1, uniquePersonList.placeOrder(alice, new Order("BUY 1 @ $1.00")));
+        assertEquals(2, uniquePersonList.placeOrder(alice, new Order("BUY 1 @ $1.00")));
+        assertEquals(1, otherList.placeOrder(bob, new Order("BUY 1 @ $1.00")));
+    }
+
+    @Test
+    public void add_personWithOrderIds_idsKeptAndNextIdPastThem() {
+        Person alice = new PersonBuilder().withName("Alice").withOrder("NONE").build();
+        alice.getOrderList().add(7, new Order("BUY 1 @ $1.00"));
+        uniquePersonList.add(alice);
+
+        assertTrue(uniquePersonList.hasOrder(7));
+        assertEquals(8, uniquePersonList.placeOrder(alice, new Order("BUY 1 @ $1.00")));
+    }
+
+    @Test
+    public void add_personWithUnnumberedOrder_orderNumbered() {
+        Person alice = new PersonBuilder().withName("Alice").withOrder("BUY 1 @ $1.00").build();
+        assertTrue(alice.getOrderList().asMap().isEmpty());
+
+        uniquePersonList.add(alice);
+        assertEquals(List.of(1L), new ArrayList<>(held(alice).getOrderList().asMap().keySet()));
+        assertEquals(new Order("BUY 1 @ $1.00"), uniquePersonList.getOrder(1).get());
+    }
+
+    @Test
+    public void add_personWithClashingOrderId_orderRenumbered() {
+        Person alice = new PersonBuilder().withName("Alice").withOrder("NONE").build();
+        alice.getOrderList().add(3, new Order("BUY 1 @ $1.00"));
+        Person bob = new PersonBuilder().withName("Bob").withOrder("NONE").build();
+        bob.getOrderList().add(3, new Order("SELL 1 @ $2.00"));
+
+        uniquePersonList.add(alice);
+        uniquePersonList.add(bob);
+        assertEquals(List.of(3L), new ArrayList<>(held(alice).getOrderList().asMap().keySet()));
+        assertEquals(List.of(4L), new ArrayList<>(held(bob).getOrderList().asMap().keySet()));
+        assertEquals(new Order("SELL 1 @ $2.00"), uniquePersonList.getOrder(4).get());
+    }
+
+    @Test
+    public void amendOrder_unknownOrderId_throwsOrderNotFoundException() {
+        assertThrows(OrderNotFoundException.class, () ->
+                uniquePersonList.amendOrder(Long.MAX_VALUE, new Order("BUY 10 @ $5.00")));
+        assertThrows(OrderNotFoundException.class, () -> uniquePersonList.cancelOrder(Long.MAX_VALUE));
+    }
+
+    @Test
+    public void placeAmendCancelOrder_updatesPersonInPlace() {
+        Person buyer = new PersonBuilder().withName("Buyer").withOrder("BUY 100 @ $10.00").build();
+        uniquePersonList.add(buyer);
+        long buyId = orderIdOf(buyer);
+
+        long sellId = uniquePersonList.placeOrder(buyer, new Order("SELL 50 @ $9.50"));
+        assertEquals(2, held(buyer).getOrderList().size());
+        assertTrue(uniquePersonList.hasOrder(sellId));
+        assertEquals(Optional.of(new Order("SELL 50 @ $9.50")), uniquePersonList.getOrder(sellId));
+        assertEquals(Optional.of(9.5), uniquePersonList.calculateClearingPrice());
+
+        uniquePersonList.amendOrder(sellId, new Order("SELL 50 @ $10.00"));
+        assertEquals(new Order("SELL 50 @ $10.00"), held(buyer).getOrderList().asMap().get(sellId));
+        assertEquals(Optional.of(10.0), uniquePersonList.calculateClearingPrice());
+
+        assertEquals(new Order("BUY 100 @ $10.00"), uniquePersonList.cancelOrder(buyId));
+        assertFalse(uniquePersonList.hasOrder(buyId));
+        assertEquals(List.of(sellId), List.copyOf(held(buyer).getOrderList().asMap().keySet()));
+        assertFalse(uniquePersonList.calculateClearingPrice().isPresent());
+
+        // the index follows the person when it is replaced or removed
+        Person renamedBuyer = new PersonBuilder(held(buyer)).withRemark("Renamed").build();
+        uniquePersonList.setPerson(buyer, renamedBuyer);
+        uniquePersonList.amendOrder(sellId, new Order("SELL 10 @ $10.00"));
+        assertEquals(new Order("SELL 10 @ $10.00"), held(renamedBuyer).getOrderList().asMap().get(sellId));
+
+        uniquePersonList.remove(renamedBuyer);
+        assertFalse(uniquePersonList.hasOrder(sellId));
+    }
+
+    @Test
+    public void amendOrder_hiddenPerson_staysOutOfBookUntilRevealed() {
+        Person buyer = new PersonBuilder().withName("Buyer").withOrder("BUY 100 @ $10.00").build();
+        Person seller = new PersonBuilder().withName("Seller").withOrder("SELL 50 @ $9.50").build();
+        uniquePersonList.setPersons(Arrays.asList(buyer, seller));
+        long sellId = orderIdOf(seller);
+        uniquePersonList.hidePerson(seller);
+
+        uniquePersonList.amendOrder(sellId, new Order("SELL 50 @ $9.00"));
+        assertFalse(uniquePersonList.calculateClearingPrice().isPresent());
+        uniquePersonList.revealPerson(seller);
+        assertEquals(Optional.of(9.0), uniquePersonList.calculateClearingPrice());
+    }
+
+    @Test
+    public void placeOrder_continuousMode_tradesAgainstRestingOrders() {
+        Person seller = new PersonBuilder().withName("Seller").withOrder("SELL 30 @ $10.00").build();
+        Person otherSeller = new PersonBuilder().withName("Other Seller").withOrder("SELL 30 @ $10.50").build();
+        Person buyer = new PersonBuilder().withName("Buyer").build();
+        uniquePersonList.setPersons(Arrays.asList(seller, otherSeller, buyer));
+        long sellId = orderIdOf(seller);
+        long otherSellId = orderIdOf(otherSeller);
+        uniquePersonList.setMatchingMode(MatchingMode.CONTINUOUS);
+
+        // walks both sell orders, each at its own price, and rests the unfilled 10
+        long buyId = uniquePersonList.placeOrder(buyer, new Order("BUY 70 @ $10.50"));
+        assertEquals(List.of(new Trade(Order.DEFAULT_TICKER, buyId, sellId, 1000, 30),
+                new Trade(Order.DEFAULT_TICKER, buyId, otherSellId, 1050, 30)), uniquePersonList.getTrades());
+        assertTrue(held(seller).getOrderList().isEmpty());
+        assertTrue(held(otherSeller).getOrderList().isEmpty());
+        assertFalse(uniquePersonList.hasOrder(sellId));
+        assertEquals(new Order("BUY 10 @ $10.50"), held(buyer).getOrderList().asMap().get(buyId));
+        assertEquals(Optional.of(new Order("BUY 10 @ $10.50")), uniquePersonList.getOrder(buyId));
+
+        // filled in full on arrival: the id is not kept
+        long sellAllId = uniquePersonList.placeOrder(seller, new Order("SELL 10 @ $10.00"));
+        assertFalse(uniquePersonList.hasOrder(sellAllId));
+        assertFalse(uniquePersonList.hasOrder(buyId));
+        assertEquals(3, uniquePersonList.getTrades().size());
+
+        // back in auction mode, crossing orders rest
+        uniquePersonList.setMatchingMode(MatchingMode.AUCTION);
+        long restingBuyId = uniquePersonList.placeOrder(buyer, new Order("BUY 10 @ $11.00"));
+        assertTrue(uniquePersonList.hasOrder(restingBuyId));
+        assertEquals(3, uniquePersonList.getTrades().size());
+    }
+
+    @Test
+    public void placeOrder_continuousMode_doesNotTradeWithOwnOrders() {
+        Person trader = new PersonBuilder().withName("Trader").withOrder("SELL 10 @ $10.00").build();
+        Person seller = new PersonBuilder().withName("Seller").withOrder("SELL 10 @ $10.50").build();
+        uniquePersonList.setPersons(Arrays.asList(trader, seller));
+        long ownSellId = orderIdOf(trader);
+        long sellId = orderIdOf(seller);
+        uniquePersonList.setMatchingMode(MatchingMode.CONTINUOUS);
+
+        long buyId = uniquePersonList.placeOrder(trader, new Order("BUY 15 @ $10.50"));
+        assertEquals(List.of(new Trade(Order.DEFAULT_TICKER, buyId, sellId, 1050, 10)), uniquePersonList.getTrades());
+        assertEquals(new Order("SELL 10 @ $10.00"), uniquePersonList.getOrder(ownSellId).get());
+        assertEquals(new Order("BUY 5 @ $10.50"), uniquePersonList.getOrder(buyId).get());
+    }
+
+    @Test
+    public void getTrades_manyTrades_onlyLatestKept() {
+        Person seller = new PersonBuilder().withName("Seller").withOrder("NONE").build();
+        Person buyer = new PersonBuilder().withName("Buyer").withOrder("NONE").build();
+        uniquePersonList.setPersons(Arrays.asList(seller, buyer));
+        uniquePersonList.setMatchingMode(MatchingMode.CONTINUOUS);
+
+        long lastBuyId = 0;
+        for (int i = 0; i < 2 * PersonOrderBook.MAX_TRADES + 1; i++) {
+            uniquePersonList.placeOrder(seller, new Order("SELL 1 @ $10.00"));
+            lastBuyId = uniquePersonList.placeOrder(buyer, new Order("BUY 1 @ $10.00"));
+        }
+
+        List<Trade> trades = uniquePersonList.getTrades();
+        assertEquals(PersonOrderBook.MAX_TRADES, trades.size());
+        assertEquals(lastBuyId, trades.get(trades.size() - 1).getBuyOrderId());
+    }
+
+    @Test
+    public void amendOrder_continuousMode_crossingAmendTrades() {
+        Person seller = new PersonBuilder().withName("Seller").withOrder("SELL 30 @ $10.00").build();
+        Person buyer = new PersonBuilder().withName("Buyer").withOrder("BUY 10 @ $9.00").build();
+        Person hiddenSeller = new PersonBuilder().withName("Hidden").withOrder("SELL 30 @ $8.00").build();
+        uniquePersonList.setPersons(Arrays.asList(seller, buyer, hiddenSeller));
+        long sellId = orderIdOf(seller);
+        long buyId = orderIdOf(buyer);
+        uniquePersonList.hidePerson(hiddenSeller);
+        uniquePersonList.setMatchingMode(MatchingMode.CONTINUOUS);
+
+        // hidden persons are out of the book, so the amended buy only trades with the visible seller
+        uniquePersonList.amendOrder(buyId, new Order("BUY 10 @ $10.00"));
+        assertEquals(List.of(new Trade(Order.DEFAULT_TICKER, buyId, sellId, 1000, 10)), uniquePersonList.getTrades());
+        assertFalse(uniquePersonList.hasOrder(buyId));
+        assertEquals(new Order("SELL 20 @ $10.00"), uniquePersonList.getOrder(sellId).get());
+    }
+
+    @Test
+    public void setPersons_fromOtherList_personsNotShared() {
+        Person buyer = new PersonBuilder().withName("Buyer").withOrder("NONE").build();
+        uniquePersonList.add(buyer);
+        UniquePersonList otherList = new UniquePersonList();
+        otherList.setPersons(uniquePersonList);
+
+        uniquePersonList.placeOrder(buyer, new Order("BUY 10 @ $5.00"));
+        uniquePersonList.hidePerson(buyer);
+        Person otherBuyer = otherList.asUnmodifiableObservableList().get(0);
+        assertTrue(otherBuyer.getOrderList().isEmpty());
+        assertFalse(otherBuyer.getIsHidden());
+        assertFalse(otherList.calculateClearingPrice().isPresent());
+
+        // nor is the person passed in changed
+        assertTrue(buyer.getOrderList().isEmpty());
+        assertFalse(buyer.getIsHidden());
+    }
+
+    @Test
+    public void pollChanges_recordsSlotChangesInOrder() {
+        uniquePersonList.add(ALICE);
+        Person buyer = new PersonBuilder().withName("Buyer").build();
+        uniquePersonList.add(buyer);
+        uniquePersonList.placeOrder(buyer, new Order("BUY 10 @ $5.00"));
+        uniquePersonList.placeOrder(buyer, new Order("BUY 20 @ $5.00"));
+        uniquePersonList.remove(ALICE);
+        // the orders change the buyer in the slot it was just added to, which is already recorded
+        assertEquals(List.of(PersonChange.added(0, ALICE), PersonChange.added(1, buyer), PersonChange.removed(0)),
+                uniquePersonList.pollChanges());
+        assertEquals(List.of(), uniquePersonList.pollChanges());
+
+        uniquePersonList.placeOrder(buyer, new Order("BUY 30 @ $5.00"));
+        assertEquals(List.of(PersonChange.replaced(0, buyer)), uniquePersonList.pollChanges());
+        assertEquals(List.of(), uniquePersonList.pollChanges());
+
+        // replacing the whole list folds every change into one reset
+        uniquePersonList.add(BOB);
+        uniquePersonList.setPersons(List.of(BENSON));
+        uniquePersonList.add(CARL);
+        assertEquals(List.of(PersonChange.RESET), uniquePersonList.pollChanges());
+    }
+
+    @Test
+    public void getVersion_bumpedByChangesOnly() {
+        long version = uniquePersonList.getVersion();
+        uniquePersonList.add(ALICE);
+        assertTrue(uniquePersonList.getVersion() > version);
+
+        version = uniquePersonList.getVersion();
+        uniquePersonList.sortPersons(new PersonSortOrder(Criterion.NAME));
+        uniquePersonList.pollChanges();
+        assertEquals(version, uniquePersonList.getVersion());
+
+        uniquePersonList.hidePerson(ALICE);
+        assertTrue(uniquePersonList.getVersion() > version);
+        uniquePersonList.revealPerson(ALICE);
+    }
+
+    @Test
+    public void pollChanges_tooManyChanges_foldedIntoReset() {
+        for (int i = 0; i <= UniquePersonList.MAX_PENDING_CHANGES; i++) {
+            uniquePersonList.add(ALICE);
+            uniquePersonList.remove(ALICE);
+        }
+        assertEquals(List.of(PersonChange.RESET), uniquePersonList.pollChanges());
+    }
+
+    private long orderIdOf(Person person) {
+        return held(person).getOrderList().asMap().keySet().iterator().next();
+    }
+
+    /**
+     * Returns the copy of {@code person} that the list holds.
+     */
+    private Person held(Person person) {
+        return uniquePersonList.asUnmodifiableObservableList().stream()
+                .filter(person::isSamePerson).findFirst().orElseThrow();
     }
 }
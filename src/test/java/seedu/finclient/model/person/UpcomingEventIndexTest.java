@@ -0,0 +1,79 @@
+package seedu.finclient.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.finclient.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.finclient.testutil.PersonBuilder;
+
+public class UpcomingEventIndexTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 3, 10);
+
+    private final UpcomingEventIndex index = new UpcomingEventIndex();
+
+    @Test
+    public void add_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.add(1, null));
+        assertThrows(NullPointerException.class, () -> index.upcoming(1, null));
+    }
+
+    @Test
+    public void add_noTimestamp_notIndexed() {
+        index.add(1, new PersonBuilder().withRemark("No event").build());
+        Person hidden = new PersonBuilder().withName("Hidden").withRemark("Due by/2025-03-11 09:00").build();
+        hidden.setHidden();
+        index.add(2, hidden);
+        assertEquals(0, index.size());
+        assertEquals(List.of(), index.upcoming(5, TODAY));
+    }
+
+    @Test
+    public void upcoming_earliestFirstFromToday() {
+        Person yesterday = personWithEvent("Yesterday", TODAY.minusDays(1).atTime(23, 59));
+        Person morning = personWithEvent("Morning", TODAY.atStartOfDay());
+        Person later = personWithEvent("Later", TODAY.plusDays(3).atTime(9, 0));
+        Person sameTimeFirst = personWithEvent("First", TODAY.plusDays(1).atTime(9, 0));
+        Person sameTimeSecond = personWithEvent("Second", TODAY.plusDays(1).atTime(9, 0));
+        index.add(5, later);
+        index.add(4, sameTimeSecond);
+        index.add(3, sameTimeFirst);
+        index.add(2, morning);
+        index.add(1, yesterday);
+
+        // persons at the same time are in the order of their ids
+        assertEquals(List.of(morning, sameTimeFirst, sameTimeSecond), index.upcoming(3, TODAY));
+        assertEquals(List.of(), index.upcoming(0, TODAY));
+
+        // past events were swept out, and removing them again is a no-op
+        assertEquals(4, index.size());
+        index.remove(1);
+        index.remove(2);
+        assertEquals(List.of(sameTimeFirst, sameTimeSecond, later), index.upcoming(5, TODAY));
+    }
+
+    @Test
+    public void expireBefore_dropsPastEventsOnly() {
+        index.add(1, personWithEvent("Past", TODAY.minusDays(2).atTime(12, 0)));
+        index.add(2, personWithEvent("Recent", TODAY.minusDays(1).atTime(12, 0)));
+        Person upcoming = personWithEvent("Upcoming", TODAY.atTime(12, 0));
+        index.add(3, upcoming);
+
+        index.expireBefore(TODAY);
+        assertEquals(1, index.size());
+        assertEquals(List.of(upcoming), index.upcoming(5, TODAY.minusDays(2)));
+
+        index.clear();
+        assertEquals(List.of(), index.upcoming(5, TODAY));
+    }
+
+    private static Person personWithEvent(String name, LocalDateTime timestamp) {
+        return new PersonBuilder().withName(name).withRemark("Meet by/" + timestamp.format(Remark.FORMATTER))
+                .build();
+    }
+}
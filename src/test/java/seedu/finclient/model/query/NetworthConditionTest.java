@@ -0,0 +1,53 @@
+package seedu.finclient.model.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.finclient.testutil.TypicalPersons.ALICE;
+import static seedu.finclient.testutil.TypicalPersons.BENSON;
+import static seedu.finclient.testutil.TypicalPersons.DANIEL;
+import static seedu.finclient.testutil.TypicalPersons.ELLE;
+import static seedu.finclient.testutil.TypicalPersons.FIONA;
+import static seedu.finclient.testutil.TypicalPersons.GEORGE;
+
+import org.junit.jupiter.api.Test;
+
+public class NetworthConditionTest {
+
+    @Test
+    public void test_greaterOrEqual_bracketsThatReachAmount() {
+        NetworthCondition condition = new NetworthCondition(Comparison.GREATER_OR_EQUAL, 1_000_000);
+        assertFalse(condition.test(DANIEL)); // $500k - $1 million tops out just below
+        assertTrue(condition.test(ELLE));
+        assertTrue(condition.test(FIONA));
+
+        // no networth never matches
+        assertFalse(condition.test(GEORGE));
+    }
+
+    @Test
+    public void test_less_bracketsThatStartBelowAmount() {
+        NetworthCondition condition = new NetworthCondition(Comparison.LESS, 150_000);
+        assertTrue(condition.test(ALICE));
+        assertTrue(condition.test(BENSON)); // $100k - $250k may be below $150k
+        assertFalse(condition.test(DANIEL));
+    }
+
+    @Test
+    public void test_equal_bracketOfAmount() {
+        NetworthCondition condition = new NetworthCondition(Comparison.EQUAL, 2_000_000);
+        assertFalse(condition.test(DANIEL));
+        assertTrue(condition.test(ELLE));
+        assertFalse(condition.test(FIONA));
+    }
+
+    @Test
+    public void equals() {
+        NetworthCondition condition = new NetworthCondition(Comparison.GREATER, 100);
+        assertTrue(condition.equals(new NetworthCondition(Comparison.GREATER, 100)));
+        assertFalse(condition.equals(new NetworthCondition(Comparison.LESS, 100)));
+        assertFalse(condition.equals(new NetworthCondition(Comparison.GREATER, 200)));
+        assertFalse(condition.equals(null));
+        assertEquals(condition.hashCode(), new NetworthCondition(Comparison.GREATER, 100).hashCode());
+    }
+}
@@ -0,0 +1,84 @@
+package seedu.finclient.model.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.finclient.testutil.TypicalPersons.ALICE;
+import static seedu.finclient.testutil.TypicalPersons.BENSON;
+import static seedu.finclient.testutil.TypicalPersons.CARL;
+import static seedu.finclient.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.finclient.model.order.Order.OrderType;
+import seedu.finclient.model.person.Person;
+import seedu.finclient.model.person.UniquePersonList;
+import seedu.finclient.model.query.DetailContainsCondition.Detail;
+import seedu.finclient.testutil.PersonBuilder;
+
+public class PersonQueryTest {
+
+    private static final Condition FRIENDS = new TagCondition("friends");
+    private static final Condition OWES_MONEY = new TagCondition("owesMoney");
+    private static final Condition CHEAP_BUY = OrderCondition.priced(OrderType.BUY, Comparison.LESS, 500,
+            Optional.empty());
+    private static final Condition NAME_MEIER = new DetailContainsCondition(Detail.NAME, "meier");
+
+    @Test
+    public void chooseIndexedCondition_mostSelectiveIndexedCondition() {
+        QueryIndex index = new QueryIndex();
+        getTypicalPersons().forEach(index::addPerson);
+
+        // 3 friends, 1 owes money
+        assertEquals(Optional.of(OWES_MONEY),
+                new PersonQuery(List.of(FRIENDS, OWES_MONEY)).chooseIndexedCondition(index));
+
+        // text conditions cannot be looked up
+        assertEquals(Optional.empty(), new PersonQuery(List.of(NAME_MEIER)).chooseIndexedCondition(index));
+    }
+
+    @Test
+    public void plan_sameMatchesAsTest() {
+        UniquePersonList persons = new UniquePersonList();
+        persons.setPersons(getTypicalPersons());
+        List<PersonQuery> queries = List.of(
+                new PersonQuery(List.of(FRIENDS)),
+                new PersonQuery(List.of(FRIENDS, CHEAP_BUY)),
+                new PersonQuery(List.of(NAME_MEIER, new NetworthCondition(Comparison.GREATER_OR_EQUAL, 100_000))),
+                new PersonQuery(List.of(NAME_MEIER)));
+        for (PersonQuery query : queries) {
+            assertEquals(filter(persons, query), filter(persons, persons.plan(query)));
+        }
+        assertEquals(List.of(BENSON), filter(persons, persons.plan(queries.get(1))));
+    }
+
+    @Test
+    public void plan_followsLaterChanges() {
+        UniquePersonList persons = new UniquePersonList();
+        persons.setPersons(getTypicalPersons());
+        Predicate<Person> planned = persons.plan(new PersonQuery(List.of(CHEAP_BUY)));
+        assertEquals(List.of(BENSON, CARL), filter(persons, planned));
+
+        Person cheaperAlice = new PersonBuilder(ALICE).withOrder("BUY 30 @ $4.00").build();
+        persons.setPerson(ALICE, cheaperAlice);
+        assertEquals(List.of(cheaperAlice, BENSON, CARL), filter(persons, planned));
+    }
+
+    @Test
+    public void equals() {
+        PersonQuery query = new PersonQuery(List.of(FRIENDS, CHEAP_BUY));
+        assertTrue(query.equals(new PersonQuery(List.of(FRIENDS, CHEAP_BUY))));
+        assertFalse(query.equals(new PersonQuery(List.of(FRIENDS))));
+        assertFalse(query.equals(null));
+        assertFalse(query.equals(1));
+    }
+
+    private static List<Person> filter(UniquePersonList persons, Predicate<Person> predicate) {
+        return persons.asUnmodifiableObservableList().stream().filter(predicate).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,92 @@
+package seedu.finclient.model.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static seedu.finclient.testutil.TypicalPersons.ALICE;
+import static seedu.finclient.testutil.TypicalPersons.BENSON;
+import static seedu.finclient.testutil.TypicalPersons.CARL;
+import static seedu.finclient.testutil.TypicalPersons.DANIEL;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.finclient.model.order.Order;
+import seedu.finclient.model.order.Order.OrderType;
+
+public class QueryIndexTest {
+
+    private final QueryIndex index = new QueryIndex();
+
+    @Test
+    public void getPersonsWithTags_ignoresCase() {
+        index.addPerson(ALICE);
+        index.addPerson(BENSON);
+        assertEquals(Set.of(ALICE, BENSON), index.getPersonsWithTags(List.of("FRIENDS"), true));
+        assertEquals(Set.of(BENSON), index.getPersonsWithTags(List.of("owesmoney"), true));
+        assertEquals(Set.of(), index.getPersonsWithTags(List.of("colleagues"), true));
+
+        index.removePerson(BENSON);
+        assertEquals(Set.of(), index.getPersonsWithTags(List.of("owesMoney"), true));
+    }
+
+    @Test
+    public void getPersonsWithTags_allOrAnyOfSeveralTags() {
+        index.addPerson(ALICE);
+        index.addPerson(BENSON);
+        index.addPerson(CARL);
+        assertEquals(1, index.countPersonsWithTags(List.of("friends", "owesMoney"), true));
+        assertEquals(Set.of(BENSON), index.getPersonsWithTags(List.of("friends", "owesMoney"), true));
+        assertEquals(Set.of(ALICE, BENSON), index.getPersonsWithTags(List.of("owesMoney", "friends"), false));
+
+        // an unknown tag matches no one when all tags are needed, and is skipped otherwise
+        assertEquals(Set.of(), index.getPersonsWithTags(List.of("friends", "colleagues"), true));
+        assertEquals(Set.of(BENSON), index.getPersonsWithTags(List.of("colleagues", "owesMoney"), false));
+    }
+
+    @Test
+    public void addPerson_afterRemoval_reusesInternalId() {
+        index.addPerson(ALICE);
+        index.addPerson(BENSON);
+        index.removePerson(ALICE);
+        // DANIEL takes the id ALICE had; ALICE must not be found through it
+        index.addPerson(DANIEL);
+        assertEquals(Set.of(BENSON, DANIEL), index.getPersonsWithTags(List.of("friends"), true));
+
+        index.clearPersons();
+        index.addPerson(ALICE);
+        assertEquals(Set.of(ALICE), index.getPersonsWithTags(List.of("friends"), false));
+    }
+
+    @Test
+    public void getPersonsInBrackets_rangeOfBrackets() {
+        index.addPerson(ALICE);
+        index.addPerson(BENSON);
+        index.addPerson(DANIEL);
+        assertEquals(2, index.countPersonsInBrackets(0, 1));
+        assertEquals(Set.of(ALICE, BENSON), index.getPersonsInBrackets(0, 1));
+        assertEquals(0, index.countPersonsInBrackets(4, 5));
+        // an empty range
+        assertEquals(Set.of(), index.getPersonsInBrackets(6, -1));
+    }
+
+    @Test
+    public void getPersonsWithOrders_bySideAndPrice() {
+        index.addOrder(1, ALICE, new Order(OrderType.BUY, "5.50", 10));
+        index.addOrder(2, BENSON, new Order(OrderType.BUY, "4.92", 10));
+        index.addOrder(3, BENSON, new Order(OrderType.SELL, "6.00", 10));
+        assertEquals(2, index.countOrders(OrderType.BUY, 0, 600));
+        assertEquals(Set.of(BENSON), index.getPersonsWithOrders(OrderType.BUY, 0, 500));
+        assertEquals(Set.of(BENSON), index.getPersonsWithOrders(OrderType.SELL, 0, Long.MAX_VALUE));
+
+        long version = index.getVersion();
+        index.removeOrder(2);
+        index.removeOrder(42); // unknown orders are ignored
+        assertNotEquals(version, index.getVersion());
+        assertEquals(Set.of(), index.getPersonsWithOrders(OrderType.BUY, 0, 500));
+
+        index.clearOrders();
+        assertEquals(0, index.countOrders(OrderType.BUY, 0, Long.MAX_VALUE));
+    }
+}
@@ -0,0 +1,56 @@
+package seedu.finclient.model.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.finclient.testutil.TypicalPersons.ALICE;
+import static seedu.finclient.testutil.TypicalPersons.BENSON;
+import static seedu.finclient.testutil.TypicalPersons.CARL;
+
+import java.util.List;
+import java.util.OptionalInt;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.finclient.model.person.Person;
+import seedu.finclient.testutil.PersonBuilder;
+
+public class TagConditionTest {
+
+    @Test
+    public void test_allOrAnyOfTags() {
+        TagCondition all = new TagCondition(List.of("FRIENDS", "owesmoney"), true);
+        assertFalse(all.test(ALICE));
+        assertTrue(all.test(BENSON));
+
+        TagCondition any = new TagCondition(List.of("owesMoney", "friends"), false);
+        assertTrue(any.test(ALICE));
+        assertFalse(any.test(CARL));
+    }
+
+    @Test
+    public void test_hiddenPerson_noTagsShown() {
+        Person hidden = new PersonBuilder(ALICE).build();
+        hidden.setHidden();
+        assertFalse(new TagCondition("friends").test(hidden));
+    }
+
+    @Test
+    public void lookUpCandidates_sameAsTest() {
+        QueryIndex index = new QueryIndex();
+        List.of(ALICE, BENSON, CARL).forEach(index::addPerson);
+        TagCondition any = new TagCondition(List.of("owesMoney", "friends"), false);
+        assertEquals(OptionalInt.of(2), any.estimateMatches(index));
+        assertEquals(Set.of(ALICE, BENSON), any.lookUpCandidates(index));
+    }
+
+    @Test
+    public void equals() {
+        TagCondition condition = new TagCondition(List.of("vip", "friends"), true);
+        assertTrue(condition.equals(new TagCondition(List.of("VIP", "friends", "vip"), true)));
+        assertFalse(condition.equals(new TagCondition(List.of("vip", "friends"), false)));
+        assertFalse(condition.equals(new TagCondition("vip")));
+        assertFalse(condition.equals(null));
+    }
+}
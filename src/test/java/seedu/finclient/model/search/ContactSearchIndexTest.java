@@ -0,0 +1,104 @@
+package seedu.finclient.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.finclient.testutil.Assert.assertThrows;
+import static seedu.finclient.testutil.TypicalPersons.ALICE;
+import static seedu.finclient.testutil.TypicalPersons.BENSON;
+import static seedu.finclient.testutil.TypicalPersons.CARL;
+import static seedu.finclient.testutil.TypicalPersons.DANIEL;
+import static seedu.finclient.testutil.TypicalPersons.ELLE;
+import static seedu.finclient.testutil.TypicalPersons.FIONA;
+import static seedu.finclient.testutil.TypicalPersons.GEORGE;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.finclient.model.person.Person;
+import seedu.finclient.testutil.PersonBuilder;
+
+public class ContactSearchIndexTest {
+
+    private final ContactSearchIndex index = new ContactSearchIndex();
+
+    @Test
+    public void search_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.search(null));
+    }
+
+    @Test
+    public void search_rankedExactThenPrefixThenFuzzy() {
+        List.of(ALICE, BENSON, CARL, DANIEL, ELLE, FIONA, GEORGE).forEach(index::add);
+
+        // Meier exactly, then Meyer one letter off
+        assertEquals(List.of(BENSON, DANIEL, ELLE), index.search(List.of("meier")));
+        assertEquals(List.of(CARL, FIONA), index.search(List.of("KURZ")));
+        assertEquals(List.of(BENSON, DANIEL), index.search(List.of("mei")));
+        // a typo in the middle of a prefix
+        assertEquals(List.of(ALICE), index.search(List.of("alce")));
+        assertEquals(List.of(), index.search(List.of()));
+        assertEquals(List.of(), index.search(List.of("!!")));
+    }
+
+    @Test
+    public void search_severalKeywords_mustMatchAll() {
+        List.of(ALICE, BENSON, CARL, DANIEL, ELLE).forEach(index::add);
+
+        // tags and emails are searched too
+        assertEquals(List.of(BENSON, DANIEL), index.search(List.of("meier", "friends")));
+        assertEquals(List.of(BENSON), index.search(List.of("meier", "owes")));
+        assertEquals(List.of(ALICE), index.search(List.of("alice@example.com")));
+    }
+
+    @Test
+    public void search_companyAndJob_matched() {
+        Person analyst = new PersonBuilder().withName("Amy Bee").withCompany("Goldman Sachs").withJob("Analyst")
+                .build();
+        index.add(analyst);
+        index.add(BENSON);
+
+        assertEquals(List.of(analyst), index.search(List.of("gold", "analyts")));
+    }
+
+    @Test
+    public void remove_person_noLongerFound() {
+        index.add(BENSON);
+        index.add(DANIEL);
+        index.remove(BENSON);
+        assertEquals(List.of(DANIEL), index.search(List.of("meier")));
+        assertEquals(List.of(), index.search(List.of("owesmoney")));
+
+        index.clear();
+        assertEquals(0, index.size());
+        assertEquals(List.of(), index.search(List.of("meier")));
+    }
+
+    @Test
+    public void rank_indexChanged_searchedAgain() {
+        index.add(BENSON);
+        index.add(DANIEL);
+        SearchRanking ranking = index.rank(List.of("meier"));
+        assertEquals(0, ranking.rankOf(BENSON));
+        assertEquals(1, ranking.rankOf(DANIEL));
+        assertFalse(ranking.contains(ELLE));
+
+        index.remove(BENSON);
+        index.add(ELLE);
+        assertFalse(ranking.contains(BENSON));
+        assertEquals(Integer.MAX_VALUE, ranking.rankOf(BENSON));
+        assertEquals(0, ranking.rankOf(DANIEL));
+        assertEquals(1, ranking.rankOf(ELLE));
+    }
+
+    @Test
+    public void editDistance() {
+        assertEquals(0, ContactSearchIndex.editDistance("meier", "meier", 2));
+        assertEquals(1, ContactSearchIndex.editDistance("meier", "meyer", 2));
+        assertEquals(1, ContactSearchIndex.editDistance("alce", "alice", 1));
+        assertEquals(2, ContactSearchIndex.editDistance("hnas", "hans", 2));
+        // beyond the bound
+        assertEquals(2, ContactSearchIndex.editDistance("hnas", "hans", 1));
+        assertEquals(3, ContactSearchIndex.editDistance("a", "abcd", 2));
+    }
+}
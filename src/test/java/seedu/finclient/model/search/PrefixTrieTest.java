@@ -0,0 +1,57 @@
+package seedu.finclient.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.finclient.testutil.Assert.assertThrows;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class PrefixTrieTest {
+
+    private final PrefixTrie trie = new PrefixTrie();
+
+    @Test
+    public void add_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> trie.add(null));
+    }
+
+    @Test
+    public void withPrefix_returnsTermsStartingWithPrefix() {
+        trie.add("meier");
+        trie.add("meyer");
+        trie.add("mei");
+        trie.add("kurz");
+        assertFalse(trie.add("mei"));
+        assertEquals(4, trie.size());
+
+        assertEquals(Set.of("mei", "meier"), new HashSet<>(trie.withPrefix("mei")));
+        assertEquals(Set.of("mei", "meier", "meyer"), new HashSet<>(trie.withPrefix("me")));
+        assertEquals(4, trie.withPrefix("").size());
+        assertEquals(List.of(), trie.withPrefix("x"));
+    }
+
+    @Test
+    public void remove_prunesOnlyUnusedBranches() {
+        trie.add("mei");
+        trie.add("meier");
+        assertTrue(trie.remove("meier"));
+        assertFalse(trie.remove("meier"));
+        assertTrue(trie.contains("mei"));
+        assertEquals(List.of("mei"), trie.withPrefix("me"));
+
+        // removing a term that is a prefix of another keeps the other
+        trie.add("meier");
+        assertTrue(trie.remove("mei"));
+        assertFalse(trie.contains("mei"));
+        assertEquals(List.of("meier"), trie.withPrefix("mei"));
+
+        trie.clear();
+        assertEquals(0, trie.size());
+        assertFalse(trie.contains("meier"));
+    }
+}
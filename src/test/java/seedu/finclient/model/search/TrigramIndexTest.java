@@ -0,0 +1,33 @@
+package seedu.finclient.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class TrigramIndexTest {
+
+    private final TrigramIndex index = new TrigramIndex();
+
+    @Test
+    public void trigramsOf_paddedTerm() {
+        assertEquals(Set.of("$ab", "ab$"), TrigramIndex.trigramsOf("ab"));
+        assertEquals(Set.of("$a$"), TrigramIndex.trigramsOf("a"));
+    }
+
+    @Test
+    public void candidates_sharedTrigrams() {
+        index.add("meier");
+        index.add("meyer");
+        index.add("kurz");
+
+        // meier and meyer share $me, mei/mey differ, er$ is shared
+        assertEquals(Set.of("meier", "meyer"), index.candidates("meier", 2));
+        assertEquals(Set.of("meier"), index.candidates("meier", 5));
+        assertEquals(Set.of(), index.candidates("xyz", 1));
+
+        index.remove("meier");
+        assertEquals(Set.of("meyer"), index.candidates("meier", 2));
+    }
+}
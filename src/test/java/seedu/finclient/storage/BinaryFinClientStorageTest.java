@@ -0,0 +1,127 @@
+package seedu.finclient.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.finclient.testutil.Assert.assertThrows;
+import static seedu.finclient.testutil.TypicalPersons.ALICE;
+import static seedu.finclient.testutil.TypicalPersons.BENSON;
+import static seedu.finclient.testutil.TypicalPersons.HOON;
+import static seedu.finclient.testutil.TypicalPersons.getTypicalFinClient;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.finclient.commons.exceptions.DataLoadingException;
+import seedu.finclient.commons.util.FileUtil;
+import seedu.finclient.model.FinClient;
+import seedu.finclient.model.ReadOnlyFinClient;
+import seedu.finclient.model.order.Order;
+import seedu.finclient.model.person.Person;
+
+public class BinaryFinClientStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private BinaryFinClientStorage storage;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("finclient.bin");
+        storage = new BinaryFinClientStorage(filePath);
+    }
+
+    @Test
+    public void readFinClient_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> storage.readFinClient(null));
+    }
+
+    @Test
+    public void saveFinClient_nullFinClient_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> storage.saveFinClient(null));
+    }
+
+    @Test
+    public void readFinClient_missingFile_emptyResult() throws Exception {
+        assertFalse(storage.readFinClient().isPresent());
+    }
+
+    @Test
+    public void readAndSaveFinClient_allInOrder_success() throws Exception {
+        FinClient original = getTypicalFinClient();
+        storage.saveFinClient(original);
+        assertEquals(original, new FinClient(storage.readFinClient().get()));
+        assertFalse(Files.exists(FileUtil.getTempFile(filePath)));
+
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveFinClient(original);
+        assertEquals(original, new FinClient(storage.readFinClient().get()));
+    }
+
+    @Test
+    public void readAndSaveFinClient_hiddenPersonWithOrders_keptAsIs() throws Exception {
+        FinClient original = getTypicalFinClient();
+        Person benson = original.getPersonList().stream().filter(BENSON::isSamePerson).findFirst().get();
+        original.placeOrder(benson, new Order("BUY 10 @ $5.50"));
+        original.placeOrder(benson, new Order("SELL 3 @ $7"));
+        original.hidePerson(benson);
+        storage.saveFinClient(original);
+
+        ReadOnlyFinClient readBack = storage.readFinClient().get();
+        assertEquals(original, new FinClient(readBack));
+
+        Person readBenson = readBack.getPersonList().stream().filter(BENSON::isSamePerson).findFirst().get().copy();
+        assertTrue(readBenson.getIsHidden());
+        readBenson.setUnhidden();
+        Person savedBenson = benson.copy();
+        savedBenson.setUnhidden();
+        assertEquals(savedBenson.getOrderList().asMap(), readBenson.getOrderList().asMap());
+        assertTrue(readBenson.getOrderList().asMap().values().stream()
+                .anyMatch(order -> order.getPriceInCents() == 550 && order.getQuantity() == 10));
+    }
+
+    @Test
+    public void saveFinClient_smallerThanJson() throws Exception {
+        FinClient original = getTypicalFinClient();
+        Path jsonFilePath = testFolder.resolve("finclient.json");
+        new JsonFinClientStorage(jsonFilePath).saveFinClient(original);
+        storage.saveFinClient(original);
+
+        assertTrue(Files.size(filePath) < Files.size(jsonFilePath));
+    }
+
+    @Test
+    public void readFinClient_notBinaryFile_throwsDataLoadingException() throws Exception {
+        Path jsonFilePath = testFolder.resolve("finclient.json");
+        new JsonFinClientStorage(jsonFilePath).saveFinClient(getTypicalFinClient());
+        assertThrows(DataLoadingException.class, () -> storage.readFinClient(jsonFilePath));
+    }
+
+    @Test
+    public void readFinClient_unsupportedVersion_throwsDataLoadingException() throws Exception {
+        storage.saveFinClient(getTypicalFinClient());
+        byte[] bytes = Files.readAllBytes(filePath);
+        ByteBuffer.wrap(bytes).putInt(Integer.BYTES, BinaryFinClientStorage.FORMAT_VERSION + 1);
+        Files.write(filePath, bytes);
+
+        assertThrows(DataLoadingException.class, () -> storage.readFinClient());
+    }
+
+    @Test
+    public void readFinClient_truncatedFile_throwsDataLoadingException() throws Exception {
+        storage.saveFinClient(getTypicalFinClient());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 1));
+
+        assertThrows(DataLoadingException.class, () -> storage.readFinClient());
+    }
+}
@@ -0,0 +1,172 @@
+package seedu.finclient.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.finclient.testutil.Assert.assertThrows;
+import static seedu.finclient.testutil.TypicalPersons.ALICE;
+import static seedu.finclient.testutil.TypicalPersons.BENSON;
+import static seedu.finclient.testutil.TypicalPersons.HOON;
+import static seedu.finclient.testutil.TypicalPersons.IDA;
+import static seedu.finclient.testutil.TypicalPersons.getTypicalFinClient;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.finclient.commons.exceptions.DataLoadingException;
+import seedu.finclient.model.FinClient;
+import seedu.finclient.model.order.Order;
+import seedu.finclient.model.person.Person;
+import seedu.finclient.testutil.PersonBuilder;
+
+public class JournaledFinClientStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private Path journalPath;
+    private JournaledFinClientStorage storage;
+    private FinClient finClient;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        filePath = testFolder.resolve("finclient.json");
+        journalPath = JournaledFinClientStorage.getJournalFilePath(filePath);
+        storage = new JournaledFinClientStorage(new JsonFinClientStorage(filePath));
+        finClient = getTypicalFinClient();
+        finClient.pollPersonChanges();
+        storage.saveFinClient(finClient);
+    }
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new JournaledFinClientStorage(null));
+    }
+
+    @Test
+    public void getJournalFilePath_besideDataFile() {
+        assertEquals(testFolder.resolve("finclient.json.journal"), journalPath);
+    }
+
+    @Test
+    public void saveFinClientChanges_appendsToJournalOnly() throws Exception {
+        byte[] snapshot = Files.readAllBytes(filePath);
+        makeChanges();
+        storage.saveFinClientChanges(finClient, finClient.pollPersonChanges());
+
+        assertArrayEquals(snapshot, Files.readAllBytes(filePath));
+        // the header, then add, replace and remove
+        assertEquals(4, Files.readAllLines(journalPath).size());
+
+        // a fresh storage replays the journal, and appends after it
+        JournaledFinClientStorage reopened = new JournaledFinClientStorage(new JsonFinClientStorage(filePath));
+        assertEquals(finClient, reopened.readFinClient().get());
+        finClient.removePerson(HOON);
+        reopened.saveFinClientChanges(finClient, finClient.pollPersonChanges());
+        assertEquals(5, Files.readAllLines(journalPath).size());
+        assertEquals(finClient, reopened.readFinClient().get());
+    }
+
+    @Test
+    public void readFinClient_tornLastEntry_droppedAndCompactedOnNextSave() throws Exception {
+        makeChanges();
+        storage.saveFinClientChanges(finClient, finClient.pollPersonChanges());
+        FinClient saved = new FinClient(finClient);
+        Files.writeString(journalPath, "{\"kind\":\"ADDED\",\"sl", StandardCharsets.UTF_8,
+                StandardOpenOption.APPEND);
+
+        assertEquals(saved, storage.readFinClient().get());
+
+        finClient.removePerson(HOON);
+        storage.saveFinClientChanges(finClient, finClient.pollPersonChanges());
+        assertEquals(1, Files.readAllLines(journalPath).size());
+        assertEquals(finClient, new JsonFinClientStorage(filePath).readFinClient().get());
+    }
+
+    @Test
+    public void readFinClient_invalidMiddleEntry_throwsDataLoadingException() throws Exception {
+        List<String> lines = Files.readAllLines(journalPath);
+        Files.write(journalPath, List.of(lines.get(0), "{\"kind\":\"MOVED\",\"slot\":0}", "{}"));
+        assertThrows(DataLoadingException.class, () -> storage.readFinClient());
+
+        Files.write(journalPath, List.of(lines.get(0), "not json", "{}"));
+        assertThrows(DataLoadingException.class, () -> storage.readFinClient());
+
+        Files.write(journalPath, List.of(lines.get(0), "{\"kind\":\"REMOVED\",\"slot\":100}"));
+        assertThrows(DataLoadingException.class, () -> storage.readFinClient());
+    }
+
+    @Test
+    public void readFinClient_journalOfOtherSnapshot_ignored() throws Exception {
+        makeChanges();
+        storage.saveFinClientChanges(finClient, finClient.pollPersonChanges());
+
+        // the snapshot was rewritten, but the process stopped before emptying the journal
+        FinClient rewritten = new FinClient();
+        rewritten.addPerson(IDA);
+        new JsonFinClientStorage(filePath).saveFinClient(rewritten);
+
+        assertEquals(rewritten, storage.readFinClient().get());
+    }
+
+    @Test
+    public void saveFinClientChanges_reset_writesSnapshot() throws Exception {
+        makeChanges();
+        storage.saveFinClientChanges(finClient, finClient.pollPersonChanges());
+
+        finClient.setPersons(List.of(IDA, HOON));
+        storage.saveFinClientChanges(finClient, finClient.pollPersonChanges());
+        assertEquals(1, Files.readAllLines(journalPath).size());
+        assertEquals(finClient, new JsonFinClientStorage(filePath).readFinClient().get());
+    }
+
+    @Test
+    public void saveFinClientChanges_longJournal_compacted() throws Exception {
+        for (int i = 0; i < JournaledFinClientStorage.MIN_ENTRIES_BEFORE_COMPACTION / 2; i++) {
+            finClient.removePerson(ALICE);
+            finClient.addPerson(ALICE);
+        }
+        storage.saveFinClientChanges(finClient, finClient.pollPersonChanges());
+        assertEquals(JournaledFinClientStorage.MIN_ENTRIES_BEFORE_COMPACTION + 1,
+                Files.readAllLines(journalPath).size());
+
+        finClient.removePerson(ALICE);
+        storage.saveFinClientChanges(finClient, finClient.pollPersonChanges());
+        assertEquals(1, Files.readAllLines(journalPath).size());
+        assertEquals(finClient, new JsonFinClientStorage(filePath).readFinClient().get());
+    }
+
+    @Test
+    public void saveFinClientChanges_noChanges_dataFileCreatedOnce() throws Exception {
+        Path otherFilePath = testFolder.resolve("other.json");
+        JournaledFinClientStorage otherStorage = new JournaledFinClientStorage(new JsonFinClientStorage(otherFilePath));
+        assertFalse(otherStorage.readFinClient().isPresent());
+
+        otherStorage.saveFinClientChanges(finClient, List.of());
+        assertEquals(finClient, new JsonFinClientStorage(otherFilePath).readFinClient().get());
+
+        Files.delete(otherFilePath);
+        otherStorage.saveFinClientChanges(finClient, List.of());
+        assertFalse(Files.exists(otherFilePath));
+    }
+
+    /**
+     * Adds HOON, edits BENSON and places an order for it, and removes ALICE. That leaves three changes to poll, as
+     * the order changes BENSON in the slot it was just put into.
+     */
+    private void makeChanges() {
+        finClient.addPerson(HOON);
+        Person editedBenson = new PersonBuilder(BENSON).withRemark("Edited").build();
+        finClient.setPerson(BENSON, editedBenson);
+        finClient.placeOrder(editedBenson, new Order("BUY 10 @ $5.00"));
+        finClient.removePerson(ALICE);
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.finclient.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.finclient.storage.JsonAdaptedPerson.MISSING_FIELD_MESSAGE_FORMAT;
 import static seedu.finclient.testutil.Assert.assertThrows;
 import static seedu.finclient.testutil.TypicalPersons.BENSON;
@@ -18,6 +19,8 @@ import seedu.finclient.model.order.Order;
 import seedu.finclient.model.person.Address;
 import seedu.finclient.model.person.Email;
 import seedu.finclient.model.person.Name;
+import seedu.finclient.model.person.OrderList;
+import seedu.finclient.model.person.Person;
 import seedu.finclient.model.person.Phone;
 import seedu.finclient.model.person.PhoneList;
 
@@ -53,7 +56,7 @@ public class JsonAdaptedPersonTest {
     @Test
     public void toModelType_invalidName_throwsIllegalValueException() {
         JsonAdaptedPerson person = new JsonAdaptedPerson(INVALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS,
-                VALID_ORDER, VALID_REMARK, VALID_REMARK_TIMESTAMP, VALID_TAGS, VALID_COMPANY, VALID_JOB,
+                VALID_ORDER, null, VALID_REMARK, VALID_REMARK_TIMESTAMP, VALID_TAGS, VALID_COMPANY, VALID_JOB,
                 VALID_STOCK_PLATFORM, VALID_NETWORTH, false);
         String expectedMessage = Name.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
@@ -62,7 +65,7 @@ public class JsonAdaptedPersonTest {
     @Test
     public void toModelType_nullName_throwsIllegalValueException() {
         JsonAdaptedPerson person = new JsonAdaptedPerson(null, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS,
-                        VALID_ORDER, VALID_REMARK, VALID_REMARK_TIMESTAMP, VALID_TAGS, VALID_COMPANY, VALID_JOB,
+                        VALID_ORDER, null, VALID_REMARK, VALID_REMARK_TIMESTAMP, VALID_TAGS, VALID_COMPANY, VALID_JOB,
                         VALID_STOCK_PLATFORM, VALID_NETWORTH, false);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
@@ -71,7 +74,7 @@ public class JsonAdaptedPersonTest {
     @Test
     public void toModelType_invalidPhone_throwsIllegalValueException() {
         JsonAdaptedPerson person = new JsonAdaptedPerson(VALID_NAME, INVALID_PHONE, VALID_EMAIL, VALID_ADDRESS,
-                VALID_ORDER, VALID_REMARK, VALID_REMARK_TIMESTAMP, VALID_TAGS, VALID_COMPANY, VALID_JOB,
+                VALID_ORDER, null, VALID_REMARK, VALID_REMARK_TIMESTAMP, VALID_TAGS, VALID_COMPANY, VALID_JOB,
                 VALID_STOCK_PLATFORM, VALID_NETWORTH, false);
         String expectedMessage = Phone.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
@@ -80,7 +83,7 @@ public class JsonAdaptedPersonTest {
     @Test
     public void toModelType_nullPhone_throwsIllegalValueException() {
         JsonAdaptedPerson person = new JsonAdaptedPerson(VALID_NAME, null, VALID_EMAIL, VALID_ADDRESS,
-                        VALID_ORDER, VALID_REMARK, VALID_REMARK_TIMESTAMP, VALID_TAGS, VALID_COMPANY, VALID_JOB,
+                        VALID_ORDER, null, VALID_REMARK, VALID_REMARK_TIMESTAMP, VALID_TAGS, VALID_COMPANY, VALID_JOB,
                         VALID_STOCK_PLATFORM, VALID_NETWORTH, false);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, PhoneList.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
@@ -89,7 +92,7 @@ public class JsonAdaptedPersonTest {
     @Test
     public void toModelType_invalidEmail_throwsIllegalValueException() {
         JsonAdaptedPerson person = new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, INVALID_EMAIL, VALID_ORDER,
-                VALID_REMARK, VALID_REMARK_TIMESTAMP, VALID_ADDRESS, VALID_TAGS, VALID_COMPANY, VALID_JOB,
+                VALID_REMARK, null, VALID_REMARK_TIMESTAMP, VALID_ADDRESS, VALID_TAGS, VALID_COMPANY, VALID_JOB,
                 VALID_STOCK_PLATFORM, VALID_NETWORTH, false);
         String expectedMessage = Email.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
@@ -98,7 +101,7 @@ public class JsonAdaptedPersonTest {
     @Test
     public void toModelType_nullEmail_throwsIllegalValueException() {
         JsonAdaptedPerson person = new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, null, VALID_ADDRESS,
-                        VALID_ORDER, VALID_REMARK, VALID_REMARK_TIMESTAMP, VALID_TAGS, VALID_COMPANY, VALID_JOB,
+                        VALID_ORDER, null, VALID_REMARK, VALID_REMARK_TIMESTAMP, VALID_TAGS, VALID_COMPANY, VALID_JOB,
                         VALID_STOCK_PLATFORM, VALID_NETWORTH, false);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Email.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
@@ -107,7 +110,7 @@ public class JsonAdaptedPersonTest {
     @Test
     public void toModelType_invalidAddress_throwsIllegalValueException() {
         JsonAdaptedPerson person = new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_EMAIL, INVALID_ADDRESS,
-                VALID_ORDER, VALID_REMARK, VALID_REMARK_TIMESTAMP, VALID_TAGS, VALID_COMPANY, VALID_JOB,
+                VALID_ORDER, null, VALID_REMARK, VALID_REMARK_TIMESTAMP, VALID_TAGS, VALID_COMPANY, VALID_JOB,
                 VALID_STOCK_PLATFORM, VALID_NETWORTH, false);
         String expectedMessage = Address.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
@@ -116,7 +119,7 @@ public class JsonAdaptedPersonTest {
     @Test
     public void toModelType_nullAddress_throwsIllegalValueException() {
         JsonAdaptedPerson person = new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_EMAIL, null,
-                        VALID_ORDER, VALID_REMARK, VALID_REMARK_TIMESTAMP, VALID_TAGS, VALID_COMPANY, VALID_JOB,
+                        VALID_ORDER, null, VALID_REMARK, VALID_REMARK_TIMESTAMP, VALID_TAGS, VALID_COMPANY, VALID_JOB,
                         VALID_STOCK_PLATFORM, VALID_NETWORTH, false);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Address.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
@@ -127,7 +130,7 @@ public class JsonAdaptedPersonTest {
         List<JsonAdaptedTag> invalidTags = new ArrayList<>(VALID_TAGS);
         invalidTags.add(new JsonAdaptedTag(INVALID_TAG));
         JsonAdaptedPerson person = new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS,
-                VALID_ORDER, VALID_REMARK, VALID_REMARK_TIMESTAMP, invalidTags, VALID_COMPANY, VALID_JOB,
+                VALID_ORDER, null, VALID_REMARK, VALID_REMARK_TIMESTAMP, invalidTags, VALID_COMPANY, VALID_JOB,
                 VALID_STOCK_PLATFORM, VALID_NETWORTH, false);
         assertThrows(IllegalValueException.class, person::toModelType);
     }
@@ -140,7 +143,7 @@ public class JsonAdaptedPersonTest {
     public void toModelType_invalidOrder_throwsIllegalArgumentException() {
         // "BUY 10 @ $-5.50" => negative price => invalid
         JsonAdaptedPerson person = new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_EMAIL,
-                VALID_ADDRESS, INVALID_ORDER, VALID_REMARK, VALID_REMARK_TIMESTAMP, VALID_TAGS, VALID_COMPANY,
+                VALID_ADDRESS, INVALID_ORDER, null, VALID_REMARK, VALID_REMARK_TIMESTAMP, VALID_TAGS, VALID_COMPANY,
                 VALID_JOB, VALID_STOCK_PLATFORM, VALID_NETWORTH, false);
         // We expect an IllegalArgumentException with the price constraint message
         String expectedMessage = Order.MESSAGE_CONSTRAINTS_PRICE;
@@ -150,7 +153,7 @@ public class JsonAdaptedPersonTest {
     public void toModelType_nullOrder_returnsPerson() throws Exception {
         // If order is null, we get a person with NONE order
         JsonAdaptedPerson person = new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_EMAIL,
-                VALID_ADDRESS, null, VALID_REMARK, VALID_REMARK_TIMESTAMP, VALID_TAGS, VALID_COMPANY,
+                VALID_ADDRESS, null, null, VALID_REMARK, VALID_REMARK_TIMESTAMP, VALID_TAGS, VALID_COMPANY,
                 VALID_JOB, VALID_STOCK_PLATFORM, VALID_NETWORTH, false);
 
         assertEquals(new Order("NONE"), person.toModelType().getOrder());
@@ -159,7 +162,7 @@ public class JsonAdaptedPersonTest {
     public void toModelType_validRemarkTimestamp_returnsPerson() throws Exception {
         String validTimestamp = "2025-03-27T10:30"; // ISO_LOCAL_DATE_TIME format
         JsonAdaptedPerson person = new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_EMAIL,
-                VALID_ADDRESS, VALID_ORDER, VALID_REMARK, validTimestamp, VALID_TAGS, VALID_COMPANY,
+                VALID_ADDRESS, VALID_ORDER, null, VALID_REMARK, validTimestamp, VALID_TAGS, VALID_COMPANY,
                 VALID_JOB, VALID_STOCK_PLATFORM, VALID_NETWORTH, false);
         assertEquals(BENSON.getName(), person.toModelType().getName()); // sanity check it parses fine
     }
@@ -167,9 +170,41 @@ public class JsonAdaptedPersonTest {
     public void toModelType_invalidRemarkTimestamp_throwsException() {
         String invalidTimestamp = "March 27, 2025 10:30 AM"; // Not ISO format
         JsonAdaptedPerson person = new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_EMAIL,
-                VALID_ADDRESS, VALID_ORDER, VALID_REMARK, invalidTimestamp, VALID_TAGS, VALID_COMPANY,
+                VALID_ADDRESS, VALID_ORDER, null, VALID_REMARK, invalidTimestamp, VALID_TAGS, VALID_COMPANY,
                 VALID_JOB, VALID_STOCK_PLATFORM, VALID_NETWORTH, false);
 
         assertThrows(DateTimeParseException.class, person::toModelType);
     }
+
+    @Test
+    public void toModelType_multipleOrders_keepsOrderIds() throws Exception {
+        List<JsonAdaptedOrder> orders = List.of(new JsonAdaptedOrder(7, "BUY 10 @ $5.50"),
+                new JsonAdaptedOrder(3, "SELL 5 AAPL @ $6"));
+        JsonAdaptedPerson person = new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_EMAIL,
+                VALID_ADDRESS, null, orders, VALID_REMARK, VALID_REMARK_TIMESTAMP, VALID_TAGS, VALID_COMPANY,
+                VALID_JOB, VALID_STOCK_PLATFORM, VALID_NETWORTH, true);
+
+        Person modelPerson = person.toModelType();
+        assertTrue(modelPerson.getIsHidden());
+        modelPerson.setUnhidden();
+        assertEquals(List.of(7L, 3L), List.copyOf(modelPerson.getOrderList().asMap().keySet()));
+        assertEquals(new Order("SELL 5 AAPL @ $6"), modelPerson.getOrderList().asMap().get(3L));
+
+        // round trip of a hidden person keeps its orders and their ids
+        modelPerson.setHidden();
+        Person reloaded = new JsonAdaptedPerson(modelPerson).toModelType();
+        reloaded.setUnhidden();
+        modelPerson.setUnhidden();
+        assertEquals(modelPerson.getOrderList(), reloaded.getOrderList());
+    }
+
+    @Test
+    public void toModelType_duplicateOrderIds_throwsIllegalValueException() {
+        List<JsonAdaptedOrder> orders = List.of(new JsonAdaptedOrder(7, "BUY 10 @ $5.50"),
+                new JsonAdaptedOrder(7, "SELL 5 @ $6"));
+        JsonAdaptedPerson person = new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_EMAIL,
+                VALID_ADDRESS, null, orders, VALID_REMARK, VALID_REMARK_TIMESTAMP, VALID_TAGS, VALID_COMPANY,
+                VALID_JOB, VALID_STOCK_PLATFORM, VALID_NETWORTH, false);
+        assertThrows(IllegalValueException.class, OrderList.MESSAGE_CONSTRAINTS, person::toModelType);
+    }
 }
@@ -9,6 +9,7 @@ import static seedu.finclient.testutil.TypicalPersons.IDA;
 import static seedu.finclient.testutil.TypicalPersons.getTypicalFinClient;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
@@ -16,6 +17,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.finclient.commons.exceptions.DataLoadingException;
+import seedu.finclient.commons.util.FileUtil;
+import seedu.finclient.commons.util.JsonUtil;
 import seedu.finclient.model.FinClient;
 import seedu.finclient.model.ReadOnlyFinClient;
 
@@ -60,6 +63,31 @@ public class JsonFinClientStorageTest {
         assertThrows(DataLoadingException.class, () -> readFinClient("invalidAndValidPersonFinClient.json"));
     }
 
+    @Test
+    public void read_notJsonObject_exceptionThrown() {
+        assertThrows(DataLoadingException.class, () -> readFinClient("notObjectFinClient.json"));
+    }
+
+    @Test
+    public void read_otherFieldsBesidePersons_skipped() throws Exception {
+        Path filePath = Paths.get("src", "test", "data", "JsonSerializableFinClientTest",
+                "typicalPersonsFinClient.json");
+        ReadOnlyFinClient readBack = new JsonFinClientStorage(filePath).readFinClient().get();
+        assertEquals(getTypicalFinClient(), new FinClient(readBack));
+    }
+
+    @Test
+    public void saveFinClient_streamed_readableAsSerializableFinClient() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        FinClient original = getTypicalFinClient();
+        new JsonFinClientStorage(filePath).saveFinClient(original);
+
+        JsonSerializableFinClient dataFromFile =
+                JsonUtil.readJsonFile(filePath, JsonSerializableFinClient.class).get();
+        assertEquals(original, dataFromFile.toModelType());
+        assertFalse(Files.exists(FileUtil.getTempFile(filePath)));
+    }
+
     @Test
     public void readAndSaveFinClient_allInOrder_success() throws Exception {
         Path filePath = testFolder.resolve("TempAddressBook.json");
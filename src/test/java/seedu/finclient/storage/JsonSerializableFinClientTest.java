@@ -1,6 +1,7 @@
 package seedu.finclient.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static seedu.finclient.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
@@ -11,6 +12,9 @@ import org.junit.jupiter.api.Test;
 import seedu.finclient.commons.exceptions.IllegalValueException;
 import seedu.finclient.commons.util.JsonUtil;
 import seedu.finclient.model.FinClient;
+import seedu.finclient.model.person.Networth;
+import seedu.finclient.model.person.Person;
+import seedu.finclient.model.tag.Tag;
 import seedu.finclient.testutil.TypicalPersons;
 
 public class JsonSerializableFinClientTest {
@@ -19,6 +23,7 @@ public class JsonSerializableFinClientTest {
     private static final Path TYPICAL_PERSONS_FILE = TEST_DATA_FOLDER.resolve("typicalPersonsFinClient.json");
     private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonFinClient.json");
     private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonFinClient.json");
+    private static final Path DUPLICATE_ORDER_ID_FILE = TEST_DATA_FOLDER.resolve("duplicateOrderIdFinClient.json");
 
     @Test
     public void toModelType_typicalPersonsFile_success() throws Exception {
@@ -29,6 +34,18 @@ public class JsonSerializableFinClientTest {
         assertEquals(finClientFromFile, typicalPersonsFinClient);
     }
 
+    @Test
+    public void toModelType_typicalPersonsFile_sharesTagsAndNetworths() throws Exception {
+        FinClient finClientFromFile = JsonUtil.readJsonFile(TYPICAL_PERSONS_FILE,
+                JsonSerializableFinClient.class).get().toModelType();
+        Person alice = finClientFromFile.getPersonList().get(0);
+        Person benson = finClientFromFile.getPersonList().get(1);
+        Tag friends = Tag.of("friends");
+        assertSame(friends, alice.getTags().stream().filter(friends::equals).findFirst().get());
+        assertSame(friends, benson.getTags().stream().filter(friends::equals).findFirst().get());
+        assertSame(Networth.of(benson.getNetworth().value), benson.getNetworth());
+    }
+
     @Test
     public void toModelType_invalidPersonFile_throwsIllegalValueException() throws Exception {
         JsonSerializableFinClient dataFromFile = JsonUtil.readJsonFile(INVALID_PERSON_FILE,
@@ -44,4 +61,12 @@ public class JsonSerializableFinClientTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void toModelType_duplicateOrderIds_throwsIllegalValueException() throws Exception {
+        JsonSerializableFinClient dataFromFile = JsonUtil.readJsonFile(DUPLICATE_ORDER_ID_FILE,
+                JsonSerializableFinClient.class).get();
+        assertThrows(IllegalValueException.class, JsonSerializableFinClient.MESSAGE_DUPLICATE_ORDER_ID,
+                dataFromFile::toModelType);
+    }
+
 }
@@ -1,10 +1,17 @@
 package seedu.finclient.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static seedu.finclient.testutil.Assert.assertThrows;
+import static seedu.finclient.testutil.TypicalPersons.HOON;
 import static seedu.finclient.testutil.TypicalPersons.getTypicalFinClient;
 
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -14,6 +21,9 @@ import seedu.finclient.commons.core.GuiSettings;
 import seedu.finclient.model.FinClient;
 import seedu.finclient.model.ReadOnlyFinClient;
 import seedu.finclient.model.UserPrefs;
+import seedu.finclient.model.order.Order;
+import seedu.finclient.model.person.Person;
+import seedu.finclient.testutil.PersonBuilder;
 
 public class StorageManagerTest {
 
@@ -60,6 +70,103 @@ public class StorageManagerTest {
         assertEquals(original, new FinClient(retrieved));
     }
 
+    @Test
+    public void exportImportFinClient_eachFormat_readBack() throws Exception {
+        FinClient original = getTypicalFinClient();
+        for (String fileName : List.of("export.bin", "export.JSON")) {
+            Path filePath = getTempFilePath(fileName);
+            storageManager.exportFinClient(original, filePath);
+            assertEquals(original, new FinClient(storageManager.importFinClient(filePath).get()));
+        }
+
+        // exports are not saves of the data file
+        assertEquals(0, storageManager.getPerformedSaveCount());
+        assertFalse(Files.exists(storageManager.getFinClientFilePath()));
+        assertFalse(storageManager.importFinClient(getTempFilePath("missing.bin")).isPresent());
+    }
+
+    @Test
+    public void exportImportFinClient_invalidFile_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                storageManager.exportFinClient(getTypicalFinClient(), getTempFilePath("export.txt")));
+        assertThrows(IllegalArgumentException.class, () -> storageManager.importFinClient(getTempFilePath("ab")));
+
+        // the data file is only written through saves
+        Path dataFilePath = getTempFilePath("finclient.json");
+        StorageManager jsonStorage = new StorageManager(new JsonFinClientStorage(dataFilePath),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")));
+        assertThrows(IllegalArgumentException.class, () ->
+                jsonStorage.exportFinClient(getTypicalFinClient(), dataFilePath));
+    }
+
+    @Test
+    public void saveFinClientChanges_unchangedData_skipped() throws Exception {
+        FinClient finClient = getTypicalFinClient();
+        storageManager.saveFinClientChanges(finClient, finClient.pollPersonChanges());
+        assertEquals(1, storageManager.getPerformedSaveCount());
+
+        // the same data at the same version is not written again, even if the file is gone
+        Files.delete(storageManager.getFinClientFilePath());
+        storageManager.saveFinClientChanges(finClient, finClient.pollPersonChanges());
+        assertFalse(Files.exists(storageManager.getFinClientFilePath()));
+        assertEquals(1, storageManager.getSkippedSaveCount());
+
+        finClient.addPerson(HOON);
+        storageManager.saveFinClientChanges(finClient, finClient.pollPersonChanges());
+        assertEquals(finClient, new FinClient(storageManager.readFinClient().get()));
+        assertEquals(2, storageManager.getPerformedSaveCount());
+
+        // another copy of the same data is written
+        storageManager.saveFinClientChanges(new FinClient(finClient), List.of());
+        assertEquals(3, storageManager.getPerformedSaveCount());
+        assertEquals(1, storageManager.getSkippedSaveCount());
+    }
+
+    @Test
+    public void saveFinClientChanges_inBackground_burstWrittenOnceFromSnapshot() throws Exception {
+        List<Runnable> saveTasks = new ArrayList<>();
+        Path filePath = getTempFilePath("background");
+        StorageManager backgroundStorage = new StorageManager(new JsonFinClientStorage(filePath),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), saveTasks::add);
+        FinClient finClient = getTypicalFinClient();
+        backgroundStorage.saveFinClientChanges(finClient, finClient.pollPersonChanges());
+        Person buyer = new PersonBuilder().withName("Buyer").build();
+        finClient.addPerson(buyer);
+        backgroundStorage.saveFinClientChanges(finClient, finClient.pollPersonChanges());
+        assertEquals(1, saveTasks.size());
+        assertFalse(Files.exists(filePath));
+
+        // changes after the last save are not in the snapshot being written
+        FinClient expected = new FinClient(finClient);
+        finClient.placeOrder(buyer, new Order("BUY 10 @ $5.00"));
+        saveTasks.get(0).run();
+        backgroundStorage.flush();
+        assertEquals(expected, new FinClient(backgroundStorage.readFinClient().get()));
+        assertEquals(1, backgroundStorage.getPerformedSaveCount());
+    }
+
+    @Test
+    public void saveFinClientChanges_failsInBackground_reportedOnNextSave() throws Exception {
+        JsonFinClientStorage failingStorage = new JsonFinClientStorage(getTempFilePath("failing")) {
+            @Override
+            public void saveFinClient(ReadOnlyFinClient finClient, Path filePath) throws IOException {
+                throw new IOException("Disk full");
+            }
+        };
+        StorageManager backgroundStorage = new StorageManager(failingStorage,
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), Runnable::run);
+        FinClient finClient = getTypicalFinClient();
+        backgroundStorage.saveFinClientChanges(finClient, finClient.pollPersonChanges());
+
+        // the unchanged data is saved again, as the last save failed
+        assertThrows(IOException.class, "Disk full", () ->
+                backgroundStorage.saveFinClientChanges(finClient, finClient.pollPersonChanges()));
+        assertThrows(IOException.class, "Disk full", backgroundStorage::flush);
+        backgroundStorage.flush();
+        assertEquals(0, backgroundStorage.getPerformedSaveCount());
+        assertEquals(0, backgroundStorage.getSkippedSaveCount());
+    }
+
     @Test
     public void getFinClientFilePath() {
         assertNotNull(storageManager.getFinClientFilePath());
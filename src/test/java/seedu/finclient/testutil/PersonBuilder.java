@@ -11,6 +11,7 @@ import seedu.finclient.model.person.Email;
 import seedu.finclient.model.person.Job;
 import seedu.finclient.model.person.Name;
 import seedu.finclient.model.person.Networth;
+import seedu.finclient.model.person.OrderList;
 import seedu.finclient.model.person.Person;
 import seedu.finclient.model.person.Phone;
 import seedu.finclient.model.person.PhoneList;
@@ -40,6 +41,8 @@ public class PersonBuilder {
     private Email email;
     private Address address;
     private Order order;
+    // The orders of the copied person, kept with their ids until an order is set explicitly
+    private OrderList orders;
     private Remark remark;
     private Set<Tag> tags;
     private Company company;
@@ -74,6 +77,7 @@ public class PersonBuilder {
         email = personToCopy.getEmail();
         address = personToCopy.getAddress();
         order = personToCopy.getOrder();
+        orders = personToCopy.getOrderList();
         remark = personToCopy.getRemark();
         tags = new HashSet<>(personToCopy.getTags());
         company = personToCopy.getCompany();
@@ -143,6 +147,7 @@ public class PersonBuilder {
      */
     public PersonBuilder withOrder(String order) {
         this.order = new Order(order);
+        this.orders = null;
         return this;
     }
 
@@ -218,6 +223,10 @@ public class PersonBuilder {
     }
 
     public Person build() {
+        if (orders != null) {
+            return new Person(name, phoneList, email, address, orders, remark, tags, company, job, stockPlatform,
+                    networth);
+        }
         return new Person(name, phoneList, email, address, order, remark, tags, company, job, stockPlatform, networth);
     }
 
@@ -95,7 +95,8 @@ public class TypicalPersons {
     public static FinClient getTypicalFinClient() {
         FinClient fc = new FinClient();
         for (Person person : getTypicalPersons()) {
-            fc.addPerson(person);
+            // Orders are placed and cancelled on the person in place, so every FinClient gets its own copies
+            fc.addPerson(new PersonBuilder(person).build());
         }
         return fc;
     }